@@ -31,6 +31,7 @@ import net.time4j.format.internal.IsoTextProviderSPI;
 import net.time4j.history.internal.HistoricExtension;
 import net.time4j.tz.ZoneModelProvider;
 import net.time4j.tz.ZoneNameProvider;
+import net.time4j.tz.spi.MappedZoneProviderSPI;
 import net.time4j.tz.spi.MilZoneProviderSPI;
 import net.time4j.tz.spi.WinZoneProviderSPI;
 import net.time4j.tz.spi.ZoneNameProviderSPI;
@@ -501,7 +502,11 @@ public abstract class ResourceLoader {
                 Arrays.asList(IsoTextProviderSPI.SINGLETON, new GenericTextProviderSPI()));
             map.put(
                 ZoneModelProvider.class,
-                Arrays.asList(new JdkZoneProviderSPI(), new WinZoneProviderSPI(), new MilZoneProviderSPI()));
+                Arrays.asList(
+                    new JdkZoneProviderSPI(),
+                    new MappedZoneProviderSPI(),
+                    new WinZoneProviderSPI(),
+                    new MilZoneProviderSPI()));
             map.put(
                 ZoneNameProvider.class,
                 Collections.singletonList(new ZoneNameProviderSPI()));
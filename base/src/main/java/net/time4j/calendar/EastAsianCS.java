@@ -30,6 +30,8 @@ import net.time4j.engine.CalendarSystem;
 import net.time4j.engine.EpochDays;
 import net.time4j.tz.ZonalOffset;
 
+import java.util.concurrent.atomic.AtomicLongArray;
+
 
 /**
  * The heart of Chinese calendar.
@@ -50,11 +52,62 @@ abstract class EastAsianCS<D extends EastAsianCalendar<?, D>>
     static final double MEAN_SYNODIC_MONTH = 29.530588861;
     static final double MEAN_TROPICAL_YEAR = 365.242189;
 
+    // range of elapsed years covered by the year table (cycle 72, year 22 until cycle 94, year 56)
+    static final int FIRST_YEAR_INDEX = 71 * 60 + 21;
+    static final int LAST_YEAR_INDEX = 93 * 60 + 55;
+
+    // layout of a year table entry: new year in utc-days, bit mask of 30-day-months, leap month
+    private static final int MASK_SHIFT = 32;
+    private static final int LEAP_SHIFT = 48;
+    private static final long PRESENT = 1L << 62;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    // lazily computed astronomical structure of every lunisolar year in supported range, zero if not yet known
+    private final AtomicLongArray yearTable = new AtomicLongArray(LAST_YEAR_INDEX - FIRST_YEAR_INDEX + 1);
+
     //~ Methoden ----------------------------------------------------------
 
     @Override
     public final D transform(long utcDays) {
 
+        int index = this.findYearIndex(utcDays);
+
+        if (index == -1) {
+            return this.transformAstro(utcDays);
+        }
+
+        long entry = this.getYearEntry(index);
+        int leapMonth = (int) (entry >>> LEAP_SHIFT) & 0xF;
+        long start = (int) entry;
+        int i = 0;
+
+        while (true) {
+            long end = start + 29 + (((entry >>> (MASK_SHIFT + i)) & 1L));
+            if (utcDays < end) {
+                break;
+            }
+            start = end;
+            i++;
+        }
+
+        EastAsianMonth eam;
+
+        if ((leapMonth == 0) || (i < leapMonth)) {
+            eam = EastAsianMonth.valueOf(i + 1);
+        } else if (i == leapMonth) {
+            eam = EastAsianMonth.valueOf(leapMonth).withLeap();
+        } else {
+            eam = EastAsianMonth.valueOf(i);
+        }
+
+        return this.create(index / 60 + 1, index % 60 + 1, eam, (int) (utcDays - start + 1), utcDays);
+
+    }
+
+    // astronomical calculation without year table
+    final D transformAstro(long utcDays) {
+
         long s1 = this.winterOnOrBefore(utcDays);
         long s2 = this.winterOnOrBefore(s1 + 370);
         long m12 = this.newMoonOnOrAfter(s1 + 1);
@@ -186,6 +239,12 @@ abstract class EastAsianCS<D extends EastAsianCalendar<?, D>>
         ) {
             return false;
         } else if (dayOfMonth == 30) { // the only case when astronomical validation is required
+            int index = (cycle - 1) * 60 + yearOfCycle - 1;
+            if ((index >= FIRST_YEAR_INDEX) && (index <= LAST_YEAR_INDEX)) {
+                long entry = this.getYearEntry(index);
+                int i = monthIndex(month, (int) (entry >>> LEAP_SHIFT) & 0xF);
+                return (((entry >>> (MASK_SHIFT + i)) & 1L) == 1L);
+            }
             long monthStart = this.firstDayOfMonth(cycle, yearOfCycle, month);
             long nextNewMoon = this.newMoonOnOrAfter(monthStart + 1);
             return (nextNewMoon - monthStart == 30);
@@ -198,6 +257,40 @@ abstract class EastAsianCS<D extends EastAsianCalendar<?, D>>
     final long newYear(
         int cycle,
         int yearOfCycle
+    ) {
+        int index = (cycle - 1) * 60 + yearOfCycle - 1;
+
+        if ((index >= FIRST_YEAR_INDEX) && (index <= LAST_YEAR_INDEX)) {
+            return (int) this.getYearEntry(index);
+        } else if (index == LAST_YEAR_INDEX + 1) {
+            return endOfYear(this.getYearEntry(LAST_YEAR_INDEX));
+        }
+
+        return this.newYearAstro(cycle, yearOfCycle);
+    }
+
+    // first day of next month after given day in utc-days
+    final long nextMonthStart(long utcDays) {
+        int index = this.findYearIndex(utcDays);
+
+        if (index == -1) {
+            return this.newMoonOnOrAfter(utcDays + 1);
+        }
+
+        long entry = this.getYearEntry(index);
+        long start = (int) entry;
+
+        for (int i = 0; start <= utcDays; i++) {
+            start += 29 + ((entry >>> (MASK_SHIFT + i)) & 1L);
+        }
+
+        return start;
+    }
+
+    // result in utc-days
+    private long newYearAstro(
+        int cycle,
+        int yearOfCycle
     ) {
         long midYear =
             (long) Math.floor(EPOCH_CHINESE + ((cycle - 1) * 60 + yearOfCycle - 0.5) * MEAN_TROPICAL_YEAR);
@@ -281,10 +374,19 @@ abstract class EastAsianCS<D extends EastAsianCalendar<?, D>>
         int yearOfCycle,
         EastAsianMonth month
     ) {
-        long newYear = this.newYear(cycle, yearOfCycle);
+        int index = (cycle - 1) * 60 + yearOfCycle - 1;
+
+        if ((index >= FIRST_YEAR_INDEX) && (index <= LAST_YEAR_INDEX)) {
+            long entry = this.getYearEntry(index);
+            int i = monthIndex(month, (int) (entry >>> LEAP_SHIFT) & 0xF);
+            long mask = (entry >>> MASK_SHIFT) & ((1L << i) - 1);
+            return (int) entry + 29L * i + Long.bitCount(mask);
+        }
+
+        long newYear = this.newYearAstro(cycle, yearOfCycle);
         long approxStartOfMonth = this.newMoonOnOrAfter(newYear + (month.getNumber() - 1) * 29);
 
-        if (month.equals(this.transform(approxStartOfMonth).getMonth())) {
+        if (month.equals(this.transformAstro(approxStartOfMonth).getMonth())) {
             return approxStartOfMonth;
         } else {
             return this.newMoonOnOrAfter(approxStartOfMonth + 1);
@@ -305,4 +407,90 @@ abstract class EastAsianCS<D extends EastAsianCalendar<?, D>>
         return d.getDaysSinceEpochUTC();
     }
 
+    // elapsed years of the lunisolar year containing given day or -1 if outside of year table
+    private int findYearIndex(long utcDays) {
+        int index = (int) Math.floor((utcDays - EPOCH_CHINESE) / MEAN_TROPICAL_YEAR); // error less than one year
+
+        if ((index < FIRST_YEAR_INDEX - 1) || (index > LAST_YEAR_INDEX + 1)) {
+            return -1;
+        }
+
+        index = Math.max(FIRST_YEAR_INDEX, Math.min(index, LAST_YEAR_INDEX));
+
+        while (utcDays < (int) this.getYearEntry(index)) {
+            if (index == FIRST_YEAR_INDEX) {
+                return -1;
+            }
+            index--;
+        }
+
+        while (utcDays >= endOfYear(this.getYearEntry(index))) {
+            if (index == LAST_YEAR_INDEX) {
+                return -1;
+            }
+            index++;
+        }
+
+        return index;
+    }
+
+    // yields the packed structure of given lunisolar year and calculates it on first access
+    private long getYearEntry(int index) {
+        long entry = this.yearTable.get(index - FIRST_YEAR_INDEX);
+
+        if (entry == 0) {
+            entry = this.computeYearEntry(index);
+            this.yearTable.set(index - FIRST_YEAR_INDEX, entry); // idempotent, concurrent writes are harmless
+        }
+
+        return entry;
+    }
+
+    // astronomical calculation of new year, month lengths and leap month
+    private long computeYearEntry(int index) {
+        int cycle = index / 60 + 1;
+        int yearOfCycle = index % 60 + 1;
+        long newYear = this.newYearAstro(cycle, yearOfCycle);
+        long nextNewYear = this.newYearAstro(cycle, yearOfCycle + 1);
+        long mask = 0;
+        int count = 0;
+
+        for (long start = newYear; start < nextNewYear; count++) {
+            long next = this.newMoonOnOrAfter(start + 1);
+            if (next - start == 30) {
+                mask |= (1L << count);
+            }
+            start = next;
+        }
+
+        int leapMonth = this.getLeapMonth(cycle, yearOfCycle);
+
+        if (count != ((leapMonth == 0) ? 12 : 13)) {
+            throw new IllegalStateException(
+                "Inconsistent leap month data: cycle=" + cycle + ", year=" + yearOfCycle + ", months=" + count);
+        }
+
+        return PRESENT | (((long) leapMonth) << LEAP_SHIFT) | (mask << MASK_SHIFT) | (newYear & 0xFFFFFFFFL);
+    }
+
+    // first day of next lunisolar year in utc-days
+    private static long endOfYear(long entry) {
+        int count = ((((entry >>> LEAP_SHIFT) & 0xF) == 0) ? 12 : 13);
+        return (int) entry + 29L * count + Long.bitCount((entry >>> MASK_SHIFT) & 0x1FFF);
+    }
+
+    // position of given month in the sequence of months of a lunisolar year (zero-based)
+    private static int monthIndex(
+        EastAsianMonth month,
+        int leapMonth
+    ) {
+        int n = month.getNumber();
+
+        if (month.isLeap() || ((leapMonth > 0) && (n > leapMonth))) {
+            return n;
+        }
+
+        return n - 1;
+    }
+
 }
@@ -393,7 +393,7 @@ public abstract class EastAsianCalendar<U, D extends EastAsianCalendar<U, D>>
      */
     public int lengthOfMonth() {
 
-        long nextNewMoon = this.getCalendarSystem().newMoonOnOrAfter(this.utcDays + 1);
+        long nextNewMoon = this.getCalendarSystem().nextMonthStart(this.utcDays);
         return (int) (this.dayOfMonth + nextNewMoon - this.utcDays - 1);
 
     }
@@ -33,6 +33,10 @@ import net.time4j.format.Attributes;
 import net.time4j.tz.OffsetSign;
 import net.time4j.tz.ZonalOffset;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
 
 /**
  * <p>Enumeration of different calculation methods for the Persian calendar. </p>
@@ -394,12 +398,11 @@ public enum PersianAlgorithm {
             if (date.getMonth() < 3) {
                 pyear--; // optimization
             }
-            PlainDate equinox = vernalEquinox(pyear, offset);
-            long delta = CalendarUnit.DAYS.between(equinox, date);
+            NowruzTable table = NowruzTable.of(offset);
+            long delta = utcDays - table.get(pyear);
             while (delta < 0) {
                 pyear--;
-                equinox = vernalEquinox(pyear, offset);
-                delta = CalendarUnit.DAYS.between(equinox, date);
+                delta = utcDays - table.get(pyear);
             }
             int pmonth = 1;
             while (pmonth < 12) {
@@ -421,22 +424,10 @@ public enum PersianAlgorithm {
         ) {
             int pyear = date.getYear();
             int pmonth = date.getMonth().getValue();
-            long utcDays = vernalEquinox(pyear, offset).getDaysSinceEpochUTC();
+            long utcDays = NowruzTable.of(offset).get(pyear);
             utcDays += ((pmonth) - 1) * 31 - ((pmonth / 7) * (pmonth - 7)) + date.getDayOfMonth() - 1;
             return utcDays;
         }
-        private PlainDate vernalEquinox(
-            int pyear,
-            ZonalOffset offset
-        ) {
-            PlainTimestamp tsp =
-                AstronomicalSeason.VERNAL_EQUINOX.inYear(pyear + 621).get(SolarTime.apparentAt(offset));
-            if (tsp.getHour() >= 12) {
-                return tsp.getCalendarDate().plus(1, CalendarUnit.DAYS);
-            } else {
-                return tsp.getCalendarDate();
-            }
-        }
     };
 
     static final ZonalOffset STD_OFFSET = ZonalOffset.ofHoursMinutes(OffsetSign.AHEAD_OF_UTC, 3, 30);
@@ -445,6 +436,10 @@ public enum PersianAlgorithm {
     private static final long REFERENCE_ZERO_KHAYYAM = 493363L;
     private static final long START_OF_BIRASHK_CYCLE = -319872L;
 
+    private static final NowruzTable STD_NOWRUZ = new NowruzTable(STD_OFFSET);
+    private static final ConcurrentMap<ZonalOffset, NowruzTable> NOWRUZ_TABLES = new ConcurrentHashMap<>();
+    private static final int MAX_NOWRUZ_TABLES = 16;
+
     private static final AttributeKey<PersianAlgorithm> ATTRIBUTE =
         Attributes.createKey("PERSIAN_ALGORITHM", PersianAlgorithm.class);
 
@@ -585,4 +580,78 @@ public enum PersianAlgorithm {
 
     }
 
+    //~ Innere Klassen ----------------------------------------------------
+
+    // lazily computed start days of astronomical Persian years (Nowruz) for one offset
+    private static final class NowruzTable {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final ZonalOffset offset;
+        private final AtomicIntegerArray startDays; // zero if not yet computed (Nowruz is never 1972-01-01)
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private NowruzTable(ZonalOffset offset) {
+            super();
+
+            this.offset = offset;
+            this.startDays = new AtomicIntegerArray(ASTRONOMICAL.getMaxPersianYear() + 2);
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        // the number of tables for other offsets than the standard is bounded
+        static NowruzTable of(ZonalOffset offset) {
+
+            if (offset.equals(STD_OFFSET)) {
+                return STD_NOWRUZ;
+            }
+
+            NowruzTable table = NOWRUZ_TABLES.get(offset);
+
+            if (table == null) {
+                table = new NowruzTable(offset);
+                if (NOWRUZ_TABLES.size() < MAX_NOWRUZ_TABLES) {
+                    NowruzTable old = NOWRUZ_TABLES.putIfAbsent(offset, table);
+                    if (old != null) {
+                        table = old;
+                    }
+                }
+            }
+
+            return table;
+
+        }
+
+        // first day of given Persian year in utc-days
+        long get(int pyear) {
+
+            if ((pyear < 0) || (pyear >= this.startDays.length())) {
+                return this.vernalEquinox(pyear);
+            }
+
+            int utcDays = this.startDays.get(pyear);
+
+            if (utcDays == 0) {
+                utcDays = (int) this.vernalEquinox(pyear);
+                this.startDays.set(pyear, utcDays); // idempotent, concurrent writes are harmless
+            }
+
+            return utcDays;
+
+        }
+
+        private long vernalEquinox(int pyear) {
+
+            PlainTimestamp tsp =
+                AstronomicalSeason.VERNAL_EQUINOX.inYear(pyear + 621).get(SolarTime.apparentAt(this.offset));
+            long utcDays = tsp.getCalendarDate().getDaysSinceEpochUTC();
+            return ((tsp.getHour() >= 12) ? utcDays + 1 : utcDays);
+
+        }
+
+    }
+
 }
@@ -22,6 +22,7 @@
 package net.time4j.calendar.astro;
 
 import net.time4j.Moment;
+import net.time4j.PlainTimestamp;
 
 import net.time4j.scale.LeapSeconds;
 import net.time4j.scale.TimeScale;
@@ -181,6 +182,54 @@ public enum AstronomicalSeason {
 
 	}
 
+	/**
+	 * <p>Determines the local time of this astronomical event in given year related to the apparent solar time
+	 * at given offset. </p>
+	 *
+	 * <p>The result is equivalent to {@code inYear(year).get(SolarTime.apparentAt(offset))}, but is kept
+	 * in a bounded cache shared by all threads. Calendars whose years start at an equinox can hence query
+	 * the same year and offset repeatedly without repeating the astronomical calculation. Rarely used
+	 * offsets might be evicted from the cache. </p>
+	 *
+	 * @param 	year	gregorian/julian year
+	 * @param 	offset	the time zone offset which might depend on the geographical longitude
+	 * @return	local timestamp of this astronomical event in apparent solar time
+	 * @throws  IllegalArgumentException if the year is out of range {@code -2000 <= year <= +3000}
+	 * @see 	SolarTime#apparentAt(ZonalOffset)
+	 * @since 	5.10
+	 */
+	/*[deutsch]
+	 * <p>Bestimmt die lokale Zeit dieses astronomischen Ereignisses im angegebenen Jahr bezogen auf
+	 * die wahre Ortszeit zur angegebenen Zeitzonendifferenz. </p>
+	 *
+	 * <p>Das Ergebnis entspricht {@code inYear(year).get(SolarTime.apparentAt(offset))}, wird aber
+	 * in einem begrenzten, von allen Threads geteilten Cache gehalten. Kalender, deren Jahre mit einem
+	 * &Auml;quinoktium beginnen, k&ouml;nnen deshalb dasselbe Jahr und dieselbe Verschiebung wiederholt
+	 * abfragen, ohne die astronomische Berechnung zu wiederholen. Selten benutzte Verschiebungen
+	 * k&ouml;nnen aus dem Cache verdr&auml;ngt werden. </p>
+	 *
+	 * @param 	year	gregorian/julian year
+	 * @param 	offset	the time zone offset which might depend on the geographical longitude
+	 * @return	local timestamp of this astronomical event in apparent solar time
+	 * @throws  IllegalArgumentException if the year is out of range {@code -2000 <= year <= +3000}
+	 * @see 	SolarTime#apparentAt(ZonalOffset)
+	 * @since 	5.10
+	 */
+	public PlainTimestamp apparentTimeInYear(
+		int year,
+		ZonalOffset offset
+	) {
+
+		checkYear(year);
+
+		if (offset == null) {
+			throw new NullPointerException("Missing timezone offset.");
+		}
+
+		return SeasonCache.get(this, year, offset);
+
+	}
+
 	/**
 	 * <p>Determines the Julian day of this astronomical event in given year. </p>
 	 *
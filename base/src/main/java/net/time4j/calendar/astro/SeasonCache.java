@@ -0,0 +1,169 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2024 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (SeasonCache.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.calendar.astro;
+
+import net.time4j.PlainTimestamp;
+import net.time4j.format.internal.ClockCache;
+import net.time4j.tz.OffsetSign;
+import net.time4j.tz.ZonalOffset;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+
+/**
+ * <p>Thread-safe cache for the apparent solar time of equinoxes and solstices. </p>
+ *
+ * <p>Every offset gets one dense table per season indexed by the year which is filled on demand.
+ * The tables of the Paris meridian used by the French republican calendar are kept permanently.
+ * The count of tables for other offsets is bounded, and the least recently used ones are evicted
+ * by the second-chance-algorithm (CLOCK). </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+final class SeasonCache {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int MIN_YEAR = -2000;
+    private static final int MAX_YEAR = 3000;
+    private static final int MAX_OFFSETS = 32;
+
+    private static final Tables PARIS = // see FrenchRepublicanAlgorithm.PARIS_OBSERVATORY
+        new Tables(ZonalOffset.atLongitude(OffsetSign.AHEAD_OF_UTC, 2, 20, 14.025));
+    private static final ClockCache<ZonalOffset, Tables> CACHE = new ClockCache<>(MAX_OFFSETS);
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private SeasonCache() {
+        // no instantiation
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Determines the apparent solar time of given season in given year. </p>
+     *
+     * @param   season  astronomical event
+     * @param   year    gregorian year in range {@code -2000 <= year <= +3000}
+     * @param   offset  the time zone offset which might depend on the geographical longitude
+     * @return  local timestamp in apparent solar time
+     */
+    static PlainTimestamp get(
+        AstronomicalSeason season,
+        int year,
+        ZonalOffset offset
+    ) {
+
+        return getTables(offset).get(season, year);
+
+    }
+
+    /**
+     * <p>Is the table of given offset kept permanently? </p>
+     *
+     * @param   offset  the time zone offset
+     * @return  boolean
+     */
+    static boolean isPinned(ZonalOffset offset) {
+
+        return offset.equals(PARIS.offset);
+
+    }
+
+    /**
+     * <p>Yields the count of evictable tables which are currently cached. </p>
+     *
+     * @return  int
+     */
+    static int size() {
+
+        return CACHE.size();
+
+    }
+
+    private static Tables getTables(ZonalOffset offset) {
+
+        if (offset.equals(PARIS.offset)) {
+            return PARIS;
+        }
+
+        Tables tables = CACHE.get(offset);
+
+        if (tables == null) {
+            tables = CACHE.put(offset, new Tables(offset));
+        }
+
+        return tables;
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static final class Tables {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final ZonalOffset offset;
+        private final AtomicReferenceArray<AtomicReferenceArray<PlainTimestamp>> seasons;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private Tables(ZonalOffset offset) {
+            super();
+
+            this.offset = offset;
+            this.seasons = new AtomicReferenceArray<>(AstronomicalSeason.values().length);
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        PlainTimestamp get(
+            AstronomicalSeason season,
+            int year
+        ) {
+
+            AtomicReferenceArray<PlainTimestamp> timestamps = this.seasons.get(season.ordinal());
+
+            if (timestamps == null) {
+                timestamps = new AtomicReferenceArray<>(MAX_YEAR - MIN_YEAR + 1);
+                if (!this.seasons.compareAndSet(season.ordinal(), null, timestamps)) {
+                    timestamps = this.seasons.get(season.ordinal());
+                }
+            }
+
+            int index = year - MIN_YEAR;
+            PlainTimestamp tsp = timestamps.get(index);
+
+            if (tsp == null) {
+                tsp = season.inYear(year).get(SolarTime.apparentAt(this.offset));
+                timestamps.set(index, tsp); // idempotent, concurrent writes are harmless
+            }
+
+            return tsp;
+
+        }
+
+    }
+
+}
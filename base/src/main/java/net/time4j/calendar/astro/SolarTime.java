@@ -44,9 +44,11 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 
 
@@ -242,6 +244,8 @@ public final class SolarTime
             .usingCalculator(StdSolarCalculator.TIME4J)
             .build();
 
+    private static final long NO_EVENT = Long.MIN_VALUE;
+
     private static final long serialVersionUID = -4816619838743247977L;
 
     //~ Instanzvariablen --------------------------------------------------
@@ -725,6 +729,174 @@ public final class SolarTime
 
     }
 
+    /**
+     * <p>Calculates the moments of sunrise and sunset for all days of given range in one step. </p>
+     *
+     * <p>The result array contains two elements per day in chronological order, first the sunrise
+     * and then the sunset, both in elapsed POSIX seconds since [1970-01-01T00:00Z]. If the sun does not
+     * rise or set on a day (midnight sun or polar night) then the element will be {@code Long.MIN_VALUE}.
+     * Every element is equal to the truncated POSIX seconds of the result of {@link #sunrise()} or
+     * {@link #sunset()} for the same day, but the calculation avoids the allocation of intermediate
+     * objects and shares common terms of sunrise and sunset if the calculator is one of
+     * {@link StdSolarCalculator}. </p>
+     *
+     * <p>Example: </p>
+     *
+     * <pre>
+     *     SolarTime hamburg = SolarTime.ofLocation(53.55, 10.0);
+     *     long[] events = hamburg.sunEvents(PlainDate.of(2024, 1, 1), PlainDate.of(2024, 12, 31));
+     *     long sunsetAtNewYear = events[1];
+     * </pre>
+     *
+     * @param   first   first calendar date of range (inclusive)
+     * @param   last    last calendar date of range (inclusive)
+     * @return  array with POSIX seconds of sunrise (even index) and sunset (odd index) per day
+     * @throws  IllegalArgumentException if the last date is before the first date or the range is too large
+     * @see     #sunEvents(List, PlainDate, PlainDate, Twilight, ForkJoinPool)
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Berechnet die Momente des Sonnenaufgangs und Sonnenuntergangs f&uuml;r alle Tage des angegebenen
+     * Bereichs in einem Schritt. </p>
+     *
+     * <p>Das Ergebnis-Array enth&auml;lt zwei Elemente pro Tag in chronologischer Reihenfolge, zuerst den
+     * Sonnenaufgang und dann den Sonnenuntergang, beide in POSIX-Sekunden seit [1970-01-01T00:00Z]. Wenn
+     * die Sonne an einem Tag nicht auf- oder untergeht (Mitternachtssonne oder Polarnacht), ist das Element
+     * {@code Long.MIN_VALUE}. Jedes Element ist gleich den abgeschnittenen POSIX-Sekunden des Ergebnisses
+     * von {@link #sunrise()} oder {@link #sunset()} zum selben Tag, aber die Berechnung vermeidet die
+     * Erzeugung von Zwischenobjekten und verwendet gemeinsame Terme von Sonnenaufgang und Sonnenuntergang
+     * wieder, wenn die Berechnungsmethode eine von {@link StdSolarCalculator} ist. </p>
+     *
+     * <p>Beispiel: </p>
+     *
+     * <pre>
+     *     SolarTime hamburg = SolarTime.ofLocation(53.55, 10.0);
+     *     long[] events = hamburg.sunEvents(PlainDate.of(2024, 1, 1), PlainDate.of(2024, 12, 31));
+     *     long sunsetAtNewYear = events[1];
+     * </pre>
+     *
+     * @param   first   first calendar date of range (inclusive)
+     * @param   last    last calendar date of range (inclusive)
+     * @return  array with POSIX seconds of sunrise (even index) and sunset (odd index) per day
+     * @throws  IllegalArgumentException if the last date is before the first date or the range is too large
+     * @see     #sunEvents(List, PlainDate, PlainDate, Twilight, ForkJoinPool)
+     * @since   5.10
+     */
+    public long[] sunEvents(
+        PlainDate first,
+        PlainDate last
+    ) {
+
+        checkRange(first, last);
+        return this.sunEvents(first.getDaysSinceEpochUTC(), last.getDaysSinceEpochUTC(), this.zenithAngle());
+
+    }
+
+    /**
+     * <p>Like {@link #sunEvents(PlainDate, PlainDate)} but calculates the times of given twilight
+     * at sunrise and sunset. </p>
+     *
+     * <p>Every element is equal to the truncated POSIX seconds of the result of
+     * {@link #sunrise(Twilight)} or {@link #sunset(Twilight)} for the same day. </p>
+     *
+     * @param   first       first calendar date of range (inclusive)
+     * @param   last        last calendar date of range (inclusive)
+     * @param   twilight    relevant definition of twilight
+     * @return  array with POSIX seconds of twilight at sunrise (even index) and sunset (odd index) per day
+     * @throws  IllegalArgumentException if the last date is before the first date or the range is too large
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Wie {@link #sunEvents(PlainDate, PlainDate)}, berechnet aber die Zeiten der angegebenen
+     * D&auml;mmerung zum Sonnenaufgang und Sonnenuntergang. </p>
+     *
+     * <p>Jedes Element ist gleich den abgeschnittenen POSIX-Sekunden des Ergebnisses von
+     * {@link #sunrise(Twilight)} oder {@link #sunset(Twilight)} zum selben Tag. </p>
+     *
+     * @param   first       first calendar date of range (inclusive)
+     * @param   last        last calendar date of range (inclusive)
+     * @param   twilight    relevant definition of twilight
+     * @return  array with POSIX seconds of twilight at sunrise (even index) and sunset (odd index) per day
+     * @throws  IllegalArgumentException if the last date is before the first date or the range is too large
+     * @since   5.10
+     */
+    public long[] sunEvents(
+        PlainDate first,
+        PlainDate last,
+        Twilight twilight
+    ) {
+
+        if (twilight == null) {
+            throw new NullPointerException("Missing twilight.");
+        }
+
+        checkRange(first, last);
+        return this.sunEvents(first.getDaysSinceEpochUTC(), last.getDaysSinceEpochUTC(), this.zenithAngle(twilight));
+
+    }
+
+    /**
+     * <p>Calculates the moments of sunrise and sunset (or of given twilight) for many locations
+     * and all days of given range, splitting the locations into parallel tasks of given pool. </p>
+     *
+     * <p>The result contains one array per location in the same order as the list of locations.
+     * Every array has the same layout as described in {@link #sunEvents(PlainDate, PlainDate)}. </p>
+     *
+     * @param   locations   list of locations
+     * @param   first       first calendar date of range (inclusive)
+     * @param   last        last calendar date of range (inclusive)
+     * @param   twilight    relevant definition of twilight or {@code null} for sunrise and sunset
+     * @param   pool        fork-join-pool which executes the parallel tasks
+     * @return  arrays with POSIX seconds of sunrise (even index) and sunset (odd index) per location and day
+     * @throws  IllegalArgumentException if the last date is before the first date or the range is too large
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Berechnet die Momente des Sonnenaufgangs und Sonnenuntergangs (oder der angegebenen D&auml;mmerung)
+     * f&uuml;r viele Orte und alle Tage des angegebenen Bereichs, wobei die Orte auf parallele Aufgaben
+     * des angegebenen Pools verteilt werden. </p>
+     *
+     * <p>Das Ergebnis enth&auml;lt ein Array pro Ort in derselben Reihenfolge wie die Liste der Orte.
+     * Jedes Array hat dasselbe Format wie in {@link #sunEvents(PlainDate, PlainDate)} beschrieben. </p>
+     *
+     * @param   locations   list of locations
+     * @param   first       first calendar date of range (inclusive)
+     * @param   last        last calendar date of range (inclusive)
+     * @param   twilight    relevant definition of twilight or {@code null} for sunrise and sunset
+     * @param   pool        fork-join-pool which executes the parallel tasks
+     * @return  arrays with POSIX seconds of sunrise (even index) and sunset (odd index) per location and day
+     * @throws  IllegalArgumentException if the last date is before the first date or the range is too large
+     * @since   5.10
+     */
+    public static long[][] sunEvents(
+        List<SolarTime> locations,
+        PlainDate first,
+        PlainDate last,
+        Twilight twilight,
+        ForkJoinPool pool
+    ) {
+
+        if (pool == null) {
+            throw new NullPointerException("Missing fork-join-pool.");
+        }
+
+        checkRange(first, last);
+        SolarTime[] array = locations.toArray(new SolarTime[locations.size()]);
+        long[][] result = new long[array.length][];
+
+        for (SolarTime location : array) {
+            if (location == null) {
+                throw new NullPointerException("Missing location.");
+            }
+        }
+
+        long start = first.getDaysSinceEpochUTC();
+        long end = last.getDaysSinceEpochUTC();
+        pool.invoke(new SunEventsTask(array, start, end, twilight, 0, array.length, result));
+        return result;
+
+    }
+
     /**
      * <p>Queries a given calendar date for its associated sunshine data. </p>
      *
@@ -1248,8 +1420,18 @@ public final class SolarTime
         String calculator
     ) {
 
+        return fromLocalEvent(date, hourOfEvent, longitude, CALCULATORS.get(calculator));
+
+    }
+
+    static Moment fromLocalEvent(
+        CalendarDate date,
+        int hourOfEvent,
+        double longitude,
+        Calculator c
+    ) {
+
         // numerical approximation of equation-of-time in two steps
-        Calculator c = CALCULATORS.get(calculator);
         double elapsed = date.getDaysSinceEpochUTC() * 86400 + hourOfEvent * 3600 - longitude * 240;
         long secs = (long) Math.floor(elapsed);
         int nanos = (int) ((elapsed - secs) * 1_000_000_000);
@@ -1272,6 +1454,66 @@ public final class SolarTime
 
     }
 
+    static long toPosixTime(Moment moment) {
+
+        return ((moment == null) ? NO_EVENT : moment.getPosixTime());
+
+    }
+
+    // fills sunrise and sunset for every day in the range [first, last] into a new array
+    long[] sunEvents(
+        long first,
+        long last,
+        double zenith
+    ) {
+
+        Calculator c = this.getCalculator();
+        StdSolarCalculator std = ((c instanceof StdSolarCalculator) ? (StdSolarCalculator) c : null);
+        long[] result = new long[(int) (last - first + 1) * 2];
+        int index = 0;
+
+        for (long utcDays = first; utcDays <= last; utcDays++) {
+            CalendarDate date = this.toLMT(PlainDate.of(utcDays, EpochDays.UTC));
+            if (std != null) {
+                std.events(date, this.latitude, this.longitude, zenith, result, index);
+            } else {
+                result[index] = toPosixTime(c.sunrise(date, this.latitude, this.longitude, zenith).orElse(null));
+                result[index + 1] = toPosixTime(c.sunset(date, this.latitude, this.longitude, zenith).orElse(null));
+            }
+            index += 2;
+        }
+
+        return result;
+
+    }
+
+    // zenith angle of sunrise/sunset or of given twilight (optional)
+    double zenithAngle(Twilight twilight) {
+
+        if (twilight == null) {
+            return this.zenithAngle();
+        } else {
+            return 90.0 + this.geodeticAngle() + twilight.getAngle();
+        }
+
+    }
+
+    private static void checkRange(
+        PlainDate first,
+        PlainDate last
+    ) {
+
+        long start = first.getDaysSinceEpochUTC();
+        long end = last.getDaysSinceEpochUTC();
+
+        if (end < start) {
+            throw new IllegalArgumentException("Last date before first date: " + first + "/" + last);
+        } else if (end - start >= Integer.MAX_VALUE / 2) {
+            throw new IllegalArgumentException("Range of dates too large: " + first + "/" + last);
+        }
+
+    }
+
     private static PlainTimestamp onAverage(Moment context, ZonalOffset offset) {
         Moment ut =
             Moment.of(
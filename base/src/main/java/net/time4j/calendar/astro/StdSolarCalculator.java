@@ -390,6 +390,21 @@ public enum StdSolarCalculator
             double ra = Math.toDegrees(Math.atan2(y, Math.cos(lRad)));
             return AstroUtils.toRange_0_360(ra);
         }
+        @Override
+        void events(
+            CalendarDate date,
+            double latitude,
+            double longitude,
+            double zenith,
+            long[] result,
+            int index
+        ) {
+            Moment m = SolarTime.fromLocalEvent(date, 12, longitude, this); // noon, shared by both events
+            double jde = JulianDay.getValue(m, TimeScale.TT);
+            double H = localHourAngle(false, jde, latitude, zenith); // sunrise only differs in sign
+            result[index] = SolarTime.toPosixTime(this.event(true, m, jde, -H, latitude, zenith));
+            result[index + 1] = SolarTime.toPosixTime(this.event(false, m, jde, H, latitude, zenith));
+        }
         private Optional<Moment> event(
             boolean rise,
             CalendarDate date,
@@ -397,20 +412,35 @@ public enum StdSolarCalculator
             double longitude,
             double zenith
         ) {
-            Moment m = SolarTime.fromLocalEvent(date, 12, longitude, this.name()); // noon
+            Moment m = SolarTime.fromLocalEvent(date, 12, longitude, this); // noon
             double jde = JulianDay.getValue(m, TimeScale.TT);
             double H = localHourAngle(rise, jde, latitude, zenith);
-            if (Double.isNaN(H)) {
+            Moment utc = this.event(rise, m, jde, H, latitude, zenith);
+            if (utc == null) {
                 return Optional.empty();
+            } else {
+                return Optional.of(utc.with(Moment.PRECISION, TimeUnit.SECONDS));
+            }
+        }
+        // H is the first approximation of the local hour angle at noon, result is null if no event
+        private Moment event(
+            boolean rise,
+            Moment m,
+            double jde,
+            double H,
+            double latitude,
+            double zenith
+        ) {
+            if (Double.isNaN(H)) {
+                return null;
             } else {
                 H = localHourAngle(rise, jde + H / 86400, latitude, zenith); // corrected for local time of day
                 if (Double.isNaN(H)) {
-                    return Optional.empty();
+                    return null;
                 } else {
                     long secs = (long) Math.floor(H);
                     int nanos = (int) ((H - secs) * 1_000_000_000);
-                    Moment utc = m.plus(secs, TimeUnit.SECONDS).plus(nanos, TimeUnit.NANOSECONDS);
-                    return Optional.of(utc.with(Moment.PRECISION, TimeUnit.SECONDS));
+                    return m.plus(secs, TimeUnit.SECONDS).plus(nanos, TimeUnit.NANOSECONDS);
                 }
             }
         }
@@ -531,30 +561,62 @@ public enum StdSolarCalculator
         public Optional<Moment> sunset(CalendarDate date, double latitude, double longitude, double zenith) {
             return this.event(false, date, latitude, longitude, zenith);
         }
+        @Override
+        void events(
+            CalendarDate date,
+            double latitude,
+            double longitude,
+            double zenith,
+            long[] result,
+            int index
+        ) {
+            double offset = offset(date, longitude); // shared by both events
+            result[index] = SolarTime.toPosixTime(this.momentOfEvent(true, date, latitude, offset, zenith));
+            result[index + 1] = SolarTime.toPosixTime(this.momentOfEvent(false, date, latitude, offset, zenith));
+        }
         private Optional<Moment> event(
             boolean rise,
             CalendarDate date,
             double latitude,
             double longitude,
             double zenith
+        ) {
+            Moment utc = this.momentOfEvent(rise, date, latitude, offset(date, longitude), zenith);
+            if (utc == null) {
+                return Optional.empty();
+            } else {
+                return Optional.of(utc.with(Moment.PRECISION, TimeUnit.SECONDS));
+            }
+        }
+        // result is null if there is no event
+        private Moment momentOfEvent(
+            boolean rise,
+            CalendarDate date,
+            double latitude,
+            double offset,
+            double zenith
         ) {
             double daypart =
                 rise ? 0.25 : 0.75;
             double lmt =
                 (EpochDays.JULIAN_DAY_NUMBER.transform(date.getDaysSinceEpochUTC(), EpochDays.UTC) + daypart);
-            double ephemeris =
-                TimeScale.deltaT(SolarTime.toGregorian(date)) - 43200; // last term because JD starts at noon
-            double offset =
-                (ZonalOffset.atLongitude(new BigDecimal(longitude)).getIntegralAmount() - ephemeris) / 86400.0;
             double result =
                 momentOfDepression(lmt, latitude, offset, zenith - 90.0, rise);
             if (Double.isNaN(result)) {
-                return Optional.empty();
+                return null;
             } else {
-                Moment utc = JulianDay.ofEphemerisTime(result - offset).toMoment();
-                return Optional.of(utc.with(Moment.PRECISION, TimeUnit.SECONDS));
+                return JulianDay.ofEphemerisTime(result - offset).toMoment();
             }
         }
+        // offset between local mean time and ephemeris time in days
+        private double offset(
+            CalendarDate date,
+            double longitude
+        ) {
+            double ephemeris =
+                TimeScale.deltaT(SolarTime.toGregorian(date)) - 43200; // last term because JD starts at noon
+            return (ZonalOffset.atLongitude(new BigDecimal(longitude)).getIntegralAmount() - ephemeris) / 86400.0;
+        }
         @Override
         public double equationOfTime(double jde) {
             double jct = toJulianCenturies(jde);
@@ -839,6 +901,21 @@ public enum StdSolarCalculator
             double refraction = AstroUtils.refractionFactorOfStdAtmosphere(altitude) * SolarTime.STD_REFRACTION;
             return 90 + this.getGeodeticAngle(latitude, altitude) + ((SolarTime.SUN_RADIUS + refraction) / 60.0);
         }
+        @Override
+        void events(
+            CalendarDate date,
+            double latitude,
+            double longitude,
+            double zenith,
+            long[] result,
+            int index
+        ) {
+            Moment m = SolarTime.fromLocalEvent(date, 12, longitude, this); // noon, shared by both events
+            double jde = JulianDay.getValue(m, TimeScale.TT);
+            double H = localHourAngle(false, jde, latitude, zenith); // sunrise only differs in sign
+            result[index] = SolarTime.toPosixTime(this.event(true, m, jde, -H, latitude, zenith));
+            result[index + 1] = SolarTime.toPosixTime(this.event(false, m, jde, H, latitude, zenith));
+        }
         private Optional<Moment> event(
             boolean rise,
             CalendarDate date,
@@ -846,21 +923,39 @@ public enum StdSolarCalculator
             double longitude,
             double zenith
         ) {
-            Moment m = SolarTime.fromLocalEvent(date, 12, longitude, this.name()); // noon
+            Moment m = SolarTime.fromLocalEvent(date, 12, longitude, this); // noon
             double jde = JulianDay.getValue(m, TimeScale.TT);
-            double oldH;
-            double newH = 0.0;
-            do {
-                oldH = newH;
-                newH = localHourAngle(rise, jde + oldH / 86400, latitude, zenith);
+            double H = localHourAngle(rise, jde, latitude, zenith);
+            Moment utc = this.event(rise, m, jde, H, latitude, zenith);
+            if (utc == null) {
+                return Optional.empty();
+            } else {
+                return Optional.of(utc.with(Moment.PRECISION, TimeUnit.SECONDS));
+            }
+        }
+        // H is the first approximation of the local hour angle at noon, result is null if no event
+        private Moment event(
+            boolean rise,
+            Moment m,
+            double jde,
+            double H,
+            double latitude,
+            double zenith
+        ) {
+            double oldH = 0.0;
+            double newH = H;
+            while (true) {
                 if (Double.isNaN(newH)) {
-                    return Optional.empty();
+                    return null;
+                } else if (Math.abs(newH - oldH) < 15) { // usually requires only 2 or 3 loops
+                    break;
                 }
-            } while (Math.abs(newH - oldH) >= 15); // usually requires only 2 or 3 loops
+                oldH = newH;
+                newH = localHourAngle(rise, jde + oldH / 86400, latitude, zenith);
+            }
             long secs = (long) Math.floor(newH);
             int nanos = (int) ((newH - secs) * 1_000_000_000);
-            Moment utc = m.plus(secs, TimeUnit.SECONDS).plus(nanos, TimeUnit.NANOSECONDS);
-            return Optional.of(utc.with(Moment.PRECISION, TimeUnit.SECONDS));
+            return m.plus(secs, TimeUnit.SECONDS).plus(nanos, TimeUnit.NANOSECONDS);
         }
         private double localHourAngle(boolean rise, double jde, double latitude, double zenith) {
             double jct = toJulianCenturies(jde);
@@ -932,6 +1027,31 @@ public enum StdSolarCalculator
 
     //~ Methoden ----------------------------------------------------------
 
+    /**
+     * <p>Berechnet Sonnenaufgang und Sonnenuntergang zu einem Tag als POSIX-Sekunden. </p>
+     *
+     * <p>Die Standardimplementierung ruft einfach {@code sunrise()} und {@code sunset()} auf.
+     * Subklassen verwenden gemeinsame Zwischenergebnisse beider Ereignisse wieder. </p>
+     *
+     * @param   date        the local calendar date
+     * @param   latitude    geographical latitude in degrees
+     * @param   longitude   geographical longitude in degrees
+     * @param   zenith      the distance of the center of the sun from geographical local zenith in degrees
+     * @param   result      target array (sunrise at index, sunset at index + 1, {@code Long.MIN_VALUE} if absent)
+     * @param   index       position of sunrise in the target array
+     */
+    void events(
+        CalendarDate date,
+        double latitude,
+        double longitude,
+        double zenith,
+        long[] result,
+        int index
+    ) {
+        result[index] = SolarTime.toPosixTime(this.sunrise(date, latitude, longitude, zenith).orElse(null));
+        result[index + 1] = SolarTime.toPosixTime(this.sunset(date, latitude, longitude, zenith).orElse(null));
+    }
+
     /**
      * <p>Determines the declination of sun. </p>
      *
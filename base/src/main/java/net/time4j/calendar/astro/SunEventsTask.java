@@ -0,0 +1,115 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2024 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (SunEventsTask.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.calendar.astro;
+
+import java.util.concurrent.RecursiveAction;
+
+
+/**
+ * <p>Berechnet Sonnenaufgang und Sonnenuntergang f&uuml;r einen Bereich von Orten und Tagen. </p>
+ *
+ * <p>Die Orte werden so lange halbiert, bis die Zahl der zu berechnenden Tage klein genug
+ * ist. Jeder Ort schreibt in sein eigenes Ergebnis-Array, so da&szlig; keine Synchronisierung
+ * n&ouml;tig ist. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+@SuppressWarnings("serial") // never serialized
+final class SunEventsTask
+    extends RecursiveAction {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int THRESHOLD = 2048; // count of days per task
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final SolarTime[] locations;
+    private final long first;
+    private final long last;
+    private final Twilight twilight;
+    private final int from;
+    private final int to;
+    private final long[][] result;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    /**
+     * <p>Erzeugt eine neue Aufgabe f&uuml;r die Orte im angegebenen Bereich. </p>
+     *
+     * @param   locations   all locations
+     * @param   first       first day of range in utc-days (inclusive)
+     * @param   last        last day of range in utc-days (inclusive)
+     * @param   twilight    relevant definition of twilight or {@code null} for sunrise and sunset
+     * @param   from        first location index (inclusive)
+     * @param   to          last location index (exclusive)
+     * @param   result      target array per location
+     */
+    SunEventsTask(
+        SolarTime[] locations,
+        long first,
+        long last,
+        Twilight twilight,
+        int from,
+        int to,
+        long[][] result
+    ) {
+        super();
+
+        this.locations = locations;
+        this.first = first;
+        this.last = last;
+        this.twilight = twilight;
+        this.from = from;
+        this.to = to;
+        this.result = result;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Override
+    protected void compute() {
+
+        long days = this.last - this.first + 1;
+
+        if ((this.to - this.from == 1) || ((this.to - this.from) * days <= THRESHOLD)) {
+            for (int i = this.from; i < this.to; i++) {
+                SolarTime location = this.locations[i];
+                this.result[i] = location.sunEvents(this.first, this.last, location.zenithAngle(this.twilight));
+            }
+            return;
+        }
+
+        int middle = (this.from + this.to) >>> 1;
+        SunEventsTask left =
+            new SunEventsTask(this.locations, this.first, this.last, this.twilight, this.from, middle, this.result);
+        SunEventsTask right =
+            new SunEventsTask(this.locations, this.first, this.last, this.twilight, middle, this.to, this.result);
+        left.fork();
+        right.compute();
+        left.join();
+
+    }
+
+}
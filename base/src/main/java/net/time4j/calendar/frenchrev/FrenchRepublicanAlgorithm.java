@@ -23,10 +23,8 @@ package net.time4j.calendar.frenchrev;
 
 import net.time4j.CalendarUnit;
 import net.time4j.PlainDate;
-import net.time4j.PlainTimestamp;
 import net.time4j.base.MathUtils;
 import net.time4j.calendar.astro.AstronomicalSeason;
-import net.time4j.calendar.astro.SolarTime;
 import net.time4j.engine.AttributeKey;
 import net.time4j.engine.EpochDays;
 import net.time4j.format.Attributes;
@@ -91,11 +89,9 @@ public enum FrenchRepublicanAlgorithm {
             return newYear + cal.getDayOfYear() - 1;
         }
         private PlainDate autumnalEquinox(int fyear) {
-            PlainTimestamp tsp =
-                AstronomicalSeason.AUTUMNAL_EQUINOX
-                    .inYear(fyear + 1791)
-                    .get(SolarTime.apparentAt(PARIS_OBSERVATORY));
-            return tsp.getCalendarDate();
+            return AstronomicalSeason.AUTUMNAL_EQUINOX
+                .apparentTimeInYear(fyear + 1791, PARIS_OBSERVATORY)
+                .getCalendarDate();
         }
     },
 
@@ -169,7 +165,7 @@ public enum FrenchRepublicanAlgorithm {
         }
     };
 
-    private static final ZonalOffset PARIS_OBSERVATORY =
+    static final ZonalOffset PARIS_OBSERVATORY =
         ZonalOffset.atLongitude(OffsetSign.AHEAD_OF_UTC, 2, 20, 14.025); // Paris meridian (Wikipedia)
 
     private static final long ABOLITION = PlainDate.of(1806, 1, 1).get(EpochDays.UTC); // XIV-04-11
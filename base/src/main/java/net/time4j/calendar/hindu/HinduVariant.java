@@ -37,6 +37,9 @@ import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.function.LongFunction;
 
 
@@ -661,7 +664,7 @@ public final class HinduVariant
             case TYPE_OLD_LUNAR:
                 return AryaSiddhanta.LUNAR.getCalendarSystem();
             default:
-                return new ModernHinduCS(this);
+                return ModernHinduCS.of(this);
         }
     }
 
@@ -798,11 +801,22 @@ public final class HinduVariant
             RISING_SIGN_FACTORS = f;
         }
 
+        // bounded registry of calendar systems with their caches
+        private static final int MAX_VARIANTS = 64;
+        private static final ConcurrentMap<HinduVariant, ModernHinduCS> REGISTRY = new ConcurrentHashMap<>();
+
+        // direct-mapped caches of the conversion results, one entry = utc-days (32 bits) + packed date (32 bits)
+        private static final int CACHE_SIZE = 2048;
+        private static final int PRESENT = 1 << 25;
+
         //~ Instanzvariablen ----------------------------------------------
 
         private volatile long min = Long.MIN_VALUE;
         private volatile long max = Long.MAX_VALUE;
 
+        private final AtomicLongArray dayCache = new AtomicLongArray(CACHE_SIZE); // indexed by utc-days
+        private final AtomicLongArray dateCache = new AtomicLongArray(CACHE_SIZE); // indexed by packed date
+
         //~ Konstruktoren -------------------------------------------------
 
         ModernHinduCS(HinduVariant variant) {
@@ -811,8 +825,101 @@ public final class HinduVariant
 
         //~ Methoden ------------------------------------------------------
 
+        // the same variant (and location) always yields the same instance unless the registry is full
+        static ModernHinduCS of(HinduVariant variant) {
+            ModernHinduCS calsys = REGISTRY.get(variant);
+
+            if (calsys == null) {
+                calsys = new ModernHinduCS(variant);
+                if (REGISTRY.size() < MAX_VARIANTS) {
+                    ModernHinduCS old = REGISTRY.putIfAbsent(variant, calsys);
+                    if (old != null) {
+                        calsys = old;
+                    }
+                }
+            }
+
+            return calsys;
+        }
+
         @Override
         HinduCalendar create(long utcDays) {
+            int slot = (int) (utcDays & (CACHE_SIZE - 1));
+            long entry = this.dayCache.get(slot);
+
+            if ((entry != 0) && ((int) (entry >>> 32) == (int) utcDays)) {
+                return this.unpack((int) entry, utcDays);
+            }
+
+            HinduCalendar cal = this.calculate(utcDays);
+            int packed = pack(cal.getExpiredYearOfKaliYuga(), cal.getMonth(), cal.getDayOfMonth());
+
+            if (packed != 0) {
+                this.dayCache.set(slot, (utcDays << 32) | (packed & 0xFFFFFFFFL));
+            }
+
+            return cal;
+        }
+
+        @Override
+        HinduCalendar create(int kyYear, HinduMonth month, HinduDay dom) {
+            int packed = pack(kyYear, month, dom);
+
+            if (packed == 0) {
+                return this.calculate(kyYear, month, dom);
+            }
+
+            int slot = ((packed * 0x9E3779B1) >>> 21) & (CACHE_SIZE - 1);
+            long entry = this.dateCache.get(slot);
+
+            if ((int) (entry >>> 32) == packed) {
+                return new HinduCalendar(super.variant, kyYear, month, dom, (int) entry);
+            }
+
+            HinduCalendar cal = this.calculate(kyYear, month, dom);
+            this.dateCache.set(slot, (((long) packed) << 32) | (cal.getDaysSinceEpochUTC() & 0xFFFFFFFFL));
+            return cal;
+        }
+
+        // non-zero packed form of a Hindu date or zero if not packable
+        private static int pack(
+            int kyYear,
+            HinduMonth month,
+            HinduDay dom
+        ) {
+            if ((kyYear < 0) || (kyYear >= 8192) || (dom.getValue() < 1) || (dom.getValue() > 63)) {
+                return 0;
+            }
+
+            return (
+                PRESENT
+                    | (kyYear << 12)
+                    | (month.getValue().getValue() << 8)
+                    | (month.isLeap() ? (1 << 7) : 0)
+                    | (dom.getValue() << 1)
+                    | (dom.isLeap() ? 1 : 0)
+            );
+        }
+
+        private HinduCalendar unpack(
+            int packed,
+            long utcDays
+        ) {
+            HinduMonth month = HinduMonth.of(IndianMonth.valueOf((packed >>> 8) & 0xF));
+            HinduDay dom = HinduDay.valueOf((packed >>> 1) & 0x3F);
+
+            if ((packed & (1 << 7)) != 0) {
+                month = month.withLeap();
+            }
+
+            if ((packed & 1) != 0) {
+                dom = dom.withLeap();
+            }
+
+            return new HinduCalendar(super.variant, (packed >>> 12) & 0x1FFF, month, dom, utcDays);
+        }
+
+        private HinduCalendar calculate(long utcDays) {
             HinduVariant hv = super.variant;
 
             switch (this.getRule()) {
@@ -855,8 +962,7 @@ public final class HinduVariant
             }
         }
 
-        @Override
-        HinduCalendar create(int kyYear, HinduMonth month, HinduDay dom) {
+        private HinduCalendar calculate(int kyYear, HinduMonth month, HinduDay dom) {
             HinduVariant hv = super.variant;
             long utcDays;
 
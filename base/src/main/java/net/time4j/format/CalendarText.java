@@ -232,6 +232,9 @@ public final class CalendarText {
     private final Locale locale;
     private final MissingResourceException mre;
 
+    // wiederverwendbare Textformen mit vorberechnetem Suchbaum
+    private final ConcurrentMap<String, TextAccessor> accessors = new ConcurrentHashMap<>();
+
     //~ Konstruktoren -----------------------------------------------------
 
     private CalendarText(
@@ -852,6 +855,33 @@ public final class CalendarText {
                 this.mre.getKey());
         }
 
+        StringBuilder sb = new StringBuilder(name).append(':').append(type.getName());
+
+        for (String variant : variants) {
+            sb.append('|').append(variant);
+        }
+
+        String cacheKey = sb.toString();
+        TextAccessor accessor = this.accessors.get(cacheKey);
+
+        if (accessor == null) {
+            accessor = this.createTextForms(name, type, variants);
+            TextAccessor old = this.accessors.putIfAbsent(cacheKey, accessor);
+            if (old != null) {
+                accessor = old;
+            }
+        }
+
+        return accessor;
+
+    }
+
+    private <V extends Enum<V>> TextAccessor createTextForms(
+        String name,
+        Class<V> type,
+        String... variants
+    ) {
+
         V[] enums = type.getEnumConstants();
         int len = enums.length;
         String[] tfs = new String[len];
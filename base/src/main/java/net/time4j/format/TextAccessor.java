@@ -1,6 +1,6 @@
 /*
  * -----------------------------------------------------------------------
- * Copyright © 2013-2021 Meno Hochschild, <http://www.menodata.de/>
+ * Copyright © 2013-2024 Meno Hochschild, <http://www.menodata.de/>
  * -----------------------------------------------------------------------
  * This file (TextAccessor.java) is part of project Time4J.
  *
@@ -54,6 +54,7 @@ public final class TextAccessor {
     //~ Instanzvariablen --------------------------------------------------
 
     private final List<String> textForms;
+    private volatile TextTrie trie = null; // lazy
 
     //~ Konstruktoren -----------------------------------------------------
 
@@ -296,6 +297,18 @@ public final class TextAccessor {
         int len = this.textForms.size();
         int start = status.getIndex();
         int end = parseable.length();
+
+        if (!partialCompare && (enums.length == len)) {
+            TextTrie t = this.trie;
+            if (t == null) {
+                t = TextTrie.of(this.textForms);
+                this.trie = t; // benign race
+            }
+            if (t != TextTrie.NONE) {
+                return this.lookup(t, parseable, status, enums, caseInsensitive, smart);
+            }
+        }
+
         String alt = "";
 
         int maxEq = 0;
@@ -309,43 +322,15 @@ public final class TextAccessor {
             } else {
                 s = alt;
             }
-            int pos = start;
             int n = s.length();
-            boolean eq = true;
-
-            for (int j = 0; eq && (j < n); j++) {
-                if (start + j >= end) {
-                    eq = false;
-                } else {
-                    char c = parseable.charAt(start + j);
-                    char t = s.charAt(j);
-
-                    if (smart) {
-                        if (c == PROTECTED_SPACE) {
-                            c = ' ';
-                        }
-                        if (t == PROTECTED_SPACE) {
-                            t = ' ';
-                        }
-                    }
-
-                    if (caseInsensitive) {
-                        eq = (c == t) || this.compareIgnoreCase(c, t);
-                    } else {
-                        eq = (c == t);
-                    }
-
-                    if (eq) {
-                        pos++;
-                    }
-                }
-            }
+            int pos = start + this.matchLength(parseable, start, s, caseInsensitive, smart);
+            boolean eq = (pos == start + n);
 
             // special smart procedure for handling "Sept." versus "Sep." in German
             if (smart && firstTry && (n == 5) && (s.charAt(4) == '.')) {
                 int dot = start + 3;
                 if ((pos == dot) && (dot < end) && (parseable.charAt(dot) == '.')) {
-                    alt = s.subSequence(start, dot) + ".";
+                    alt = s.substring(0, 3) + "."; // relative to text form, not to parseable
                     i--; // reset loop counter for repeating
                     continue;
                 }
@@ -377,6 +362,96 @@ public final class TextAccessor {
 
     }
 
+    // single scan with trie, same result as the linear scan in non-partial mode
+    private <V extends Enum<V>> V lookup(
+        TextTrie t,
+        CharSequence parseable,
+        ParsePosition status,
+        V[] enums,
+        boolean caseInsensitive,
+        boolean smart
+    ) {
+
+        int start = status.getIndex();
+        int best = -1;
+        int bestLength = 0;
+        int single = -1;
+        int singleCount = 0;
+
+        for (int code : t.candidates(parseable, start)) {
+            int index = code;
+            String s = this.textForms.get((code < 0) ? ~code : code);
+
+            if (code < 0) { // alternative key like "Sep." for "Sept."
+                if (!smart) {
+                    continue;
+                }
+                index = ~code;
+                s = s.substring(0, 3) + ".";
+            }
+
+            int n = s.length();
+
+            if (this.matchLength(parseable, start, s, caseInsensitive, smart) < n) {
+                continue; // folded chars are equal but not the chars themselves
+            } else if (n == 1) {
+                single = index;
+                singleCount++;
+            } else if ((best == -1) || (index < best)) {
+                best = index;
+                bestLength = n;
+            }
+        }
+
+        if (best >= 0) {
+            status.setIndex(start + bestLength);
+            return enums[best];
+        } else if (singleCount == 1) {
+            status.setIndex(start + 1);
+            return enums[single];
+        }
+
+        status.setErrorIndex(start);
+        return null;
+
+    }
+
+    private int matchLength(
+        CharSequence parseable,
+        int start,
+        String s,
+        boolean caseInsensitive,
+        boolean smart
+    ) {
+
+        int end = parseable.length();
+        int n = s.length();
+        int j = 0;
+
+        while ((j < n) && (start + j < end)) {
+            char c = parseable.charAt(start + j);
+            char t = s.charAt(j);
+
+            if (smart) {
+                if (c == PROTECTED_SPACE) {
+                    c = ' ';
+                }
+                if (t == PROTECTED_SPACE) {
+                    t = ' ';
+                }
+            }
+
+            if ((c != t) && (!caseInsensitive || !this.compareIgnoreCase(c, t))) {
+                break;
+            }
+
+            j++;
+        }
+
+        return j;
+
+    }
+
     private boolean compareIgnoreCase(char c1, char c2) {
 
         if (c1 >= 'a' && c1 <= 'z') {
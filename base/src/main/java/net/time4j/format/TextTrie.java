@@ -0,0 +1,248 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2024 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (TextTrie.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+
+package net.time4j.format;
+
+import java.util.List;
+
+
+/**
+ * <p>Unver&auml;nderlicher tern&auml;rer Suchbaum &uuml;ber die Textformen eines {@code TextAccessor},
+ * dessen Schl&uuml;ssel unabh&auml;ngig von Gro&szlig;- und Kleinschreibung sind. </p>
+ *
+ * <p>Der Suchbaum liefert in einem einzigen Durchlauf alle Textformen, die Pr&auml;fix des Eingabetexts
+ * sein k&ouml;nnen. Weil die Zeichen dabei gefaltet werden, mu&szlig; der Aufrufer die Kandidaten
+ * anschlie&szlig;end mit den tats&auml;chlichen Vergleichsregeln best&auml;tigen. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+final class TextTrie {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final char PROTECTED_SPACE = '\u00A0'; // ASCII-0160
+    private static final int[] EMPTY = new int[0];
+
+    /**
+     * Marker for text forms which cannot be represented by a trie.
+     */
+    static final TextTrie NONE = new TextTrie(null);
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final Node root;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private TextTrie(Node root) {
+        super();
+
+        this.root = root;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Baut den Suchbaum f&uuml;r die angegebenen Textformen auf. </p>
+     *
+     * <p>Zu jeder Textform der Art &quot;Sept.&quot; wird zus&auml;tzlich der alternative Schl&uuml;ssel
+     * &quot;Sep.&quot; mit dem bitweise invertierten Index gespeichert. </p>
+     *
+     * @param   textForms   text forms indexed by enum ordinal
+     * @return  new trie or {@link #NONE} if any text form is empty
+     */
+    static TextTrie of(List<String> textForms) {
+
+        Node root = null;
+
+        for (int i = 0, n = textForms.size(); i < n; i++) {
+            String s = textForms.get(i);
+
+            if (s.isEmpty()) {
+                return NONE;
+            }
+
+            root = insert(root, s, i, 0);
+
+            if ((s.length() == 5) && (s.charAt(4) == '.') && (s.charAt(3) != '.')) {
+                root = insert(root, s.substring(0, 3) + ".", ~i, 0);
+            }
+        }
+
+        return new TextTrie(root);
+
+    }
+
+    /**
+     * <p>Sucht alle Textformen, deren gefaltete Zeichen mit dem Text ab der Startposition
+     * &uuml;bereinstimmen. </p>
+     *
+     * @param   text    text to be parsed
+     * @param   start   start position
+     * @return  indices of candidates in ascending order of key length (inverted for alternative keys),
+     *          not to be modified
+     */
+    int[] candidates(
+        CharSequence text,
+        int start
+    ) {
+
+        int[] found = EMPTY;
+        Node node = this.root;
+        int i = start;
+        int n = text.length();
+
+        while ((node != null) && (i < n)) {
+            char c = fold(text.charAt(i));
+
+            if (c < node.c) {
+                node = node.left;
+            } else if (c > node.c) {
+                node = node.right;
+            } else {
+                i++;
+                if (node.indices != null) { // end node condition
+                    found = concat(found, node.indices);
+                }
+                node = node.mid;
+            }
+        }
+
+        return found;
+
+    }
+
+    private static char fold(char c) {
+
+        if (c == PROTECTED_SPACE) {
+            return ' ';
+        }
+
+        return Character.toLowerCase(Character.toUpperCase(c));
+
+    }
+
+    private static Node insert(
+        Node node,
+        String key,
+        int index,
+        int pos
+    ) {
+
+        char c = fold(key.charAt(pos));
+
+        if (node == null) {
+            node = new Node(c, null, null, null, null);
+        }
+
+        if (c < node.c) {
+            node = node.withLeft(insert(node.left, key, index, pos));
+        } else if (c > node.c) {
+            node = node.withRight(insert(node.right, key, index, pos));
+        } else if (pos < key.length() - 1) {
+            node = node.withMid(insert(node.mid, key, index, pos + 1));
+        } else {
+            node = node.with(index); // end node
+        }
+
+        return node;
+
+    }
+
+    private static int[] concat(
+        int[] a,
+        int[] b
+    ) {
+
+        if (a.length == 0) {
+            return b;
+        }
+
+        int[] result = new int[a.length + b.length];
+        System.arraycopy(a, 0, result, 0, a.length);
+        System.arraycopy(b, 0, result, a.length, b.length);
+        return result;
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static class Node {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final char c;
+        private final Node left;
+        private final Node mid;
+        private final Node right;
+        private final int[] indices;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private Node(char c, Node left, Node mid, Node right, int[] indices) {
+            super();
+
+            this.c = c;
+            this.left = left;
+            this.mid = mid;
+            this.right = right;
+            this.indices = indices;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        private Node withLeft(Node left) {
+
+            return new Node(this.c, left, this.mid, this.right, this.indices);
+
+        }
+
+        private Node withMid(Node mid) {
+
+            return new Node(this.c, this.left, mid, this.right, this.indices);
+
+        }
+
+        private Node withRight(Node right) {
+
+            return new Node(this.c, this.left, this.mid, right, this.indices);
+
+        }
+
+        private Node with(int index) { // end node
+
+            int[] indices = new int[] {index};
+
+            if (this.indices != null) {
+                indices = concat(this.indices, indices);
+            }
+
+            return new Node(this.c, this.left, this.mid, this.right, indices);
+
+        }
+
+    }
+
+}
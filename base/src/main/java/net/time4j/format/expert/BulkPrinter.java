@@ -0,0 +1,253 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2024 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (BulkPrinter.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+
+package net.time4j.format.expert;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+
+/**
+ * <p>Formatiert eine Folge von Entit&auml;ten parallel in einem {@code ForkJoinPool}, schreibt
+ * den Text aber in der Reihenfolge der Eingabe. </p>
+ *
+ * <p>Der aufrufende Thread entnimmt der Quelle Bl&ouml;cke fester Gr&ouml;&szlig;e. Jeder Block
+ * wird von einer eigenen Aufgabe in einen eigenen Puffer formatiert (und bei Bedarf kodiert). Der
+ * aufrufende Thread schreibt die fertigen Puffer nacheinander in das Ziel, das deshalb nicht
+ * threadsicher sein mu&szlig;. Die Anzahl gleichzeitig offener Bl&ouml;cke ist begrenzt, so
+ * da&szlig; auch sehr gro&szlig;e Quellen mit konstantem Speicher auskommen. </p>
+ *
+ * @param   <T> generic type of chronological entity
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+final class BulkPrinter<T> {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int CHUNK = 1024;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final ChronoFormatter<T> formatter;
+    private final CharSequence suffix;
+    private final ForkJoinPool pool;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    /**
+     * <p>Erzeugt eine neue Instanz. </p>
+     *
+     * @param   formatter   formatter to be used
+     * @param   suffix      text to be appended after every formatted value
+     * @param   pool        fork-join-pool for parallel formatting
+     */
+    BulkPrinter(
+        ChronoFormatter<T> formatter,
+        CharSequence suffix,
+        ForkJoinPool pool
+    ) {
+        super();
+
+        if (suffix == null) {
+            throw new NullPointerException("Missing suffix.");
+        } else if (pool == null) {
+            throw new NullPointerException("Missing fork-join-pool.");
+        }
+
+        this.formatter = formatter;
+        this.suffix = suffix;
+        this.pool = pool;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Formatiert alle Werte in den angegebenen Puffer. </p>
+     *
+     * @param   values      source of values to be formatted
+     * @param   buffer      target which is only accessed by the calling thread
+     * @throws  IOException if writing into the buffer fails
+     */
+    void print(
+        Spliterator<? extends T> values,
+        Appendable buffer
+    ) throws IOException {
+
+        if (buffer == null) {
+            throw new NullPointerException("Missing text result buffer.");
+        }
+
+        this.run(values, Function.identity(), buffer::append);
+
+    }
+
+    /**
+     * <p>Formatiert alle Werte in den angegebenen Kanal. </p>
+     *
+     * @param   values      source of values to be formatted
+     * @param   channel     target which is only accessed by the calling thread
+     * @param   charset     encoding of formatted text
+     * @throws  IOException if writing into the channel fails
+     */
+    void print(
+        Spliterator<? extends T> values,
+        WritableByteChannel channel,
+        Charset charset
+    ) throws IOException {
+
+        if (channel == null) {
+            throw new NullPointerException("Missing channel.");
+        } else if (charset == null) {
+            throw new NullPointerException("Missing charset.");
+        }
+
+        this.run(
+            values,
+            chunk -> encode(chunk, charset),
+            bytes -> {
+                while (bytes.hasRemaining()) {
+                    channel.write(bytes);
+                }
+            });
+
+    }
+
+    private <R> void run(
+        Spliterator<? extends T> values,
+        Function<StringBuilder, R> converter,
+        Sink<R> sink
+    ) throws IOException {
+
+        if (values == null) {
+            throw new NullPointerException("Missing values.");
+        }
+
+        int window = Math.max(2, this.pool.getParallelism() * 2);
+        Deque<ForkJoinTask<R>> pending = new ArrayDeque<>(window);
+        boolean done = false;
+
+        try {
+            while (!done) {
+                Chunk<T> chunk = new Chunk<>();
+                while ((chunk.size < CHUNK) && values.tryAdvance(chunk)) {
+                    // next value
+                }
+                done = (chunk.size < CHUNK);
+                if (chunk.size > 0) {
+                    pending.add(this.pool.submit(() -> converter.apply(this.format(chunk))));
+                }
+                while ((pending.size() >= window) || (done && !pending.isEmpty())) {
+                    sink.accept(pending.peek().join());
+                    pending.poll();
+                }
+            }
+        } finally {
+            for (ForkJoinTask<R> task : pending) {
+                task.cancel(false); // only in case of an exception
+            }
+        }
+
+    }
+
+    private StringBuilder format(Chunk<T> chunk) {
+
+        StringBuilder sb = new StringBuilder(chunk.size * 32);
+
+        for (int i = 0; i < chunk.size; i++) {
+            this.formatter.printDirectly(chunk.get(i), sb);
+            sb.append(this.suffix);
+        }
+
+        return sb;
+
+    }
+
+    private static ByteBuffer encode(
+        StringBuilder chunk,
+        Charset charset
+    ) {
+
+        CharsetEncoder encoder =
+            charset.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+
+        try {
+            return encoder.encode(CharBuffer.wrap(chunk));
+        } catch (CharacterCodingException cce) {
+            throw new IllegalArgumentException("Formatted text cannot be encoded in " + charset.name(), cce);
+        }
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private interface Sink<R> {
+
+        //~ Methoden ------------------------------------------------------
+
+        void accept(R result) throws IOException;
+
+    }
+
+    private static final class Chunk<T>
+        implements Consumer<T> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final Object[] items = new Object[CHUNK];
+        private int size = 0;
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public void accept(T value) {
+
+            this.items[this.size++] = value;
+
+        }
+
+        @SuppressWarnings("unchecked")
+        T get(int index) {
+
+            return (T) this.items[index];
+
+        }
+
+    }
+
+}
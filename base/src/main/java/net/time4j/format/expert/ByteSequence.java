@@ -0,0 +1,147 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2024 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (ByteSequence.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.expert;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+
+/**
+ * <p>Unver&auml;nderliche Zeichenfolgensicht auf einen Bereich eines {@code ByteBuffer}, dessen
+ * Bytes als ISO-8859-1 (einschlie&szlig;lich US-ASCII) interpretiert werden. </p>
+ *
+ * <p>Die Zeichen werden ohne Kopie einzeln aus dem Puffer gelesen. Nur {@code toString()}
+ * dekodiert den Bereich, was der Parser lediglich f&uuml;r lokalisierte Textelemente und
+ * Fehlermeldungen braucht. Position und Limit des Puffers bleiben unver&auml;ndert. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+final class ByteSequence
+    implements CharSequence {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final ByteBuffer buffer;
+    private final byte[] array; // null if the buffer is direct or read-only
+    private final int start; // absolute index in array or buffer
+    private final int length;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private ByteSequence(
+        ByteBuffer buffer,
+        byte[] array,
+        int start,
+        int length
+    ) {
+        super();
+
+        this.buffer = buffer;
+        this.array = array;
+        this.start = start;
+        this.length = length;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Erzeugt eine Sicht auf den angegebenen Pufferbereich. </p>
+     *
+     * @param   source      byte buffer
+     * @param   offset      absolute start index in buffer
+     * @param   length      count of bytes
+     * @return  new char sequence view
+     * @throws  IndexOutOfBoundsException if the range is not within the limit of the buffer
+     */
+    static ByteSequence of(
+        ByteBuffer source,
+        int offset,
+        int length
+    ) {
+
+        if ((offset < 0) || (length < 0) || (offset > source.limit() - length)) {
+            throw new IndexOutOfBoundsException(
+                "Invalid range: offset=" + offset + ", length=" + length + ", limit=" + source.limit());
+        }
+
+        if (source.hasArray()) {
+            return new ByteSequence(source, source.array(), source.arrayOffset() + offset, length);
+        } else {
+            return new ByteSequence(source, null, offset, length);
+        }
+
+    }
+
+    @Override
+    public int length() {
+
+        return this.length;
+
+    }
+
+    @Override
+    public char charAt(int index) {
+
+        if ((index < 0) || (index >= this.length)) {
+            throw new IndexOutOfBoundsException("Index out of range: " + index);
+        }
+
+        int pos = this.start + index;
+        int b = ((this.array == null) ? this.buffer.get(pos) : this.array[pos]);
+        return (char) (b & 0xFF);
+
+    }
+
+    @Override
+    public CharSequence subSequence(
+        int start,
+        int end
+    ) {
+
+        if ((start < 0) || (start > end) || (end > this.length)) {
+            throw new IndexOutOfBoundsException("Invalid range: [" + start + "," + end + ")");
+        }
+
+        return new ByteSequence(this.buffer, this.array, this.start + start, end - start);
+
+    }
+
+    @Override
+    public String toString() {
+
+        if (this.array != null) {
+            return new String(this.array, this.start, this.length, StandardCharsets.ISO_8859_1);
+        }
+
+        byte[] bytes = new byte[this.length];
+
+        for (int i = 0; i < this.length; i++) {
+            bytes[i] = this.buffer.get(this.start + i);
+        }
+
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+
+    }
+
+}
@@ -1,6 +1,6 @@
 /*
  * -----------------------------------------------------------------------
- * Copyright © 2013-2021 Meno Hochschild, <http://www.menodata.de/>
+ * Copyright © 2013-2024 Meno Hochschild, <http://www.menodata.de/>
  * -----------------------------------------------------------------------
  * This file (ChronoFormatter.java) is part of project Time4J.
  *
@@ -75,6 +75,13 @@ import net.time4j.tz.ZonalOffset;
 
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.UnmappableCharacterException;
 import java.text.AttributedCharacterIterator;
 import java.text.AttributedString;
 import java.text.DateFormat;
@@ -85,8 +92,8 @@ import java.text.ParsePosition;
 import java.time.format.FormatStyle;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
-import java.util.Deque;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
@@ -95,9 +102,12 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.function.IntPredicate;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static net.time4j.format.CalendarText.ISO_CALENDAR_TYPE;
 
@@ -252,6 +262,7 @@ public final class ChronoFormatter<T>
     private final Chronology<?> deepestParser;
     private final int stepCount;
     private final boolean singleStepMode;
+    private final FastPath<T> fastPath;
 
     //~ Konstruktoren -----------------------------------------------------
 
@@ -322,6 +333,7 @@ public final class ChronoFormatter<T>
         this.stepCount = steps.size();
         this.steps = this.freeze(steps);
         this.singleStepMode = this.getSingleStepMode();
+        this.fastPath = null;
 
     }
 
@@ -440,6 +452,7 @@ public final class ChronoFormatter<T>
         this.stepCount = copy.size();
         this.steps = this.freeze(copy);
         this.singleStepMode = this.getSingleStepMode();
+        this.fastPath = null;
 
     }
 
@@ -490,6 +503,35 @@ public final class ChronoFormatter<T>
         this.stepCount = formatter.stepCount;
         this.steps = this.freeze(formatter.steps);
         this.singleStepMode = this.getSingleStepMode();
+        this.fastPath = null;
+
+    }
+
+    // Aufruf durch withFastPath
+    private ChronoFormatter(
+        ChronoFormatter<T> formatter,
+        FastPath<T> fastPath
+    ) {
+        super();
+
+        this.chronology = formatter.chronology;
+        this.overrideHandler = formatter.overrideHandler;
+        this.deepestParser = formatter.deepestParser;
+        this.globalAttributes = formatter.globalAttributes;
+        this.leniency = formatter.leniency;
+        this.defaults = formatter.defaults;
+        this.fracproc = formatter.fracproc;
+        this.hasOptionals = formatter.hasOptionals;
+        this.hasOrMarkers = formatter.hasOrMarkers;
+        this.needsExtensions = formatter.needsExtensions;
+        this.countOfElements = formatter.countOfElements;
+        this.indexable = formatter.indexable;
+        this.trailing = formatter.trailing;
+        this.noPreparser = formatter.noPreparser;
+        this.stepCount = formatter.stepCount;
+        this.steps = this.freeze(formatter.steps);
+        this.singleStepMode = formatter.singleStepMode;
+        this.fastPath = fastPath;
 
     }
 
@@ -699,6 +741,17 @@ public final class ChronoFormatter<T>
     @Override
     public String print(T formattable) {
 
+        if ((this.fastPath != null) && (formattable != null)) {
+            StringBuilder buffer = new StringBuilder(32);
+            try {
+                if (this.fastPath.print(formattable, buffer)) {
+                    return buffer.toString();
+                }
+            } catch (IOException ioe) {
+                throw new AssertionError(ioe);
+            }
+        }
+
         ChronoDisplay display = this.display(formattable, this.globalAttributes);
         return this.format0(display);
 
@@ -786,6 +839,337 @@ public final class ChronoFormatter<T>
 
     }
 
+    /**
+     * <p>Prints given chronological entity into given char array starting at given offset. </p>
+     *
+     * <p>This method writes directly into the caller-owned array and does not create any intermediate
+     * string so it is suitable for repeated printing into a reused buffer. The content of the array
+     * after the offset is undefined if this method fails. </p>
+     *
+     * @param   formattable     object to be formatted
+     * @param   target          char array the formatted text will be written into
+     * @param   offset          array index of first char to be written
+     * @return  count of written chars
+     * @throws  IllegalArgumentException if given object is not formattable
+     * @throws  IndexOutOfBoundsException if the offset is negative or greater than the array length
+     * @throws  java.nio.BufferOverflowException if the remaining array length is too small
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Formatiert die angegebene Entit&auml;t in ein {@code char}-Array ab dem angegebenen Index. </p>
+     *
+     * <p>Diese Methode schreibt direkt in das vom Aufrufer bereitgestellte Array und erzeugt keine
+     * Zwischenzeichenkette, so da&szlig; sie f&uuml;r wiederholte Formatierung in einen wiederverwendeten
+     * Puffer geeignet ist. Der Inhalt des Arrays nach dem Startindex ist undefiniert, wenn diese Methode
+     * fehlschl&auml;gt. </p>
+     *
+     * @param   formattable     object to be formatted
+     * @param   target          char array the formatted text will be written into
+     * @param   offset          array index of first char to be written
+     * @return  count of written chars
+     * @throws  IllegalArgumentException if given object is not formattable
+     * @throws  IndexOutOfBoundsException if the offset is negative or greater than the array length
+     * @throws  java.nio.BufferOverflowException if the remaining array length is too small
+     * @since   5.10
+     */
+    public int print(
+        T formattable,
+        char[] target,
+        int offset
+    ) {
+
+        if ((offset < 0) || (offset > target.length)) {
+            throw new IndexOutOfBoundsException("Offset out of range: " + offset);
+        }
+
+        return this.print(formattable, PrintBuffer.of(target, offset, target.length));
+
+    }
+
+    /**
+     * <p>Prints given chronological entity into given char buffer starting at its current position. </p>
+     *
+     * <p>If the buffer is backed by an array then the text will be written directly into that array
+     * without any intermediate string. The position of the buffer is advanced by the count of written
+     * chars in case of success and remains unchanged otherwise. </p>
+     *
+     * @param   formattable     object to be formatted
+     * @param   target          char buffer the formatted text will be written into
+     * @return  count of written chars
+     * @throws  IllegalArgumentException if given object is not formattable
+     * @throws  java.nio.BufferOverflowException if the remaining capacity of the buffer is too small
+     * @throws  java.nio.ReadOnlyBufferException if the buffer is read-only
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Formatiert die angegebene Entit&auml;t in einen {@code CharBuffer} ab dessen aktueller
+     * Position. </p>
+     *
+     * <p>Wenn der Puffer ein Array hat, wird der Text ohne Zwischenzeichenkette direkt in dieses Array
+     * geschrieben. Die Position des Puffers wird im Erfolgsfall um die Anzahl der geschriebenen Zeichen
+     * erh&ouml;ht und bleibt sonst unver&auml;ndert. </p>
+     *
+     * @param   formattable     object to be formatted
+     * @param   target          char buffer the formatted text will be written into
+     * @return  count of written chars
+     * @throws  IllegalArgumentException if given object is not formattable
+     * @throws  java.nio.BufferOverflowException if the remaining capacity of the buffer is too small
+     * @throws  java.nio.ReadOnlyBufferException if the buffer is read-only
+     * @since   5.10
+     */
+    public int print(
+        T formattable,
+        CharBuffer target
+    ) {
+
+        int written;
+
+        if (target.hasArray()) {
+            int offset = target.arrayOffset();
+            written =
+                this.print(
+                    formattable,
+                    PrintBuffer.of(target.array(), offset + target.position(), offset + target.limit()));
+        } else {
+            String text = this.print(formattable);
+            written = text.length();
+            if (written > target.remaining()) {
+                throw new BufferOverflowException();
+            }
+            target.put(text);
+            return written;
+        }
+
+        target.position(target.position() + written);
+        return written;
+
+    }
+
+    /**
+     * <p>Prints given chronological entity into given byte buffer starting at its current position
+     * using the encoding ISO-8859-1 (which includes US-ASCII). </p>
+     *
+     * <p>The text will be written directly into the buffer without any intermediate string or
+     * charset encoder. The position of the buffer is advanced by the count of written bytes in case
+     * of success and remains unchanged otherwise. </p>
+     *
+     * @param   formattable     object to be formatted
+     * @param   target          byte buffer the formatted text will be written into
+     * @return  count of written bytes
+     * @throws  IllegalArgumentException if given object is not formattable or if the formatted
+     *          text contains any char which cannot be encoded in ISO-8859-1
+     * @throws  java.nio.BufferOverflowException if the remaining capacity of the buffer is too small
+     * @throws  java.nio.ReadOnlyBufferException if the buffer is read-only
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Formatiert die angegebene Entit&auml;t in einen {@code ByteBuffer} ab dessen aktueller
+     * Position mit der Kodierung ISO-8859-1 (die US-ASCII einschlie&szlig;t). </p>
+     *
+     * <p>Der Text wird ohne Zwischenzeichenkette oder {@code CharsetEncoder} direkt in den Puffer
+     * geschrieben. Die Position des Puffers wird im Erfolgsfall um die Anzahl der geschriebenen
+     * Bytes erh&ouml;ht und bleibt sonst unver&auml;ndert. </p>
+     *
+     * @param   formattable     object to be formatted
+     * @param   target          byte buffer the formatted text will be written into
+     * @return  count of written bytes
+     * @throws  IllegalArgumentException if given object is not formattable or if the formatted
+     *          text contains any char which cannot be encoded in ISO-8859-1
+     * @throws  java.nio.BufferOverflowException if the remaining capacity of the buffer is too small
+     * @throws  java.nio.ReadOnlyBufferException if the buffer is read-only
+     * @since   5.10
+     */
+    public int print(
+        T formattable,
+        ByteBuffer target
+    ) {
+
+        PrintBuffer buffer;
+
+        if (target.hasArray()) {
+            int offset = target.arrayOffset();
+            buffer = PrintBuffer.of(target.array(), offset + target.position(), offset + target.limit());
+        } else if (target.isReadOnly()) {
+            throw new ReadOnlyBufferException();
+        } else {
+            buffer = PrintBuffer.of(target);
+        }
+
+        int written = this.print(formattable, buffer);
+        target.position(target.position() + written);
+        return written;
+
+    }
+
+    /**
+     * <p>Prints all values of given spliterator in their encounter order into given buffer and
+     * appends the suffix after every formatted value. </p>
+     *
+     * <p>The values are formatted in chunks in parallel using given fork-join-pool. Every chunk
+     * is formatted into its own buffer, and the calling thread finally appends all chunks in order.
+     * Therefore the target buffer does not need to be thread-safe. The count of chunks in progress
+     * is limited, so even very large sources only need constant memory. </p>
+     *
+     * @param   values      source of values to be formatted (only traversed by the calling thread)
+     * @param   suffix      text to be appended after every formatted value (for example a line separator)
+     * @param   buffer      target the formatted text will be written into
+     * @param   pool        fork-join-pool for parallel formatting
+     * @throws  IllegalArgumentException if any value is not formattable
+     * @throws  IOException if writing into the buffer fails
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Formatiert alle Werte der angegebenen Quelle in deren Reihenfolge in den angegebenen
+     * Puffer und h&auml;ngt nach jedem formatierten Wert das Suffix an. </p>
+     *
+     * <p>Die Werte werden blockweise mit Hilfe des angegebenen {@code ForkJoinPool} parallel
+     * formatiert. Jeder Block wird in einen eigenen Puffer formatiert, und der aufrufende Thread
+     * h&auml;ngt schlie&szlig;lich alle Bl&ouml;cke in der richtigen Reihenfolge an. Deshalb
+     * mu&szlig; der Zielpuffer nicht threadsicher sein. Die Anzahl der gleichzeitig bearbeiteten
+     * Bl&ouml;cke ist begrenzt, so da&szlig; auch sehr gro&szlig;e Quellen nur konstanten
+     * Speicher brauchen. </p>
+     *
+     * @param   values      source of values to be formatted (only traversed by the calling thread)
+     * @param   suffix      text to be appended after every formatted value (for example a line separator)
+     * @param   buffer      target the formatted text will be written into
+     * @param   pool        fork-join-pool for parallel formatting
+     * @throws  IllegalArgumentException if any value is not formattable
+     * @throws  IOException if writing into the buffer fails
+     * @since   5.10
+     */
+    public void printAll(
+        Spliterator<? extends T> values,
+        CharSequence suffix,
+        Appendable buffer,
+        ForkJoinPool pool
+    ) throws IOException {
+
+        new BulkPrinter<>(this, suffix, pool).print(values, buffer);
+
+    }
+
+    /**
+     * <p>Prints all values of given stream in their encounter order into given buffer and
+     * appends the suffix after every formatted value. </p>
+     *
+     * @param   values      stream of values to be formatted (will be consumed)
+     * @param   suffix      text to be appended after every formatted value (for example a line separator)
+     * @param   buffer      target the formatted text will be written into
+     * @param   pool        fork-join-pool for parallel formatting
+     * @throws  IllegalArgumentException if any value is not formattable
+     * @throws  IOException if writing into the buffer fails
+     * @see     #printAll(Spliterator, CharSequence, Appendable, ForkJoinPool)
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Formatiert alle Werte des angegebenen Stroms in deren Reihenfolge in den angegebenen
+     * Puffer und h&auml;ngt nach jedem formatierten Wert das Suffix an. </p>
+     *
+     * @param   values      stream of values to be formatted (will be consumed)
+     * @param   suffix      text to be appended after every formatted value (for example a line separator)
+     * @param   buffer      target the formatted text will be written into
+     * @param   pool        fork-join-pool for parallel formatting
+     * @throws  IllegalArgumentException if any value is not formattable
+     * @throws  IOException if writing into the buffer fails
+     * @see     #printAll(Spliterator, CharSequence, Appendable, ForkJoinPool)
+     * @since   5.10
+     */
+    public void printAll(
+        Stream<? extends T> values,
+        CharSequence suffix,
+        Appendable buffer,
+        ForkJoinPool pool
+    ) throws IOException {
+
+        this.printAll(values.spliterator(), suffix, buffer, pool);
+
+    }
+
+    /**
+     * <p>Prints all values of given array in their order into given buffer and appends the
+     * suffix after every formatted value. </p>
+     *
+     * @param   values      array of values to be formatted
+     * @param   suffix      text to be appended after every formatted value (for example a line separator)
+     * @param   buffer      target the formatted text will be written into
+     * @param   pool        fork-join-pool for parallel formatting
+     * @throws  IllegalArgumentException if any value is not formattable
+     * @throws  IOException if writing into the buffer fails
+     * @see     #printAll(Spliterator, CharSequence, Appendable, ForkJoinPool)
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Formatiert alle Werte des angegebenen Arrays in deren Reihenfolge in den angegebenen
+     * Puffer und h&auml;ngt nach jedem formatierten Wert das Suffix an. </p>
+     *
+     * @param   values      array of values to be formatted
+     * @param   suffix      text to be appended after every formatted value (for example a line separator)
+     * @param   buffer      target the formatted text will be written into
+     * @param   pool        fork-join-pool for parallel formatting
+     * @throws  IllegalArgumentException if any value is not formattable
+     * @throws  IOException if writing into the buffer fails
+     * @see     #printAll(Spliterator, CharSequence, Appendable, ForkJoinPool)
+     * @since   5.10
+     */
+    public void printAll(
+        T[] values,
+        CharSequence suffix,
+        Appendable buffer,
+        ForkJoinPool pool
+    ) throws IOException {
+
+        this.printAll(Arrays.spliterator(values), suffix, buffer, pool);
+
+    }
+
+    /**
+     * <p>Prints all values of given spliterator in their encounter order into given channel and
+     * appends the suffix after every formatted value. </p>
+     *
+     * <p>In addition to the text formatting, the encoding of every chunk into bytes also takes
+     * place in parallel. Only the calling thread writes into the channel. </p>
+     *
+     * @param   values      source of values to be formatted (only traversed by the calling thread)
+     * @param   suffix      text to be appended after every formatted value (for example a line separator)
+     * @param   channel     target the encoded text will be written into
+     * @param   charset     encoding of formatted text
+     * @param   pool        fork-join-pool for parallel formatting
+     * @throws  IllegalArgumentException if any value is not formattable or if the formatted text
+     *          cannot be encoded in given charset
+     * @throws  IOException if writing into the channel fails
+     * @see     #printAll(Spliterator, CharSequence, Appendable, ForkJoinPool)
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Formatiert alle Werte der angegebenen Quelle in deren Reihenfolge in den angegebenen
+     * Kanal und h&auml;ngt nach jedem formatierten Wert das Suffix an. </p>
+     *
+     * <p>Zus&auml;tzlich zur Textformatierung findet auch die Kodierung jedes Blocks in Bytes
+     * parallel statt. Nur der aufrufende Thread schreibt in den Kanal. </p>
+     *
+     * @param   values      source of values to be formatted (only traversed by the calling thread)
+     * @param   suffix      text to be appended after every formatted value (for example a line separator)
+     * @param   channel     target the encoded text will be written into
+     * @param   charset     encoding of formatted text
+     * @param   pool        fork-join-pool for parallel formatting
+     * @throws  IllegalArgumentException if any value is not formattable or if the formatted text
+     *          cannot be encoded in given charset
+     * @throws  IOException if writing into the channel fails
+     * @see     #printAll(Spliterator, CharSequence, Appendable, ForkJoinPool)
+     * @since   5.10
+     */
+    public void printAll(
+        Spliterator<? extends T> values,
+        CharSequence suffix,
+        WritableByteChannel channel,
+        Charset charset,
+        ForkJoinPool pool
+    ) throws IOException {
+
+        new BulkPrinter<>(this, suffix, pool).print(values, channel, charset);
+
+    }
+
     // also directly called by CustomizedProcessor and StyleProcessor
     Set<ElementPosition> print(
         ChronoDisplay formattable,
@@ -809,94 +1193,73 @@ public final class ChronoFormatter<T>
         }
 
         if (this.hasOrMarkers) {
-            Deque<StringBuilder> collectorStack = new LinkedList<>();
-            StringBuilder buf = new StringBuilder(len << 2);
-            collectorStack.push(buf);
-
-            Deque<Set<ElementPosition>> positionStack = null;
-            if (withPositions) {
-                positionStack = new LinkedList<>();
-                positionStack.push(positions);
+            // optionale Sektionen werden über Längenmarken im Puffer zurückgesetzt (ohne Kopien)
+            Appendable collector;
+            int origin;
+
+            if (!withPositions && ((buffer instanceof StringBuilder) || (buffer instanceof PrintBuffer))) {
+                collector = buffer;
+                origin = ((CharSequence) buffer).length();
+            } else {
+                collector = new StringBuilder(len << 2);
+                origin = 0;
             }
 
+            int[] marks = new int[4];
+            marks[0] = origin;
             int previous = 0;
             int current = 0;
 
             while (index < len) {
                 FormatStep step = this.steps.get(index);
                 current = step.getLevel();
-                int level = current;
 
-                // Start einer optionalen Sektion: Stack erweitern
-                while (level > previous) {
-                    StringBuilder sb = new StringBuilder();
-                    sb.append(collectorStack.peek());
-                    collectorStack.push(sb);
-                    if (withPositions) {
-                        positions = new LinkedHashSet<>();
-                        positions.addAll(positionStack.peek());
-                        positionStack.push(positions);
+                // Start einer optionalen Sektion: Marken setzen
+                if (current > previous) {
+                    if (current >= marks.length) {
+                        marks = Arrays.copyOf(marks, Math.max(current + 1, marks.length * 2));
                     }
-                    level--;
-                }
-
-                // Ende einer optionalen Sektion: Werte im Stack sichern
-                while (level < previous) {
-                    buf = collectorStack.pop();
-                    collectorStack.pop();
-                    collectorStack.push(buf);
-                    if (withPositions) {
-                        positions = positionStack.pop();
-                        positionStack.pop();
-                        positionStack.push(positions);
+                    int mark = ((CharSequence) collector).length();
+                    for (int level = previous + 1; level <= current; level++) {
+                        marks[level] = mark;
                     }
-                    level++;
                 }
 
-                buf = collectorStack.peek();
-                if (withPositions) {
-                    positions = positionStack.peek();
-                }
+                // Ende einer optionalen Sektion: Inhalt bleibt einfach erhalten
 
                 RuntimeException re = null;
                 int printed = -1;
+                int last = -1; // index of next or-block, not yet determined
 
-                try {
-                    printed = step.print(formattable, buf, attributes, positions, quickPath);
-                } catch (ChronoException | IllegalArgumentException ex) {
-                    re = ex;
+                if (step.isMissing(formattable)) {
+                    // fehlendes Element: ohne Ausnahme zur nächsten Alternative springen, falls vorhanden
+                    last = this.findNextOrBlock(index);
+                }
+
+                if ((last == -1) || ((last == index) && !step.isNewOrBlockStarted())) {
+                    try {
+                        printed = step.print(formattable, collector, attributes, positions, quickPath);
+                    } catch (ChronoException | IllegalArgumentException ex) {
+                        re = ex;
+                    }
                 }
 
                 if (printed == -1) {
                     // Fehlerfall: nächsten oder-Block suchen
-                    int section = step.getSection();
-                    int last = index;
-
-                    if (!step.isNewOrBlockStarted()) {
-                        for (int j = index + 1; j < len; j++) {
-                            FormatStep test = this.steps.get(j);
-                            if (test.isNewOrBlockStarted() && (test.getSection() == section)) {
-                                last = j;
-                                break;
-                            }
-                        }
+                    if (last == -1) {
+                        last = this.findNextOrBlock(index);
                     }
 
                     if ((last > index) || step.isNewOrBlockStarted()) {
-                        // wenn gefunden, zum nächsten oder-Block springen
-                        collectorStack.pop();
-                        StringBuilder sb = new StringBuilder();
-                        if (!collectorStack.isEmpty()) {
-                            sb.append(collectorStack.peek());
+                        // wenn gefunden, Sektion zurücksetzen und zum nächsten oder-Block springen
+                        int mark = marks[current];
+                        if (collector instanceof StringBuilder) {
+                            ((StringBuilder) collector).setLength(mark);
+                        } else {
+                            ((PrintBuffer) collector).setLength(mark);
                         }
-                        collectorStack.push(sb);
                         if (withPositions) {
-                            positionStack.pop();
-                            Set<ElementPosition> ep = new LinkedHashSet<>();
-                            if (!positionStack.isEmpty()) {
-                                ep.addAll(positionStack.peek());
-                            }
-                            positionStack.push(ep);
+                            positions.removeIf(ep -> ep.getStartIndex() >= mark);
                         }
                         index = last;
                     } else if (re == null) {
@@ -913,14 +1276,9 @@ public final class ChronoFormatter<T>
                 index++;
             }
 
-            // Verbleibende optionale Sektionen auflösen und Ergebnis schreiben
-            buf = collectorStack.peek();
-            collectorStack.clear();
-            buffer.append(buf);
-
-            if (withPositions) {
-                positions = positionStack.peek();
-                positionStack.clear();
+            // Ergebnis schreiben
+            if (collector != buffer) {
+                buffer.append((CharSequence) collector);
             }
         } else {
             try {
@@ -951,7 +1309,7 @@ public final class ChronoFormatter<T>
     public T parse(CharSequence text) throws ParseException {
 
         ParseLog status = new ParseLog();
-        T result = this.parse(text, status);
+        T result = this.parseFully(text, status);
 
         if (result == null) {
             throw new ParseException(
@@ -960,12 +1318,53 @@ public final class ChronoFormatter<T>
             );
         }
 
-        int index = status.getPosition();
+        return result;
 
-        if (!this.trailing && (index < text.length())) {
+    }
+
+    /**
+     * <p>Interpretes given text as chronological entity and reuses the internal storage
+     * of given parse context. </p>
+     *
+     * <p>Equivalent to {@link #parse(CharSequence)} but avoids the repeated allocation of
+     * internal parsing structures in loops. The context must not be shared between threads. </p>
+     *
+     * @param   text        text to be parsed
+     * @param   context     reusable parse context (one instance per thread)
+     * @return  parse result
+     * @throws  IndexOutOfBoundsException if the text is empty
+     * @throws  ParseException if the text is not parseable
+     * @see     ParseContext
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Interpretiert den angegebenen Text als chronologische Entit&auml;t und verwendet dabei
+     * den internen Speicher des angegebenen Parse-Kontexts wieder. </p>
+     *
+     * <p>&Auml;quivalent zu {@link #parse(CharSequence)}, vermeidet aber die wiederholte Anlage
+     * interner Parse-Strukturen in Schleifen. Der Kontext darf nicht zwischen Threads geteilt
+     * werden. </p>
+     *
+     * @param   text        text to be parsed
+     * @param   context     reusable parse context (one instance per thread)
+     * @return  parse result
+     * @throws  IndexOutOfBoundsException if the text is empty
+     * @throws  ParseException if the text is not parseable
+     * @see     ParseContext
+     * @since   5.10
+     */
+    public T parse(
+        CharSequence text,
+        ParseContext context
+    ) throws ParseException {
+
+        ParseLog status = context.prepare();
+        T result = this.parseFully(text, status);
+
+        if (result == null) {
             throw new ParseException(
-                "Unparsed trailing characters: " + sub(index, text),
-                index
+                status.getErrorMessage(),
+                status.getErrorIndex()
             );
         }
 
@@ -973,6 +1372,349 @@ public final class ChronoFormatter<T>
 
     }
 
+    /**
+     * <p>Interpretes given text as chronological entity without throwing an exception
+     * if the text is not parseable. </p>
+     *
+     * <p>Equivalent to {@link #parse(CharSequence)} but yields the parsing error including
+     * error index and message as part of the result. This avoids the costs of creating
+     * exceptions when validating input with many malformed rows. An empty text is reported
+     * as error at index zero. </p>
+     *
+     * @param   text        text to be parsed
+     * @return  parsed value or error
+     * @see     ParseResult#isError()
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Interpretiert den angegebenen Text als chronologische Entit&auml;t, ohne eine Ausnahme
+     * zu werfen, wenn der Text nicht interpretierbar ist. </p>
+     *
+     * <p>&Auml;quivalent zu {@link #parse(CharSequence)}, liefert aber den Fehler einschlie&szlig;lich
+     * Fehlerposition und -meldung als Teil des Ergebnisses. Das vermeidet die Kosten der Erzeugung
+     * von Ausnahmen, wenn Eingaben mit vielen fehlerhaften Zeilen gepr&uuml;ft werden. Ein leerer
+     * Text wird als Fehler an der Position null gemeldet. </p>
+     *
+     * @param   text        text to be parsed
+     * @return  parsed value or error
+     * @see     ParseResult#isError()
+     * @since   5.10
+     */
+    public ParseResult<T> tryParse(CharSequence text) {
+
+        return this.tryParse(text, (ParseLog) null);
+
+    }
+
+    /**
+     * <p>Interpretes given text as chronological entity without throwing an exception
+     * and reuses the internal storage of given parse context. </p>
+     *
+     * <p>Combines {@link #tryParse(CharSequence)} with {@link #parse(CharSequence, ParseContext)}.
+     * The context must not be shared between threads. </p>
+     *
+     * @param   text        text to be parsed
+     * @param   context     reusable parse context (one instance per thread)
+     * @return  parsed value or error
+     * @see     ParseResult#isError()
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Interpretiert den angegebenen Text als chronologische Entit&auml;t, ohne eine Ausnahme
+     * zu werfen, und verwendet dabei den internen Speicher des angegebenen Parse-Kontexts wieder. </p>
+     *
+     * <p>Kombiniert {@link #tryParse(CharSequence)} mit {@link #parse(CharSequence, ParseContext)}.
+     * Der Kontext darf nicht zwischen Threads geteilt werden. </p>
+     *
+     * @param   text        text to be parsed
+     * @param   context     reusable parse context (one instance per thread)
+     * @return  parsed value or error
+     * @see     ParseResult#isError()
+     * @since   5.10
+     */
+    public ParseResult<T> tryParse(
+        CharSequence text,
+        ParseContext context
+    ) {
+
+        if (context == null) {
+            throw new NullPointerException("Missing parse context.");
+        }
+
+        return this.tryParse(text, context.prepare());
+
+    }
+
+    /**
+     * <p>Interpretes given range of a byte buffer as chronological entity. </p>
+     *
+     * <p>The bytes are read as ISO-8859-1 (which includes US-ASCII) directly from the buffer without
+     * decoding them into an intermediate string. Only localized text elements and error messages might
+     * need a decoded copy of the text. Otherwise this method is equivalent to {@link #parse(CharSequence)}
+     * where the error index of a {@code ParseException} is relative to given offset. The position and the
+     * limit of the buffer are not changed. </p>
+     *
+     * @param   source      byte buffer which contains the text to be parsed
+     * @param   offset      absolute index of first byte of text in buffer
+     * @param   length      count of bytes of text
+     * @return  parse result
+     * @throws  IndexOutOfBoundsException if the range is not within the limit of the buffer or empty
+     * @throws  ParseException if the text is not parseable
+     * @see     #print(Object, ByteBuffer)
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Interpretiert den angegebenen Bereich eines {@code ByteBuffer} als chronologische Entit&auml;t. </p>
+     *
+     * <p>Die Bytes werden als ISO-8859-1 (die US-ASCII einschlie&szlig;t) direkt aus dem Puffer gelesen,
+     * ohne sie in eine Zwischenzeichenkette zu dekodieren. Nur lokalisierte Textelemente und Fehlermeldungen
+     * k&ouml;nnen eine dekodierte Kopie des Texts ben&ouml;tigen. Sonst ist diese Methode &auml;quivalent zu
+     * {@link #parse(CharSequence)}, wobei der Fehlerindex einer {@code ParseException} relativ zum angegebenen
+     * Versatz ist. Position und Limit des Puffers werden nicht ge&auml;ndert. </p>
+     *
+     * @param   source      byte buffer which contains the text to be parsed
+     * @param   offset      absolute index of first byte of text in buffer
+     * @param   length      count of bytes of text
+     * @return  parse result
+     * @throws  IndexOutOfBoundsException if the range is not within the limit of the buffer or empty
+     * @throws  ParseException if the text is not parseable
+     * @see     #print(Object, ByteBuffer)
+     * @since   5.10
+     */
+    public T parse(
+        ByteBuffer source,
+        int offset,
+        int length
+    ) throws ParseException {
+
+        return this.parse(ByteSequence.of(source, offset, length));
+
+    }
+
+    /**
+     * <p>Like {@link #parse(ByteBuffer, int, int)} but reuses the internal storage of given
+     * parse context. </p>
+     *
+     * @param   source      byte buffer which contains the text to be parsed
+     * @param   offset      absolute index of first byte of text in buffer
+     * @param   length      count of bytes of text
+     * @param   context     reusable parse context (one instance per thread)
+     * @return  parse result
+     * @throws  IndexOutOfBoundsException if the range is not within the limit of the buffer or empty
+     * @throws  ParseException if the text is not parseable
+     * @see     ParseContext
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Wie {@link #parse(ByteBuffer, int, int)}, verwendet aber den internen Speicher des
+     * angegebenen Parse-Kontexts wieder. </p>
+     *
+     * @param   source      byte buffer which contains the text to be parsed
+     * @param   offset      absolute index of first byte of text in buffer
+     * @param   length      count of bytes of text
+     * @param   context     reusable parse context (one instance per thread)
+     * @return  parse result
+     * @throws  IndexOutOfBoundsException if the range is not within the limit of the buffer or empty
+     * @throws  ParseException if the text is not parseable
+     * @see     ParseContext
+     * @since   5.10
+     */
+    public T parse(
+        ByteBuffer source,
+        int offset,
+        int length,
+        ParseContext context
+    ) throws ParseException {
+
+        return this.parse(ByteSequence.of(source, offset, length), context);
+
+    }
+
+    /**
+     * <p>Interpretes a column of texts as calendar dates and yields their epoch days. </p>
+     *
+     * <p>Every text is parsed like in {@link #parse(CharSequence)} but without any exception
+     * for invalid rows. Instead the bits of invalid rows will be set in given error bitmap
+     * and their epoch days will be zero. The bits of all valid rows will be cleared. The
+     * internal parsing structures are reused for all rows, and compiled formatters even avoid
+     * the creation of date objects (see {@link #compile()}). Example: </p>
+     *
+     * <pre>
+     *  ChronoFormatter&lt;PlainDate&gt; f =
+     *      ChronoFormatter.ofDatePattern(&quot;uuuu-MM-dd&quot;, PatternType.CLDR, Locale.ROOT).compile();
+     *  BitSet errors = new BitSet();
+     *  long[] days = f.parseEpochDays(Arrays.asList(&quot;1972-01-02&quot;, &quot;xyz&quot;), errors);
+     *  System.out.println(days[0] + &quot;/&quot; + errors); // 1/{1}
+     * </pre>
+     *
+     * @param   texts       column of texts to be parsed (empty texts and {@code null} count as errors)
+     * @param   errors      bitmap which marks invalid rows after return
+     * @return  days since UTC epoch [1972-01-01] per row
+     * @throws  UnsupportedOperationException if the chronology of this formatter is not about calendar dates
+     * @see     net.time4j.engine.EpochDays#UTC
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Interpretiert eine Spalte von Texten als Kalenderdaten und liefert deren Epochentage. </p>
+     *
+     * <p>Jeder Text wird wie in {@link #parse(CharSequence)} interpretiert, aber ohne Ausnahmen
+     * f&uuml;r ung&uuml;ltige Zeilen. Stattdessen werden die Bits ung&uuml;ltiger Zeilen in der
+     * angegebenen Fehlerbitmaske gesetzt, und ihre Epochentage sind null. Die Bits aller
+     * g&uuml;ltigen Zeilen werden gel&ouml;scht. Die internen Parse-Strukturen werden f&uuml;r alle
+     * Zeilen wiederverwendet, und &uuml;bersetzte Formatierer vermeiden sogar die Erzeugung von
+     * Datumsobjekten (siehe {@link #compile()}). Beispiel: </p>
+     *
+     * <pre>
+     *  ChronoFormatter&lt;PlainDate&gt; f =
+     *      ChronoFormatter.ofDatePattern(&quot;uuuu-MM-dd&quot;, PatternType.CLDR, Locale.ROOT).compile();
+     *  BitSet errors = new BitSet();
+     *  long[] days = f.parseEpochDays(Arrays.asList(&quot;1972-01-02&quot;, &quot;xyz&quot;), errors);
+     *  System.out.println(days[0] + &quot;/&quot; + errors); // 1/{1}
+     * </pre>
+     *
+     * @param   texts       column of texts to be parsed (empty texts and {@code null} count as errors)
+     * @param   errors      bitmap which marks invalid rows after return
+     * @return  days since UTC epoch [1972-01-01] per row
+     * @throws  UnsupportedOperationException if the chronology of this formatter is not about calendar dates
+     * @see     net.time4j.engine.EpochDays#UTC
+     * @since   5.10
+     */
+    public long[] parseEpochDays(
+        List<? extends CharSequence> texts,
+        BitSet errors
+    ) {
+
+        this.checkColumnType(CalendarDate.class);
+        return this.parseColumn(texts, null, errors, null);
+
+    }
+
+    /**
+     * <p>Like {@link #parseEpochDays(List, BitSet)} but splits the work into parallel tasks
+     * of given pool. </p>
+     *
+     * @param   texts       column of texts to be parsed (empty texts and {@code null} count as errors)
+     * @param   errors      bitmap which marks invalid rows after return
+     * @param   pool        fork-join-pool which executes the parallel tasks
+     * @return  days since UTC epoch [1972-01-01] per row
+     * @throws  UnsupportedOperationException if the chronology of this formatter is not about calendar dates
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Wie {@link #parseEpochDays(List, BitSet)}, verteilt aber die Arbeit auf parallele
+     * Aufgaben des angegebenen Pools. </p>
+     *
+     * @param   texts       column of texts to be parsed (empty texts and {@code null} count as errors)
+     * @param   errors      bitmap which marks invalid rows after return
+     * @param   pool        fork-join-pool which executes the parallel tasks
+     * @return  days since UTC epoch [1972-01-01] per row
+     * @throws  UnsupportedOperationException if the chronology of this formatter is not about calendar dates
+     * @since   5.10
+     */
+    public long[] parseEpochDays(
+        List<? extends CharSequence> texts,
+        BitSet errors,
+        ForkJoinPool pool
+    ) {
+
+        if (pool == null) {
+            throw new NullPointerException("Missing fork-join-pool.");
+        }
+
+        this.checkColumnType(CalendarDate.class);
+        return this.parseColumn(texts, null, errors, pool);
+
+    }
+
+    /**
+     * <p>Interpretes a column of texts as moments and yields their POSIX seconds and nanoseconds. </p>
+     *
+     * <p>Every text is parsed like in {@link #parse(CharSequence)} but without any exception
+     * for invalid rows. Instead the bits of invalid rows will be set in given error bitmap
+     * and their seconds and nanoseconds will be zero. The bits of all valid rows will be
+     * cleared. The internal parsing structures are reused for all rows. </p>
+     *
+     * @param   texts       column of texts to be parsed (empty texts and {@code null} count as errors)
+     * @param   nanos       target array for the nanoseconds per row
+     * @param   errors      bitmap which marks invalid rows after return
+     * @return  elapsed POSIX seconds since UNIX epoch [1970-01-01T00:00Z] per row
+     * @throws  UnsupportedOperationException if the chronology of this formatter is not about moments
+     * @throws  IllegalArgumentException if the array of nanoseconds is shorter than the column
+     * @see     UnixTime
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Interpretiert eine Spalte von Texten als Momente und liefert deren POSIX-Sekunden und
+     * Nanosekunden. </p>
+     *
+     * <p>Jeder Text wird wie in {@link #parse(CharSequence)} interpretiert, aber ohne Ausnahmen
+     * f&uuml;r ung&uuml;ltige Zeilen. Stattdessen werden die Bits ung&uuml;ltiger Zeilen in der
+     * angegebenen Fehlerbitmaske gesetzt, und ihre Sekunden und Nanosekunden sind null. Die Bits
+     * aller g&uuml;ltigen Zeilen werden gel&ouml;scht. Die internen Parse-Strukturen werden f&uuml;r
+     * alle Zeilen wiederverwendet. </p>
+     *
+     * @param   texts       column of texts to be parsed (empty texts and {@code null} count as errors)
+     * @param   nanos       target array for the nanoseconds per row
+     * @param   errors      bitmap which marks invalid rows after return
+     * @return  elapsed POSIX seconds since UNIX epoch [1970-01-01T00:00Z] per row
+     * @throws  UnsupportedOperationException if the chronology of this formatter is not about moments
+     * @throws  IllegalArgumentException if the array of nanoseconds is shorter than the column
+     * @see     UnixTime
+     * @since   5.10
+     */
+    public long[] parsePosixTimes(
+        List<? extends CharSequence> texts,
+        int[] nanos,
+        BitSet errors
+    ) {
+
+        this.checkColumnType(UnixTime.class);
+        return this.parseColumn(texts, nanos, errors, null);
+
+    }
+
+    /**
+     * <p>Like {@link #parsePosixTimes(List, int[], BitSet)} but splits the work into parallel
+     * tasks of given pool. </p>
+     *
+     * @param   texts       column of texts to be parsed (empty texts and {@code null} count as errors)
+     * @param   nanos       target array for the nanoseconds per row
+     * @param   errors      bitmap which marks invalid rows after return
+     * @param   pool        fork-join-pool which executes the parallel tasks
+     * @return  elapsed POSIX seconds since UNIX epoch [1970-01-01T00:00Z] per row
+     * @throws  UnsupportedOperationException if the chronology of this formatter is not about moments
+     * @throws  IllegalArgumentException if the array of nanoseconds is shorter than the column
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Wie {@link #parsePosixTimes(List, int[], BitSet)}, verteilt aber die Arbeit auf
+     * parallele Aufgaben des angegebenen Pools. </p>
+     *
+     * @param   texts       column of texts to be parsed (empty texts and {@code null} count as errors)
+     * @param   nanos       target array for the nanoseconds per row
+     * @param   errors      bitmap which marks invalid rows after return
+     * @param   pool        fork-join-pool which executes the parallel tasks
+     * @return  elapsed POSIX seconds since UNIX epoch [1970-01-01T00:00Z] per row
+     * @throws  UnsupportedOperationException if the chronology of this formatter is not about moments
+     * @throws  IllegalArgumentException if the array of nanoseconds is shorter than the column
+     * @since   5.10
+     */
+    public long[] parsePosixTimes(
+        List<? extends CharSequence> texts,
+        int[] nanos,
+        BitSet errors,
+        ForkJoinPool pool
+    ) {
+
+        if (pool == null) {
+            throw new NullPointerException("Missing fork-join-pool.");
+        }
+
+        this.checkColumnType(UnixTime.class);
+        return this.parseColumn(texts, nanos, errors, pool);
+
+    }
+
     @Override
     public T parse(
         CharSequence    text,
@@ -2054,6 +2796,83 @@ public final class ChronoFormatter<T>
 
     }
 
+    /**
+     * <p>Creates a compiled copy of this formatter which prints and parses fixed numerical
+     * layouts with a specialized algorithm instead of interpreting its format steps. </p>
+     *
+     * <p>Compilation is possible for formatters of the types {@code PlainDate}, {@code PlainTime}
+     * or {@code PlainTimestamp} whose format steps only consist of literals without digits,
+     * the proleptic ISO-year with four digits, month, day-of-month, hour (0-23), minute and second
+     * with two digits and a fraction of second with fixed width. Only ASCII digits are supported.
+     * Optional sections, or-blocks, padding, sectional attributes and default values prevent
+     * compilation, and this instance will be returned unchanged. Example: </p>
+     *
+     * <pre>
+     *  ChronoFormatter&lt;PlainTimestamp&gt; f =
+     *      ChronoFormatter.ofTimestampPattern(&quot;uuuu-MM-dd HH:mm:ss.SSS&quot;, PatternType.CLDR, Locale.ROOT)
+     *          .compile();
+     * </pre>
+     *
+     * <p>The compiled formatter delegates all values and texts it cannot process itself
+     * (for example years outside of 0000-9999 or erroneous input) to the normal algorithm
+     * so the results and error messages are the same. Note: The compiled form will only be
+     * used when printing without positions into strings, char arrays or buffers and by the
+     * methods {@code parse(CharSequence)} and {@code parse(CharSequence, ParseContext)}. All
+     * {@code with}-methods return copies which are no longer compiled. </p>
+     *
+     * @return  compiled copy or this instance if compilation is not possible
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Erzeugt eine &uuml;bersetzte Kopie dieses Formatierers, die feste numerische Formate
+     * mit einem spezialisierten Algorithmus ausgibt und interpretiert, statt die Formatierschritte
+     * zu interpretieren. </p>
+     *
+     * <p>Die &Uuml;bersetzung ist f&uuml;r Formatierer der Typen {@code PlainDate}, {@code PlainTime}
+     * oder {@code PlainTimestamp} m&ouml;glich, deren Formatierschritte nur aus Literalen ohne Ziffern,
+     * dem proleptischen ISO-Jahr mit vier Ziffern, Monat, Tag des Monats, Stunde (0-23), Minute und
+     * Sekunde mit zwei Ziffern und einem Sekundenbruchteil mit fester Breite bestehen. Nur ASCII-Ziffern
+     * werden unterst&uuml;tzt. Optionale Sektionen, Oder-Bl&ouml;cke, Auff&uuml;llung, sektionale
+     * Attribute und Standardwerte verhindern die &Uuml;bersetzung, und diese Instanz wird unver&auml;ndert
+     * zur&uuml;ckgegeben. Beispiel: </p>
+     *
+     * <pre>
+     *  ChronoFormatter&lt;PlainTimestamp&gt; f =
+     *      ChronoFormatter.ofTimestampPattern(&quot;uuuu-MM-dd HH:mm:ss.SSS&quot;, PatternType.CLDR, Locale.ROOT)
+     *          .compile();
+     * </pre>
+     *
+     * <p>Der &uuml;bersetzte Formatierer &uuml;berl&auml;&szlig;t alle Werte und Texte, die er nicht
+     * selbst verarbeiten kann (zum Beispiel Jahre au&szlig;erhalb von 0000-9999 oder fehlerhafte
+     * Eingaben), dem normalen Algorithmus, so da&szlig; Ergebnisse und Fehlermeldungen gleich bleiben.
+     * Hinweis: Die &uuml;bersetzte Form wird nur bei der Ausgabe ohne Positionen in Zeichenketten,
+     * char-Arrays oder Puffer und von den Methoden {@code parse(CharSequence)} und
+     * {@code parse(CharSequence, ParseContext)} verwendet. Alle {@code with}-Methoden liefern Kopien,
+     * die nicht mehr &uuml;bersetzt sind. </p>
+     *
+     * @return  compiled copy or this instance if compilation is not possible
+     * @since   5.10
+     */
+    public ChronoFormatter<T> compile() {
+
+        if (
+            (this.fastPath == null)
+            && this.defaults.isEmpty()
+            && !this.hasOptionals
+            && !this.hasOrMarkers
+            && !this.needsExtensions
+            && (this.overrideHandler == null)
+        ) {
+            FastPath<T> compiled = CompiledFastPath.of(this.chronology, this.steps);
+            if (compiled != null) {
+                return this.withFastPath(compiled);
+            }
+        }
+
+        return this;
+
+    }
+
     // used by CustomizedProcessor
     ChronoFormatter<T> with(
         Map<ChronoElement<?>, Object> outerDefaults,
@@ -2076,6 +2895,116 @@ public final class ChronoFormatter<T>
 
     }
 
+    // index of next or-block in same section or given index if not found
+    private int findNextOrBlock(int index) {
+
+        FormatStep step = this.steps.get(index);
+
+        if (!step.isNewOrBlockStarted()) {
+            int section = step.getSection();
+            for (int j = index + 1, n = this.steps.size(); j < n; j++) {
+                FormatStep test = this.steps.get(j);
+                if (test.isNewOrBlockStarted() && (test.getSection() == section)) {
+                    return j;
+                }
+            }
+        }
+
+        return index;
+
+    }
+
+    // used by ParserSignature
+    List<FormatStep> getSteps() {
+
+        return this.steps;
+
+    }
+
+    // used by ColumnParser: no exception, null if parsing fails
+    T parseQuietly(
+        CharSequence text,
+        ParseContext context
+    ) {
+
+        return this.parseFully(text, context.prepare());
+
+    }
+
+    private ParseResult<T> tryParse(
+        CharSequence text,
+        ParseLog log
+    ) {
+
+        if (text.length() == 0) {
+            return ParseResult.error(0, "Empty text.");
+        }
+
+        ParseLog status = ((log == null) ? new ParseLog() : log);
+        T result = this.parseFully(text, status);
+
+        if (result == null) {
+            return ParseResult.error(status.getErrorIndex(), status.getErrorMessage());
+        }
+
+        return ParseResult.success(result, status.getPosition());
+
+    }
+
+    // common core of parse(), tryParse() and parseQuietly(): first fast path, then interpreter,
+    // null in case of error where the log contains error index and message (also for trailing chars)
+    private T parseFully(
+        CharSequence text,
+        ParseLog status
+    ) {
+
+        if (this.fastPath != null) {
+            T result = this.fastPath.parse(text);
+            if (result != null) {
+                status.setPosition(text.length());
+                return result;
+            }
+        }
+
+        T result = this.parse(text, status);
+
+        if (result == null) {
+            return null;
+        }
+
+        int index = status.getPosition();
+
+        if (!this.trailing && (index < text.length())) {
+            status.setError(index, "Unparsed trailing characters: " + sub(index, text));
+            return null;
+        }
+
+        return result;
+
+    }
+
+    // used by ColumnParser: Long.MIN_VALUE if there is no suitable fast path
+    long parseEpochDaysDirectly(CharSequence text) {
+
+        return ((this.fastPath == null) ? Long.MIN_VALUE : this.fastPath.parseEpochDays(text));
+
+    }
+
+    /**
+     * <p>Erzeugt eine Kopie, die beim Formatieren und Interpretieren ohne &uuml;bersteuerte
+     * Attribute zuerst den angegebenen spezialisierten Algorithmus versucht. </p>
+     *
+     * <p>Alle anderen Kopiermethoden verwerfen den spezialisierten Algorithmus wieder. </p>
+     *
+     * @param   fastPath    specialized algorithm for fixed text layout
+     * @return  changed copy
+     */
+    ChronoFormatter<T> withFastPath(FastPath<T> fastPath) {
+
+        return new ChronoFormatter<>(this, fastPath);
+
+    }
+
     /**
      * <p>Converts this formatter into a traditional
      * {@code java.text.Format}-object. </p>
@@ -2248,14 +3177,7 @@ public final class ChronoFormatter<T>
         Locale locale
     ) {
 
-        Builder<PlainDate> builder = new Builder<>(PlainDate.axis(), locale);
-        addPattern(builder, pattern, type);
-
-        try {
-            return builder.build();
-        } catch (IllegalStateException ise) {
-            throw new IllegalArgumentException(ise);
-        }
+        return createFromPattern(pattern, type, locale, PlainDate.axis(), null);
 
     }
 
@@ -2287,14 +3209,7 @@ public final class ChronoFormatter<T>
         Locale locale
     ) {
 
-        Builder<PlainTime> builder = new Builder<>(PlainTime.axis(), locale);
-        addPattern(builder, pattern, type);
-
-        try {
-            return builder.build();
-        } catch (IllegalStateException ise) {
-            throw new IllegalArgumentException(ise);
-        }
+        return createFromPattern(pattern, type, locale, PlainTime.axis(), null);
 
     }
 
@@ -2326,14 +3241,7 @@ public final class ChronoFormatter<T>
         Locale locale
     ) {
 
-        Builder<PlainTimestamp> builder = new Builder<>(PlainTimestamp.axis(), locale);
-        addPattern(builder, pattern, type);
-
-        try {
-            return builder.build();
-        } catch (IllegalStateException ise) {
-            throw new IllegalArgumentException(ise);
-        }
+        return createFromPattern(pattern, type, locale, PlainTimestamp.axis(), null);
 
     }
 
@@ -2370,14 +3278,7 @@ public final class ChronoFormatter<T>
         Locale locale
     ) {
 
-        Builder<Moment> builder = new Builder<>(Moment.axis(), locale);
-        addPattern(builder, pattern, type);
-
-        try {
-            return builder.build();
-        } catch (IllegalStateException ise) {
-            throw new IllegalArgumentException(ise);
-        }
+        return createFromPattern(pattern, type, locale, Moment.axis(), null);
 
     }
 
@@ -2418,15 +3319,12 @@ public final class ChronoFormatter<T>
         TZID tzid
     ) {
 
-        Builder<Moment> builder = new Builder<>(Moment.axis(), locale);
-        addPattern(builder, pattern, type);
-
-        try {
-            return builder.build().withTimezone(tzid);
-        } catch (IllegalStateException ise) {
-            throw new IllegalArgumentException(ise);
+        if (tzid == null) {
+            throw new NullPointerException("Missing timezone id.");
         }
 
+        return createFromPattern(pattern, type, locale, Moment.axis(), tzid);
+
     }
 
     /**
@@ -2494,14 +3392,7 @@ public final class ChronoFormatter<T>
         Chronology<T> chronology
     ) {
 
-        Builder<T> builder = new Builder<>(chronology, locale);
-        addPattern(builder, pattern, type);
-
-        try {
-            return builder.build();
-        } catch (IllegalStateException ise) {
-            throw new IllegalArgumentException(ise);
-        }
+        return createFromPattern(pattern, type, locale, chronology, null);
 
     }
 
@@ -2560,8 +3451,7 @@ public final class ChronoFormatter<T>
         Locale locale
     ) {
 
-        Builder<PlainDate> builder = new Builder<>(PlainDate.axis(), locale);
-        return builder.addStyle(style, style).build();
+        return createFromStyle(style, style, locale, PlainDate.axis(), null);
 
     }
 
@@ -2618,8 +3508,7 @@ public final class ChronoFormatter<T>
         Locale locale
     ) {
 
-        Builder<PlainTime> builder = new Builder<>(PlainTime.axis(), locale);
-        return builder.addStyle(style, style).build();
+        return createFromStyle(style, style, locale, PlainTime.axis(), null);
 
     }
 
@@ -2682,8 +3571,7 @@ public final class ChronoFormatter<T>
         Locale locale
     ) {
 
-        Builder<PlainTimestamp> builder = new Builder<>(PlainTimestamp.axis(), locale);
-        return builder.addStyle(dateStyle, timeStyle).build();
+        return createFromStyle(dateStyle, timeStyle, locale, PlainTimestamp.axis(), null);
 
     }
 
@@ -2756,8 +3644,11 @@ public final class ChronoFormatter<T>
         TZID tzid
     ) {
 
-        Builder<Moment> builder = new Builder<>(Moment.axis(), locale);
-        return builder.addStyle(dateStyle, timeStyle).build().withTimezone(tzid);
+        if (tzid == null) {
+            throw new NullPointerException("Missing timezone id.");
+        }
+
+        return createFromStyle(dateStyle, timeStyle, locale, Moment.axis(), tzid);
 
     }
 
@@ -2825,8 +3716,7 @@ public final class ChronoFormatter<T>
     ) {
 
         if (LocalizedPatternSupport.class.isAssignableFrom(chronology.getChronoType())) {
-            Builder<T> builder = new Builder<>(chronology, locale);
-            return builder.addStyle(style, style).build();
+            return createFromStyle(style, style, locale, chronology, null);
         } else if (UniversalTime.class.isAssignableFrom(chronology.getChronoType())) {
             throw new UnsupportedOperationException("Timezone required, use 'ofMomentStyle()' instead.");
         } else {
@@ -2910,8 +3800,10 @@ public final class ChronoFormatter<T>
         Locale locale
     ) {
 
-        Chronology<CalendarDate> chronology = CalendarConverter.getChronology(locale);
-        return ChronoFormatter.ofPattern(pattern, PatternType.CLDR, locale, chronology);
+        // the generic chronology only depends on the locale
+        return cached(
+            () -> buildFromPattern(pattern, PatternType.CLDR, locale, CalendarConverter.getChronology(locale), null),
+            "generic-pattern", pattern, locale);
 
     }
 
@@ -2994,9 +3886,10 @@ public final class ChronoFormatter<T>
         Locale locale
     ) {
 
-        Chronology<CalendarDate> chronology = CalendarConverter.getChronology(locale);
-        Builder<CalendarDate> builder = new Builder<>(chronology, locale);
-        return builder.addStyle(style, style).build();
+        // the generic chronology only depends on the locale
+        return cached(
+            () -> buildFromStyle(style, style, locale, CalendarConverter.getChronology(locale), null),
+            "generic-style", style, locale);
 
     }
 
@@ -3348,6 +4241,50 @@ public final class ChronoFormatter<T>
 
     }
 
+    private int print(
+        T formattable,
+        PrintBuffer buffer
+    ) {
+
+        try {
+            if ((this.fastPath != null) && (formattable != null) && this.fastPath.print(formattable, buffer)) {
+                return buffer.length();
+            }
+            ChronoDisplay display = this.display(formattable, this.globalAttributes);
+            this.print(display, buffer, this.globalAttributes, false);
+        } catch (UnmappableCharacterException uce) {
+            throw new IllegalArgumentException("Formatted text cannot be encoded in ISO-8859-1: " + formattable, uce);
+        } catch (IOException ioe) {
+            throw new AssertionError(ioe);
+        }
+
+        return buffer.length();
+
+    }
+
+    // used by BulkPrinter
+    void printDirectly(
+        T formattable,
+        StringBuilder buffer
+    ) {
+
+        int start = buffer.length();
+
+        try {
+            if ((this.fastPath != null) && (formattable != null)) {
+                if (this.fastPath.print(formattable, buffer)) {
+                    return;
+                }
+                buffer.setLength(start);
+            }
+            ChronoDisplay display = this.display(formattable, this.globalAttributes);
+            this.print(display, buffer, this.globalAttributes, false);
+        } catch (IOException ioe) {
+            throw new AssertionError(ioe);
+        }
+
+    }
+
     private static ChronoFormatter<Moment> rfc1123() {
 
         ChronoFormatter.Builder<Moment> builder = ChronoFormatter.setUp(Moment.class, Locale.ENGLISH);
@@ -3390,7 +4327,7 @@ public final class ChronoFormatter<T>
             )
         );
 
-        return builder.build().withTimezone(ZonalOffset.UTC);
+        return builder.build().withTimezone(ZonalOffset.UTC).withFastPath(Rfc1123FastPath.INSTANCE);
 
     }
 
@@ -3710,6 +4647,127 @@ public final class ChronoFormatter<T>
 
     }
 
+    private void checkColumnType(Class<?> type) {
+
+        if (!type.isAssignableFrom(this.chronology.getChronoType())) {
+            throw new UnsupportedOperationException(
+                "Cannot convert " + this.chronology.getChronoType().getName() + " to " + type.getSimpleName());
+        }
+
+    }
+
+    private long[] parseColumn(
+        List<? extends CharSequence> texts,
+        int[] nanos,
+        BitSet errors,
+        ForkJoinPool pool
+    ) {
+
+        if (errors == null) {
+            throw new NullPointerException("Missing error bitmap.");
+        }
+
+        int n = texts.size();
+
+        if ((nanos != null) && (nanos.length < n)) {
+            throw new IllegalArgumentException("Array of nanoseconds shorter than column: " + nanos.length);
+        }
+
+        long[] values = new long[n];
+        ColumnParser<T> task = new ColumnParser<>(this, texts, 0, n, values, nanos);
+
+        if (pool == null) {
+            task.parseSequentially();
+        } else {
+            pool.invoke(task);
+        }
+
+        errors.clear(0, n);
+        errors.or(task.getErrors());
+        return values;
+
+    }
+
+    // consults the optional global cache before the formatter will be created
+    private static <T> ChronoFormatter<T> cached(
+        Supplier<ChronoFormatter<T>> factory,
+        Object... keyParts
+    ) {
+
+        FormatterCache cache = Cache.instance;
+
+        if (cache == null) {
+            return factory.get();
+        }
+
+        Object key = FormatterCache.key(keyParts);
+        ChronoFormatter<T> formatter = cache.get(key);
+        return ((formatter == null) ? cache.put(key, factory.get()) : formatter);
+
+    }
+
+    private static <T> ChronoFormatter<T> createFromPattern(
+        String pattern,
+        PatternType type,
+        Locale locale,
+        Chronology<T> chronology,
+        TZID tzid
+    ) {
+
+        return cached(
+            () -> buildFromPattern(pattern, type, locale, chronology, tzid),
+            "pattern", pattern, type, locale, chronology, tzid);
+
+    }
+
+    private static <T> ChronoFormatter<T> createFromStyle(
+        FormatStyle dateStyle,
+        FormatStyle timeStyle,
+        Locale locale,
+        Chronology<T> chronology,
+        TZID tzid
+    ) {
+
+        return cached(
+            () -> buildFromStyle(dateStyle, timeStyle, locale, chronology, tzid),
+            "style", dateStyle, timeStyle, locale, chronology, tzid);
+
+    }
+
+    private static <T> ChronoFormatter<T> buildFromPattern(
+        String pattern,
+        PatternType type,
+        Locale locale,
+        Chronology<T> chronology,
+        TZID tzid
+    ) {
+
+        Builder<T> builder = new Builder<>(chronology, locale);
+        addPattern(builder, pattern, type);
+
+        try {
+            ChronoFormatter<T> formatter = builder.build();
+            return ((tzid == null) ? formatter : formatter.withTimezone(tzid));
+        } catch (IllegalStateException ise) {
+            throw new IllegalArgumentException(ise);
+        }
+
+    }
+
+    private static <T> ChronoFormatter<T> buildFromStyle(
+        FormatStyle dateStyle,
+        FormatStyle timeStyle,
+        Locale locale,
+        Chronology<T> chronology,
+        TZID tzid
+    ) {
+
+        Builder<T> builder = new Builder<>(chronology, locale);
+        ChronoFormatter<T> formatter = builder.addStyle(dateStyle, timeStyle).build();
+        return ((tzid == null) ? formatter : formatter.withTimezone(tzid));
+
+    }
+
     private static <T> void addPattern(
         Builder<T> builder,
         String pattern,
@@ -3908,13 +4966,16 @@ public final class ChronoFormatter<T>
         int countOfElements
     ) {
 
-        ParsedValues values = new ParsedValues(countOfElements, this.indexable);
+        ParsedValues[] pool = status.borrowPool();
+        boolean pooled = (pool != null);
+        ParsedValues values = createValues(pool, 0, countOfElements, this.indexable);
         values.setPosition(status.getPosition());
-        Deque<ParsedValues> data = null;
+        ParsedValues[] data = null;
+        int depth = 0;
 
         if (this.hasOptionals) {
-            data = new LinkedList<>();
-            data.push(values);
+            data = (pooled ? pool : new ParsedValues[4]);
+            data[0] = values;
         }
 
         int previous = 0;
@@ -3934,20 +4995,24 @@ public final class ChronoFormatter<T>
 
                 // Start einer optionalen Sektion: Stack erweitern
                 while (level > previous) {
-                    values = new ParsedValues(countOfElements >>> 1, this.indexable);
+                    depth++;
+                    if (depth == data.length) {
+                        data = Arrays.copyOf(data, depth * 2);
+                    }
+                    values = createValues(pooled ? data : null, depth, countOfElements >>> 1, this.indexable);
                     values.setPosition(status.getPosition());
-                    data.push(values);
+                    data[depth] = values;
                     level--;
                 }
 
                 // Ende einer optionalen Sektion: Werte im Stack sichern
                 while (level < previous) {
-                    values = data.pop();
-                    data.peek().putAll(values);
+                    data[depth - 1].putAll(data[depth]);
+                    depth--;
                     level++;
                 }
 
-                parsedResult = data.peek();
+                parsedResult = data[depth];
             }
 
             // Delegation der Element-Verarbeitung
@@ -3984,19 +5049,19 @@ public final class ChronoFormatter<T>
                 if ((last > index) || step.isNewOrBlockStarted()) {
                     // wenn gefunden, zum nächsten oder-Block springen
                     if (data != null) {
-                        values = data.pop();
+                        values = data[depth];
                     }
                     status.clearError();
                     status.setPosition(values.getPosition());
                     values.reset(); // alte Werte verwerfen
-                    if (data != null) {
-                        data.push(values);
-                    }
                     index = last;
                 } else if (current == 0) {
                     // Grundzustand => aussteigen
                     if (data != null) {
-                        values = data.peek();
+                        values = data[depth];
+                    }
+                    if (pooled) {
+                        status.releasePool((data == null) ? pool : data);
                     }
                     values.setNoAmbivalentCheck();
                     return values;
@@ -4021,7 +5086,8 @@ public final class ChronoFormatter<T>
                     // Restauration der alten Werte und der Fehlerinformation
                     current--;
                     assert (data != null);
-                    values = data.pop();
+                    values = data[depth];
+                    depth--;
                     status.clearError();
                     status.setPosition(values.getPosition());
                 }
@@ -4037,14 +5103,18 @@ public final class ChronoFormatter<T>
         // Verbleibende optionale Sektionen auflösen
         while (current > 0) {
             assert (data != null);
-            values = data.pop();
-            data.peek().putAll(values);
+            data[depth - 1].putAll(data[depth]);
+            depth--;
             current--;
         }
 
         // Ergebnis
         if (data != null) {
-            values = data.peek();
+            values = data[depth];
+        }
+
+        if (pooled) {
+            status.releasePool((data == null) ? pool : data);
         }
 
         values.setNoAmbivalentCheck();
@@ -4052,6 +5122,30 @@ public final class ChronoFormatter<T>
 
     }
 
+    private static ParsedValues createValues(
+        ParsedValues[] pool,
+        int level,
+        int expectedCount,
+        boolean indexable
+    ) {
+
+        if (pool == null) {
+            return new ParsedValues(expectedCount, indexable);
+        }
+
+        ParsedValues values = pool[level];
+
+        if ((values == null) || (values.isIndexable() != indexable)) {
+            values = new ParsedValues(expectedCount, indexable);
+            pool[level] = values;
+        } else {
+            values.clear();
+        }
+
+        return values;
+
+    }
+
     private static String sub(
         int index,
         CharSequence text
@@ -7716,6 +8810,318 @@ s         * <p>Definiert ein Textformat f&uuml;r das angegebene Element mit
 
     }
 
+    /**
+     * <p>Offers static methods for the configuration of an optional global cache of
+     * formatters which are created by pattern- or style-based factory methods. </p>
+     *
+     * <p>The cache is not active by default. If activated then the factory methods
+     * {@code ofPattern()}, {@code ofDatePattern()}, {@code ofTimePattern()},
+     * {@code ofTimestampPattern()}, {@code ofMomentPattern()}, {@code ofGenericCalendarPattern()}
+     * and their style-based counterparts including {@code ofGenericCalendarStyle()} will
+     * first look up the cache and otherwise translate the pattern or look up the localized
+     * pattern only once per combination of arguments. Such factory methods might then yield
+     * the same formatter instance for equal arguments which is safe because formatters are
+     * immutable. Applications which create formatters out of user-defined patterns again and
+     * again can so avoid repeated resolving of patterns. </p>
+     *
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Bietet statische Methoden zum Konfigurieren eines optionalen globalen Cache f&uuml;r
+     * Formatierer, die von muster- oder stilbasierten Fabrikmethoden erzeugt werden. </p>
+     *
+     * <p>Standardm&auml;&szlig;ig ist der Cache nicht aktiv. Wenn er aktiviert ist, schauen die
+     * Fabrikmethoden {@code ofPattern()}, {@code ofDatePattern()}, {@code ofTimePattern()},
+     * {@code ofTimestampPattern()}, {@code ofMomentPattern()}, {@code ofGenericCalendarPattern()}
+     * und ihre stilbasierten Gegenst&uuml;cke einschlie&szlig;lich {@code ofGenericCalendarStyle()}
+     * zuerst im Cache nach und &uuml;bersetzen sonst das Formatmuster oder suchen das lokalisierte
+     * Formatmuster nur einmal pro Kombination von Argumenten. Solche Fabrikmethoden k&ouml;nnen dann
+     * dieselbe Formatierer-Instanz f&uuml;r gleiche Argumente liefern, was unbedenklich ist, weil
+     * Formatierer unver&auml;nderlich sind. Anwendungen, die immer wieder Formatierer aus
+     * benutzerdefinierten Formatmustern erzeugen, k&ouml;nnen so die wiederholte Aufl&ouml;sung
+     * von Formatmustern vermeiden. </p>
+     *
+     * @since   5.10
+     */
+    public static final class Cache {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final int DEFAULT_MAXIMUM_SIZE = 256;
+
+        private static volatile int maximumCacheSize = DEFAULT_MAXIMUM_SIZE;
+        private static volatile FormatterCache instance = null; // null means not active
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private Cache() {
+            // no instantiation
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        /**
+         * <p>Activates or deactivates the global formatter cache. </p>
+         *
+         * <p>Deactivating the cache will also clear it. </p>
+         *
+         * @param   active  {@code true} if cache shall be active else {@code false}
+         */
+        /*[deutsch]
+         * <p>Aktiviert oder deaktiviert den globalen Formatierer-Cache. </p>
+         *
+         * <p>Das Deaktivieren leert den Cache auch. </p>
+         *
+         * @param   active  {@code true} if cache shall be active else {@code false}
+         */
+        public static void setCacheActive(boolean active) {
+
+            if (!active) {
+                instance = null;
+            } else if (instance == null) {
+                instance = new FormatterCache(maximumCacheSize);
+            }
+
+        }
+
+        /**
+         * <p>Is the global formatter cache active? </p>
+         *
+         * @return  boolean
+         */
+        /*[deutsch]
+         * <p>Ist der globale Formatierer-Cache aktiv? </p>
+         *
+         * @return  boolean
+         */
+        public static boolean isCacheActive() {
+
+            return (instance != null);
+
+        }
+
+        /**
+         * <p>Updates the maximum count of cached formatters (default: {@code 256}). </p>
+         *
+         * <p>If the limit is exceeded then formatters which were not used recently will
+         * be evicted. An active cache will be cleared. </p>
+         *
+         * @param   maximumCacheSize    new maximum size of cache
+         * @throws  IllegalArgumentException if the argument is not positive
+         */
+        /*[deutsch]
+         * <p>Legt die maximale Anzahl der gepufferten Formatierer fest (Standard: {@code 256}). </p>
+         *
+         * <p>Wird die Grenze &uuml;berschritten, werden Formatierer verdr&auml;ngt, die zuletzt nicht
+         * benutzt wurden. Ein aktiver Cache wird geleert. </p>
+         *
+         * @param   maximumCacheSize    new maximum size of cache
+         * @throws  IllegalArgumentException if the argument is not positive
+         */
+        public static void setMaximumCacheSize(int maximumCacheSize) {
+
+            if (maximumCacheSize < 1) {
+                throw new IllegalArgumentException("Maximum cache size must be positive: " + maximumCacheSize);
+            }
+
+            Cache.maximumCacheSize = maximumCacheSize;
+
+            if (instance != null) {
+                instance = new FormatterCache(maximumCacheSize);
+            }
+
+        }
+
+        /**
+         * <p>Removes all cached formatters and resets the statistics. </p>
+         */
+        /*[deutsch]
+         * <p>Entfernt alle gepufferten Formatierer und setzt die Statistik zur&uuml;ck. </p>
+         */
+        public static void clear() {
+
+            if (instance != null) {
+                instance = new FormatterCache(maximumCacheSize);
+            }
+
+        }
+
+        /**
+         * <p>Obtains a snapshot of the statistics of the global formatter cache. </p>
+         *
+         * <p>The counters start with zero after every activation, reconfiguration or clearing
+         * of the cache. If the cache is not active then all counters are zero. </p>
+         *
+         * @return  cache statistics
+         */
+        /*[deutsch]
+         * <p>Liefert eine Momentaufnahme der Statistik des globalen Formatierer-Cache. </p>
+         *
+         * <p>Die Z&auml;hler beginnen nach jeder Aktivierung, Neukonfiguration oder Leerung des Cache
+         * wieder mit null. Ist der Cache nicht aktiv, sind alle Z&auml;hler null. </p>
+         *
+         * @return  cache statistics
+         */
+        public static Statistics getStatistics() {
+
+            FormatterCache cache = instance;
+
+            if (cache == null) {
+                return new Statistics(0, 0, 0, 0, maximumCacheSize);
+            }
+
+            return new Statistics(
+                cache.getHitCount(),
+                cache.getMissCount(),
+                cache.getEvictionCount(),
+                cache.size(),
+                cache.getMaximumSize());
+
+        }
+
+        //~ Innere Klassen ------------------------------------------------
+
+        /**
+         * <p>Immutable snapshot of the statistics of the global formatter cache. </p>
+         *
+         * @see     #getStatistics()
+         * @since   5.10
+         */
+        /*[deutsch]
+         * <p>Unver&auml;nderliche Momentaufnahme der Statistik des globalen Formatierer-Cache. </p>
+         *
+         * @see     #getStatistics()
+         * @since   5.10
+         */
+        public static final class Statistics {
+
+            //~ Instanzvariablen ------------------------------------------
+
+            private final long hitCount;
+            private final long missCount;
+            private final long evictionCount;
+            private final int size;
+            private final int maximumSize;
+
+            //~ Konstruktoren ---------------------------------------------
+
+            private Statistics(
+                long hitCount,
+                long missCount,
+                long evictionCount,
+                int size,
+                int maximumSize
+            ) {
+                super();
+
+                this.hitCount = hitCount;
+                this.missCount = missCount;
+                this.evictionCount = evictionCount;
+                this.size = size;
+                this.maximumSize = maximumSize;
+
+            }
+
+            //~ Methoden --------------------------------------------------
+
+            /**
+             * <p>Yields the count of factory calls which found a cached formatter. </p>
+             *
+             * @return  long
+             */
+            /*[deutsch]
+             * <p>Liefert die Anzahl der Fabrikaufrufe, die einen gepufferten Formatierer gefunden haben. </p>
+             *
+             * @return  long
+             */
+            public long getHitCount() {
+
+                return this.hitCount;
+
+            }
+
+            /**
+             * <p>Yields the count of factory calls which had to create a new formatter. </p>
+             *
+             * @return  long
+             */
+            /*[deutsch]
+             * <p>Liefert die Anzahl der Fabrikaufrufe, die einen neuen Formatierer erzeugen mu&szlig;ten. </p>
+             *
+             * @return  long
+             */
+            public long getMissCount() {
+
+                return this.missCount;
+
+            }
+
+            /**
+             * <p>Yields the count of formatters which were evicted due to the size limit. </p>
+             *
+             * @return  long
+             */
+            /*[deutsch]
+             * <p>Liefert die Anzahl der Formatierer, die wegen der Gr&ouml;&szlig;engrenze
+             * verdr&auml;ngt wurden. </p>
+             *
+             * @return  long
+             */
+            public long getEvictionCount() {
+
+                return this.evictionCount;
+
+            }
+
+            /**
+             * <p>Yields the current count of cached formatters. </p>
+             *
+             * @return  int
+             */
+            /*[deutsch]
+             * <p>Liefert die aktuelle Anzahl der gepufferten Formatierer. </p>
+             *
+             * @return  int
+             */
+            public int getSize() {
+
+                return this.size;
+
+            }
+
+            /**
+             * <p>Yields the maximum count of cached formatters. </p>
+             *
+             * @return  int
+             * @see     Cache#setMaximumCacheSize(int)
+             */
+            /*[deutsch]
+             * <p>Liefert die maximale Anzahl der gepufferten Formatierer. </p>
+             *
+             * @return  int
+             * @see     Cache#setMaximumCacheSize(int)
+             */
+            public int getMaximumSize() {
+
+                return this.maximumSize;
+
+            }
+
+            @Override
+            public String toString() {
+
+                return "ChronoFormatter.Cache.Statistics[hits=" + this.hitCount
+                    + ",misses=" + this.missCount
+                    + ",evictions=" + this.evictionCount
+                    + ",size=" + this.size
+                    + ",maximum=" + this.maximumSize + "]";
+
+            }
+
+        }
+
+    }
+
     /**
      * @serial  exclude
      */
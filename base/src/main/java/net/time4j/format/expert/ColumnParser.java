@@ -0,0 +1,184 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2024 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (ColumnParser.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.expert;
+
+import net.time4j.base.UnixTime;
+import net.time4j.engine.CalendarDate;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+
+
+/**
+ * <p>Interpretiert eine Spalte von Texten in primitive Werte, entweder Epochentage oder
+ * POSIX-Sekunden mit Nanosekunden. </p>
+ *
+ * <p>Fehlerhafte Zeilen werden ohne Ausnahmen in einer Bitmaske markiert. Jeder Teilbereich
+ * verwendet einen eigenen {@code ParseContext} wieder, so da&szlig; die Teilbereiche in einem
+ * {@code ForkJoinPool} parallel bearbeitet werden k&ouml;nnen. </p>
+ *
+ * @param   <T> generic type of chronological entity
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+@SuppressWarnings("serial") // never serialized
+final class ColumnParser<T>
+    extends RecursiveAction {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int THRESHOLD = 4096;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final ChronoFormatter<T> formatter;
+    private final List<? extends CharSequence> texts;
+    private final int from;
+    private final int to;
+    private final long[] values;
+    private final int[] nanos; // null if epoch days are requested
+    private BitSet errors;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    /**
+     * <p>Erzeugt eine neue Aufgabe f&uuml;r die Zeilen im angegebenen Bereich. </p>
+     *
+     * @param   formatter   formatter to be used
+     * @param   texts       column of texts
+     * @param   from        first row (inclusive)
+     * @param   to          last row (exclusive)
+     * @param   values      target array for epoch days or posix seconds
+     * @param   nanos       target array for nanoseconds or {@code null} if epoch days are requested
+     */
+    ColumnParser(
+        ChronoFormatter<T> formatter,
+        List<? extends CharSequence> texts,
+        int from,
+        int to,
+        long[] values,
+        int[] nanos
+    ) {
+        super();
+
+        this.formatter = formatter;
+        this.texts = texts;
+        this.from = from;
+        this.to = to;
+        this.values = values;
+        this.nanos = nanos;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Liefert die Bitmaske der fehlerhaften Zeilen nach Abschlu&szlig; der Aufgabe. </p>
+     *
+     * @return  error bitmap indexed by row
+     */
+    BitSet getErrors() {
+
+        return this.errors;
+
+    }
+
+    /**
+     * <p>Interpretiert alle Zeilen im aktuellen Thread. </p>
+     */
+    void parseSequentially() {
+
+        BitSet bitmap = new BitSet();
+        ParseContext context = new ParseContext();
+
+        for (int row = this.from; row < this.to; row++) {
+            if (!this.parseRow(row, context)) {
+                bitmap.set(row);
+                this.values[row] = 0;
+                if (this.nanos != null) {
+                    this.nanos[row] = 0;
+                }
+            }
+        }
+
+        this.errors = bitmap;
+
+    }
+
+    @Override
+    protected void compute() {
+
+        if (this.to - this.from <= THRESHOLD) {
+            this.parseSequentially();
+            return;
+        }
+
+        int middle = (this.from + this.to) >>> 1;
+        ColumnParser<T> left = new ColumnParser<>(this.formatter, this.texts, this.from, middle, this.values, this.nanos);
+        ColumnParser<T> right = new ColumnParser<>(this.formatter, this.texts, middle, this.to, this.values, this.nanos);
+        left.fork();
+        right.compute();
+        left.join();
+
+        BitSet bitmap = left.errors;
+        bitmap.or(right.errors);
+        this.errors = bitmap;
+
+    }
+
+    private boolean parseRow(
+        int row,
+        ParseContext context
+    ) {
+
+        CharSequence text = this.texts.get(row);
+
+        if ((text == null) || (text.length() == 0)) {
+            return false;
+        }
+
+        if (this.nanos == null) {
+            long days = this.formatter.parseEpochDaysDirectly(text);
+            if (days != Long.MIN_VALUE) {
+                this.values[row] = days;
+                return true;
+            }
+        }
+
+        T result = this.formatter.parseQuietly(text, context);
+
+        if (result == null) {
+            return false;
+        } else if (this.nanos == null) {
+            this.values[row] = CalendarDate.class.cast(result).getDaysSinceEpochUTC();
+        } else {
+            UnixTime ut = UnixTime.class.cast(result);
+            this.values[row] = ut.getPosixTime();
+            this.nanos[row] = ut.getNanosecond();
+        }
+
+        return true;
+
+    }
+
+}
@@ -0,0 +1,485 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2024 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (CompiledFastPath.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.expert;
+
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.base.GregorianMath;
+import net.time4j.engine.ChronoElement;
+import net.time4j.engine.Chronology;
+import net.time4j.engine.EpochDays;
+
+import java.io.IOException;
+import java.util.List;
+
+
+/**
+ * <p>&Uuml;bersetzte Form einer festen numerischen Formatierschrittfolge f&uuml;r
+ * {@code PlainDate}, {@code PlainTime} oder {@code PlainTimestamp}. </p>
+ *
+ * <p>Die Schritte werden einmalig in Tabellen mit Elementcodes, Ziffernbreiten und Literalen
+ * &uuml;bersetzt, die dann ohne Umweg &uuml;ber {@code ChronoDisplay}, Attribute und
+ * {@code ParsedValues} mit den direkten Zugriffsmethoden der Zeittypen abgearbeitet werden.
+ * Unterst&uuml;tzt werden nur Jahre im Bereich 0000-9999, Stunden im Bereich 00-23 und keine
+ * Schaltsekunden. Alles andere wird dem allgemeinen Formatierer &uuml;berlassen. </p>
+ *
+ * @param   <T> generic type of chronological entity
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+final class CompiledFastPath<T>
+    implements FastPath<T> {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int LITERAL = 0;
+    private static final int YEAR = 1;
+    private static final int MONTH = 2;
+    private static final int DAY = 3;
+    private static final int HOUR = 4;
+    private static final int MINUTE = 5;
+    private static final int SECOND = 6;
+    private static final int NANO = 7;
+
+    private static final int DATE_CODES = (1 << YEAR) | (1 << MONTH) | (1 << DAY);
+    private static final int TIME_CODES = (1 << HOUR) | (1 << MINUTE) | (1 << SECOND) | (1 << NANO);
+    private static final int DATE_REQUIRED = DATE_CODES;
+    private static final int TIME_REQUIRED = (1 << HOUR) | (1 << MINUTE);
+
+    private static final int[] POWERS_OF_TEN = {
+        1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000, 100_000_000, 1_000_000_000
+    };
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final Chronology<T> chronology;
+    private final boolean hasDate;
+    private final boolean hasTime;
+    private final int[] codes;
+    private final int[] widths;
+    private final String[] literals;
+    private final int length;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private CompiledFastPath(
+        Chronology<T> chronology,
+        boolean hasDate,
+        boolean hasTime,
+        int[] codes,
+        int[] widths,
+        String[] literals,
+        int length
+    ) {
+        super();
+
+        this.chronology = chronology;
+        this.hasDate = hasDate;
+        this.hasTime = hasTime;
+        this.codes = codes;
+        this.widths = widths;
+        this.literals = literals;
+        this.length = length;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Versucht, die angegebenen Formatierschritte zu &uuml;bersetzen. </p>
+     *
+     * <p>Der Aufrufer stellt sicher, da&szlig; weder optionale Sektionen, Oder-Bl&ouml;cke,
+     * Standardwerte noch ein &uuml;bersteuerter Kalender vorliegen. </p>
+     *
+     * @param   <T>         generic type of chronological entity
+     * @param   chronology  chronology of formatter
+     * @param   steps       frozen format steps
+     * @return  compiled form or {@code null} if the steps cannot be compiled
+     */
+    static <T> FastPath<T> of(
+        Chronology<T> chronology,
+        List<FormatStep> steps
+    ) {
+
+        boolean hasDate = ((chronology == PlainDate.axis()) || (chronology == PlainTimestamp.axis()));
+        boolean hasTime = ((chronology == PlainTime.axis()) || (chronology == PlainTimestamp.axis()));
+
+        if (!hasDate && !hasTime) {
+            return null;
+        }
+
+        int allowed = (hasDate ? DATE_CODES : 0) | (hasTime ? TIME_CODES : 0);
+        int required = (hasDate ? DATE_REQUIRED : 0) | (hasTime ? TIME_REQUIRED : 0);
+        int n = steps.size();
+        int[] codes = new int[n];
+        int[] widths = new int[n];
+        String[] literals = new String[n];
+        int found = 0;
+        int length = 0;
+
+        for (int i = 0; i < n; i++) {
+            FormatStep step = steps.get(i);
+
+            if (!step.isPlain()) {
+                return null;
+            }
+
+            FormatProcessor<?> processor = step.getProcessor();
+            int code;
+            int width;
+
+            if (processor instanceof LiteralProcessor) {
+                String literal = ((LiteralProcessor) processor).getFixedLiteral();
+                if ((literal == null) || literal.isEmpty() || containsDigit(literal)) {
+                    return null;
+                }
+                literals[i] = literal;
+                code = LITERAL;
+                width = literal.length();
+            } else if (processor instanceof NumberProcessor) {
+                NumberProcessor<?> np = (NumberProcessor<?>) processor;
+                code = codeOf(np.getElement());
+                width = np.getAsciiWidth();
+                if (code == YEAR) {
+                    // variable width: adjacent digit parsing must reserve exactly the following digits
+                    if ((width != 4) || (!np.isFixedWidth() && (np.getReserved() != countOfDigits(steps, i + 1)))) {
+                        return null;
+                    }
+                } else if ((code == LITERAL) || (width != 2) || !np.isFixedWidth()) {
+                    return null;
+                }
+            } else if (processor instanceof FractionProcessor) {
+                if (processor.getElement() != PlainTime.NANO_OF_SECOND) {
+                    return null;
+                }
+                code = NANO;
+                width = ((FractionProcessor) processor).getAsciiWidth();
+                if ((width < 1) || (width > 9)) {
+                    return null;
+                }
+            } else {
+                return null;
+            }
+
+            if (code != LITERAL) {
+                int bit = (1 << code);
+                if (((found & bit) != 0) || ((allowed & bit) == 0)) {
+                    return null; // duplicate or not registered
+                }
+                found |= bit;
+            }
+
+            codes[i] = code;
+            widths[i] = width;
+            length += width;
+        }
+
+        if (
+            ((found & required) != required)
+            || (((found & (1 << NANO)) != 0) && ((found & (1 << SECOND)) == 0))
+        ) {
+            return null;
+        }
+
+        return new CompiledFastPath<>(chronology, hasDate, hasTime, codes, widths, literals, length);
+
+    }
+
+    @Override
+    public boolean print(
+        T formattable,
+        Appendable buffer
+    ) throws IOException {
+
+        int year = 0;
+        int month = 0;
+        int dom = 0;
+        int hour = 0;
+        int minute = 0;
+        int second = 0;
+        int nano = 0;
+
+        if (formattable instanceof PlainTimestamp) {
+            PlainTimestamp tsp = (PlainTimestamp) formattable;
+            year = tsp.getYear();
+            month = tsp.getMonth();
+            dom = tsp.getDayOfMonth();
+            hour = tsp.getHour();
+            minute = tsp.getMinute();
+            second = tsp.getSecond();
+            nano = tsp.getNanosecond();
+        } else if (formattable instanceof PlainDate) {
+            PlainDate date = (PlainDate) formattable;
+            year = date.getYear();
+            month = date.getMonth();
+            dom = date.getDayOfMonth();
+        } else {
+            PlainTime time = (PlainTime) formattable;
+            hour = time.getHour();
+            minute = time.getMinute();
+            second = time.getSecond();
+            nano = time.getNanosecond();
+        }
+
+        if ((year < 0) || (year > 9999) || (hour > 23)) {
+            return false;
+        }
+
+        for (int i = 0; i < this.codes.length; i++) {
+            switch (this.codes[i]) {
+                case LITERAL:
+                    buffer.append(this.literals[i]);
+                    break;
+                case YEAR:
+                    IsoFastPath.print4(year, buffer);
+                    break;
+                case MONTH:
+                    IsoFastPath.print2(month, buffer);
+                    break;
+                case DAY:
+                    IsoFastPath.print2(dom, buffer);
+                    break;
+                case HOUR:
+                    IsoFastPath.print2(hour, buffer);
+                    break;
+                case MINUTE:
+                    IsoFastPath.print2(minute, buffer);
+                    break;
+                case SECOND:
+                    IsoFastPath.print2(second, buffer);
+                    break;
+                default: // NANO
+                    int width = this.widths[i];
+                    NumberProcessor.appendDigits(nano / POWERS_OF_TEN[9 - width], width, buffer, '0');
+            }
+        }
+
+        return true;
+
+    }
+
+    @Override
+    public T parse(CharSequence text) {
+
+        if (text.length() != this.length) {
+            return null;
+        }
+
+        int year = 0;
+        int month = 0;
+        int dom = 0;
+        int hour = 0;
+        int minute = 0;
+        int second = 0;
+        int nano = 0;
+        int pos = 0;
+
+        for (int i = 0; i < this.codes.length; i++) {
+            int code = this.codes[i];
+            int width = this.widths[i];
+
+            if (code == LITERAL) {
+                if (!this.matchesLiteral(text, pos, i)) {
+                    return null;
+                }
+                pos += width;
+                continue;
+            }
+
+            int value = IsoFastPath.fixed(text, pos, width);
+
+            if (value < 0) {
+                return null;
+            }
+
+            pos += width;
+
+            switch (code) {
+                case YEAR:
+                    year = value;
+                    break;
+                case MONTH:
+                    month = value;
+                    break;
+                case DAY:
+                    dom = value;
+                    break;
+                case HOUR:
+                    hour = value;
+                    break;
+                case MINUTE:
+                    minute = value;
+                    break;
+                case SECOND:
+                    second = value;
+                    break;
+                default: // NANO
+                    nano = value * POWERS_OF_TEN[9 - width];
+            }
+        }
+
+        PlainDate date = null;
+        PlainTime time = null;
+
+        if (this.hasDate) {
+            if ((month < 1) || (month > 12) || (dom < 1) || (dom > GregorianMath.getLengthOfMonth(year, month))) {
+                return null;
+            }
+            date = PlainDate.of(year, month, dom);
+        }
+
+        if (this.hasTime) {
+            if ((hour > 23) || (minute > 59) || (second > 59)) {
+                return null;
+            }
+            time = PlainTime.of(hour, minute, second, nano);
+        }
+
+        Object result = ((date == null) ? time : ((time == null) ? date : PlainTimestamp.of(date, time)));
+        return this.chronology.getChronoType().cast(result);
+
+    }
+
+    @Override
+    public long parseEpochDays(CharSequence text) {
+
+        if (this.hasTime || (text.length() != this.length)) {
+            return Long.MIN_VALUE;
+        }
+
+        int year = 0;
+        int month = 0;
+        int dom = 0;
+        int pos = 0;
+
+        for (int i = 0; i < this.codes.length; i++) {
+            int code = this.codes[i];
+            int width = this.widths[i];
+
+            if (code == LITERAL) {
+                if (!this.matchesLiteral(text, pos, i)) {
+                    return Long.MIN_VALUE;
+                }
+                pos += width;
+                continue;
+            }
+
+            int value = IsoFastPath.fixed(text, pos, width);
+
+            if (value < 0) {
+                return Long.MIN_VALUE;
+            }
+
+            pos += width;
+
+            if (code == YEAR) {
+                year = value;
+            } else if (code == MONTH) {
+                month = value;
+            } else {
+                dom = value;
+            }
+        }
+
+        if ((month < 1) || (month > 12) || (dom < 1) || (dom > GregorianMath.getLengthOfMonth(year, month))) {
+            return Long.MIN_VALUE;
+        }
+
+        return EpochDays.UTC.transform(GregorianMath.toMJD(year, month, dom), EpochDays.MODIFIED_JULIAN_DATE);
+
+    }
+
+    private boolean matchesLiteral(
+        CharSequence text,
+        int pos,
+        int index
+    ) {
+
+        String literal = this.literals[index];
+
+        for (int j = 0, n = this.widths[index]; j < n; j++) {
+            if (text.charAt(pos + j) != literal.charAt(j)) {
+                return false;
+            }
+        }
+
+        return true;
+
+    }
+
+    private static int codeOf(ChronoElement<?> element) {
+
+        if (element == PlainDate.YEAR) {
+            return YEAR;
+        } else if (element == PlainDate.MONTH_AS_NUMBER) {
+            return MONTH;
+        } else if (element == PlainDate.DAY_OF_MONTH) {
+            return DAY;
+        } else if (element == PlainTime.DIGITAL_HOUR_OF_DAY) {
+            return HOUR;
+        } else if (element == PlainTime.MINUTE_OF_HOUR) {
+            return MINUTE;
+        } else if (element == PlainTime.SECOND_OF_MINUTE) {
+            return SECOND;
+        }
+
+        return LITERAL; // not supported
+
+    }
+
+    // Ziffern der unmittelbar folgenden numerischen Schritte
+    private static int countOfDigits(
+        List<FormatStep> steps,
+        int start
+    ) {
+
+        int count = 0;
+
+        for (int i = start, n = steps.size(); i < n; i++) {
+            FormatProcessor<?> processor = steps.get(i).getProcessor();
+            if (processor instanceof NumberProcessor) {
+                count += ((NumberProcessor<?>) processor).getAsciiWidth();
+            } else if (processor instanceof FractionProcessor) {
+                count += ((FractionProcessor) processor).getAsciiWidth();
+            } else {
+                break;
+            }
+        }
+
+        return count;
+
+    }
+
+    private static boolean containsDigit(String literal) {
+
+        for (int i = 0, n = literal.length(); i < n; i++) {
+            if (Character.isDigit(literal.charAt(i))) {
+                return true;
+            }
+        }
+
+        return false;
+
+    }
+
+}
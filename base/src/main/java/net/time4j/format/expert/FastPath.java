@@ -0,0 +1,78 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2024 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (FastPath.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.expert;
+
+import java.io.IOException;
+
+
+/**
+ * <p>Spezialisierte Ausgabe und Interpretation eines festen Textformats, die vor dem allgemeinen
+ * Formatierungsalgorithmus eines {@code ChronoFormatter} versucht wird. </p>
+ *
+ * <p>Implementierungen m&uuml;ssen dieselben Ergebnisse wie der zugeh&ouml;rige allgemeine
+ * Formatierer liefern. Alle F&auml;lle, die sie nicht selbst eindeutig behandeln k&ouml;nnen,
+ * Fehler eingeschlossen, werden dem allgemeinen Algorithmus &uuml;berlassen, so da&szlig;
+ * Fehlermeldungen unver&auml;ndert bleiben. </p>
+ *
+ * @param   <T> generic type of chronological entity
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+interface FastPath<T> {
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Versucht, die angegebene Entit&auml;t auszugeben. </p>
+     *
+     * @param   formattable     object to be formatted (not {@code null})
+     * @param   buffer          text output buffer
+     * @return  {@code true} if printed else {@code false} without having written anything
+     * @throws  IOException if writing to buffer fails
+     */
+    boolean print(
+        T formattable,
+        Appendable buffer
+    ) throws IOException;
+
+    /**
+     * <p>Versucht, den vollst&auml;ndigen Text zu interpretieren. </p>
+     *
+     * @param   text    text to be parsed from start to end
+     * @return  result or {@code null} if the general algorithm has to be applied
+     */
+    T parse(CharSequence text);
+
+    /**
+     * <p>Versucht, den vollst&auml;ndigen Text als Kalenderdatum zu interpretieren, ohne ein
+     * Datumsobjekt zu erzeugen. </p>
+     *
+     * @param   text    text to be parsed from start to end
+     * @return  days since UTC epoch or {@code Long.MIN_VALUE} if the general algorithm has to be applied
+     */
+    default long parseEpochDays(CharSequence text) {
+
+        return Long.MIN_VALUE;
+
+    }
+
+}
@@ -1,6 +1,6 @@
 /*
  * -----------------------------------------------------------------------
- * Copyright © 2013-2017 Meno Hochschild, <http://www.menodata.de/>
+ * Copyright © 2013-2024 Meno Hochschild, <http://www.menodata.de/>
  * -----------------------------------------------------------------------
  * This file (FormatStep.java) is part of project Time4J.
  *
@@ -266,6 +266,35 @@ final class FormatStep {
 
     }
 
+    /**
+     * <p>Fehlt in der formatierbaren Quelle das Element dieses Schritts, so da&szlig; die Ausgabe
+     * mit Sicherheit scheitern w&uuml;rde? </p>
+     *
+     * <p>Erlaubt in einem oder-Block den Sprung zur n&auml;chsten Alternative ohne den Umweg &uuml;ber
+     * eine {@code ChronoException}. Ber&uuml;cksichtigt werden nur Prozessoren, die den Elementwert
+     * direkt abfragen. </p>
+     *
+     * @param   formattable     object to be formatted
+     * @return  {@code true} if printing this step would fail because of missing element else {@code false}
+     * @since   5.10
+     */
+    boolean isMissing(ChronoDisplay formattable) {
+
+        if (
+            (this.processor instanceof NumberProcessor)
+            || (this.processor instanceof TextProcessor)
+            || (this.processor instanceof LookupProcessor)
+            || (this.processor instanceof FractionProcessor)
+            || (this.processor instanceof DecimalProcessor)
+            || (this.processor instanceof OrdinalProcessor)
+        ) {
+            return (this.isPrinting(formattable) && !formattable.contains(this.processor.getElement()));
+        }
+
+        return false;
+
+    }
+
     /**
      * <p>Interpretiert den angegebenen Text. </p>
      *
@@ -454,6 +483,26 @@ final class FormatStep {
 
     }
 
+    /**
+     * <p>Ist dieser Schritt weder optional noch mit sektionalen Attributen, Auff&uuml;llung oder
+     * Oder-Verkn&uuml;pfung versehen? </p>
+     *
+     * @return  boolean
+     * @since   5.10
+     */
+    boolean isPlain() {
+
+        return (
+            (this.level == 0)
+            && (this.sectionalAttrs == null)
+            && (this.padLeft == 0)
+            && (this.padRight == 0)
+            && !this.orMarker
+            && (this.lastOrBlockIndex == -1)
+        );
+
+    }
+
     /**
      * <p>Aktualisiert diesen Formatierschritt. </p>
      *
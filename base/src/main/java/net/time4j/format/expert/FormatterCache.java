@@ -0,0 +1,217 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2024 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (FormatterCache.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.expert;
+
+import net.time4j.format.internal.ClockCache;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * <p>Sperrfreier und begrenzter Cache f&uuml;r Formatierer, die mit Hilfe der statischen
+ * Fabrikmethoden von {@code ChronoFormatter} aus Formatmustern oder Stilen erzeugt werden. </p>
+ *
+ * <p>Der Schl&uuml;ssel besteht aus allen Argumenten der Fabrikmethode, weil die globalen Attribute
+ * des Ergebnisses vollst&auml;ndig von diesen abh&auml;ngen. Bei &Uuml;berlauf wird nach dem
+ * <i>second-chance</i>-Verfahren (CLOCK) des gemeinsamen {@code ClockCache} verdr&auml;ngt. Da Formatierer unver&auml;nderlich sind,
+ * k&ouml;nnen sie gefahrlos geteilt werden. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+final class FormatterCache {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final ClockCache<Key, ChronoFormatter<?>> cache;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    /**
+     * <p>Erzeugt einen leeren Cache. </p>
+     *
+     * @param   maximumSize     maximum count of cached formatters (positive)
+     */
+    FormatterCache(int maximumSize) {
+        super();
+
+        this.cache = new ClockCache<>(maximumSize);
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Erzeugt einen Schl&uuml;ssel aus den Argumenten einer Fabrikmethode. </p>
+     *
+     * @param   parts   kind of factory method and all its arguments
+     * @return  cache key
+     */
+    static Object key(Object... parts) {
+
+        return new Key(parts);
+
+    }
+
+    /**
+     * <p>Sucht einen Formatierer im Cache. </p>
+     *
+     * @param   <T>     generic type of chronological entity
+     * @param   key     cache key which also determines the chronology
+     * @return  cached formatter or {@code null} if not found
+     */
+    @SuppressWarnings("unchecked")
+    <T> ChronoFormatter<T> get(Object key) {
+
+        ChronoFormatter<?> formatter = this.cache.get((Key) key);
+
+        if (formatter == null) {
+            this.misses.increment();
+            return null;
+        }
+
+        this.hits.increment();
+        return (ChronoFormatter<T>) formatter;
+
+    }
+
+    /**
+     * <p>Speichert einen Formatierer, falls noch nicht vorhanden. </p>
+     *
+     * @param   <T>         generic type of chronological entity
+     * @param   key         cache key
+     * @param   formatter   new formatter
+     * @return  formatter which is finally cached under given key (maybe concurrently stored)
+     */
+    @SuppressWarnings("unchecked")
+    <T> ChronoFormatter<T> put(
+        Object key,
+        ChronoFormatter<T> formatter
+    ) {
+
+        return (ChronoFormatter<T>) this.cache.put((Key) key, formatter);
+
+    }
+
+    /**
+     * <p>Liefert die aktuelle Anzahl der Eintr&auml;ge. </p>
+     *
+     * @return  int
+     */
+    int size() {
+
+        return this.cache.size();
+
+    }
+
+    /**
+     * <p>Liefert die maximale Anzahl der Eintr&auml;ge. </p>
+     *
+     * @return  int
+     */
+    int getMaximumSize() {
+
+        return this.cache.getMaximumSize();
+
+    }
+
+    /**
+     * <p>Anzahl der Treffer. </p>
+     *
+     * @return  long
+     */
+    long getHitCount() {
+
+        return this.hits.sum();
+
+    }
+
+    /**
+     * <p>Anzahl der Fehlversuche. </p>
+     *
+     * @return  long
+     */
+    long getMissCount() {
+
+        return this.misses.sum();
+
+    }
+
+    /**
+     * <p>Anzahl der verdr&auml;ngten Eintr&auml;ge. </p>
+     *
+     * @return  long
+     */
+    long getEvictionCount() {
+
+        return this.cache.getEvictionCount();
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static final class Key {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final Object[] parts;
+        private final int hash;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Key(Object[] parts) {
+            super();
+
+            this.parts = parts;
+            this.hash = Arrays.hashCode(parts);
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public boolean equals(Object obj) {
+
+            if (this == obj) {
+                return true;
+            } else if (obj instanceof Key) {
+                Key that = (Key) obj;
+                return ((this.hash == that.hash) && Arrays.equals(this.parts, that.parts));
+            } else {
+                return false;
+            }
+
+        }
+
+        @Override
+        public int hashCode() {
+
+            return this.hash;
+
+        }
+
+    }
+
+}
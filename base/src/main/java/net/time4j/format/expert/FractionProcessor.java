@@ -1,6 +1,6 @@
 /*
  * -----------------------------------------------------------------------
- * Copyright © 2013-2017 Meno Hochschild, <http://www.menodata.de/>
+ * Copyright © 2013-2024 Meno Hochschild, <http://www.menodata.de/>
  * -----------------------------------------------------------------------
  * This file (FractionProcessor.java) is part of project Time4J.
  *
@@ -46,6 +46,7 @@ final class FractionProcessor
     //~ Statische Felder/Initialisierungen --------------------------------
 
     private static final int MRD_MINUS_1 = 999_999_999;
+    private static final long MRD = 1_000_000_000L;
 
     //~ Instanzvariablen --------------------------------------------------
 
@@ -144,25 +145,23 @@ final class FractionProcessor
         boolean quickPath
     ) throws IOException {
 
-        BigDecimal value = toDecimal(formattable.get(this.element));
-        BigDecimal min = toDecimal(formattable.getMinimum(this.element));
-        BigDecimal max = toDecimal(formattable.getMaximum(this.element));
+        long value = formattable.getInt(this.element);
 
-        if (value.compareTo(max) > 0) {
-            value = max;
+        if (value == Integer.MIN_VALUE) {
+            value = formattable.get(this.element).longValue();
         }
 
-        BigDecimal fraction =
-            value.subtract(min).divide(
-                max.subtract(min).add(BigDecimal.ONE),
-                9,
-                RoundingMode.FLOOR);
+        long min = formattable.getMinimum(this.element).longValue();
+        long max = formattable.getMaximum(this.element).longValue();
 
-        fraction = (
-            (fraction.compareTo(BigDecimal.ZERO) == 0)
-            ? BigDecimal.ZERO
-            : fraction.stripTrailingZeros()
-        );
+        if (value > max) {
+            value = max;
+        } else if (value < min) {
+            value = min;
+        }
+
+        // Bruchteil in Einheiten von 10^-9 (abgerundet), ohne BigDecimal, weil der Wertebereich int ist
+        int nanos = (int) (((value - min) * MRD) / (max - min + 1));
 
         char zeroChar = (
             quickPath
@@ -176,7 +175,7 @@ final class FractionProcessor
             start = ((CharSequence) buffer).length();
         }
 
-        if (fraction.scale() == 0) {
+        if (nanos == 0) {
             // scale ist 0, wenn value das Minimum ist
             if (this.minDigits > 0) {
                 if (this.hasDecimalSeparator()) {
@@ -206,18 +205,24 @@ final class FractionProcessor
                 printed++;
             }
 
+            int scale = 9;
+
+            for (int test = nanos; (test % 10) == 0; test /= 10) {
+                scale--;
+            }
+
             int outputScale =
                 Math.min(
-                    Math.max(fraction.scale(), this.minDigits),
+                    Math.max(scale, this.minDigits),
                     this.maxDigits);
-            fraction = fraction.setScale(outputScale, RoundingMode.FLOOR);
-            String digits = fraction.toPlainString();
-            int diff = zeroChar - '0';
 
-            for (int i = 2, n = digits.length(); i < n; i++) {
-                char c = (char) (digits.charAt(i) + diff);
-                buffer.append(c);
-                printed++;
+            if (outputScale > 0) {
+                int digits = nanos;
+                for (int i = outputScale; i < 9; i++) {
+                    digits /= 10;
+                }
+                NumberProcessor.appendDigits(digits, outputScale, buffer, zeroChar);
+                printed += outputScale;
             }
         }
 
@@ -426,6 +431,18 @@ final class FractionProcessor
 
     }
 
+    /**
+     * <p>Liefert die feste Anzahl der ASCII-Ziffern ohne Dezimaltrennzeichen. </p>
+     *
+     * @return  count of digits or {@code -1} if not fixed or with other zero digit
+     * @since   5.10
+     */
+    int getAsciiWidth() {
+
+        return ((this.fixedWidth && (this.zeroDigit == '0')) ? this.maxDigits : -1);
+
+    }
+
     /**
      * <p>Aktualisiert das prototypische Parse-Ergebnis mit dem richtigen
      * Wert. </p>
@@ -482,12 +499,6 @@ final class FractionProcessor
 
     }
 
-    private static BigDecimal toDecimal(Number num) {
-
-        return BigDecimal.valueOf(num.longValue());
-
-    }
-
     private boolean hasDecimalSeparator() {
 
         return (this.decimalSeparator != null);
@@ -1,6 +1,6 @@
 /*
  * -----------------------------------------------------------------------
- * Copyright © 2013-2021 Meno Hochschild, <http://www.menodata.de/>
+ * Copyright © 2013-2024 Meno Hochschild, <http://www.menodata.de/>
  * -----------------------------------------------------------------------
  * This file (Iso8601Format.java) is part of project Time4J.
  *
@@ -333,24 +333,33 @@ public class Iso8601Format {
     public static final ChronoFormatter<Moment> EXTENDED_DATE_TIME_OFFSET;
 
     static {
-        BASIC_CALENDAR_DATE = calendarFormat(false);
-        EXTENDED_CALENDAR_DATE = calendarFormat(true);
+        char sep = ((DEFAULT_ISO_DECIMAL_STYLE == IsoDecimalStyle.DOT) ? '.' : ',');
+
+        // the most common formats try a char-by-char algorithm first and fall back to the general engine
+        BASIC_CALENDAR_DATE = calendarFormat(false).withFastPath(IsoFastPath.ofCalendarDate(false));
+        EXTENDED_CALENDAR_DATE = calendarFormat(true).withFastPath(IsoFastPath.ofCalendarDate(true));
         BASIC_ORDINAL_DATE = ordinalFormat(false);
         EXTENDED_ORDINAL_DATE = ordinalFormat(true);
         BASIC_WEEK_DATE = weekdateFormat(false);
         EXTENDED_WEEK_DATE = weekdateFormat(true);
 
-        BASIC_DATE = generalDateFormat(false);
-        EXTENDED_DATE = generalDateFormat(true);
+        BASIC_DATE = generalDateFormat(false).withFastPath(IsoFastPath.ofCalendarDate(false));
+        EXTENDED_DATE = generalDateFormat(true).withFastPath(IsoFastPath.ofCalendarDate(true));
 
-        BASIC_WALL_TIME = timeFormat(false, DEFAULT_ISO_DECIMAL_STYLE);
-        EXTENDED_WALL_TIME = timeFormat(true, DEFAULT_ISO_DECIMAL_STYLE);
+        BASIC_WALL_TIME =
+            timeFormat(false, DEFAULT_ISO_DECIMAL_STYLE).withFastPath(IsoFastPath.ofWallTime(false, sep));
+        EXTENDED_WALL_TIME =
+            timeFormat(true, DEFAULT_ISO_DECIMAL_STYLE).withFastPath(IsoFastPath.ofWallTime(true, sep));
 
-        BASIC_DATE_TIME = timestampFormat(false, DEFAULT_ISO_DECIMAL_STYLE);
-        EXTENDED_DATE_TIME = timestampFormat(true, DEFAULT_ISO_DECIMAL_STYLE);
+        BASIC_DATE_TIME =
+            timestampFormat(false, DEFAULT_ISO_DECIMAL_STYLE).withFastPath(IsoFastPath.ofDateTime(false, sep));
+        EXTENDED_DATE_TIME =
+            timestampFormat(true, DEFAULT_ISO_DECIMAL_STYLE).withFastPath(IsoFastPath.ofDateTime(true, sep));
 
-        BASIC_DATE_TIME_OFFSET = momentFormat(false, DEFAULT_ISO_DECIMAL_STYLE);
-        EXTENDED_DATE_TIME_OFFSET = momentFormat(true, DEFAULT_ISO_DECIMAL_STYLE);
+        BASIC_DATE_TIME_OFFSET =
+            momentFormat(false, DEFAULT_ISO_DECIMAL_STYLE).withFastPath(IsoFastPath.ofDateTimeOffset(false, sep));
+        EXTENDED_DATE_TIME_OFFSET =
+            momentFormat(true, DEFAULT_ISO_DECIMAL_STYLE).withFastPath(IsoFastPath.ofDateTimeOffset(true, sep));
     }
 
     //~ Konstruktoren -----------------------------------------------------
@@ -0,0 +1,648 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2024 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (IsoFastPath.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.expert;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.base.GregorianMath;
+import net.time4j.scale.TimeScale;
+
+import java.io.IOException;
+
+
+/**
+ * <p>Zeichenweise Ausgabe und Interpretation der vordefinierten ISO-8601-Formate f&uuml;r
+ * Kalenderdatum, Uhrzeit, Zeitstempel und Moment. </p>
+ *
+ * <p>Unterst&uuml;tzt werden nur Jahre im Bereich 0000-9999, Stunden im Bereich 00-23 beim
+ * Interpretieren und keine Schaltsekunden. Alles andere wird dem allgemeinen Formatierer
+ * &uuml;berlassen. </p>
+ *
+ * @param   <T> generic type of chronological entity
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+abstract class IsoFastPath<T>
+    implements FastPath<T> {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int MRD = 1_000_000_000;
+    private static final long UNIX_EPOCH_MJD = 40587L;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    final boolean extended;
+    final char decimalSeparator;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private IsoFastPath(
+        boolean extended,
+        char decimalSeparator
+    ) {
+        super();
+
+        this.extended = extended;
+        this.decimalSeparator = decimalSeparator;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Liefert einen schnellen Formatierer f&uuml;r ein Kalenderdatum im Format
+     * &quot;uuuuMMdd&quot; oder &quot;uuuu-MM-dd&quot;. </p>
+     *
+     * @param   extended    extended or basic format
+     * @return  FastPath
+     */
+    static FastPath<PlainDate> ofCalendarDate(boolean extended) {
+
+        return new CalendarDate(extended);
+
+    }
+
+    /**
+     * <p>Liefert einen schnellen Formatierer f&uuml;r eine Uhrzeit im Format
+     * &quot;HH[mm[ss[,SSSSSSSSS]]]&quot; oder &quot;HH[:mm[:ss[,SSSSSSSSS]]]&quot;. </p>
+     *
+     * @param   extended            extended or basic format
+     * @param   decimalSeparator    decimal separator used in printing
+     * @return  FastPath
+     */
+    static FastPath<PlainTime> ofWallTime(
+        boolean extended,
+        char decimalSeparator
+    ) {
+
+        return new WallTime(extended, decimalSeparator);
+
+    }
+
+    /**
+     * <p>Liefert einen schnellen Formatierer f&uuml;r einen Zeitstempel mit Kalenderdatum. </p>
+     *
+     * @param   extended            extended or basic format
+     * @param   decimalSeparator    decimal separator used in printing
+     * @return  FastPath
+     */
+    static FastPath<PlainTimestamp> ofDateTime(
+        boolean extended,
+        char decimalSeparator
+    ) {
+
+        return new DateTime(extended, decimalSeparator);
+
+    }
+
+    /**
+     * <p>Liefert einen schnellen Formatierer f&uuml;r einen Moment mit Kalenderdatum und
+     * Zeitzonen-Offset (Ausgabe immer in UTC). </p>
+     *
+     * @param   extended            extended or basic format
+     * @param   decimalSeparator    decimal separator used in printing
+     * @return  FastPath
+     */
+    static FastPath<Moment> ofDateTimeOffset(
+        boolean extended,
+        char decimalSeparator
+    ) {
+
+        return new DateTimeOffset(extended, decimalSeparator);
+
+    }
+
+    /**
+     * <p>Interpretiert eine feste Anzahl von ASCII-Ziffern. </p>
+     *
+     * @param   text    text to be parsed
+     * @param   pos     start index
+     * @param   count   count of digits (at most 9)
+     * @return  parsed value or {@code -1} if any char is not a digit
+     */
+    static int fixed(
+        CharSequence text,
+        int pos,
+        int count
+    ) {
+
+        int value = 0;
+
+        for (int i = pos, n = pos + count; i < n; i++) {
+            int digit = text.charAt(i) - '0';
+            if ((digit < 0) || (digit > 9)) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+
+        return value;
+
+    }
+
+    /**
+     * <p>Gibt zwei ASCII-Ziffern aus. </p>
+     *
+     * @param   value   value in range 0-99
+     * @param   buffer  text output buffer
+     * @throws  IOException if writing to buffer fails
+     */
+    static void print2(
+        int value,
+        Appendable buffer
+    ) throws IOException {
+
+        buffer.append((char) ('0' + value / 10));
+        buffer.append((char) ('0' + value % 10));
+
+    }
+
+    /**
+     * <p>Gibt vier ASCII-Ziffern aus. </p>
+     *
+     * @param   value   value in range 0-9999
+     * @param   buffer  text output buffer
+     * @throws  IOException if writing to buffer fails
+     */
+    static void print4(
+        int value,
+        Appendable buffer
+    ) throws IOException {
+
+        print2(value / 100, buffer);
+        print2(value % 100, buffer);
+
+    }
+
+    // Länge des Datumsteils
+    int dateLength() {
+
+        return (this.extended ? 10 : 8);
+
+    }
+
+    // liefert y * 10000 + m * 100 + d oder -1 (Textlänge muß vorher geprüft sein)
+    int parseDate(
+        CharSequence text,
+        int pos
+    ) {
+
+        int year = fixed(text, pos, 4);
+
+        if (year < 0) {
+            return -1;
+        }
+
+        pos += 4;
+
+        if (this.extended) {
+            if (text.charAt(pos) != '-') {
+                return -1;
+            }
+            pos++;
+        }
+
+        int month = fixed(text, pos, 2);
+        pos += 2;
+
+        if ((month < 1) || (month > 12)) {
+            return -1;
+        }
+
+        if (this.extended) {
+            if (text.charAt(pos) != '-') {
+                return -1;
+            }
+            pos++;
+        }
+
+        int dom = fixed(text, pos, 2);
+
+        if ((dom < 1) || (dom > GregorianMath.getLengthOfMonth(year, month))) {
+            return -1;
+        }
+
+        return year * 10000 + month * 100 + dom;
+
+    }
+
+    // liefert die Nanosekunde des Tages oder -1, Stunde 24 und Schaltsekunden werden nicht unterstützt
+    long parseTime(
+        CharSequence text,
+        int pos,
+        int end
+    ) {
+
+        if (end - pos < 2) {
+            return -1;
+        }
+
+        int hour = fixed(text, pos, 2);
+
+        if ((hour < 0) || (hour > 23)) {
+            return -1;
+        }
+
+        int minute = 0;
+        int second = 0;
+        int nano = 0;
+        int sep = (this.extended ? 1 : 0);
+        pos += 2;
+
+        if (pos < end) {
+            if ((end - pos < sep + 2) || (this.extended && (text.charAt(pos) != ':'))) {
+                return -1;
+            }
+            minute = fixed(text, pos + sep, 2);
+            if ((minute < 0) || (minute > 59)) {
+                return -1;
+            }
+            pos += (sep + 2);
+
+            if (pos < end) {
+                if ((end - pos < sep + 2) || (this.extended && (text.charAt(pos) != ':'))) {
+                    return -1;
+                }
+                second = fixed(text, pos + sep, 2);
+                if ((second < 0) || (second > 59)) {
+                    return -1;
+                }
+                pos += (sep + 2);
+
+                if (pos < end) {
+                    char c = text.charAt(pos);
+                    int digits = end - pos - 1;
+                    if (((c != ',') && (c != '.')) || (digits < 1) || (digits > 9)) {
+                        return -1;
+                    }
+                    nano = fixed(text, pos + 1, digits);
+                    if (nano < 0) {
+                        return -1;
+                    }
+                    for (int i = digits; i < 9; i++) {
+                        nano *= 10;
+                    }
+                }
+            }
+        }
+
+        return (hour * 3600 + minute * 60 + second) * (long) MRD + nano;
+
+    }
+
+    void printDate(
+        int year,
+        int month,
+        int dom,
+        Appendable buffer
+    ) throws IOException {
+
+        print4(year, buffer);
+
+        if (this.extended) {
+            buffer.append('-');
+        }
+
+        print2(month, buffer);
+
+        if (this.extended) {
+            buffer.append('-');
+        }
+
+        print2(dom, buffer);
+
+    }
+
+    // Sekunden nur, wenn Sekunde oder Nanosekunde nicht null sind, Bruchteil ohne Nullen am Ende
+    void printTime(
+        int hour,
+        int minute,
+        int second,
+        int nano,
+        Appendable buffer
+    ) throws IOException {
+
+        print2(hour, buffer);
+
+        if (this.extended) {
+            buffer.append(':');
+        }
+
+        print2(minute, buffer);
+
+        if ((second == 0) && (nano == 0)) {
+            return;
+        }
+
+        if (this.extended) {
+            buffer.append(':');
+        }
+
+        print2(second, buffer);
+
+        if (nano == 0) {
+            return;
+        }
+
+        buffer.append(this.decimalSeparator);
+        int scale = 9;
+
+        while ((nano % 10) == 0) {
+            nano /= 10;
+            scale--;
+        }
+
+        NumberProcessor.appendDigits(nano, scale, buffer, '0');
+
+    }
+
+    static PlainTime toTime(long nanoOfDay) {
+
+        int secOfDay = (int) (nanoOfDay / MRD);
+        return PlainTime.of(secOfDay / 3600, (secOfDay / 60) % 60, secOfDay % 60, (int) (nanoOfDay % MRD));
+
+    }
+
+    static PlainDate toDate(int packed) {
+
+        return PlainDate.of(packed / 10000, (packed / 100) % 100, packed % 100);
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static final class CalendarDate
+        extends IsoFastPath<PlainDate> {
+
+        //~ Konstruktoren -------------------------------------------------
+
+        CalendarDate(boolean extended) {
+            super(extended, ',');
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public boolean print(
+            PlainDate formattable,
+            Appendable buffer
+        ) throws IOException {
+
+            int year = formattable.getYear();
+
+            if ((year < 0) || (year > 9999)) {
+                return false;
+            }
+
+            this.printDate(year, formattable.getMonth(), formattable.getDayOfMonth(), buffer);
+            return true;
+
+        }
+
+        @Override
+        public PlainDate parse(CharSequence text) {
+
+            if (text.length() != this.dateLength()) {
+                return null;
+            }
+
+            int packed = this.parseDate(text, 0);
+            return ((packed < 0) ? null : toDate(packed));
+
+        }
+
+    }
+
+    private static final class WallTime
+        extends IsoFastPath<PlainTime> {
+
+        //~ Konstruktoren -------------------------------------------------
+
+        WallTime(
+            boolean extended,
+            char decimalSeparator
+        ) {
+            super(extended, decimalSeparator);
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public boolean print(
+            PlainTime formattable,
+            Appendable buffer
+        ) throws IOException {
+
+            this.printTime(
+                formattable.getHour(),
+                formattable.getMinute(),
+                formattable.getSecond(),
+                formattable.getNanosecond(),
+                buffer);
+            return true;
+
+        }
+
+        @Override
+        public PlainTime parse(CharSequence text) {
+
+            long nanoOfDay = this.parseTime(text, 0, text.length());
+            return ((nanoOfDay < 0) ? null : toTime(nanoOfDay));
+
+        }
+
+    }
+
+    private static final class DateTime
+        extends IsoFastPath<PlainTimestamp> {
+
+        //~ Konstruktoren -------------------------------------------------
+
+        DateTime(
+            boolean extended,
+            char decimalSeparator
+        ) {
+            super(extended, decimalSeparator);
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public boolean print(
+            PlainTimestamp formattable,
+            Appendable buffer
+        ) throws IOException {
+
+            int year = formattable.getYear();
+
+            if ((year < 0) || (year > 9999)) {
+                return false;
+            }
+
+            this.printDate(year, formattable.getMonth(), formattable.getDayOfMonth(), buffer);
+            buffer.append('T');
+            this.printTime(
+                formattable.getHour(),
+                formattable.getMinute(),
+                formattable.getSecond(),
+                formattable.getNanosecond(),
+                buffer);
+            return true;
+
+        }
+
+        @Override
+        public PlainTimestamp parse(CharSequence text) {
+
+            int pos = this.dateLength();
+
+            if ((text.length() <= pos) || (text.charAt(pos) != 'T')) {
+                return null;
+            }
+
+            int packed = this.parseDate(text, 0);
+
+            if (packed < 0) {
+                return null;
+            }
+
+            long nanoOfDay = this.parseTime(text, pos + 1, text.length());
+            return ((nanoOfDay < 0) ? null : PlainTimestamp.of(toDate(packed), toTime(nanoOfDay)));
+
+        }
+
+    }
+
+    private static final class DateTimeOffset
+        extends IsoFastPath<Moment> {
+
+        //~ Konstruktoren -------------------------------------------------
+
+        DateTimeOffset(
+            boolean extended,
+            char decimalSeparator
+        ) {
+            super(extended, decimalSeparator);
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public boolean print(
+            Moment formattable,
+            Appendable buffer
+        ) throws IOException {
+
+            if (formattable.isLeapSecond()) {
+                return false;
+            }
+
+            long posix = formattable.getPosixTime();
+            long packed = GregorianMath.toPackedDate(Math.floorDiv(posix, 86400) + UNIX_EPOCH_MJD);
+            int year = GregorianMath.readYear(packed);
+
+            if ((year < 0) || (year > 9999)) {
+                return false;
+            }
+
+            int secOfDay = (int) Math.floorMod(posix, 86400);
+            this.printDate(year, GregorianMath.readMonth(packed), GregorianMath.readDayOfMonth(packed), buffer);
+            buffer.append('T');
+            this.printTime(
+                secOfDay / 3600,
+                (secOfDay / 60) % 60,
+                secOfDay % 60,
+                formattable.getNanosecond(),
+                buffer);
+            buffer.append('Z');
+            return true;
+
+        }
+
+        @Override
+        public Moment parse(CharSequence text) {
+
+            int n = text.length();
+            int pos = this.dateLength();
+
+            if ((n <= pos + 1) || (text.charAt(pos) != 'T')) {
+                return null;
+            }
+
+            int end;
+            int offset;
+
+            if (text.charAt(n - 1) == 'Z') {
+                end = n - 1;
+                offset = 0;
+            } else {
+                end = n - (this.extended ? 6 : 5);
+                if (end <= pos) {
+                    return null;
+                }
+                char sign = text.charAt(end);
+                if ((sign != '+') && (sign != '-')) {
+                    return null;
+                } else if (this.extended && (text.charAt(end + 3) != ':')) {
+                    return null;
+                }
+                int hours = fixed(text, end + 1, 2);
+                int minutes = fixed(text, n - 2, 2);
+                if ((hours < 0) || (minutes < 0) || (minutes > 59)) {
+                    return null;
+                }
+                offset = hours * 3600 + minutes * 60;
+                if ((offset > 18 * 3600) || ((offset == 0) && (sign == '-'))) {
+                    return null;
+                } else if (sign == '-') {
+                    offset = -offset;
+                }
+            }
+
+            int packed = this.parseDate(text, 0);
+
+            if (packed < 0) {
+                return null;
+            }
+
+            long nanoOfDay = this.parseTime(text, pos + 1, end);
+
+            if (nanoOfDay < 0) {
+                return null;
+            }
+
+            long mjd = GregorianMath.toMJD(packed / 10000, (packed / 100) % 100, packed % 100);
+            long posix = (mjd - UNIX_EPOCH_MJD) * 86400 + nanoOfDay / MRD - offset;
+            return Moment.of(posix, (int) (nanoOfDay % MRD), TimeScale.POSIX);
+
+        }
+
+    }
+
+}
@@ -1,6 +1,6 @@
 /*
  * -----------------------------------------------------------------------
- * Copyright © 2013-2019 Meno Hochschild, <http://www.menodata.de/>
+ * Copyright © 2013-2024 Meno Hochschild, <http://www.menodata.de/>
  * -----------------------------------------------------------------------
  * This file (LiteralProcessor.java) is part of project Time4J.
  *
@@ -415,6 +415,71 @@ final class LiteralProcessor
 
     }
 
+    /**
+     * <p>Liefert das feste Literal, das unabh&auml;ngig von Attributen ausgegeben wird. </p>
+     *
+     * @return  literal text or {@code null} if dependent on a format attribute
+     * @since   5.10
+     */
+    String getFixedLiteral() {
+
+        if (this.attribute != null) {
+            return null;
+        }
+
+        return ((this.multi == null) ? String.valueOf(this.single) : this.multi);
+
+    }
+
+    /**
+     * <p>Ermittelt, wie viele Textzeichen beim schnellen Interpretieren mit den angegebenen
+     * Standardattributen verbraucht werden. </p>
+     *
+     * @param   attributes  global format attributes
+     * @return  count of consumed chars or {@code -1} if not fixed
+     * @since   5.10
+     */
+    int getParsedLength(AttributeQuery attributes) {
+
+        if (this.rtl) {
+            return -1; // bidi chars in text are skipped
+        } else if ((this.attribute != null) || (this.multi == null)) {
+            return 1;
+        } else if (this.interpunctuationMode) {
+            // CLDR-resources sometimes change abbreviation style (dot or not)
+            if (
+                (this.single == '.')
+                && attributes.get(Attributes.PARSE_MULTIPLE_CONTEXT, Boolean.TRUE).booleanValue()
+            ) {
+                return -1;
+            }
+            return 1;
+        }
+
+        int count = 0;
+
+        for (int i = 0, n = this.multi.length(); i < n; i++) {
+            if (!isBidi(this.multi.charAt(i))) {
+                count++;
+            }
+        }
+
+        return count;
+
+    }
+
+    /**
+     * <p>Liefert das alternative Zeichen beim Interpretieren. </p>
+     *
+     * @return  char
+     * @since   5.10
+     */
+    char getAlternativeChar() {
+
+        return this.alt;
+
+    }
+
     // count of leading digits
     int getPrefixedDigitArea() {
 
@@ -486,7 +551,8 @@ final class LiteralProcessor
 
     }
 
-    private static boolean charEqualsIgnoreCase(
+    // also used by ParserSignature and TimezoneOffsetProcessor
+    static boolean charEqualsIgnoreCase(
         char c1,
         char c2
     ) {
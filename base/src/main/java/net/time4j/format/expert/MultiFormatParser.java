@@ -1,6 +1,6 @@
 /*
  * -----------------------------------------------------------------------
- * Copyright © 2013-2021 Meno Hochschild, <http://www.menodata.de/>
+ * Copyright © 2013-2024 Meno Hochschild, <http://www.menodata.de/>
  * -----------------------------------------------------------------------
  * This file (MultiFormatParser.java) is part of project Time4J.
  *
@@ -28,6 +28,7 @@ import java.lang.reflect.Array;
 import java.text.ParseException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 
 /**
@@ -48,6 +49,11 @@ import java.util.List;
  * <p>b) If two patterns/formatters have the same degree of completeness then that component should
  * be noted first which is more likely to be expected in input. </p>
  *
+ * <p>Before a format is tried, this parser checks cheap necessary conditions which are derived once
+ * from the format steps, namely the possible text length and the digits and literals at fixed positions
+ * near the start or the end of text. Formats which cannot match will be skipped without any parsing
+ * overhead. This pre-analysis does not change the result. </p>
+ *
  * @param   <T> generic type of chronological entity
  * @author  Meno Hochschild
  * @since   3.14/4.11
@@ -72,6 +78,12 @@ import java.util.List;
  * das Formatmuster bzw. der Formatierer vorangehen, das in den zu erwartenden Eingabewerten wahrscheinlicher
  * zutrifft. </p>
  *
+ * <p>Bevor ein Format versucht wird, pr&uuml;ft dieser Interpretierer einfache notwendige Bedingungen, die
+ * einmalig aus den Formatierschritten abgeleitet werden, n&auml;mlich die m&ouml;gliche Textl&auml;nge und
+ * die Ziffern und Literale an festen Positionen nahe dem Textanfang oder Textende. Formate, die nicht
+ * passen k&ouml;nnen, werden ohne jeden Interpretationsaufwand &uuml;bersprungen. Diese Voranalyse
+ * &auml;ndert das Ergebnis nicht. </p>
+ *
  * @param   <T> generic type of chronological entity
  * @author  Meno Hochschild
  * @since   3.14/4.11
@@ -82,6 +94,9 @@ public final class MultiFormatParser<T extends ChronoEntity<T>>
     //~ Instanzvariablen --------------------------------------------------
 
     private final ChronoFormatter<T>[] parsers;
+    private final ParserSignature[] signatures;
+    private final AtomicLongArray hits; // only in adaptive mode
+    private volatile int[] order;
 
     //~ Konstruktoren -----------------------------------------------------
 
@@ -89,15 +104,30 @@ public final class MultiFormatParser<T extends ChronoEntity<T>>
         super();
 
         this.parsers = parsers;
+        this.signatures = new ParserSignature[parsers.length];
+        this.hits = null;
+        this.order = new int[parsers.length];
 
-        for (ChronoFormatter<T> parser : this.parsers) {
-            if (parser == null) {
+        for (int i = 0; i < parsers.length; i++) {
+            if (parsers[i] == null) {
                 throw new NullPointerException("Null format cannot be set.");
             }
+            this.signatures[i] = ParserSignature.of(parsers[i]);
+            this.order[i] = i;
         }
 
     }
 
+    private MultiFormatParser(MultiFormatParser<T> old) {
+        super();
+
+        this.parsers = old.parsers;
+        this.signatures = old.signatures;
+        this.hits = new AtomicLongArray(old.parsers.length);
+        this.order = old.order.clone();
+
+    }
+
     //~ Methoden ----------------------------------------------------------
 
     /**
@@ -149,6 +179,40 @@ public final class MultiFormatParser<T extends ChronoEntity<T>>
 
     }
 
+    /**
+     * <p>Creates a copy which tries the formats in the order of their observed hit rates. </p>
+     *
+     * <p>The copy counts the successful parsing processes per format and moves a format
+     * forward as soon as it has matched more often than its predecessor. This is useful if
+     * most input matches one of the last formats. Attention: The result will only stay the
+     * same as in the original order if the formats are mutually exclusive, that is if no
+     * text can be matched by more than one format. The general notes about the order of
+     * formats in the class description do not apply to the copy. </p>
+     *
+     * @return  adaptive copy of this parser with its own statistics
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Erzeugt eine Kopie, die die Formate in der Reihenfolge ihrer beobachteten Trefferquoten
+     * versucht. </p>
+     *
+     * <p>Die Kopie z&auml;hlt die erfolgreichen Interpretationsvorg&auml;nge pro Format und r&uuml;ckt
+     * ein Format vor, sobald es h&auml;ufiger als sein Vorg&auml;nger gepa&szlig;t hat. Das ist dann
+     * n&uuml;tzlich, wenn die meisten Eingaben zu einem der letzten Formate passen. Achtung: Das Ergebnis
+     * bleibt nur dann dasselbe wie in der urspr&uuml;nglichen Reihenfolge, wenn sich die Formate
+     * gegenseitig ausschlie&szlig;en, also kein Text zu mehr als einem Format passen kann. Die allgemeinen
+     * Bestimmungen zur Reihenfolge der Formate in der Klassenbeschreibung gelten f&uuml;r die Kopie
+     * nicht. </p>
+     *
+     * @return  adaptive copy of this parser with its own statistics
+     * @since   5.10
+     */
+    public MultiFormatParser<T> withAdaptiveOrder() {
+
+        return new MultiFormatParser<>(this);
+
+    }
+
     /**
      * <p>Interpretes given text as chronological entity starting at the begin of text. </p>
      *
@@ -173,8 +237,16 @@ public final class MultiFormatParser<T extends ChronoEntity<T>>
         throws ParseException {
 
         ParseLog status = new ParseLog();
+        int[] order = this.order;
+        boolean filter = (text.length() > 0);
+
+        for (int k = 0; k < order.length; k++) {
+            int i = order[k];
+
+            if (filter && !this.signatures[i].accepts(text, 0, true)) {
+                continue;
+            }
 
-        for (int i = 0; i < this.parsers.length; i++) {
             status.reset(); // initialization
             status.setPosition(0);
 
@@ -183,6 +255,7 @@ public final class MultiFormatParser<T extends ChronoEntity<T>>
 
             if ((parsed != null) && !status.isError()) {
                 if (this.parsers[i].isToleratingTrailingChars() || (status.getPosition() == text.length())) {
+                    this.recordHit(order, k);
                     return parsed;
                 }
             }
@@ -295,20 +368,38 @@ public final class MultiFormatParser<T extends ChronoEntity<T>>
     ) {
 
         int start = status.getPosition();
+        int[] order = this.order;
+        boolean filter = (start < text.length());
+        int last = -1;
+
+        for (int k = 0; k < order.length; k++) {
+            int i = order[k];
+
+            if (filter && !this.signatures[i].accepts(text, start, false)) {
+                continue;
+            }
 
-        for (int i = 0; i < this.parsers.length; i++) {
             status.reset(); // initialization
             status.setPosition(start);
+            last = i;
 
             // use the default global attributes of every single parser
             T parsed = this.parsers[i].parse(text, status);
 
             if ((parsed != null) && !status.isError()) {
+                this.recordHit(order, k);
                 return parsed;
             }
 
         }
 
+        if ((order.length > 0) && (last != order[order.length - 1])) {
+            // reproduces the error index of the last format which was skipped
+            status.reset();
+            status.setPosition(start);
+            this.parsers[order[order.length - 1]].parse(text, status);
+        }
+
         status.setError(status.getErrorIndex(), "Not matched by any format: " + text);
         return null;
 
@@ -322,16 +413,19 @@ public final class MultiFormatParser<T extends ChronoEntity<T>>
     ) {
 
         int start = status.getPosition();
+        int[] order = this.order;
 
-        for (int i = 0; i < this.parsers.length; i++) {
+        for (int k = 0; k < order.length; k++) {
+            int i = order[k];
             status.reset(); // initialization
             status.setPosition(start);
 
             // use the default global attributes of every single parser,
-            // possibly overridden by user-defined attributes
+            // possibly overridden by user-defined attributes (no pre-analysis possible)
             T parsed = this.parsers[i].parse(text, status, attributes);
 
             if ((parsed != null) && !status.isError()) {
+                this.recordHit(order, k);
                 return parsed;
             }
 
@@ -342,4 +436,26 @@ public final class MultiFormatParser<T extends ChronoEntity<T>>
 
     }
 
+    // adaptive mode: moves the successful format forward if it has more hits than its predecessor
+    private void recordHit(
+        int[] order,
+        int k
+    ) {
+
+        if (this.hits == null) {
+            return;
+        }
+
+        int i = order[k];
+        long count = this.hits.incrementAndGet(i);
+
+        if ((k > 0) && (count > this.hits.get(order[k - 1]))) {
+            int[] copy = order.clone();
+            copy[k] = order[k - 1];
+            copy[k - 1] = i;
+            this.order = copy;
+        }
+
+    }
+
 }
@@ -1,6 +1,6 @@
 /*
  * -----------------------------------------------------------------------
- * Copyright © 2013-2021 Meno Hochschild, <http://www.menodata.de/>
+ * Copyright © 2013-2024 Meno Hochschild, <http://www.menodata.de/>
  * -----------------------------------------------------------------------
  * This file (NumberProcessor.java) is part of project Time4J.
  *
@@ -223,7 +223,7 @@ class NumberProcessor<V>
                 buffer.append('9');
                 appendTwoDigits(v - 1900, buffer, '0');
             } else {
-                buffer.append(Integer.toString(v));
+                appendDigits(v, count, buffer, '0');
             }
             printed += count;
         } else if (this.yearOfEra && (this.element instanceof DualFormatElement)) {
@@ -345,7 +345,7 @@ class NumberProcessor<V>
                         buffer.append((char) (9 + zeroChar));
                         appendTwoDigits(x - 1900, buffer, zeroChar);
                     } else {
-                        buffer.append(numsys.toNumeral(x));
+                        appendDigits(x, count, buffer, zeroChar);
                     }
                 } else {
                     count = numsys.toNumeral(x, buffer);
@@ -780,6 +780,54 @@ class NumberProcessor<V>
 
     }
 
+    /**
+     * <p>Liefert die Anzahl der ASCII-Ziffern, mit der alle Werte unterhalb der entsprechenden
+     * Zehnerpotenz ohne Vorzeichen ausgegeben und interpretiert werden. </p>
+     *
+     * @return  count of digits or {@code -1} if not applicable (other number system, sign or protected chars)
+     * @since   5.10
+     */
+    int getAsciiWidth() {
+
+        if (
+            (this.numberSystem != NumberSystem.ARABIC)
+            || (this.zeroDigit != '0')
+            || (this.protectedLength > 0)
+            || this.yearOfEra
+            || (this.signPolicy == SignPolicy.SHOW_ALWAYS)
+            || (this.element.getType() != Integer.class)
+        ) {
+            return -1;
+        }
+
+        return this.minDigits;
+
+    }
+
+    /**
+     * <p>Liegt eine feste Breite vor? </p>
+     *
+     * @return  boolean
+     * @since   5.10
+     */
+    boolean isFixedWidth() {
+
+        return this.fixedWidth;
+
+    }
+
+    /**
+     * <p>Liefert die Anzahl der f&uuml;r nachfolgende numerische Elemente reservierten Ziffern. </p>
+     *
+     * @return  int
+     * @since   5.10
+     */
+    int getReserved() {
+
+        return this.reserved;
+
+    }
+
     private int getScale(NumberSystem numsys) {
 
         if (numsys.isDecimal()) {
@@ -823,6 +871,33 @@ class NumberProcessor<V>
 
     }
 
+    /**
+     * <p>Schreibt die Ziffern einer nicht-negativen Zahl ohne Zwischenzeichenkette. </p>
+     *
+     * @param   v           non-negative number
+     * @param   count       count of digits of given number
+     * @param   buffer      text output buffer
+     * @param   zeroDigit   zero digit of a decimal number system with contiguous code points
+     * @throws  IOException if writing to buffer fails
+     */
+    static void appendDigits(
+        int v,
+        int count,
+        Appendable buffer,
+        char zeroDigit
+    ) throws IOException {
+
+        for (int i = count - 1; i > 0; i--) {
+            int p = THRESHOLDS[i - 1] + 1; // 10 ^ i
+            int d = v / p;
+            buffer.append((char) (d + zeroDigit));
+            v -= d * p;
+        }
+
+        buffer.append((char) (v + zeroDigit));
+
+    }
+
     @SuppressWarnings("unchecked")
     private static <V extends Enum<V>> int enumToInt(
         ChronoElement<?> element,
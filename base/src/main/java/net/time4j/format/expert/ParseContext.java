@@ -0,0 +1,112 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2024 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (ParseContext.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.expert;
+
+
+/**
+ * <p>Reusable context for repeated parsing which keeps the internal storage of parsed raw values
+ * and of optional sections alive between parsing processes. </p>
+ *
+ * <p>Every call of {@link ChronoFormatter#parse(CharSequence, ParseContext)} only resets the
+ * internal storage instead of allocating it again. A context can be used with different
+ * formatters. Example for a parsing loop: </p>
+ *
+ * <pre>
+ *  ChronoFormatter&lt;PlainDate&gt; f = ChronoFormatter.ofDatePattern(&quot;uuuu-MM-dd&quot;, PatternType.CLDR, Locale.ROOT);
+ *  ParseContext context = new ParseContext();
+ *
+ *  for (String line : lines) {
+ *      PlainDate date = f.parse(line, context);
+ *      // ...
+ *  }
+ * </pre>
+ *
+ * <p>Note: This class is not <i>threadsafe</i>. Therefore an instance should be kept per thread,
+ * for example in a {@code ThreadLocal}. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+/*[deutsch]
+ * <p>Wiederverwendbarer Kontext f&uuml;r wiederholtes Parsen, der den internen Speicher der
+ * interpretierten Rohdaten und optionaler Sektionen zwischen Parse-Vorg&auml;ngen erh&auml;lt. </p>
+ *
+ * <p>Jeder Aufruf von {@link ChronoFormatter#parse(CharSequence, ParseContext)} setzt den internen
+ * Speicher nur zur&uuml;ck, statt ihn neu anzulegen. Ein Kontext kann mit verschiedenen Formatierern
+ * verwendet werden. Beispiel f&uuml;r eine Parse-Schleife: </p>
+ *
+ * <pre>
+ *  ChronoFormatter&lt;PlainDate&gt; f = ChronoFormatter.ofDatePattern(&quot;uuuu-MM-dd&quot;, PatternType.CLDR, Locale.ROOT);
+ *  ParseContext context = new ParseContext();
+ *
+ *  for (String line : lines) {
+ *      PlainDate date = f.parse(line, context);
+ *      // ...
+ *  }
+ * </pre>
+ *
+ * <p>Hinweis: Diese Klasse ist nicht <i>threadsafe</i>, deshalb sollte pro Thread jeweils eine
+ * Instanz gehalten werden, zum Beispiel in einem {@code ThreadLocal}. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+public final class ParseContext {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final ParseLog log;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    /**
+     * <p>Creates a new empty parse context. </p>
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen neuen leeren Parse-Kontext. </p>
+     */
+    public ParseContext() {
+        super();
+
+        this.log = new ParseLog();
+        this.log.setPooling();
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Bereitet das Log f&uuml;r den n&auml;chsten Parse-Vorgang ab Textanfang vor. </p>
+     *
+     * <p>Die Rohdaten eines vorherigen Vorgangs werden dabei &uuml;berschrieben. </p>
+     *
+     * @return  reset parse log with pooled storage
+     */
+    ParseLog prepare() {
+
+        this.log.reset();
+        this.log.setPooling(); // restores the pool if a previous run was aborted by an exception
+        return this.log;
+
+    }
+
+}
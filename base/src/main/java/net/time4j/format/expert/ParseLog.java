@@ -1,6 +1,6 @@
 /*
  * -----------------------------------------------------------------------
- * Copyright © 2013-2021 Meno Hochschild, <http://www.menodata.de/>
+ * Copyright © 2013-2024 Meno Hochschild, <http://www.menodata.de/>
  * -----------------------------------------------------------------------
  * This file (ParseLog.java) is part of project Time4J.
  *
@@ -54,6 +54,7 @@ public class ParseLog {
     private String errorMessage;
     private ChronoEntity<?> rawValues;
     private boolean warning;
+    private ParsedValues[] pool; // only used by ParseContext
 
     //~ Konstruktoren -----------------------------------------------------
 
@@ -412,6 +413,46 @@ public class ParseLog {
 
     }
 
+    /**
+     * <p>Aktiviert die Wiederverwendung der Rohdaten f&uuml;r jede Ebene optionaler Sektionen. </p>
+     */
+    void setPooling() {
+
+        if (this.pool == null) {
+            this.pool = new ParsedValues[4];
+        }
+
+    }
+
+    /**
+     * <p>Entnimmt den Pool der Rohdaten f&uuml;r die exklusive Nutzung w&auml;hrend eines Interpretationslaufs. </p>
+     *
+     * <p>Verschachtelte Aufrufe mit demselben Log (zum Beispiel eingebettete Formatierer) erhalten
+     * {@code null} und arbeiten dann ohne Pool. </p>
+     *
+     * @return  array of reusable parsed values per level or {@code null}
+     * @see     #releasePool(ParsedValues[])
+     */
+    ParsedValues[] borrowPool() {
+
+        ParsedValues[] p = this.pool;
+        this.pool = null;
+        return p;
+
+    }
+
+    /**
+     * <p>Gibt einen (eventuell vergr&ouml;&szlig;erten) Pool zur&uuml;ck. </p>
+     *
+     * @param   pool    array of reusable parsed values per level
+     * @see     #borrowPool()
+     */
+    void releasePool(ParsedValues[] pool) {
+
+        this.pool = pool;
+
+    }
+
     /**
      * Liefert das JDK-&Auml;quivalent. </p>
      *
@@ -0,0 +1,258 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2024 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (ParseResult.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+
+package net.time4j.format.expert;
+
+import java.text.ParseException;
+import java.util.Optional;
+
+
+/**
+ * <p>Represents either the successfully parsed value or the parsing error without throwing any exception. </p>
+ *
+ * <p>Instances are immutable and obtained by {@link ChronoFormatter#tryParse(CharSequence)}. In contrast to
+ * {@code ParseException}, no stack trace will be captured which makes this class suitable for the validation
+ * of input where a significant part of the rows is malformed. </p>
+ *
+ * @param   <T> generic type of parsed value
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+/*[deutsch]
+ * <p>Repr&auml;sentiert entweder den erfolgreich interpretierten Wert oder den Fehler ohne eine Ausnahme
+ * zu werfen. </p>
+ *
+ * <p>Instanzen sind unver&auml;nderlich und werden von {@link ChronoFormatter#tryParse(CharSequence)}
+ * geliefert. Anders als bei {@code ParseException} wird kein Stack-Trace aufgezeichnet, so da&szlig;
+ * diese Klasse f&uuml;r die Pr&uuml;fung von Eingaben geeignet ist, bei denen ein erheblicher Teil
+ * der Zeilen fehlerhaft ist. </p>
+ *
+ * @param   <T> generic type of parsed value
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+public final class ParseResult<T> {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final T value;
+    private final int position;
+    private final String errorMessage;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private ParseResult(
+        T value,
+        int position,
+        String errorMessage
+    ) {
+        super();
+
+        this.value = value;
+        this.position = position;
+        this.errorMessage = errorMessage;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Erzeugt ein erfolgreiches Ergebnis. </p>
+     *
+     * @param   <T>         generic type of parsed value
+     * @param   value       parsed value
+     * @param   position    position after the parsed text
+     * @return  new instance
+     */
+    static <T> ParseResult<T> success(
+        T value,
+        int position
+    ) {
+
+        return new ParseResult<>(value, position, null);
+
+    }
+
+    /**
+     * <p>Erzeugt ein Fehlerergebnis. </p>
+     *
+     * @param   <T>             generic type of parsed value
+     * @param   errorIndex      error position
+     * @param   errorMessage    error description
+     * @return  new instance
+     */
+    static <T> ParseResult<T> error(
+        int errorIndex,
+        String errorMessage
+    ) {
+
+        return new ParseResult<>(null, errorIndex, ((errorMessage == null) ? "" : errorMessage));
+
+    }
+
+    /**
+     * <p>Queries if parsing has failed. </p>
+     *
+     * @return  {@code true} if there is an error else {@code false}
+     */
+    /*[deutsch]
+     * <p>Ist das Interpretieren gescheitert? </p>
+     *
+     * @return  {@code true} if there is an error else {@code false}
+     */
+    public boolean isError() {
+
+        return (this.errorMessage != null);
+
+    }
+
+    /**
+     * <p>Yields the parsed value. </p>
+     *
+     * @return  parsed value or {@code null} in case of error
+     */
+    /*[deutsch]
+     * <p>Liefert den interpretierten Wert. </p>
+     *
+     * @return  parsed value or {@code null} in case of error
+     */
+    public T getResult() {
+
+        return this.value;
+
+    }
+
+    /**
+     * <p>Yields the parsed value as optional. </p>
+     *
+     * @return  parsed value or an empty optional in case of error
+     */
+    /*[deutsch]
+     * <p>Liefert den interpretierten Wert als {@code Optional}. </p>
+     *
+     * @return  parsed value or an empty optional in case of error
+     */
+    public Optional<T> toOptional() {
+
+        return Optional.ofNullable(this.value);
+
+    }
+
+    /**
+     * <p>Yields the position after the parsed text. </p>
+     *
+     * @return  end position or {@code -1} in case of error
+     */
+    /*[deutsch]
+     * <p>Liefert die Position nach dem interpretierten Text. </p>
+     *
+     * @return  end position or {@code -1} in case of error
+     */
+    public int getPosition() {
+
+        return (this.isError() ? -1 : this.position);
+
+    }
+
+    /**
+     * <p>Yields the position where parsing has failed. </p>
+     *
+     * @return  error index or {@code -1} if parsing was successful
+     */
+    /*[deutsch]
+     * <p>Liefert die Position, an der das Interpretieren gescheitert ist. </p>
+     *
+     * @return  error index or {@code -1} if parsing was successful
+     */
+    public int getErrorIndex() {
+
+        return (this.isError() ? this.position : -1);
+
+    }
+
+    /**
+     * <p>Yields the error description. </p>
+     *
+     * @return  error message or an empty string if parsing was successful
+     */
+    /*[deutsch]
+     * <p>Liefert die Fehlerbeschreibung. </p>
+     *
+     * @return  error message or an empty string if parsing was successful
+     */
+    public String getErrorMessage() {
+
+        return (this.isError() ? this.errorMessage : "");
+
+    }
+
+    /**
+     * <p>Yields the parsed value or throws the equivalent {@code ParseException}. </p>
+     *
+     * @return  parsed value
+     * @throws  ParseException in case of error
+     */
+    /*[deutsch]
+     * <p>Liefert den interpretierten Wert oder wirft die entsprechende {@code ParseException}. </p>
+     *
+     * @return  parsed value
+     * @throws  ParseException in case of error
+     */
+    public T getOrThrow() throws ParseException {
+
+        if (this.isError()) {
+            throw new ParseException(this.errorMessage, this.position);
+        }
+
+        return this.value;
+
+    }
+
+    /**
+     * <p>For debugging purposes. </p>
+     */
+    /*[deutsch]
+     * <p>F&uuml;r Debugging-Zwecke. </p>
+     */
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder(64);
+
+        if (this.isError()) {
+            sb.append("[error-index=");
+            sb.append(this.position);
+            sb.append(",error-message=");
+            sb.append(this.errorMessage);
+        } else {
+            sb.append("[result=");
+            sb.append(this.value);
+            sb.append(",position=");
+            sb.append(this.position);
+        }
+
+        sb.append(']');
+        return sb.toString();
+
+    }
+
+}
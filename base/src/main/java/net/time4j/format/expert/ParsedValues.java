@@ -1,6 +1,6 @@
 /*
  * -----------------------------------------------------------------------
- * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * Copyright © 2013-2024 Meno Hochschild, <http://www.menodata.de/>
  * -----------------------------------------------------------------------
  * This file (ParsedValues.java) is part of project Time4J.
  *
@@ -27,6 +27,7 @@ import net.time4j.engine.ChronoElement;
 import net.time4j.engine.ChronoException;
 
 import java.util.AbstractSet;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -548,16 +549,36 @@ class ParsedValues
             this.len = Integer.MIN_VALUE;
             this.mask = Integer.MIN_VALUE;
             this.threshold = Integer.MIN_VALUE;
-            this.count = Integer.MIN_VALUE;
+            this.count = Integer.MIN_VALUE; // index mode => nano-of-second
             for (int i = 0; i < 3; i++) {
                 this.ints[i] = Integer.MIN_VALUE;
             }
-            this.map = null;
+            if (this.map != null) {
+                this.map.clear();
+            }
         } else {
-            this.keys = new Object[this.keys.length];
+            Arrays.fill(this.keys, null);
+            if (this.values != null) {
+                Arrays.fill(this.values, null);
+            }
+            this.count = 0;
         }
 
-        this.count = 0;
+    }
+
+    // prepares this instance for the next parsing process (ParseContext)
+    void clear() {
+
+        this.reset();
+        this.duplicateKeysAllowed = false;
+        this.position = -1;
+
+    }
+
+    // are only indexable elements expected?
+    boolean isIndexable() {
+
+        return (this.keys == null);
 
     }
 
@@ -0,0 +1,323 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2024 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (ParserSignature.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.expert;
+
+import net.time4j.engine.AttributeQuery;
+import net.time4j.format.Attributes;
+import net.time4j.format.Leniency;
+
+import java.util.List;
+
+
+/**
+ * <p>Aus den Formatierschritten eines {@code ChronoFormatter} abgeleitete notwendige Bedingungen
+ * f&uuml;r erfolgreiches Interpretieren mit den Standardattributen. </p>
+ *
+ * <p>Gepr&uuml;ft werden die minimale und maximale Textl&auml;nge sowie die Zeichenklassen (Ziffer
+ * oder Literal) an festen Positionen ab dem Textanfang und, wenn der Text vollst&auml;ndig
+ * interpretiert werden mu&szlig;, vor dem Textende. Die Bedingungen sind konservativ: Ein Text,
+ * der sie nicht erf&uuml;llt, kann nicht erfolgreich interpretiert werden, umgekehrt gilt das
+ * nicht. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+final class ParserSignature {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int UNLIMITED = Integer.MAX_VALUE;
+    private static final char ANY = '\u0000';
+    private static final char DIGIT = '\uFFFF';
+    private static final char DIGIT_OR_SIGN = '\uFFFE';
+    private static final char[] EMPTY = new char[0];
+
+    /**
+     * Signature without any conditions.
+     */
+    static final ParserSignature UNCONSTRAINED =
+        new ParserSignature(0, UNLIMITED, false, EMPTY, EMPTY, EMPTY, EMPTY);
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final int minLength;
+    private final int maxLength;
+    private final boolean trailing;
+    private final char[] prefix;
+    private final char[] prefixAlt;
+    private final char[] suffix; // backwards, suffix[0] is the last char of text
+    private final char[] suffixAlt;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private ParserSignature(
+        int minLength,
+        int maxLength,
+        boolean trailing,
+        char[] prefix,
+        char[] prefixAlt,
+        char[] suffix,
+        char[] suffixAlt
+    ) {
+        super();
+
+        this.minLength = minLength;
+        this.maxLength = maxLength;
+        this.trailing = trailing;
+        this.prefix = prefix;
+        this.prefixAlt = prefixAlt;
+        this.suffix = suffix;
+        this.suffixAlt = suffixAlt;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Analysiert die Formatierschritte des angegebenen Formatierers. </p>
+     *
+     * @param   formatter   formatter to be analyzed
+     * @return  signature which is unconstrained for formatters with or-blocks or unknown processors
+     */
+    static ParserSignature of(ChronoFormatter<?> formatter) {
+
+        List<FormatStep> steps = formatter.getSteps();
+        int n = steps.size();
+
+        for (FormatStep step : steps) {
+            if (step.isNewOrBlockStarted()) {
+                return UNCONSTRAINED;
+            }
+        }
+
+        AttributeQuery attributes = formatter.getAttributes();
+        boolean lax = attributes.get(Attributes.LENIENCY, Leniency.SMART).isLax();
+        int[] mins = new int[n];
+        int[] maxs = new int[n];
+        char[][] chars = new char[n][]; // null if the count of consumed chars is not fixed
+        char[][] alts = new char[n][];
+        char[] heads = new char[n];
+
+        for (int i = 0; i < n; i++) {
+            FormatStep step = steps.get(i);
+            FormatProcessor<?> processor = step.getProcessor();
+            maxs[i] = UNLIMITED;
+            heads[i] = ANY;
+
+            if (!step.isPlain()) {
+                continue; // optional, padded or with sectional attributes
+            }
+
+            if (processor instanceof LiteralProcessor) {
+                LiteralProcessor lp = (LiteralProcessor) processor;
+                int count = lp.getParsedLength(attributes);
+                if (count == -1) {
+                    continue;
+                }
+                String literal = lp.getFixedLiteral();
+                char[] expected = new char[count];
+                char[] alternatives = new char[count];
+                if (literal == null) { // dependent on attribute
+                    expected[0] = ANY;
+                    alternatives[0] = ANY;
+                } else if ((literal.length() == 1) && (count == 1)) {
+                    expected[0] = literal.charAt(0);
+                    alternatives[0] = lp.getAlternativeChar();
+                } else {
+                    for (int j = 0, k = 0; j < literal.length(); j++) {
+                        char c = literal.charAt(j);
+                        if ((c != '\u200E') && (c != '\u200F') && (c != '\u061C')) { // ignore bidi chars
+                            expected[k] = c;
+                            alternatives[k] = c;
+                            k++;
+                        }
+                    }
+                }
+                for (int j = 0; j < count; j++) {
+                    if ((expected[j] == DIGIT) || (expected[j] == DIGIT_OR_SIGN)) {
+                        expected[j] = ANY; // conflict with internal markers
+                    }
+                }
+                mins[i] = count;
+                maxs[i] = count;
+                chars[i] = expected;
+                alts[i] = alternatives;
+            } else if (processor instanceof NumberProcessor) {
+                NumberProcessor<?> np = (NumberProcessor<?>) processor;
+                int width = np.getAsciiWidth();
+                if (width == -1) {
+                    continue;
+                } else if (np.isFixedWidth()) {
+                    char[] digits = new char[width];
+                    for (int j = 0; j < width; j++) {
+                        digits[j] = DIGIT;
+                    }
+                    mins[i] = width;
+                    maxs[i] = width;
+                    chars[i] = digits;
+                    alts[i] = digits;
+                } else {
+                    mins[i] = (lax ? 1 : width);
+                    heads[i] = DIGIT_OR_SIGN;
+                }
+            } else if (processor instanceof FractionProcessor) {
+                int width = ((FractionProcessor) processor).getAsciiWidth();
+                if (width != -1) {
+                    maxs[i] = width; // not strict: less digits are possible
+                }
+            }
+        }
+
+        long min = 0;
+        long max = 0;
+
+        for (int i = 0; i < n; i++) {
+            min += mins[i];
+            max += maxs[i];
+        }
+
+        char[] prefix = new char[(int) Math.min(min, 256)];
+        char[] prefixAlt = new char[prefix.length];
+        int p = 0;
+
+        for (int i = 0; (i < n) && (p < prefix.length); i++) {
+            if (chars[i] == null) {
+                if (heads[i] != ANY) {
+                    prefix[p] = heads[i];
+                    prefixAlt[p] = heads[i];
+                    p++;
+                }
+                break;
+            }
+            for (int j = 0; (j < chars[i].length) && (p < prefix.length); j++) {
+                prefix[p] = chars[i][j];
+                prefixAlt[p] = alts[i][j];
+                p++;
+            }
+        }
+
+        boolean trailing = formatter.isToleratingTrailingChars();
+        char[] suffix = new char[trailing ? 0 : prefix.length];
+        char[] suffixAlt = new char[suffix.length];
+        int s = 0;
+
+        for (int i = n - 1; (i >= 0) && (chars[i] != null) && (s < suffix.length); i--) {
+            for (int j = chars[i].length - 1; (j >= 0) && (s < suffix.length); j--) {
+                suffix[s] = chars[i][j];
+                suffixAlt[s] = alts[i][j];
+                s++;
+            }
+        }
+
+        return new ParserSignature(
+            (int) Math.min(min, UNLIMITED),
+            (trailing ? UNLIMITED : (int) Math.min(max, UNLIMITED)),
+            trailing,
+            trim(prefix, p),
+            trim(prefixAlt, p),
+            trim(suffix, s),
+            trim(suffixAlt, s));
+
+    }
+
+    /**
+     * <p>Kann der angegebene Text ab der Startposition erfolgreich interpretiert werden? </p>
+     *
+     * @param   text        text to be parsed
+     * @param   start       start position
+     * @param   full        must the text be parsed up to the end?
+     * @return  {@code false} if parsing will certainly fail else {@code true}
+     */
+    boolean accepts(
+        CharSequence text,
+        int start,
+        boolean full
+    ) {
+
+        int end = text.length();
+        int len = end - start;
+        full = full && !this.trailing;
+
+        if ((len < this.minLength) || (full && (len > this.maxLength))) {
+            return false;
+        }
+
+        for (int i = 0, n = Math.min(this.prefix.length, len); i < n; i++) {
+            if (!matches(text.charAt(start + i), this.prefix[i], this.prefixAlt[i])) {
+                return false;
+            }
+        }
+
+        if (full) {
+            for (int i = 0, n = Math.min(this.suffix.length, len); i < n; i++) {
+                if (!matches(text.charAt(end - 1 - i), this.suffix[i], this.suffixAlt[i])) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+
+    }
+
+    private static boolean matches(
+        char c,
+        char expected,
+        char alternative
+    ) {
+
+        switch (expected) {
+            case ANY:
+                return true;
+            case DIGIT:
+                return ((c >= '0') && (c <= '9'));
+            case DIGIT_OR_SIGN:
+                return (((c >= '0') && (c <= '9')) || (c == '+') || (c == '-'));
+            default:
+                return (
+                    (c == expected)
+                    || (c == alternative)
+                    || LiteralProcessor.charEqualsIgnoreCase(c, expected)
+                    || LiteralProcessor.charEqualsIgnoreCase(c, alternative)
+                );
+        }
+
+    }
+
+    private static char[] trim(
+        char[] array,
+        int count
+    ) {
+
+        if (count == 0) {
+            return EMPTY;
+        } else if (count == array.length) {
+            return array;
+        }
+
+        char[] copy = new char[count];
+        System.arraycopy(array, 0, copy, 0, count);
+        return copy;
+
+    }
+
+}
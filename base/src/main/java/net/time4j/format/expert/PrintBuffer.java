@@ -0,0 +1,254 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2024 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (PrintBuffer.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.expert;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.UnmappableCharacterException;
+
+
+/**
+ * <p>Textpuffer, der direkt in einen vom Aufrufer bereitgestellten Bereich eines {@code char}-Arrays,
+ * {@code byte}-Arrays oder eines direkten {@code ByteBuffer} schreibt. </p>
+ *
+ * <p>Bytes werden als ISO-8859-1 (einschlie&szlig;lich US-ASCII) kodiert. Die Textl&auml;nge
+ * bezieht sich immer auf den Startindex, nicht auf den Anfang des Arrays. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+final class PrintBuffer
+    implements Appendable, CharSequence {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final char[] chars;
+    private final byte[] bytes;
+    private final ByteBuffer direct;
+    private final int start;
+    private final int limit;
+    private int pos;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private PrintBuffer(
+        char[] chars,
+        byte[] bytes,
+        ByteBuffer direct,
+        int start,
+        int limit
+    ) {
+        super();
+
+        this.chars = chars;
+        this.bytes = bytes;
+        this.direct = direct;
+        this.start = start;
+        this.limit = limit;
+        this.pos = start;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Schreibt in den angegebenen Bereich eines {@code char}-Arrays. </p>
+     *
+     * @param   target  char array
+     * @param   start   first index to be written
+     * @param   limit   index after last index to be written
+     * @return  new buffer
+     */
+    static PrintBuffer of(
+        char[] target,
+        int start,
+        int limit
+    ) {
+
+        return new PrintBuffer(target, null, null, start, limit);
+
+    }
+
+    /**
+     * <p>Schreibt in den angegebenen Bereich eines {@code byte}-Arrays. </p>
+     *
+     * @param   target  byte array
+     * @param   start   first index to be written
+     * @param   limit   index after last index to be written
+     * @return  new buffer
+     */
+    static PrintBuffer of(
+        byte[] target,
+        int start,
+        int limit
+    ) {
+
+        return new PrintBuffer(null, target, null, start, limit);
+
+    }
+
+    /**
+     * <p>Schreibt ab der aktuellen Position in einen {@code ByteBuffer} ohne Zugriff auf ein Array
+     * (absolute Indizes, die Position selbst wird nicht ver&auml;ndert). </p>
+     *
+     * @param   target  byte buffer
+     * @return  new buffer
+     */
+    static PrintBuffer of(ByteBuffer target) {
+
+        return new PrintBuffer(null, null, target, target.position(), target.limit());
+
+    }
+
+    @Override
+    public PrintBuffer append(char c) throws IOException {
+
+        int index = this.pos;
+
+        if (index >= this.limit) {
+            throw new BufferOverflowException();
+        }
+
+        if (this.chars != null) {
+            this.chars[index] = c;
+        } else if (c > 0xFF) {
+            throw new UnmappableCharacterException(1);
+        } else if (this.bytes != null) {
+            this.bytes[index] = (byte) c;
+        } else {
+            this.direct.put(index, (byte) c);
+        }
+
+        this.pos = index + 1;
+        return this;
+
+    }
+
+    @Override
+    public PrintBuffer append(CharSequence csq) throws IOException {
+
+        if (csq == null) {
+            csq = "null";
+        }
+
+        return this.append(csq, 0, csq.length());
+
+    }
+
+    @Override
+    public PrintBuffer append(
+        CharSequence csq,
+        int start,
+        int end
+    ) throws IOException {
+
+        if (csq == null) {
+            csq = "null";
+        }
+
+        if ((start < 0) || (start > end) || (end > csq.length())) {
+            throw new IndexOutOfBoundsException("Invalid range: [" + start + ", " + end + ")");
+        }
+
+        if ((this.chars != null) && (csq instanceof String)) {
+            int n = end - start;
+            if (this.pos + n > this.limit) {
+                throw new BufferOverflowException();
+            }
+            ((String) csq).getChars(start, end, this.chars, this.pos);
+            this.pos += n;
+        } else {
+            for (int i = start; i < end; i++) {
+                this.append(csq.charAt(i));
+            }
+        }
+
+        return this;
+
+    }
+
+    @Override
+    public int length() {
+
+        return this.pos - this.start;
+
+    }
+
+    @Override
+    public char charAt(int index) {
+
+        if ((index < 0) || (index >= this.length())) {
+            throw new IndexOutOfBoundsException("Index out of range: " + index);
+        }
+
+        int i = this.start + index;
+
+        if (this.chars != null) {
+            return this.chars[i];
+        } else if (this.bytes != null) {
+            return (char) (this.bytes[i] & 0xFF);
+        } else {
+            return (char) (this.direct.get(i) & 0xFF);
+        }
+
+    }
+
+    @Override
+    public CharSequence subSequence(
+        int start,
+        int end
+    ) {
+
+        if ((start < 0) || (start > end) || (end > this.length())) {
+            throw new IndexOutOfBoundsException("Invalid range: [" + start + ", " + end + ")");
+        }
+
+        StringBuilder sb = new StringBuilder(end - start);
+
+        for (int i = start; i < end; i++) {
+            sb.append(this.charAt(i));
+        }
+
+        return sb.toString();
+
+    }
+
+    @Override
+    public String toString() {
+
+        return this.subSequence(0, this.length()).toString();
+
+    }
+
+    /**
+     * <p>Verwirft alle Zeichen nach der angegebenen L&auml;nge. </p>
+     *
+     * @param   length  new length (must not be greater than current length)
+     */
+    void setLength(int length) {
+
+        this.pos = this.start + length;
+
+    }
+
+}
@@ -0,0 +1,251 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2024 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (Rfc1123FastPath.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.expert;
+
+import net.time4j.Moment;
+import net.time4j.base.GregorianMath;
+import net.time4j.scale.TimeScale;
+
+import java.io.IOException;
+
+
+/**
+ * <p>Zeichenweise Ausgabe und Interpretation des Formats nach RFC 1123. </p>
+ *
+ * <p>Die Ausgabe erfolgt immer in UTC mit &quot;GMT&quot;. Interpretiert werden die Zonennamen
+ * &quot;GMT&quot;, &quot;UT&quot; und &quot;Z&quot; sowie numerische Offsets, nordamerikanische
+ * Zonennamen und alle anderen F&auml;lle &uuml;bernimmt der allgemeine Formatierer. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+final class Rfc1123FastPath
+    implements FastPath<Moment> {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final String[] DAYS = {"Mon", "Tue", "Wed", "Thu", "Fri", "Sat", "Sun"};
+    private static final String[] MONTHS =
+        {"Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec"};
+    private static final long UNIX_EPOCH_MJD = 40587L;
+
+    static final Rfc1123FastPath INSTANCE = new Rfc1123FastPath();
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private Rfc1123FastPath() {
+        super();
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Override
+    public boolean print(
+        Moment formattable,
+        Appendable buffer
+    ) throws IOException {
+
+        if (formattable.isLeapSecond()) {
+            return false;
+        }
+
+        long posix = formattable.getPosixTime();
+        long packed = GregorianMath.toPackedDate(Math.floorDiv(posix, 86400) + UNIX_EPOCH_MJD);
+        int year = GregorianMath.readYear(packed);
+
+        if ((year < 1000) || (year > 9999)) {
+            return false;
+        }
+
+        int month = GregorianMath.readMonth(packed);
+        int dom = GregorianMath.readDayOfMonth(packed);
+        int secOfDay = (int) Math.floorMod(posix, 86400);
+
+        buffer.append(DAYS[GregorianMath.getDayOfWeek(year, month, dom) - 1]);
+        buffer.append(", ");
+
+        if (dom >= 10) {
+            buffer.append((char) ('0' + dom / 10));
+        }
+
+        buffer.append((char) ('0' + dom % 10));
+        buffer.append(' ');
+        buffer.append(MONTHS[month - 1]);
+        buffer.append(' ');
+        IsoFastPath.print4(year, buffer);
+        buffer.append(' ');
+        IsoFastPath.print2(secOfDay / 3600, buffer);
+        buffer.append(':');
+        IsoFastPath.print2((secOfDay / 60) % 60, buffer);
+        buffer.append(':');
+        IsoFastPath.print2(secOfDay % 60, buffer);
+        buffer.append(" GMT");
+        return true;
+
+    }
+
+    @Override
+    public Moment parse(CharSequence text) {
+
+        int n = text.length();
+        int pos = 0;
+        int dow = 0;
+
+        if ((n > 5) && (text.charAt(3) == ',') && (text.charAt(4) == ' ')) {
+            dow = indexOf(DAYS, text, 0) + 1;
+            if (dow == 0) {
+                return null;
+            }
+            pos = 5;
+        }
+
+        // d MMM uuuu HH:mm needs at least 17 chars, plus space and shortest zone name "Z"
+        if (n - pos < 19) {
+            return null;
+        }
+
+        int dom = IsoFastPath.fixed(text, pos, 1);
+
+        if (dom < 0) {
+            return null;
+        }
+
+        pos++;
+        int tens = IsoFastPath.fixed(text, pos, 1);
+
+        if (tens >= 0) {
+            dom = dom * 10 + tens;
+            pos++;
+        }
+
+        if ((n - pos < 18) || (text.charAt(pos) != ' ') || (text.charAt(pos + 4) != ' ')) {
+            return null;
+        }
+
+        int month = indexOf(MONTHS, text, pos + 1) + 1;
+        int year = IsoFastPath.fixed(text, pos + 5, 4);
+        pos += 9;
+
+        if (
+            (month == 0)
+            || (year < 0)
+            || (dom < 1)
+            || (dom > GregorianMath.getLengthOfMonth(year, month))
+            || (text.charAt(pos) != ' ')
+            || (text.charAt(pos + 3) != ':')
+        ) {
+            return null;
+        }
+
+        int hour = IsoFastPath.fixed(text, pos + 1, 2);
+        int minute = IsoFastPath.fixed(text, pos + 4, 2);
+        int second = 0;
+        pos += 6;
+
+        if ((text.charAt(pos) == ':') && (n - pos >= 5)) {
+            second = IsoFastPath.fixed(text, pos + 1, 2);
+            pos += 3;
+        }
+
+        if (
+            (hour < 0) || (hour > 23)
+            || (minute < 0) || (minute > 59)
+            || (second < 0) || (second > 59)
+            || (text.charAt(pos) != ' ')
+        ) {
+            return null;
+        }
+
+        int offset = parseOffset(text, pos + 1);
+
+        if (
+            (offset == Integer.MIN_VALUE)
+            || ((dow != 0) && (dow != GregorianMath.getDayOfWeek(year, month, dom)))
+        ) {
+            return null;
+        }
+
+        long mjd = GregorianMath.toMJD(year, month, dom);
+        long posix = (mjd - UNIX_EPOCH_MJD) * 86400 + hour * 3600 + minute * 60 + second - offset;
+        return Moment.of(posix, TimeScale.POSIX);
+
+    }
+
+    // sucht den Namen mit genau drei Zeichen, sonst -1
+    private static int indexOf(
+        String[] names,
+        CharSequence text,
+        int pos
+    ) {
+
+        for (int i = 0; i < names.length; i++) {
+            String name = names[i];
+            if (
+                (text.charAt(pos) == name.charAt(0))
+                && (text.charAt(pos + 1) == name.charAt(1))
+                && (text.charAt(pos + 2) == name.charAt(2))
+            ) {
+                return i;
+            }
+        }
+
+        return -1;
+
+    }
+
+    // Offset in Sekunden bis zum Textende oder Integer.MIN_VALUE
+    private static int parseOffset(
+        CharSequence text,
+        int pos
+    ) {
+
+        int len = text.length() - pos;
+
+        if ((len == 1) && (text.charAt(pos) == 'Z')) {
+            return 0;
+        } else if ((len == 2) && (text.charAt(pos) == 'U') && (text.charAt(pos + 1) == 'T')) {
+            return 0;
+        } else if (
+            (len == 3)
+            && (text.charAt(pos) == 'G')
+            && (text.charAt(pos + 1) == 'M')
+            && (text.charAt(pos + 2) == 'T')
+        ) {
+            return 0;
+        } else if (len == 5) {
+            char sign = text.charAt(pos);
+            int hours = IsoFastPath.fixed(text, pos + 1, 2);
+            int minutes = IsoFastPath.fixed(text, pos + 3, 2);
+            if (((sign == '+') || (sign == '-')) && (hours >= 0) && (minutes >= 0) && (minutes <= 59)) {
+                int offset = hours * 3600 + minutes * 60;
+                if ((offset <= 18 * 3600) && ((offset != 0) || (sign == '+'))) {
+                    return ((sign == '-') ? -offset : offset);
+                }
+            }
+        }
+
+        return Integer.MIN_VALUE;
+
+    }
+
+}
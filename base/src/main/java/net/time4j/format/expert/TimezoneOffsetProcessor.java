@@ -1,6 +1,6 @@
 /*
  * -----------------------------------------------------------------------
- * Copyright © 2013-2021 Meno Hochschild, <http://www.menodata.de/>
+ * Copyright © 2013-2024 Meno Hochschild, <http://www.menodata.de/>
  * -----------------------------------------------------------------------
  * This file (TimezoneOffsetProcessor.java) is part of project Time4J.
  *
@@ -196,14 +196,8 @@ final class TimezoneOffsetProcessor
             int m = (absValue / 60) % 60;
             int s = absValue % 60;
 
-            if (h < 10) {
-                buffer.append('0');
-                printed++;
-            }
-
-            String hours = String.valueOf(h);
-            buffer.append(hours);
-            printed += hours.length();
+            NumberProcessor.appendDigits(h, 2, buffer, '0'); // h < 19
+            printed += 2;
 
             if (
                 (this.precision != SHORT)
@@ -214,14 +208,8 @@ final class TimezoneOffsetProcessor
                     printed++;
                 }
 
-                if (m < 10) {
-                    buffer.append('0');
-                    printed++;
-                }
-
-                String minutes = String.valueOf(m);
-                buffer.append(minutes);
-                printed += minutes.length();
+                NumberProcessor.appendDigits(m, 2, buffer, '0');
+                printed += 2;
 
                 if (
                     (this.precision != SHORT)
@@ -233,25 +221,14 @@ final class TimezoneOffsetProcessor
                             printed++;
                         }
 
-                        if (s < 10) {
-                            buffer.append('0');
-                            printed++;
-                        }
-
-                        String seconds = String.valueOf(s);
-                        buffer.append(seconds);
-                        printed += seconds.length();
+                        NumberProcessor.appendDigits(s, 2, buffer, '0');
+                        printed += 2;
 
                         if (fraction != 0) {
                             buffer.append('.');
                             printed++;
-                            String f = String.valueOf(Math.abs(fraction));
-                            for (int i = 0, n = 9 - f.length(); i < n; i++) {
-                                buffer.append('0');
-                                printed++;
-                            }
-                            buffer.append(f);
-                            printed += f.length();
+                            NumberProcessor.appendDigits(Math.abs(fraction), 9, buffer, '0');
+                            printed += 9;
                         }
                     }
                 }
@@ -292,25 +269,18 @@ final class TimezoneOffsetProcessor
             return;
         }
 
+        boolean ignoreCase = (
+            quickPath
+                ? this.caseInsensitive
+                : attributes.get(Attributes.PARSE_CASE_INSENSITIVE, Boolean.TRUE).booleanValue());
+
         for (String zeroOffset : this.zeroOffsets) {
             int zl = zeroOffset.length();
 
-            if (len - pos >= zl) {
-                String compare = text.subSequence(pos, pos + zl).toString();
-
-                boolean ignoreCase = (
-                    quickPath
-                        ? this.caseInsensitive
-                        : attributes.get(Attributes.PARSE_CASE_INSENSITIVE, Boolean.TRUE).booleanValue());
-
-                if (
-                    (ignoreCase && compare.equalsIgnoreCase(zeroOffset))
-                    || (!ignoreCase && compare.equals(zeroOffset))
-                ) {
-                    parsedResult.put(TimezoneElement.TIMEZONE_OFFSET, ZonalOffset.UTC);
-                    status.setPosition(pos + zl);
-                    return;
-                }
+            if ((len - pos >= zl) && regionMatches(text, pos, zeroOffset, ignoreCase)) {
+                parsedResult.put(TimezoneElement.TIMEZONE_OFFSET, ZonalOffset.UTC);
+                status.setPosition(pos + zl);
+                return;
             }
         }
 
@@ -563,6 +533,27 @@ final class TimezoneOffsetProcessor
 
     }
 
+    // compares without creating an intermediate string (also for byte sequences)
+    private static boolean regionMatches(
+        CharSequence text,
+        int pos,
+        String expected,
+        boolean ignoreCase
+    ) {
+
+        for (int i = 0, n = expected.length(); i < n; i++) {
+            char c = text.charAt(pos + i);
+            char e = expected.charAt(i);
+
+            if ((c != e) && (!ignoreCase || !LiteralProcessor.charEqualsIgnoreCase(c, e))) {
+                return false;
+            }
+        }
+
+        return true;
+
+    }
+
     private static ZonalOffset getOffset(
         ChronoDisplay formattable,
         AttributeQuery attributes
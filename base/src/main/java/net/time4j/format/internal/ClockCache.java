@@ -0,0 +1,254 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2024 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (ClockCache.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.internal;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * Lock-free and bounded cache which evicts entries according to the second-chance-algorithm (CLOCK).
+ *
+ * <p>The algorithm approximates LRU without any write on repeated hits of the same entry. Every
+ * hit only sets a reference bit once until the next sweep. When the count of entries exceeds the
+ * maximum size then a sweep clears the reference bits of entries in insertion order and removes
+ * the first entry whose bit was not set. </p>
+ *
+ * @param   <K> type of keys
+ * @param   <V> type of cached values
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+/*[deutsch]
+ * Sperrfreier und begrenzter Cache, der Eintr&auml;ge nach dem <i>second-chance</i>-Verfahren (CLOCK)
+ * verdr&auml;ngt.
+ *
+ * <p>Das Verfahren n&auml;hert sich dem LRU-Verhalten an, ohne bei wiederholten Treffern desselben
+ * Eintrags schreiben zu m&uuml;ssen. Jeder Treffer setzt nur einmal bis zum n&auml;chsten Durchlauf ein
+ * Referenzbit. Wenn die Anzahl der Eintr&auml;ge die maximale Gr&ouml;&szlig;e &uuml;bersteigt, l&ouml;scht
+ * ein Durchlauf die Referenzbits der Eintr&auml;ge in Einf&uuml;gereihenfolge und entfernt den ersten
+ * Eintrag, dessen Bit nicht gesetzt war. </p>
+ *
+ * @param   <K> type of keys
+ * @param   <V> type of cached values
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+public final class ClockCache<K, V> {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final int maximumSize;
+    private final ConcurrentMap<K, Entry<V>> map;
+    private final ConcurrentLinkedQueue<K> clock;
+    private final AtomicInteger count;
+    private final LongAdder evictions;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    /**
+     * <p>Creates an empty cache. </p>
+     *
+     * @param   maximumSize     maximum count of cached entries (positive)
+     * @throws  IllegalArgumentException if the maximum size is not positive
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen leeren Cache. </p>
+     *
+     * @param   maximumSize     maximum count of cached entries (positive)
+     * @throws  IllegalArgumentException if the maximum size is not positive
+     */
+    public ClockCache(int maximumSize) {
+        super();
+
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be positive: " + maximumSize);
+        }
+
+        this.maximumSize = maximumSize;
+        this.map = new ConcurrentHashMap<>();
+        this.clock = new ConcurrentLinkedQueue<>();
+        this.count = new AtomicInteger();
+        this.evictions = new LongAdder();
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Looks up the value for given key and marks it as recently used. </p>
+     *
+     * @param   key     cache key
+     * @return  cached value or {@code null} if not found
+     */
+    /*[deutsch]
+     * <p>Sucht den Wert zum angegebenen Schl&uuml;ssel und markiert ihn als k&uuml;rzlich benutzt. </p>
+     *
+     * @param   key     cache key
+     * @return  cached value or {@code null} if not found
+     */
+    public V get(K key) {
+
+        Entry<V> entry = this.map.get(key);
+
+        if (entry == null) {
+            return null;
+        } else if (!entry.used) {
+            entry.used = true; // write only once until next clock sweep
+        }
+
+        return entry.value;
+
+    }
+
+    /**
+     * <p>Stores given value if there is not yet any value for given key. </p>
+     *
+     * <p>If the maximum size is exceeded then other entries will be evicted. </p>
+     *
+     * @param   key     cache key
+     * @param   value   new value
+     * @return  value which is finally cached under given key (maybe concurrently stored)
+     */
+    /*[deutsch]
+     * <p>Speichert den angegebenen Wert, falls zum Schl&uuml;ssel noch kein Wert vorhanden ist. </p>
+     *
+     * <p>Wenn die maximale Gr&ouml;&szlig;e &uuml;berschritten wird, werden andere Eintr&auml;ge
+     * verdr&auml;ngt. </p>
+     *
+     * @param   key     cache key
+     * @param   value   new value
+     * @return  value which is finally cached under given key (maybe concurrently stored)
+     */
+    public V put(
+        K key,
+        V value
+    ) {
+
+        Entry<V> old = this.map.putIfAbsent(key, new Entry<>(value));
+
+        if (old != null) {
+            return old.value;
+        }
+
+        this.clock.offer(key);
+
+        if (this.count.incrementAndGet() > this.maximumSize) {
+            this.sweep();
+        }
+
+        return value;
+
+    }
+
+    /**
+     * <p>Yields the current count of entries. </p>
+     *
+     * @return  int
+     */
+    /*[deutsch]
+     * <p>Liefert die aktuelle Anzahl der Eintr&auml;ge. </p>
+     *
+     * @return  int
+     */
+    public int size() {
+
+        return this.map.size();
+
+    }
+
+    /**
+     * <p>Yields the maximum count of entries. </p>
+     *
+     * @return  int
+     */
+    /*[deutsch]
+     * <p>Liefert die maximale Anzahl der Eintr&auml;ge. </p>
+     *
+     * @return  int
+     */
+    public int getMaximumSize() {
+
+        return this.maximumSize;
+
+    }
+
+    /**
+     * <p>Yields the count of evicted entries. </p>
+     *
+     * @return  long
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der verdr&auml;ngten Eintr&auml;ge. </p>
+     *
+     * @return  long
+     */
+    public long getEvictionCount() {
+
+        return this.evictions.sum();
+
+    }
+
+    private void sweep() {
+
+        K key;
+
+        while ((this.count.get() > this.maximumSize) && ((key = this.clock.poll()) != null)) {
+            Entry<V> entry = this.map.get(key);
+
+            if (entry == null) {
+                continue;
+            } else if (entry.used) {
+                entry.used = false; // second chance
+                this.clock.offer(key);
+            } else if (this.map.remove(key, entry)) {
+                this.count.decrementAndGet();
+                this.evictions.increment();
+            }
+        }
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static final class Entry<V> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final V value;
+        private volatile boolean used;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Entry(V value) {
+            super();
+
+            this.value = value;
+
+        }
+
+    }
+
+}
@@ -1,6 +1,6 @@
 /*
  * -----------------------------------------------------------------------
- * Copyright © 2013-2021 Meno Hochschild, <http://www.menodata.de/>
+ * Copyright © 2013-2024 Meno Hochschild, <http://www.menodata.de/>
  * -----------------------------------------------------------------------
  * This file (LeapSeconds.java) is part of project Time4J.
  *
@@ -179,6 +179,7 @@ public final class LeapSeconds
             "data/leapseconds.data");
 
     private static final ExtendedLSE[] EMPTY_ARRAY = new ExtendedLSE[0];
+    private static final Index EMPTY_INDEX = new Index(EMPTY_ARRAY, false);
     private static final LeapSeconds INSTANCE = new LeapSeconds();
     private static final long UNIX_OFFSET = 2 * 365 * 86400;
     private static final long MJD_OFFSET = 40587;
@@ -187,8 +188,8 @@ public final class LeapSeconds
 
     private final LeapSecondProvider provider;
     private final List<ExtendedLSE> list;
-    private final ExtendedLSE[] reverseFinal;
-    private volatile ExtendedLSE[] reverseVolatile;
+    private final Index indexFinal;
+    private volatile Index indexVolatile;
     private final boolean supportsNegativeLS;
 
     //~ Konstruktoren -----------------------------------------------------
@@ -219,8 +220,8 @@ public final class LeapSeconds
         if ((loaded == null) || (leapCount == 0)) {
             this.provider = null;
             this.list = Collections.emptyList();
-            this.reverseFinal = EMPTY_ARRAY;
-            this.reverseVolatile = EMPTY_ARRAY;
+            this.indexFinal = EMPTY_INDEX;
+            this.indexVolatile = EMPTY_INDEX;
             this.supportsNegativeLS = false;
         } else {
             SortedSet<ExtendedLSE> sortedLS = new TreeSet<>(this);
@@ -247,8 +248,6 @@ public final class LeapSeconds
                 this.list = new CopyOnWriteArrayList<>(sortedLS);
             }
 
-            this.reverseFinal = this.initReverse();
-            this.reverseVolatile = this.reverseFinal;
             this.provider = loaded;
 
             if (FINAL_UTC_LEAPSECONDS) {
@@ -267,6 +266,9 @@ public final class LeapSeconds
             } else {
                 this.supportsNegativeLS = true;
             }
+
+            this.indexFinal = this.initIndex();
+            this.indexVolatile = this.indexFinal;
         }
 
     }
@@ -355,7 +357,7 @@ public final class LeapSeconds
      */
     public int getCount() {
 
-        return this.getEventsInDescendingOrder().length;
+        return this.getIndex().reverse.length;
 
     }
 
@@ -508,7 +510,7 @@ public final class LeapSeconds
     @Override
     public Iterator<LeapSecondEvent> iterator() {
 
-        final LeapSecondEvent[] events = this.getEventsInDescendingOrder();
+        final LeapSecondEvent[] events = this.getIndex().reverse;
         return Collections.unmodifiableList(Arrays.asList(events)).iterator();
 
     }
@@ -528,7 +530,7 @@ public final class LeapSeconds
      */
     public Stream<LeapSecondEvent> stream() {
 
-        return Arrays.stream(this.getEventsInDescendingOrder());
+        return Arrays.stream(this.getIndex().reverse);
 
     }
 
@@ -563,21 +565,13 @@ public final class LeapSeconds
 
         // Schaltsekundenereignisse gibt es erst seit Juni 1972
         if (year >= 1972) {
+            Index index = this.getIndex();
+            long key = toDateKey(year, date.getMonth(), date.getDayOfMonth());
+            int pos = search(index.dates, key);
 
-            ExtendedLSE[] events = this.getEventsInDescendingOrder();
-
-            for (int i = 0; i < events.length; i++) {
-                ExtendedLSE event = events[i];
-                GregorianDate lsDate = event.getDate();
-
-                // Ist es der Umstellungstag?
-                if (
-                    (year == lsDate.getYear())
-                    && (date.getMonth() == lsDate.getMonth())
-                    && (date.getDayOfMonth() == lsDate.getDayOfMonth())
-                ) {
-                    return event.getShift();
-                }
+            // Ist es der Umstellungstag?
+            if ((pos < index.dates.length) && (index.dates[pos] == key)) {
+                return index.shifts[pos];
             }
         }
 
@@ -609,18 +603,14 @@ public final class LeapSeconds
             return 0;
         }
 
-        ExtendedLSE[] events = this.getEventsInDescendingOrder();
+        // nur das erste Ereignis mit utc() >= utc kommt in Frage
+        Index index = this.getIndex();
+        int pos = search(index.utcs, utc);
 
-        for (int i = 0; i < events.length; i++) {
-            ExtendedLSE lse = events[i];
-
-            if (utc > lse.utc()) {
-                return 0;
-            } else {
-                long start = lse.utc() - lse.getShift();
-                if (utc > start) { // Schaltbereich
-                    return (int) (utc - start);
-                }
+        if (pos < index.utcs.length) {
+            long start = index.utcs[pos] - index.shifts[pos];
+            if (utc > start) { // Schaltbereich
+                return (int) (utc - start);
             }
         }
 
@@ -647,20 +637,14 @@ public final class LeapSeconds
      */
     public LeapSecondEvent getNextEvent(long utc) {
 
-        ExtendedLSE[] events = this.getEventsInDescendingOrder();
-        LeapSecondEvent result = null;
+        Index index = this.getIndex();
+        int pos = search(index.utcs, utc);
 
-        for (int i = 0; i < events.length; i++) {
-            ExtendedLSE lse = events[i];
-
-            if (utc >= lse.utc()) {
-                break;
-            } else {
-                result = lse;
-            }
+        if ((pos < index.utcs.length) && (index.utcs[pos] == utc)) {
+            pos++;
         }
 
-        return result;
+        return ((pos < index.events.length) ? index.events[pos] : null);
 
     }
 
@@ -700,19 +684,14 @@ public final class LeapSeconds
             return epochTime;
         }
 
-        // Lineare Suche hier besser als binäre Suche, weil in der
-        // Praxis meistens mit aktuellen Datumswerten gesucht wird
-        final ExtendedLSE[] events = this.getEventsInDescendingOrder();
-
-        for (int i = 0; i < events.length; i++) {
-            ExtendedLSE lse = events[i];
+        Index index = this.getIndex();
+        int pos = search(index.raws, epochTime);
 
-            if (lse.raw() < epochTime) {
-                return Math.addExact(epochTime, lse.utc() - lse.raw());
-            }
+        if (pos == 0) {
+            return epochTime;
         }
 
-        return epochTime;
+        return Math.addExact(epochTime, index.deltas[pos - 1]);
 
     }
 
@@ -749,21 +728,11 @@ public final class LeapSeconds
             return utc + UNIX_OFFSET;
         }
 
-        // Lineare Suche hier besser als binäre Suche, weil in der
-        // Praxis meistens mit aktuellen Datumswerten gesucht wird
-        final ExtendedLSE[] events = this.getEventsInDescendingOrder();
-        boolean snls = this.supportsNegativeLS;
-
-        for (int i = 0; i < events.length; i++) {
-            ExtendedLSE lse = events[i];
+        Index index = this.getIndex();
+        int pos = search(index.stripLimits, utc);
 
-            if (
-                (lse.utc() - lse.getShift() < utc)
-                || (snls && (lse.getShift() < 0) && (lse.utc() < utc))
-            ) {
-                utc = Math.addExact(utc, lse.raw() - lse.utc());
-                break;
-            }
+        if (pos > 0) {
+            utc = Math.subtractExact(utc, index.deltas[pos - 1]);
         }
 
         return utc + UNIX_OFFSET;
@@ -794,19 +763,10 @@ public final class LeapSeconds
             return false;
         }
 
-        final ExtendedLSE[] events = this.getEventsInDescendingOrder();
-
-        for (int i = 0; i < events.length; i++) {
-            long comp = events[i].utc();
+        Index index = this.getIndex();
+        int pos = search(index.utcs, utc);
 
-            if (comp == utc) {
-                return (events[i].getShift() == 1);
-            } else if (comp < utc) {
-                break;
-            }
-        }
-
-        return false;
+        return ((pos < index.utcs.length) && (index.utcs[pos] == utc) && (index.shifts[pos] == 1));
 
     }
 
@@ -955,7 +915,7 @@ public final class LeapSeconds
                 throw new IllegalStateException("Leap seconds not activated.");
             }
 
-            ExtendedLSE last = this.reverseVolatile[0];
+            ExtendedLSE last = this.indexVolatile.reverse[0];
             GregorianDate date = last.getDate();
             boolean ok = false;
 
@@ -980,20 +940,54 @@ public final class LeapSeconds
             GregorianDate newDate =
                 this.provider.getDateOfEvent(year, month, dayOfMonth);
             this.list.add(createLSE(newDate, shift, last));
-            this.reverseVolatile = this.initReverse();
+            this.indexVolatile = this.initIndex();
         }
 
     }
 
-    // Ereignisse in zeitlich absteigender Reihenfolge auf (das neueste zuerst)
-    private ExtendedLSE[] getEventsInDescendingOrder() {
+    // unveränderlicher Schnappschuss aller Ereignisse
+    private Index getIndex() {
 
         if (SUPPRESS_UTC_LEAPSECONDS || FINAL_UTC_LEAPSECONDS) {
-            return this.reverseFinal;
+            return this.indexFinal;
         } else {
-            return this.reverseVolatile;
+            return this.indexVolatile;
+        }
+
+    }
+
+    // Anzahl der Schlüssel kleiner als der Suchwert (binäre Suche ohne Sprünge im Schleifenrumpf)
+    private static int search(
+        long[] keys,
+        long value
+    ) {
+
+        int n = keys.length;
+
+        if (n == 0) {
+            return 0;
+        }
+
+        int base = 0;
+
+        while (n > 1) {
+            int half = n >>> 1;
+            base = ((keys[base + half] < value) ? base + half : base);
+            n -= half;
         }
 
+        return ((keys[base] < value) ? base + 1 : base);
+
+    }
+
+    private static long toDateKey(
+        int year,
+        int month,
+        int dayOfMonth
+    ) {
+
+        return year * 512L + month * 32 + dayOfMonth;
+
     }
 
     private static void extend(SortedSet<ExtendedLSE> sortedColl) {
@@ -1044,12 +1038,10 @@ public final class LeapSeconds
 
     }
 
-    private ExtendedLSE[] initReverse() {
+    private Index initIndex() {
 
-        List<ExtendedLSE> tmp = new ArrayList<>(this.list.size());
-        tmp.addAll(this.list);
-        Collections.reverse(tmp);
-        return tmp.toArray(new ExtendedLSE[tmp.size()]);
+        ExtendedLSE[] events = this.list.toArray(new ExtendedLSE[0]);
+        return new Index(events, this.supportsNegativeLS);
 
     }
 
@@ -1065,6 +1057,60 @@ public final class LeapSeconds
 
     //~ Innere Klassen ----------------------------------------------------
 
+    /**
+     * <p>Unver&auml;nderlicher Index aller Schaltsekundenereignisse in primitiven Feldern
+     * (aufsteigend sortiert) f&uuml;r die bin&auml;re Suche. </p>
+     */
+    private static final class Index {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final ExtendedLSE[] events;
+        private final ExtendedLSE[] reverse;
+        private final long[] dates;
+        private final long[] utcs;
+        private final long[] raws;
+        private final long[] deltas;
+        private final long[] stripLimits;
+        private final int[] shifts;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Index(
+            ExtendedLSE[] events,
+            boolean snls
+        ) {
+            super();
+
+            int n = events.length;
+
+            this.events = events;
+            this.reverse = new ExtendedLSE[n];
+            this.dates = new long[n];
+            this.utcs = new long[n];
+            this.raws = new long[n];
+            this.deltas = new long[n];
+            this.stripLimits = new long[n];
+            this.shifts = new int[n];
+
+            for (int i = 0; i < n; i++) {
+                ExtendedLSE lse = events[i];
+                GregorianDate date = lse.getDate();
+                int shift = lse.getShift();
+
+                this.reverse[n - 1 - i] = lse;
+                this.dates[i] = toDateKey(date.getYear(), date.getMonth(), date.getDayOfMonth());
+                this.utcs[i] = lse.utc();
+                this.raws[i] = lse.raw();
+                this.deltas[i] = lse.utc() - lse.raw();
+                this.shifts[i] = shift;
+                this.stripLimits[i] = ((snls && (shift < 0)) ? lse.utc() : lse.utc() - shift);
+            }
+
+        }
+
+    }
+
     private static class SimpleLeapSecondEvent
         implements ExtendedLSE, Serializable {
 
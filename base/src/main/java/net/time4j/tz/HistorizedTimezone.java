@@ -30,6 +30,7 @@ import java.io.IOException;
 import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
 import java.util.List;
+import java.util.Optional;
 
 
 /**
@@ -50,6 +51,7 @@ final class HistorizedTimezone
     private transient final TZID id;
     private transient final TransitionHistory history;
     private transient final TransitionStrategy strategy;
+    private transient final OffsetIndex index;
 
     //~ Konstruktoren -----------------------------------------------------
 
@@ -82,6 +84,16 @@ final class HistorizedTimezone
         TZID id,
         TransitionHistory history,
         TransitionStrategy strategy
+    ) {
+        this(id, history, strategy, Timezone.createOffsetIndex(history));
+
+    }
+
+    private HistorizedTimezone(
+        TZID id,
+        TransitionHistory history,
+        TransitionStrategy strategy,
+        OffsetIndex index
     ) {
         super();
 
@@ -103,6 +115,7 @@ final class HistorizedTimezone
         this.id = id;
         this.history = history;
         this.strategy = strategy;
+        this.index = index;
 
     }
 
@@ -118,6 +131,12 @@ final class HistorizedTimezone
     @Override
     public ZonalOffset getOffset(UnixTime ut) {
 
+        long posix = ut.getPosixTime();
+
+        if ((this.index != null) && this.index.covers(posix)) {
+            return this.index.getOffset(posix);
+        }
+
         ZonalTransition t = this.history.getStartTransition(ut);
 
         return (
@@ -131,7 +150,7 @@ final class HistorizedTimezone
     @Override
     public ZonalOffset getRawOffset(UnixTime ut) {
 
-        ZonalTransition t = this.history.getStartTransition(ut);
+        ZonalTransition t = this.getStartTransition(ut);
 
         return (
             (t == null)
@@ -144,7 +163,7 @@ final class HistorizedTimezone
     @Override
     public ZonalOffset getExtraOffset(UnixTime ut) {
 
-        ZonalTransition t = this.history.getStartTransition(ut);
+        ZonalTransition t = this.getStartTransition(ut);
 
         return (
             (t == null)
@@ -172,6 +191,93 @@ final class HistorizedTimezone
 
     }
 
+    @Override
+    public void getOffsets(
+        long[] posixTimes,
+        int[] offsets
+    ) {
+
+        Timezone.checkBulkLengths(posixTimes.length, offsets.length);
+
+        long low = Long.MAX_VALUE; // start of current transition interval (inclusive)
+        long high = Long.MIN_VALUE; // end of current transition interval (exclusive)
+        int offset = 0;
+
+        for (int i = 0; i < posixTimes.length; i++) {
+            long posix = posixTimes[i];
+
+            if ((posix < low) || (posix >= high)) {
+                UnixTime ut = SimpleUT.ofPosixTime(posix);
+                ZonalTransition start = this.getStartTransition(ut);
+                Optional<ZonalTransition> next = this.history.findNextTransition(ut);
+
+                if (start == null) {
+                    low = Long.MIN_VALUE;
+                    offset = this.history.getInitialOffset().getIntegralAmount();
+                } else {
+                    low = start.getPosixTime();
+                    offset = start.getTotalOffset();
+                }
+
+                high = (next.isPresent() ? next.get().getPosixTime() : Long.MAX_VALUE);
+            }
+
+            offsets[i] = offset;
+        }
+
+    }
+
+    @Override
+    public void resolveLocalTimes(
+        long[] localSeconds,
+        long[] posixTimes
+    ) {
+
+        Timezone.checkBulkLengths(localSeconds.length, posixTimes.length);
+
+        if (!(this.strategy instanceof TransitionResolver)) {
+            super.resolveLocalTimes(localSeconds, posixTimes); // user-defined strategy
+            return;
+        }
+
+        // local interval where the offset is unique (no gap, no overlap)
+        long low = Long.MAX_VALUE;
+        long high = Long.MIN_VALUE;
+        int offset = 0;
+
+        for (int i = 0; i < localSeconds.length; i++) {
+            long local = localSeconds[i];
+
+            if ((local >= low) && (local < high)) {
+                posixTimes[i] = local - offset;
+                continue;
+            }
+
+            long posix = this.strategy.resolve(SimpleLocal.dateOf(local), SimpleLocal.timeOf(local), this);
+            posixTimes[i] = posix;
+
+            UnixTime ut = SimpleUT.ofPosixTime(posix);
+            ZonalTransition start = this.getStartTransition(ut);
+            Optional<ZonalTransition> next = this.history.findNextTransition(ut);
+
+            if (start == null) {
+                offset = this.history.getInitialOffset().getIntegralAmount();
+                low = Long.MIN_VALUE;
+            } else {
+                offset = start.getTotalOffset();
+                low = start.getPosixTime() + Math.max(offset, start.getPreviousOffset());
+            }
+
+            if (next.isPresent()) {
+                ZonalTransition zt = next.get();
+                high = zt.getPosixTime() + Math.min(offset, zt.getTotalOffset());
+            } else {
+                high = Long.MAX_VALUE;
+            }
+        }
+
+    }
+
     @Override
     public boolean isInvalid(
         GregorianDate localDate,
@@ -186,7 +292,7 @@ final class HistorizedTimezone
     @Override
     public boolean isDaylightSaving(UnixTime ut) {
 
-        ZonalTransition start = this.history.getStartTransition(ut);
+        ZonalTransition start = this.getStartTransition(ut);
 
         if (start == null) {
             return false;
@@ -210,7 +316,7 @@ final class HistorizedTimezone
 
         // compare with previous transition
         UnixTime previousTime = SimpleUT.previousTime(start.getPosixTime(), 0);
-        ZonalTransition previousTransition = this.history.getStartTransition(previousTime);
+        ZonalTransition previousTransition = this.getStartTransition(previousTime);
 
         if (previousTransition == null) {
             return false;
@@ -294,7 +400,19 @@ final class HistorizedTimezone
             return this;
         }
 
-        return new HistorizedTimezone(this.id, this.history, strategy);
+        return new HistorizedTimezone(this.id, this.history, strategy, this.index);
+
+    }
+
+    private ZonalTransition getStartTransition(UnixTime ut) {
+
+        long posix = ut.getPosixTime();
+
+        if ((this.index != null) && this.index.covers(posix)) {
+            return this.index.getStartTransition(posix);
+        }
+
+        return this.history.getStartTransition(ut);
 
     }
 
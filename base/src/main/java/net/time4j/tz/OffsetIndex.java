@@ -0,0 +1,193 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2024 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (OffsetIndex.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.tz;
+
+import net.time4j.base.GregorianMath;
+import net.time4j.base.UnixTime;
+import net.time4j.engine.EpochDays;
+
+import java.util.List;
+
+
+/**
+ * <p>Vorberechneter Index f&uuml;r die Offset-Suche in einem Fenster von Kalenderjahren. </p>
+ *
+ * <p>Das Fenster wird in Bl&ouml;cke von {@code 2^21} Sekunden (etwa 24 Tage) unterteilt. Jeder
+ * Block kennt die Anzahl der &Uuml;berg&auml;nge vor seinem Beginn, so da&szlig; eine Suche nur
+ * noch die (h&ouml;chstens wenigen) &Uuml;berg&auml;nge innerhalb eines Blocks pr&uuml;fen mu&szlig;.
+ * Die Suche findet ohne Objekterzeugung statt. Au&szlig;erhalb des Fensters mu&szlig; der Aufrufer
+ * die zugrundeliegende {@code TransitionHistory} befragen. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+final class OffsetIndex {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int SHIFT = 21;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final long start; // inclusive
+    private final long end; // exclusive
+    private final long[] posixTimes; // transitions inside the window
+    private final ZonalTransition[] transitions; // index 0 = transition active at window start (maybe null)
+    private final ZonalOffset[] offsets; // total offsets parallel to transitions
+    private final int[] buckets; // count of transitions before each bucket start
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private OffsetIndex(
+        long start,
+        long end,
+        ZonalTransition initial,
+        ZonalOffset initialOffset,
+        List<ZonalTransition> list
+    ) {
+        super();
+
+        int n = list.size();
+
+        this.start = start;
+        this.end = end;
+        this.posixTimes = new long[n];
+        this.transitions = new ZonalTransition[n + 1];
+        this.offsets = new ZonalOffset[n + 1];
+
+        this.transitions[0] = initial;
+        this.offsets[0] = ((initial == null) ? initialOffset : ZonalOffset.ofTotalSeconds(initial.getTotalOffset()));
+
+        for (int i = 0; i < n; i++) {
+            ZonalTransition zt = list.get(i);
+            this.posixTimes[i] = zt.getPosixTime();
+            this.transitions[i + 1] = zt;
+            this.offsets[i + 1] = ZonalOffset.ofTotalSeconds(zt.getTotalOffset());
+        }
+
+        int count = (int) ((end - start - 1) >> SHIFT) + 1;
+        this.buckets = new int[count];
+
+        for (int b = 0, j = 0; b < count; b++) {
+            long bucketStart = start + (((long) b) << SHIFT);
+            while ((j < n) && (this.posixTimes[j] <= bucketStart)) {
+                j++;
+            }
+            this.buckets[b] = j;
+        }
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Baut einen Index f&uuml;r die angegebene Historie. </p>
+     *
+     * @param   history     transition history to be indexed
+     * @param   fromYear    first gregorian year of window (inclusive)
+     * @param   toYear      last gregorian year of window (inclusive)
+     * @return  new index or {@code null} if the history is empty
+     * @throws  NullPointerException if the history is missing
+     */
+    static OffsetIndex of(
+        TransitionHistory history,
+        int fromYear,
+        int toYear
+    ) {
+
+        if (history == null) {
+            throw new NullPointerException("Missing transition history.");
+        } else if (history.isEmpty()) {
+            return null;
+        }
+
+        long start = toPosixTime(fromYear);
+        long end = toPosixTime(toYear + 1);
+        UnixTime s = SimpleUT.ofPosixTime(start);
+
+        return new OffsetIndex(
+            start,
+            end,
+            history.getStartTransition(s),
+            history.getInitialOffset(),
+            history.getTransitions(s, SimpleUT.ofPosixTime(end)));
+
+    }
+
+    /**
+     * <p>Liegt die angegebene Zeit innerhalb des Fensters? </p>
+     *
+     * @param   posixTime   elapsed POSIX seconds
+     * @return  boolean
+     */
+    boolean covers(long posixTime) {
+
+        return ((posixTime >= this.start) && (posixTime < this.end));
+
+    }
+
+    /**
+     * <p>&Auml;quivalent zu {@code TransitionHistory.getStartTransition(ut)}. </p>
+     *
+     * @param   posixTime   elapsed POSIX seconds inside the window
+     * @return  start transition or {@code null}
+     */
+    ZonalTransition getStartTransition(long posixTime) {
+
+        return this.transitions[this.search(posixTime)];
+
+    }
+
+    /**
+     * <p>Liefert die zur angegebenen Zeit g&uuml;ltige Gesamtverschiebung. </p>
+     *
+     * @param   posixTime   elapsed POSIX seconds inside the window
+     * @return  total offset
+     */
+    ZonalOffset getOffset(long posixTime) {
+
+        return this.offsets[this.search(posixTime)];
+
+    }
+
+    // Anzahl der Übergänge bis einschließlich der angegebenen Zeit
+    private int search(long posixTime) {
+
+        long[] times = this.posixTimes;
+        int i = this.buckets[(int) ((posixTime - this.start) >> SHIFT)];
+
+        while ((i < times.length) && (times[i] <= posixTime)) {
+            i++;
+        }
+
+        return i;
+
+    }
+
+    private static long toPosixTime(int year) {
+
+        long mjd = GregorianMath.toMJD(year, 1, 1);
+        return EpochDays.UNIX.transform(mjd, EpochDays.MODIFIED_JULIAN_DATE) * 86400;
+
+    }
+
+}
@@ -0,0 +1,165 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2024 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (SimpleLocal.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.tz;
+
+import net.time4j.base.GregorianDate;
+import net.time4j.base.GregorianMath;
+import net.time4j.base.MathUtils;
+import net.time4j.base.WallTime;
+
+
+/**
+ * Simple implementation of a local date and a local wall time derived
+ * from local seconds since 1970-01-01T00:00.
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+class SimpleLocal {
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private SimpleLocal() {
+        // no instantiation
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    static GregorianDate dateOf(long localSeconds) {
+        long mjd = MathUtils.floorDivide(localSeconds, 86400) + 40587L;
+        return new Date(GregorianMath.toPackedDate(mjd));
+    }
+
+    static WallTime timeOf(long localSeconds) {
+        return new Time(MathUtils.floorModulo(localSeconds, 86400));
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static class Date
+        implements GregorianDate {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final long packed;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Date(long packed) {
+            super();
+
+            this.packed = packed;
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public int getYear() {
+            return GregorianMath.readYear(this.packed);
+        }
+
+        @Override
+        public int getMonth() {
+            return GregorianMath.readMonth(this.packed);
+        }
+
+        @Override
+        public int getDayOfMonth() {
+            return GregorianMath.readDayOfMonth(this.packed);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder(10);
+            int year = this.getYear();
+            if (year < 0) {
+                sb.append('-');
+                year = -year;
+            }
+            append(sb, year, 4).append('-');
+            append(sb, this.getMonth(), 2).append('-');
+            return append(sb, this.getDayOfMonth(), 2).toString();
+        }
+
+    }
+
+    private static class Time
+        implements WallTime {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final int secondOfDay;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Time(int secondOfDay) {
+            super();
+
+            this.secondOfDay = secondOfDay;
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public int getHour() {
+            return this.secondOfDay / 3600;
+        }
+
+        @Override
+        public int getMinute() {
+            return (this.secondOfDay / 60) % 60;
+        }
+
+        @Override
+        public int getSecond() {
+            return this.secondOfDay % 60;
+        }
+
+        @Override
+        public int getNanosecond() {
+            return 0;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder(8);
+            sb.append('T');
+            append(sb, this.getHour(), 2).append(':');
+            append(sb, this.getMinute(), 2).append(':');
+            return append(sb, this.getSecond(), 2).toString();
+        }
+
+    }
+
+    private static StringBuilder append(
+        StringBuilder sb,
+        int value,
+        int digits
+    ) {
+        String s = Integer.toString(value);
+        for (int i = s.length(); i < digits; i++) {
+            sb.append('0');
+        }
+        return sb.append(s);
+    }
+
+}
@@ -28,6 +28,7 @@ import net.time4j.base.WallTime;
 import java.io.IOException;
 import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
@@ -115,6 +116,32 @@ final class SingleOffsetTimezone
 
     }
 
+    @Override
+    public void getOffsets(
+        long[] posixTimes,
+        int[] offsets
+    ) {
+
+        Timezone.checkBulkLengths(posixTimes.length, offsets.length);
+        Arrays.fill(offsets, this.offset.getIntegralAmount());
+
+    }
+
+    @Override
+    public void resolveLocalTimes(
+        long[] localSeconds,
+        long[] posixTimes
+    ) {
+
+        Timezone.checkBulkLengths(localSeconds.length, posixTimes.length);
+        int shift = this.offset.getIntegralAmount();
+
+        for (int i = 0; i < localSeconds.length; i++) {
+            posixTimes[i] = localSeconds[i] - shift;
+        }
+
+    }
+
     @Override
     public boolean isInvalid(
         GregorianDate localDate,
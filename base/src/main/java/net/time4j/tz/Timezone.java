@@ -29,22 +29,23 @@ import net.time4j.tz.threeten.JdkZoneProviderSPI;
 
 import java.io.IOException;
 import java.io.Serializable;
-import java.lang.ref.ReferenceQueue;
-import java.lang.ref.SoftReference;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
 
 
 /**
@@ -176,7 +177,12 @@ public abstract class Timezone
     private static volatile ZonalKeys zonalKeys;
     private static volatile Timezone currentSystemTZ = null;
     private static volatile boolean cacheActive = true;
-    private static int softLimit = 11;
+    private static volatile boolean softCacheMode = Boolean.getBoolean("net.time4j.tz.cache.soft");
+    private static volatile int minimumCacheSize = 10;
+    private static volatile int maximumCacheSize = 1024;
+    private static volatile ZoneCache zoneCache = createZoneCache();
+    private static volatile boolean offsetIndexActive = false;
+    private static volatile int[] offsetIndexRange = {1970, 2100};
 
     private static final String NAME_JUT = "java.util.TimeZone";
     private static final String NAME_TZDB = "TZDB";
@@ -186,9 +192,6 @@ public abstract class Timezone
     private static final Map<String, TZID> ETCETERA;
     private static final ZoneModelProvider PLATFORM_PROVIDER;
     private static final ZoneModelProvider DEFAULT_PROVIDER;
-    private static final ConcurrentMap<String, NamedReference> CACHE;
-    private static final ReferenceQueue<Timezone> QUEUE;
-    private static final LinkedList<Timezone> LAST_USED;
     private static final ConcurrentMap<String, ZoneModelProvider> PROVIDERS;
 
     /**
@@ -199,10 +202,7 @@ public abstract class Timezone
     private static final Timezone SYSTEM_TZ_ORIGINAL;
 
     static {
-        CACHE = new ConcurrentHashMap<>();
         PROVIDERS = new ConcurrentHashMap<>();
-        QUEUE = new ReferenceQueue<>();
-        LAST_USED = new LinkedList<>(); // strong references
 
         List<Class<? extends TZID>> areas;
 
@@ -996,6 +996,96 @@ public abstract class Timezone
         WallTime localTime
     );
 
+    /**
+     * <p>Calculates the total offsets for an array of POSIX seconds in bulk. </p>
+     *
+     * <p>This method is equivalent to calling {@code getOffset(ut).getIntegralAmount()}
+     * for every element but avoids the creation of any temporary objects per element.
+     * Timezones with a transition history keep a cursor on the current transition
+     * interval so that ascending (or locally clustered) input only needs a new lookup
+     * when crossing a transition. </p>
+     *
+     * @param   posixTimes  elapsed seconds since UNIX epoch [1970-01-01T00:00:00Z]
+     * @param   offsets     output array for the total shifts in seconds
+     * @throws  IllegalArgumentException if both arrays have different lengths
+     * @see     #getOffset(UnixTime)
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Ermittelt die Gesamtverschiebungen f&uuml;r ein Array von POSIX-Sekunden im Block. </p>
+     *
+     * <p>Diese Methode ist &auml;quivalent zum Aufruf {@code getOffset(ut).getIntegralAmount()}
+     * f&uuml;r jedes Element, erzeugt aber keine tempor&auml;ren Objekte pro Element. Zeitzonen
+     * mit einer &Uuml;bergangshistorie merken sich das aktuelle &Uuml;bergangsintervall, so
+     * da&szlig; aufsteigend sortierte (oder lokal geh&auml;ufte) Eingaben nur dann neu gesucht
+     * werden m&uuml;ssen, wenn ein &Uuml;bergang &uuml;berschritten wird. </p>
+     *
+     * @param   posixTimes  elapsed seconds since UNIX epoch [1970-01-01T00:00:00Z]
+     * @param   offsets     output array for the total shifts in seconds
+     * @throws  IllegalArgumentException if both arrays have different lengths
+     * @see     #getOffset(UnixTime)
+     * @since   5.10
+     */
+    public void getOffsets(
+        long[] posixTimes,
+        int[] offsets
+    ) {
+
+        checkBulkLengths(posixTimes.length, offsets.length);
+
+        for (int i = 0; i < posixTimes.length; i++) {
+            offsets[i] = this.getOffset(SimpleUT.ofPosixTime(posixTimes[i])).getIntegralAmount();
+        }
+
+    }
+
+    /**
+     * <p>Converts an array of local timestamps in bulk to POSIX seconds using the
+     * {@link #getStrategy() transition strategy} of this timezone. </p>
+     *
+     * <p>The local timestamps are counted in seconds since the local epoch
+     * [1970-01-01T00:00:00] (without any offset). This method is equivalent to calling
+     * {@code getStrategy().resolve(localDate, localTime, this)} for every element but
+     * avoids the creation of temporary objects outside of gaps and overlaps. </p>
+     *
+     * @param   localSeconds    elapsed local seconds since [1970-01-01T00:00:00]
+     * @param   posixTimes      output array for the elapsed seconds since UNIX epoch
+     * @throws  IllegalArgumentException if both arrays have different lengths or
+     *          if the strategy does not accept a local timestamp inside a gap
+     * @see     TransitionStrategy#resolve(GregorianDate, WallTime, Timezone)
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Konvertiert ein Array von lokalen Zeitstempeln im Block zu POSIX-Sekunden, indem
+     * die {@link #getStrategy() &Uuml;bergangsstrategie} dieser Zeitzone angewandt wird. </p>
+     *
+     * <p>Die lokalen Zeitstempel werden in Sekunden seit der lokalen Epoche [1970-01-01T00:00:00]
+     * (ohne Verschiebung) gez&auml;hlt. Diese Methode ist &auml;quivalent zum Aufruf
+     * {@code getStrategy().resolve(localDate, localTime, this)} f&uuml;r jedes Element, erzeugt
+     * aber au&szlig;erhalb von L&uuml;cken und &Uuml;berlappungen keine tempor&auml;ren Objekte. </p>
+     *
+     * @param   localSeconds    elapsed local seconds since [1970-01-01T00:00:00]
+     * @param   posixTimes      output array for the elapsed seconds since UNIX epoch
+     * @throws  IllegalArgumentException if both arrays have different lengths or
+     *          if the strategy does not accept a local timestamp inside a gap
+     * @see     TransitionStrategy#resolve(GregorianDate, WallTime, Timezone)
+     * @since   5.10
+     */
+    public void resolveLocalTimes(
+        long[] localSeconds,
+        long[] posixTimes
+    ) {
+
+        checkBulkLengths(localSeconds.length, posixTimes.length);
+        TransitionStrategy strategy = this.getStrategy();
+
+        for (int i = 0; i < localSeconds.length; i++) {
+            long local = localSeconds[i];
+            posixTimes[i] = strategy.resolve(SimpleLocal.dateOf(local), SimpleLocal.timeOf(local), this);
+        }
+
+    }
+
     /**
      * <p>Evaluates if given local timestamp is invalid due to a gap
      * on the local timeline. </p>
@@ -1445,6 +1535,25 @@ public abstract class Timezone
 
     }
 
+    /**
+     * <p>Checks the lengths of input and output arrays of bulk operations. </p>
+     *
+     * @param   input   length of input array
+     * @param   output  length of output array
+     * @throws  IllegalArgumentException if the lengths are different
+     */
+    static void checkBulkLengths(
+        int input,
+        int output
+    ) {
+
+        if (input != output) {
+            throw new IllegalArgumentException(
+                "Arrays with different lengths: " + input + " != " + output);
+        }
+
+    }
+
     private static Timezone getDefaultTZ() {
 
         String zoneID = java.util.TimeZone.getDefault().getID();
@@ -1479,15 +1588,8 @@ public abstract class Timezone
     ) {
 
         // Suche im Cache
-        Timezone tz = null;
-        NamedReference sref = CACHE.get(zoneID);
-
-        if (sref != null) {
-            tz = sref.get();
-            if (tz == null) {
-                CACHE.remove(sref.tzid);
-            }
-        }
+        ZoneCache cache = zoneCache;
+        Timezone tz = cache.get(zoneID);
 
         if (tz != null) {
             return tz;
@@ -1597,27 +1699,7 @@ public abstract class Timezone
 
         // bei Bedarf im Cache speichern
         if (cacheActive) {
-            NamedReference oldRef =
-                CACHE.putIfAbsent(
-                    zoneID,
-                    new NamedReference(tz, QUEUE)
-                );
-
-            if (oldRef == null) {
-                synchronized (Timezone.class) {
-                    LAST_USED.addFirst(tz);
-
-                    while (LAST_USED.size() >= softLimit) {
-                        LAST_USED.removeLast();
-                    }
-                }
-            } else {
-                Timezone oldZone = oldRef.get();
-
-                if (oldZone != null) {
-                    tz = oldZone;
-                }
-            }
+            tz = cache.put(zoneID, tz);
         }
 
         return tz;
@@ -1757,6 +1839,47 @@ public abstract class Timezone
 
     }
 
+    /**
+     * <p>Creates an optional offset index for given history if configured. </p>
+     *
+     * @param   history     transition history (maybe {@code null})
+     * @return  OffsetIndex or {@code null}
+     */
+    static OffsetIndex createOffsetIndex(TransitionHistory history) {
+
+        if (!offsetIndexActive || (history == null)) {
+            return null;
+        }
+
+        int[] range = offsetIndexRange;
+        return OffsetIndex.of(history, range[0], range[1]);
+
+    }
+
+    private static void checkYearRange(
+        int fromYear,
+        int toYear
+    ) {
+
+        if ((fromYear < 1) || (toYear > 9999)) {
+            throw new IllegalArgumentException(
+                "Years out of range: " + fromYear + "-" + toYear);
+        } else if (fromYear > toYear) {
+            throw new IllegalArgumentException(
+                "First year after last year: " + fromYear + "-" + toYear);
+        }
+
+    }
+
+    private static ZoneCache createZoneCache() {
+
+        return (
+            softCacheMode
+            ? ZoneCache.soft(minimumCacheSize)
+            : ZoneCache.strong(maximumCacheSize));
+
+    }
+
     private static ZoneModelProvider compareTZDB(
         ZoneModelProvider provider,
         ZoneModelProvider zp
@@ -1822,13 +1945,8 @@ public abstract class Timezone
          */
         public static void refresh() {
 
-            synchronized (Timezone.class) {
-                while (QUEUE.poll() != null) {}
-                LAST_USED.clear();
-            }
-
             zonalKeys = new ZonalKeys();
-            CACHE.clear();
+            zoneCache = createZoneCache();
 
             if (ALLOW_SYSTEM_TZ_OVERRIDE) {
                 currentSystemTZ = Timezone.getDefaultTZ();
@@ -1859,7 +1977,7 @@ public abstract class Timezone
             cacheActive = active;
 
             if (!active) {
-                CACHE.clear();
+                zoneCache = createZoneCache();
             }
 
         }
@@ -1867,14 +1985,24 @@ public abstract class Timezone
         /**
          * <p>Updates the size of the internal timezone cache. </p>
          *
+         * <p>This setting is only relevant in soft reference mode where it determines
+         * how many recently loaded timezones are strongly held (default: {@code 10}).
+         * The internal cache will be cleared if the soft reference mode is active. </p>
+         *
          * @param   minimumCacheSize    new minimum size of cache
          * @throws  IllegalArgumentException if the argument is negative
+         * @see     #setSoftReferenceMode(boolean)
          */
         /*[deutsch]
          * <p>Konfiguriert die Gr&ouml;&szlig;e des internen Cache neu. </p>
          *
+         * <p>Diese Einstellung ist nur im Modus weicher Referenzen relevant, wo sie festlegt,
+         * wie viele zuletzt geladene Zeitzonen fest gehalten werden (Standard: {@code 10}).
+         * Der interne Cache wird geleert, wenn der Modus weicher Referenzen aktiv ist. </p>
+         *
          * @param   minimumCacheSize    new minimum size of cache
          * @throws  IllegalArgumentException if the argument is negative
+         * @see     #setSoftReferenceMode(boolean)
          */
         public static void setMinimumCacheSize(int minimumCacheSize) {
 
@@ -1883,40 +2011,469 @@ public abstract class Timezone
                     "Negative timezone cache size: " + minimumCacheSize);
             }
 
-            NamedReference ref;
+            Timezone.minimumCacheSize = minimumCacheSize;
 
-            while ((ref = (NamedReference) QUEUE.poll()) != null) {
-                CACHE.remove(ref.tzid);
+            if (softCacheMode) {
+                zoneCache = createZoneCache();
             }
 
-            synchronized (Timezone.class) {
-                softLimit = minimumCacheSize + 1;
-                int n = LAST_USED.size() - minimumCacheSize;
+        }
 
-                for (int i = 0; i < n; i++) {
-                    LAST_USED.removeLast();
+        /**
+         * <p>Updates the maximum count of strongly referenced timezones in the internal cache. </p>
+         *
+         * <p>If the limit is exceeded then timezones which have not been queried recently will
+         * be evicted first. The default limit is {@code 1024} which is enough for all timezone
+         * identifiers including aliases of the standard repository. This setting is not relevant
+         * in soft reference mode. The internal cache will be cleared if the soft reference mode
+         * is not active. </p>
+         *
+         * @param   maximumCacheSize    new maximum size of cache
+         * @throws  IllegalArgumentException if the argument is not positive
+         * @see     #setSoftReferenceMode(boolean)
+         * @since   5.10
+         */
+        /*[deutsch]
+         * <p>Legt die maximale Anzahl der fest referenzierten Zeitzonen im internen Cache fest. </p>
+         *
+         * <p>Wird die Grenze &uuml;berschritten, werden zuerst die Zeitzonen verdr&auml;ngt, die
+         * in letzter Zeit nicht abgefragt wurden. Die Standardgrenze ist {@code 1024}, was f&uuml;r
+         * alle Zeitzonenkennungen einschlie&szlig;lich der Aliasnamen der Standarddatenbank reicht.
+         * Im Modus weicher Referenzen ist diese Einstellung nicht relevant. Der interne Cache wird
+         * geleert, wenn der Modus weicher Referenzen nicht aktiv ist. </p>
+         *
+         * @param   maximumCacheSize    new maximum size of cache
+         * @throws  IllegalArgumentException if the argument is not positive
+         * @see     #setSoftReferenceMode(boolean)
+         * @since   5.10
+         */
+        public static void setMaximumCacheSize(int maximumCacheSize) {
+
+            if (maximumCacheSize < 1) {
+                throw new IllegalArgumentException(
+                    "Timezone cache size must be positive: " + maximumCacheSize);
+            }
+
+            Timezone.maximumCacheSize = maximumCacheSize;
+
+            if (!softCacheMode) {
+                zoneCache = createZoneCache();
+            }
+
+        }
+
+        /**
+         * <p>Switches the internal cache between strong and soft references. </p>
+         *
+         * <p>By default, the cache holds strong references to at most
+         * {@link #setMaximumCacheSize(int) maximum count} of timezones. Memory-constrained
+         * applications can choose soft references instead so that the garbage collector
+         * might reclaim timezones except the {@link #setMinimumCacheSize(int) last loaded ones}.
+         * The soft reference mode can also be activated at startup by setting the system
+         * property &quot;net.time4j.tz.cache.soft&quot; to {@code true}. In both modes, the
+         * cache is lock-free. Switching the mode clears the cache. </p>
+         *
+         * @param   soft    {@code true} if the cache shall use soft references else {@code false}
+         * @since   5.10
+         */
+        /*[deutsch]
+         * <p>Schaltet den internen Cache zwischen festen und weichen Referenzen um. </p>
+         *
+         * <p>Standardm&auml;&szlig;ig h&auml;lt der Cache feste Referenzen auf h&ouml;chstens
+         * {@link #setMaximumCacheSize(int) die maximale Anzahl} von Zeitzonen. Anwendungen mit
+         * wenig Speicher k&ouml;nnen stattdessen weiche Referenzen w&auml;hlen, so da&szlig; der
+         * Garbage-Collector Zeitzonen au&szlig;er den {@link #setMinimumCacheSize(int) zuletzt
+         * geladenen} freigeben kann. Der Modus weicher Referenzen kann auch beim Start aktiviert
+         * werden, indem die System-Property &quot;net.time4j.tz.cache.soft&quot; auf {@code true}
+         * gesetzt wird. In beiden Modi arbeitet der Cache sperrfrei. Ein Umschalten des Modus
+         * leert den Cache. </p>
+         *
+         * @param   soft    {@code true} if the cache shall use soft references else {@code false}
+         * @since   5.10
+         */
+        public static void setSoftReferenceMode(boolean soft) {
+
+            softCacheMode = soft;
+            zoneCache = createZoneCache();
+
+        }
+
+        /**
+         * <p>Obtains a snapshot of the statistics of the internal cache. </p>
+         *
+         * <p>The counters start with zero after every refresh or reconfiguration of the cache. </p>
+         *
+         * @return  cache statistics
+         * @since   5.10
+         */
+        /*[deutsch]
+         * <p>Liefert eine Momentaufnahme der Statistik des internen Cache. </p>
+         *
+         * <p>Die Z&auml;hler beginnen nach jeder Aktualisierung oder Neukonfiguration des Cache
+         * wieder mit null. </p>
+         *
+         * @return  cache statistics
+         * @since   5.10
+         */
+        public static Statistics getStatistics() {
+
+            ZoneCache cache = zoneCache;
+
+            return new Statistics(
+                cache.getHitCount(),
+                cache.getMissCount(),
+                cache.getEvictionCount(),
+                cache.size(),
+                cache.isSoft());
+
+        }
+
+        /**
+         * <p>Loads given timezones into the internal cache and precomputes their
+         * transitions for given range of gregorian years. </p>
+         *
+         * <p>Applications can call this method during startup in order to avoid latency
+         * spikes when a timezone is used for the first time. Equivalent to
+         * {@code preload(zones, fromYear, toYear, Runnable::run)}. </p>
+         *
+         * @param   zones       identifiers of timezones to be loaded
+         * @param   fromYear    first gregorian year (inclusive)
+         * @param   toYear      last gregorian year (inclusive)
+         * @throws  IllegalArgumentException if any timezone cannot be loaded or if the
+         *          years are out of range {@code 1-9999} or if the first year is after the last year
+         * @see     TransitionHistory#precompute(int, int)
+         * @since   5.10
+         */
+        /*[deutsch]
+         * <p>L&auml;dt die angegebenen Zeitzonen in den internen Cache und berechnet ihre
+         * &Uuml;berg&auml;nge f&uuml;r den angegebenen Bereich gregorianischer Jahre im voraus. </p>
+         *
+         * <p>Anwendungen k&ouml;nnen diese Methode beim Start aufrufen, um Latenzspitzen
+         * bei der ersten Verwendung einer Zeitzone zu vermeiden. &Auml;quivalent zu
+         * {@code preload(zones, fromYear, toYear, Runnable::run)}. </p>
+         *
+         * @param   zones       identifiers of timezones to be loaded
+         * @param   fromYear    first gregorian year (inclusive)
+         * @param   toYear      last gregorian year (inclusive)
+         * @throws  IllegalArgumentException if any timezone cannot be loaded or if the
+         *          years are out of range {@code 1-9999} or if the first year is after the last year
+         * @see     TransitionHistory#precompute(int, int)
+         * @since   5.10
+         */
+        public static void preload(
+            Collection<? extends TZID> zones,
+            int fromYear,
+            int toYear
+        ) {
+
+            preload(zones, fromYear, toYear, Runnable::run);
+
+        }
+
+        /**
+         * <p>Loads given timezones into the internal cache and precomputes their
+         * transitions for given range of gregorian years using given executor. </p>
+         *
+         * <p>Every timezone is loaded in a separate task so a parallel executor can
+         * reduce the startup time. This method waits until all tasks are completed.
+         * If the cache holds strong references then its maximum size should not be
+         * smaller than the count of timezones to be loaded. </p>
+         *
+         * @param   zones       identifiers of timezones to be loaded
+         * @param   fromYear    first gregorian year (inclusive)
+         * @param   toYear      last gregorian year (inclusive)
+         * @param   executor    executor for the loading tasks
+         * @throws  IllegalArgumentException if any timezone cannot be loaded or if the
+         *          years are out of range {@code 1-9999} or if the first year is after the last year
+         * @see     TransitionHistory#precompute(int, int)
+         * @see     #setMaximumCacheSize(int)
+         * @since   5.10
+         */
+        /*[deutsch]
+         * <p>L&auml;dt die angegebenen Zeitzonen in den internen Cache und berechnet ihre
+         * &Uuml;berg&auml;nge f&uuml;r den angegebenen Bereich gregorianischer Jahre mit Hilfe
+         * des angegebenen {@code Executor} im voraus. </p>
+         *
+         * <p>Jede Zeitzone wird in einer eigenen Aufgabe geladen, so da&szlig; ein paralleler
+         * {@code Executor} die Startzeit verk&uuml;rzen kann. Diese Methode wartet, bis alle
+         * Aufgaben erledigt sind. Wenn der Cache feste Referenzen h&auml;lt, sollte seine
+         * maximale Gr&ouml;&szlig;e nicht kleiner als die Anzahl der zu ladenden Zeitzonen sein. </p>
+         *
+         * @param   zones       identifiers of timezones to be loaded
+         * @param   fromYear    first gregorian year (inclusive)
+         * @param   toYear      last gregorian year (inclusive)
+         * @param   executor    executor for the loading tasks
+         * @throws  IllegalArgumentException if any timezone cannot be loaded or if the
+         *          years are out of range {@code 1-9999} or if the first year is after the last year
+         * @see     TransitionHistory#precompute(int, int)
+         * @see     #setMaximumCacheSize(int)
+         * @since   5.10
+         */
+        public static void preload(
+            Collection<? extends TZID> zones,
+            int fromYear,
+            int toYear,
+            Executor executor
+        ) {
+
+            checkYearRange(fromYear, toYear);
+            List<CompletableFuture<Void>> tasks = new ArrayList<>(zones.size());
+
+            for (TZID tzid : zones) {
+                tasks.add(CompletableFuture.runAsync(() -> warmUp(tzid, fromYear, toYear), executor));
+            }
+
+            try {
+                CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[tasks.size()])).join();
+            } catch (CompletionException ex) {
+                Throwable cause = ex.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                } else if (cause instanceof Error) {
+                    throw (Error) cause;
                 }
+                throw ex;
             }
 
         }
 
-    }
+        /**
+         * <p>Activates or deactivates a precomputed offset index for all timezones
+         * which will be loaded afterwards. </p>
+         *
+         * <p>The offset index is inactive by default. If active then every timezone with
+         * a transition history will precompute the offsets for the window of gregorian
+         * years set by {@link #setOffsetIndexRange(int, int)} (default: 1970-2100). Queries
+         * like {@code getOffset(UnixTime)} for instants inside this window will then be
+         * answered by a lookup in constant time without any object creation. Instants
+         * outside of the window are still evaluated by the transition history. The price
+         * is some extra memory per timezone (about 10 KB for the default window). </p>
+         *
+         * <p>The internal cache will be refreshed in order to apply the new setting to all
+         * timezones loaded by {@code Timezone.of(...)}. </p>
+         *
+         * @param   active  {@code true} if the offset index shall be active else {@code false}
+         * @see     #setOffsetIndexRange(int, int)
+         * @since   5.10
+         */
+        /*[deutsch]
+         * <p>Aktiviert oder deaktiviert einen vorberechneten Offset-Index f&uuml;r alle
+         * danach geladenen Zeitzonen. </p>
+         *
+         * <p>Standardm&auml;&szlig;ig ist der Offset-Index inaktiv. Wenn aktiv, berechnet jede
+         * Zeitzone mit einer &Uuml;bergangshistorie die Verschiebungen f&uuml;r das mit
+         * {@link #setOffsetIndexRange(int, int)} festgelegte Fenster gregorianischer Jahre
+         * (Standard: 1970-2100) im voraus. Abfragen wie {@code getOffset(UnixTime)} f&uuml;r
+         * Zeitpunkte innerhalb dieses Fensters werden dann in konstanter Zeit ohne
+         * Objekterzeugung beantwortet. Zeitpunkte au&szlig;erhalb des Fensters werden
+         * weiterhin von der &Uuml;bergangshistorie ausgewertet. Der Preis ist etwas mehr
+         * Speicher pro Zeitzone (etwa 10 KB f&uuml;r das Standardfenster). </p>
+         *
+         * <p>Der interne Cache wird aktualisiert, damit die neue Einstellung f&uuml;r alle
+         * mit {@code Timezone.of(...)} geladenen Zeitzonen gilt. </p>
+         *
+         * @param   active  {@code true} if the offset index shall be active else {@code false}
+         * @see     #setOffsetIndexRange(int, int)
+         * @since   5.10
+         */
+        public static void setOffsetIndexActive(boolean active) {
 
-    private static class NamedReference
-        extends SoftReference<Timezone> {
+            offsetIndexActive = active;
+            refresh();
 
-        //~ Instanzvariablen ----------------------------------------------
+        }
+
+        /**
+         * <p>Determines the window of gregorian years covered by the offset index. </p>
+         *
+         * <p>The internal cache will be refreshed if the offset index is active. </p>
+         *
+         * @param   fromYear    first gregorian year of window (inclusive)
+         * @param   toYear      last gregorian year of window (inclusive)
+         * @throws  IllegalArgumentException if the years are out of range {@code 1-9999}
+         *          or if the first year is after the last year
+         * @see     #setOffsetIndexActive(boolean)
+         * @since   5.10
+         */
+        /*[deutsch]
+         * <p>Legt das Fenster gregorianischer Jahre fest, das der Offset-Index abdeckt. </p>
+         *
+         * <p>Der interne Cache wird aktualisiert, wenn der Offset-Index aktiv ist. </p>
+         *
+         * @param   fromYear    first gregorian year of window (inclusive)
+         * @param   toYear      last gregorian year of window (inclusive)
+         * @throws  IllegalArgumentException if the years are out of range {@code 1-9999}
+         *          or if the first year is after the last year
+         * @see     #setOffsetIndexActive(boolean)
+         * @since   5.10
+         */
+        public static void setOffsetIndexRange(
+            int fromYear,
+            int toYear
+        ) {
 
-        private final String tzid;
+            checkYearRange(fromYear, toYear);
+            offsetIndexRange = new int[] {fromYear, toYear};
 
-        //~ Konstruktoren -------------------------------------------------
+            if (offsetIndexActive) {
+                refresh();
+            }
 
-        NamedReference(
-            Timezone tz,
-            ReferenceQueue<Timezone> queue
+        }
+
+        private static void warmUp(
+            TZID tzid,
+            int fromYear,
+            int toYear
         ) {
-            super(tz, queue);
-            this.tzid = tz.getID().canonical();
+
+            TransitionHistory history = Timezone.of(tzid).getHistory();
+
+            if (history != null) {
+                history.precompute(fromYear, toYear);
+            }
+
+        }
+
+        //~ Innere Klassen ------------------------------------------------
+
+        /**
+         * <p>Immutable snapshot of the statistics of the internal timezone cache. </p>
+         *
+         * @see     #getStatistics()
+         * @since   5.10
+         */
+        /*[deutsch]
+         * <p>Unver&auml;nderliche Momentaufnahme der Statistik des internen Zeitzonen-Cache. </p>
+         *
+         * @see     #getStatistics()
+         * @since   5.10
+         */
+        public static final class Statistics {
+
+            //~ Instanzvariablen ------------------------------------------
+
+            private final long hitCount;
+            private final long missCount;
+            private final long evictionCount;
+            private final int size;
+            private final boolean soft;
+
+            //~ Konstruktoren ---------------------------------------------
+
+            private Statistics(
+                long hitCount,
+                long missCount,
+                long evictionCount,
+                int size,
+                boolean soft
+            ) {
+                super();
+
+                this.hitCount = hitCount;
+                this.missCount = missCount;
+                this.evictionCount = evictionCount;
+                this.size = size;
+                this.soft = soft;
+
+            }
+
+            //~ Methoden --------------------------------------------------
+
+            /**
+             * <p>Yields the count of cache queries which found a timezone. </p>
+             *
+             * @return  long
+             */
+            /*[deutsch]
+             * <p>Liefert die Anzahl der Cache-Abfragen, die eine Zeitzone gefunden haben. </p>
+             *
+             * @return  long
+             */
+            public long getHitCount() {
+
+                return this.hitCount;
+
+            }
+
+            /**
+             * <p>Yields the count of cache queries which had to load a timezone. </p>
+             *
+             * @return  long
+             */
+            /*[deutsch]
+             * <p>Liefert die Anzahl der Cache-Abfragen, die eine Zeitzone laden mu&szlig;ten. </p>
+             *
+             * @return  long
+             */
+            public long getMissCount() {
+
+                return this.missCount;
+
+            }
+
+            /**
+             * <p>Yields the count of timezones which were evicted due to the size limit
+             * or reclaimed by the garbage collector. </p>
+             *
+             * @return  long
+             */
+            /*[deutsch]
+             * <p>Liefert die Anzahl der Zeitzonen, die wegen der Gr&ouml;&szlig;engrenze
+             * verdr&auml;ngt oder vom Garbage-Collector freigegeben wurden. </p>
+             *
+             * @return  long
+             */
+            public long getEvictionCount() {
+
+                return this.evictionCount;
+
+            }
+
+            /**
+             * <p>Yields the current count of cached timezones. </p>
+             *
+             * @return  int
+             */
+            /*[deutsch]
+             * <p>Liefert die aktuelle Anzahl der gepufferten Zeitzonen. </p>
+             *
+             * @return  int
+             */
+            public int getSize() {
+
+                return this.size;
+
+            }
+
+            /**
+             * <p>Was the cache in soft reference mode? </p>
+             *
+             * @return  boolean
+             * @see     #setSoftReferenceMode(boolean)
+             */
+            /*[deutsch]
+             * <p>War der Cache im Modus weicher Referenzen? </p>
+             *
+             * @return  boolean
+             * @see     #setSoftReferenceMode(boolean)
+             */
+            public boolean isSoftReferenceMode() {
+
+                return this.soft;
+
+            }
+
+            @Override
+            public String toString() {
+
+                return "Timezone.Cache.Statistics[hits=" + this.hitCount
+                    + ",misses=" + this.missCount
+                    + ",evictions=" + this.evictionCount
+                    + ",size=" + this.size
+                    + ",soft=" + this.soft + "]";
+
+            }
 
         }
 
@@ -391,4 +391,47 @@ public interface TransitionHistory {
         return this.findStartTransition(SimpleUT.previousTime(ut));
     }
 
+    /**
+     * <p>Precomputes internal caches for given range of gregorian years if supported. </p>
+     *
+     * <p>Rule-based histories calculate the transitions of future years on demand and keep
+     * them in a bounded cache. Calling this method fills a dense table for the given range
+     * once so that later queries inside the range neither compute nor evict anything.
+     * Repeated calls extend the precomputed range. The default implementation only
+     * validates the arguments. </p>
+     *
+     * @param   fromYear    first gregorian year (inclusive)
+     * @param   toYear      last gregorian year (inclusive)
+     * @throws  IllegalArgumentException if the years are out of range {@code 1-9999}
+     *          or if the first year is after the last year
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Berechnet interne Puffer f&uuml;r den angegebenen Bereich gregorianischer Jahre
+     * im voraus, wenn unterst&uuml;tzt. </p>
+     *
+     * <p>Regelbasierte Historien berechnen die &Uuml;berg&auml;nge zuk&uuml;nftiger Jahre
+     * bei Bedarf und halten sie in einem begrenzten Cache. Diese Methode f&uuml;llt einmalig
+     * eine dichte Tabelle f&uuml;r den angegebenen Bereich, so da&szlig; sp&auml;tere Abfragen
+     * innerhalb des Bereichs weder rechnen noch verdr&auml;ngen m&uuml;ssen. Wiederholte
+     * Aufrufe erweitern den vorberechneten Bereich. Die Standardimplementierung
+     * pr&uuml;ft nur die Argumente. </p>
+     *
+     * @param   fromYear    first gregorian year (inclusive)
+     * @param   toYear      last gregorian year (inclusive)
+     * @throws  IllegalArgumentException if the years are out of range {@code 1-9999}
+     *          or if the first year is after the last year
+     * @since   5.10
+     */
+    default void precompute(
+        int fromYear,
+        int toYear
+    ) {
+        if ((fromYear < 1) || (toYear > 9999)) {
+            throw new IllegalArgumentException("Years out of range: " + fromYear + "-" + toYear);
+        } else if (fromYear > toYear) {
+            throw new IllegalArgumentException("First year after last year: " + fromYear + "-" + toYear);
+        }
+    }
+
 }
@@ -0,0 +1,364 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2024 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (ZoneCache.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.tz;
+
+import net.time4j.format.internal.ClockCache;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * <p>Sperrfreier Zeitzonen-Cache mit Statistik. </p>
+ *
+ * <p>Im Standardmodus werden die Zeitzonen stark referenziert und die Anzahl der Eintr&auml;ge
+ * begrenzt. Bei &Uuml;berlauf wird nach dem <i>second-chance</i>-Verfahren (CLOCK) des gemeinsamen
+ * {@code ClockCache} verdr&auml;ngt, das sich dem LRU-Verhalten ann&auml;hert, ohne bei jedem Treffer
+ * schreiben zu m&uuml;ssen. Im
+ * Soft-Modus werden die Zeitzonen nur weich referenziert, und ein Ringpuffer h&auml;lt die zuletzt
+ * geladenen Zeitzonen fest. Keine Operation ben&ouml;tigt einen Monitor. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+abstract class ZoneCache {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Erzeugt einen stark referenzierenden Cache. </p>
+     *
+     * @param   maximumSize     maximum count of cached zones (positive)
+     * @return  new empty cache
+     */
+    static ZoneCache strong(int maximumSize) {
+
+        return new StrongCache(maximumSize);
+
+    }
+
+    /**
+     * <p>Erzeugt einen weich referenzierenden Cache. </p>
+     *
+     * @param   pinnedSize      count of recently loaded zones which are strongly held (not negative)
+     * @return  new empty cache
+     */
+    static ZoneCache soft(int pinnedSize) {
+
+        return new SoftCache(pinnedSize);
+
+    }
+
+    /**
+     * <p>Sucht eine Zeitzone im Cache. </p>
+     *
+     * @param   key     zone identifier
+     * @return  cached zone or {@code null} if not found
+     */
+    final Timezone get(String key) {
+
+        Timezone tz = this.lookup(key);
+
+        if (tz == null) {
+            this.misses.increment();
+        } else {
+            this.hits.increment();
+        }
+
+        return tz;
+
+    }
+
+    /**
+     * <p>Speichert eine Zeitzone, falls noch nicht vorhanden. </p>
+     *
+     * @param   key     zone identifier
+     * @param   tz      loaded zone
+     * @return  zone which is finally cached under given key (maybe concurrently stored)
+     */
+    abstract Timezone put(
+        String key,
+        Timezone tz
+    );
+
+    /**
+     * <p>Liefert die aktuelle Anzahl der Eintr&auml;ge. </p>
+     *
+     * @return  int
+     */
+    abstract int size();
+
+    /**
+     * <p>Ist dieser Cache weich referenzierend? </p>
+     *
+     * @return  boolean
+     */
+    abstract boolean isSoft();
+
+    /**
+     * <p>Anzahl der Treffer. </p>
+     *
+     * @return  long
+     */
+    long getHitCount() {
+
+        return this.hits.sum();
+
+    }
+
+    /**
+     * <p>Anzahl der Fehlversuche. </p>
+     *
+     * @return  long
+     */
+    long getMissCount() {
+
+        return this.misses.sum();
+
+    }
+
+    /**
+     * <p>Anzahl der verdr&auml;ngten oder vom Garbage-Collector entfernten Eintr&auml;ge. </p>
+     *
+     * @return  long
+     */
+    long getEvictionCount() {
+
+        return this.evictions.sum();
+
+    }
+
+    abstract Timezone lookup(String key);
+
+    final void evicted() {
+
+        this.evictions.increment();
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static final class StrongCache
+        extends ZoneCache {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final ClockCache<String, Timezone> cache;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        StrongCache(int maximumSize) {
+            super();
+
+            this.cache = new ClockCache<>(maximumSize);
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        Timezone lookup(String key) {
+
+            return this.cache.get(key);
+
+        }
+
+        @Override
+        Timezone put(
+            String key,
+            Timezone tz
+        ) {
+
+            return this.cache.put(key, tz);
+
+        }
+
+        @Override
+        int size() {
+
+            return this.cache.size();
+
+        }
+
+        @Override
+        boolean isSoft() {
+
+            return false;
+
+        }
+
+        @Override
+        long getEvictionCount() {
+
+            return this.cache.getEvictionCount();
+
+        }
+
+    }
+
+    private static final class SoftCache
+        extends ZoneCache {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final ConcurrentMap<String, NamedReference> map;
+        private final ReferenceQueue<Timezone> queue;
+        private final AtomicReferenceArray<Timezone> pinned; // strong references
+        private final AtomicInteger cursor;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        SoftCache(int pinnedSize) {
+            super();
+
+            this.map = new ConcurrentHashMap<>();
+            this.queue = new ReferenceQueue<>();
+            this.pinned = new AtomicReferenceArray<>(pinnedSize);
+            this.cursor = new AtomicInteger();
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        Timezone lookup(String key) {
+
+            NamedReference ref = this.map.get(key);
+
+            if (ref == null) {
+                return null;
+            }
+
+            Timezone tz = ref.get();
+
+            if ((tz == null) && this.map.remove(key, ref)) {
+                this.evicted();
+            }
+
+            return tz;
+
+        }
+
+        @Override
+        Timezone put(
+            String key,
+            Timezone tz
+        ) {
+
+            this.expunge();
+
+            NamedReference ref = new NamedReference(tz, this.queue, key);
+
+            while (true) {
+                NamedReference old = this.map.putIfAbsent(key, ref);
+
+                if (old == null) {
+                    break;
+                }
+
+                Timezone oldZone = old.get();
+
+                if (oldZone != null) {
+                    return oldZone;
+                } else if (this.map.replace(key, old, ref)) {
+                    this.evicted();
+                    break;
+                }
+            }
+
+            int n = this.pinned.length();
+
+            if (n > 0) {
+                int slot = Math.floorMod(this.cursor.getAndIncrement(), n);
+                this.pinned.set(slot, tz);
+            }
+
+            return tz;
+
+        }
+
+        @Override
+        int size() {
+
+            this.expunge();
+            return this.map.size();
+
+        }
+
+        @Override
+        boolean isSoft() {
+
+            return true;
+
+        }
+
+        private void expunge() {
+
+            Reference<? extends Timezone> polled;
+
+            while ((polled = this.queue.poll()) != null) {
+                NamedReference ref = (NamedReference) polled;
+
+                if (this.map.remove(ref.key, ref)) {
+                    this.evicted();
+                }
+            }
+
+        }
+
+    }
+
+    private static final class NamedReference
+        extends SoftReference<Timezone> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final String key;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        NamedReference(
+            Timezone tz,
+            ReferenceQueue<Timezone> queue,
+            String key
+        ) {
+            super(tz, queue);
+
+            this.key = key;
+
+        }
+
+    }
+
+}
@@ -29,10 +29,10 @@ import net.time4j.scale.TimeScale;
 import net.time4j.tz.ZonalOffset;
 import net.time4j.tz.ZonalTransition;
 
+import java.io.DataOutput;
 import java.io.IOException;
 import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
-import java.io.ObjectOutput;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -390,7 +390,7 @@ final class ArrayTransitionModel
      *
      * @param   out     serialization stream
      */
-    void writeTransitions(ObjectOutput out) throws IOException {
+    void writeTransitions(DataOutput out) throws IOException {
 
         this.writeTransitions(this.transitions.length, out);
 
@@ -404,7 +404,7 @@ final class ArrayTransitionModel
      */
     void writeTransitions(
         int size,
-        ObjectOutput out
+        DataOutput out
     ) throws IOException {
 
         SPX.writeTransitions(this.transitions, size, out);
@@ -27,10 +27,10 @@ import net.time4j.base.WallTime;
 import net.time4j.tz.ZonalOffset;
 import net.time4j.tz.ZonalTransition;
 
+import java.io.DataOutput;
 import java.io.IOException;
 import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
-import java.io.ObjectOutput;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -143,6 +143,16 @@ final class CompositeTransitionModel
 
     }
 
+    @Override
+    public void precompute(
+        int fromYear,
+        int toYear
+    ) {
+
+        this.ruleModel.precompute(fromYear, toYear);
+
+    }
+
     @Override
     public List<ZonalTransition> getStdTransitions() {
 
@@ -231,7 +241,7 @@ final class CompositeTransitionModel
      *
      * @param   out     serialization stream
      */
-    void writeTransitions(ObjectOutput out) throws IOException {
+    void writeTransitions(DataOutput out) throws IOException {
 
         this.arrayModel.writeTransitions(this.size, out);
 
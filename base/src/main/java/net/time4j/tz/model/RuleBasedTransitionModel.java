@@ -24,7 +24,6 @@ package net.time4j.tz.model;
 import net.time4j.Moment;
 import net.time4j.PlainTimestamp;
 import net.time4j.base.GregorianDate;
-import net.time4j.base.GregorianMath;
 import net.time4j.base.MathUtils;
 import net.time4j.base.UnixTime;
 import net.time4j.base.WallTime;
@@ -40,8 +39,6 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 
 /**
@@ -56,15 +53,6 @@ final class RuleBasedTransitionModel
 
     //~ Statische Felder/Initialisierungen --------------------------------
 
-    private static final int LAST_CACHED_YEAR;
-
-    static {
-        long ly = TransitionModel.getFutureMoment(100);
-        long mjd = EpochDays.MODIFIED_JULIAN_DATE.transform(ly, EpochDays.UNIX);
-        LAST_CACHED_YEAR =
-            GregorianMath.readYear(GregorianMath.toPackedDate(mjd));
-    }
-
     private static final long serialVersionUID = 2456700806862862287L;
 
     //~ Instanzvariablen --------------------------------------------------
@@ -72,10 +60,16 @@ final class RuleBasedTransitionModel
     private transient final ZonalTransition initial;
     private transient final List<DaylightSavingRule> rules;
 
-    private transient final ConcurrentMap<Integer, List<ZonalTransition>> tCache = new ConcurrentHashMap<>();
+    private transient final TransitionYearCache yCache = new TransitionYearCache();
     private transient final List<ZonalTransition> stdTransitions;
     private transient final boolean gregorian;
 
+    // offsets per rule index, identical in every year
+    private transient final int[] shifts;
+    private transient final int[] previousOffsets;
+    private transient final int[] totalOffsets;
+    private transient final int[] dstOffsets;
+
     //~ Konstruktoren -----------------------------------------------------
 
     RuleBasedTransitionModel(
@@ -166,6 +160,22 @@ final class RuleBasedTransitionModel
         this.initial = zt;
         this.rules = Collections.unmodifiableList(sortedRules);
 
+        int n = sortedRules.size();
+        int stdOffset = zt.getRawOffset();
+        this.shifts = new int[n];
+        this.previousOffsets = new int[n];
+        this.totalOffsets = new int[n];
+        this.dstOffsets = new int[n];
+
+        for (int i = 0; i < n; i++) {
+            DaylightSavingRule rule = sortedRules.get(i);
+            DaylightSavingRule previous = sortedRules.get((i - 1 + n) % n);
+            this.shifts[i] = getShift(rule, stdOffset, previous.getSavings());
+            this.previousOffsets[i] = stdOffset + previous.getSavings();
+            this.totalOffsets[i] = stdOffset + rule.getSavings();
+            this.dstOffsets[i] = rule.getSavings();
+        }
+
         // fill standard transition cache
         long end = TransitionModel.getFutureMoment(1);
         this.stdTransitions = getTransitions(this.initial, this.rules, 0L, end);
@@ -190,37 +200,39 @@ final class RuleBasedTransitionModel
             return null;
         }
 
-        ZonalTransition current = null;
-        int stdOffset = this.initial.getRawOffset();
         int n = this.rules.size();
-        DaylightSavingRule rule = this.rules.get(0);
-        DaylightSavingRule previous = this.rules.get(n - 1);
-        int shift = getShift(rule, stdOffset, previous.getSavings());
-        int year = getYear(rule, ut.getPosixTime() + shift);
-        List<ZonalTransition> transitions = this.getTransitions(year);
+        int year = getYear(this.rules.get(0), ut.getPosixTime() + this.shifts[0]);
+        long[] times = this.getTransitionTimes(year);
+        int index = -1;
+        long current = 0L;
 
         for (int i = 0; i < n; i++) {
-            ZonalTransition zt = transitions.get(i);
-            long tt = zt.getPosixTime();
+            long tt = times[i + 1];
 
             if (ut.getPosixTime() < tt) {
-                if (current == null) {
+                if (index == -1) {
+                    long pt;
+                    int pi;
                     if (i == 0) {
-                        zt = this.getTransitions(year - 1).get(n - 1);
+                        pt = this.getTransitionTimes(year - 1)[n];
+                        pi = n - 1;
                     } else {
-                        zt = transitions.get(i - 1);
+                        pt = times[i];
+                        pi = i - 1;
                     }
-                    if (zt.getPosixTime() > preModel) {
-                        current = zt;
+                    if (pt > preModel) {
+                        index = pi;
+                        current = pt;
                     }
                 }
                 break;
             } else if (tt > preModel) {
-                current = zt;
+                index = i;
+                current = tt;
             }
         }
 
-        return current;
+        return ((index == -1) ? null : this.createTransition(current, index));
 
     }
 
@@ -275,6 +287,31 @@ final class RuleBasedTransitionModel
 
     }
 
+    @Override
+    public void precompute(
+        int fromYear,
+        int toYear
+    ) {
+
+        super.precompute(fromYear, toYear);
+
+        if (!this.gregorian) {
+            return; // rule years are not gregorian years
+        }
+
+        int from = Math.min(fromYear, this.yCache.getEagerStart());
+        int to = Math.max(toYear, this.yCache.getEagerEnd());
+        long[][] rows = new long[to - from + 1][];
+
+        for (int year = from; year <= to; year++) {
+            long[] row = this.yCache.get(year);
+            rows[year - from] = ((row == null) ? this.computeTransitionTimes(year) : row);
+        }
+
+        this.yCache.setEagerRange(from, rows);
+
+    }
+
     @Override
     public boolean hasNegativeDST() {
 
@@ -374,20 +411,24 @@ final class RuleBasedTransitionModel
             return null;
         }
 
-        for (ZonalTransition t : this.getTransitions(localDate)) {
-            long tt = t.getPosixTime();
+        long[] times = this.getTransitionTimes(localDate);
+
+        for (int i = 0, n = times.length - 1; i < n; i++) {
+            long tt = times[i + 1];
+            int previousOffset = this.previousOffsets[i];
+            int totalOffset = this.totalOffsets[i];
 
-            if (t.isGap()) {
-                if (localSecs < tt + t.getPreviousOffset()) {
-                    return null; // offset = t.getPreviousOffset()
-                } else if (localSecs < tt + t.getTotalOffset()) {
-                    return t;
+            if (totalOffset > previousOffset) { // gap
+                if (localSecs < tt + previousOffset) {
+                    return null; // offset = previousOffset
+                } else if (localSecs < tt + totalOffset) {
+                    return this.createTransition(tt, i);
                 }
-            } else if (t.isOverlap()) {
-                if (localSecs < tt + t.getTotalOffset()) {
-                    return null; // offset = t.getPreviousOffset()
-                } else if (localSecs < tt + t.getPreviousOffset()) {
-                    return t;
+            } else if (totalOffset < previousOffset) { // overlap
+                if (localSecs < tt + totalOffset) {
+                    return null; // offset = previousOffset
+                } else if (localSecs < tt + previousOffset) {
+                    return this.createTransition(tt, i);
                 }
             }
         }
@@ -409,21 +450,24 @@ final class RuleBasedTransitionModel
             return TransitionModel.toList(last);
         }
 
-        for (ZonalTransition t : this.getTransitions(localDate)) {
-            long tt = t.getPosixTime();
-            last = t.getTotalOffset();
+        long[] times = this.getTransitionTimes(localDate);
 
-            if (t.isGap()) {
-                if (localSecs < tt + t.getPreviousOffset()) {
-                    return TransitionModel.toList(t.getPreviousOffset());
+        for (int i = 0, n = times.length - 1; i < n; i++) {
+            long tt = times[i + 1];
+            int previousOffset = this.previousOffsets[i];
+            last = this.totalOffsets[i];
+
+            if (last > previousOffset) { // gap
+                if (localSecs < tt + previousOffset) {
+                    return TransitionModel.toList(previousOffset);
                 } else if (localSecs < tt + last) {
                     return Collections.emptyList();
                 }
-            } else if (t.isOverlap()) {
+            } else if (last < previousOffset) { // overlap
                 if (localSecs < tt + last) {
-                    return TransitionModel.toList(t.getPreviousOffset());
-                } else if (localSecs < tt + t.getPreviousOffset()) {
-                    return TransitionModel.toList(last, t.getPreviousOffset());
+                    return TransitionModel.toList(previousOffset);
+                } else if (localSecs < tt + previousOffset) {
+                    return TransitionModel.toList(last, previousOffset);
                 }
             }
         }
@@ -560,49 +604,53 @@ final class RuleBasedTransitionModel
 
     }
 
-    private List<ZonalTransition> getTransitions(GregorianDate date) {
+    private long[] getTransitionTimes(GregorianDate date) {
 
-        return this.getTransitions(this.rules.get(0).toCalendarYear(date));
+        return this.getTransitionTimes(this.rules.get(0).toCalendarYear(date));
 
     }
 
-    private List<ZonalTransition> getTransitions(int year) {
-
-        Integer key = Integer.valueOf(year);
-        List<ZonalTransition> transitions = this.tCache.get(key);
+    // row = [year, t(0), ..., t(n-1)]
+    private long[] getTransitionTimes(int year) {
 
-        if (transitions == null) {
-            List<ZonalTransition> list = new ArrayList<>();
-            int stdOffset = this.initial.getRawOffset();
+        long[] row = this.yCache.get(year);
 
-            for (int i = 0, n = this.rules.size(); i < n; i++) {
-                DaylightSavingRule rule = this.rules.get(i);
-                DaylightSavingRule previous = this.rules.get((i - 1 + n) % n);
-                int shift = getShift(rule, stdOffset, previous.getSavings());
+        if (row == null) {
+            row = this.computeTransitionTimes(year);
 
-                list.add(
-                    new ZonalTransition(
-                        getTransitionTime(rule, year, shift),
-                        stdOffset + previous.getSavings(),
-                        stdOffset + rule.getSavings(),
-                        rule.getSavings()));
+            if (this.gregorian) {
+                this.yCache.put(row);
             }
+        }
 
-            transitions = Collections.unmodifiableList(list);
+        return row;
 
-            if (
-                (year <= LAST_CACHED_YEAR)
-                && this.gregorian
-            ) {
-                List<ZonalTransition> old =
-                    this.tCache.putIfAbsent(key, transitions);
-                if (old != null) {
-                    transitions = old;
-                }
-            }
+    }
+
+    private long[] computeTransitionTimes(int year) {
+
+        int n = this.rules.size();
+        long[] row = new long[n + 1];
+        row[0] = year;
+
+        for (int i = 0; i < n; i++) {
+            row[i + 1] = getTransitionTime(this.rules.get(i), year, this.shifts[i]);
         }
 
-        return transitions;
+        return row;
+
+    }
+
+    private ZonalTransition createTransition(
+        long posixTime,
+        int index
+    ) {
+
+        return new ZonalTransition(
+            posixTime,
+            this.previousOffsets[index],
+            this.totalOffsets[index],
+            this.dstOffsets[index]);
 
     }
 
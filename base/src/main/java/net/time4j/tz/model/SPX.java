@@ -33,6 +33,7 @@ import java.io.Externalizable;
 import java.io.IOException;
 import java.io.InvalidClassException;
 import java.io.InvalidObjectException;
+import java.io.NotSerializableException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
 import java.io.ObjectStreamException;
@@ -65,6 +66,9 @@ final class SPX
     /** Serialisierungstyp von {@code LastWeekdayPattern}. */
     static final int LAST_WEEKDAY_PATTERN_TYPE = 122;
 
+    /** Typ von {@code EmptyTransitionModel}, nur in der kompakten Form verwendet. */
+    static final int EMPTY_TRANSITION_MODEL_TYPE = 124;
+
     /** Serialisierungstyp von {@code RuleBasedTransitionModel}. */
     static final int RULE_BASED_TRANSITION_MODEL_TYPE = 125;
 
@@ -143,29 +147,7 @@ final class SPX
         throws IOException {
 
         out.writeByte(this.type);
-
-        switch (this.type) {
-            case FIXED_DAY_PATTERN_TYPE:
-                writeFixedDayPattern(this.obj, out);
-                break;
-            case DAY_OF_WEEK_IN_MONTH_PATTERN_TYPE:
-                writeDayOfWeekInMonthPattern(this.obj, out);
-                break;
-            case LAST_WEEKDAY_PATTERN_TYPE:
-                writeLastDayOfWeekPattern(this.obj, out);
-                break;
-            case RULE_BASED_TRANSITION_MODEL_TYPE:
-                writeRuleBasedTransitionModel(this.obj, out);
-                break;
-            case ARRAY_TRANSITION_MODEL_TYPE:
-                writeArrayTransitionModel(this.obj, out);
-                break;
-            case COMPOSITE_TRANSITION_MODEL_TYPE:
-                writeCompositeTransitionModel(this.obj, out);
-                break;
-            default:
-                throw new InvalidClassException("Unknown serialized type.");
-        }
+        writeData(this.obj, this.type, out);
 
     }
 
@@ -188,26 +170,117 @@ final class SPX
         throws IOException, ClassNotFoundException {
 
         int header = in.readByte();
+        this.obj = readData(header, in);
 
-        switch (header) {
+    }
+
+    /**
+     * <p>Schreibt das angegebene &Uuml;bergangsmodell in der kompakten Form, die aus dem
+     * Typ-Byte und den bit-komprimierten Daten ohne Serialisierungs-Overhead besteht. </p>
+     *
+     * @param   history     transition model of this package
+     * @param   out         data output
+     * @throws  NotSerializableException if the model is unknown or has custom rules
+     * @throws  IOException in case of I/O-problems
+     */
+    static void writeCompact(
+        Object history,
+        DataOutput out
+    ) throws IOException {
+
+        int type;
+
+        if (history instanceof EmptyTransitionModel) {
+            out.writeByte(EMPTY_TRANSITION_MODEL_TYPE);
+            writeOffset(out, ((EmptyTransitionModel) history).getInitialOffset().getIntegralAmount());
+            return;
+        } else if (history instanceof RuleBasedTransitionModel) {
+            type = RULE_BASED_TRANSITION_MODEL_TYPE;
+        } else if (history instanceof ArrayTransitionModel) {
+            type = ARRAY_TRANSITION_MODEL_TYPE;
+        } else if (history instanceof CompositeTransitionModel) {
+            type = COMPOSITE_TRANSITION_MODEL_TYPE;
+        } else {
+            throw new NotSerializableException(history.getClass().getName());
+        }
+
+        out.writeByte(type);
+        writeData(history, type, out);
+
+    }
+
+    /**
+     * <p>Liest ein &Uuml;bergangsmodell in der kompakten Form. </p>
+     *
+     * @param   in      data input
+     * @return  transition model
+     * @throws  IOException in case of I/O-problems or wrong format
+     */
+    static Object readCompact(DataInput in) throws IOException {
+
+        int header = in.readByte();
+
+        if (header == EMPTY_TRANSITION_MODEL_TYPE) {
+            return new EmptyTransitionModel(ZonalOffset.ofTotalSeconds(readOffset(in)));
+        }
+
+        try {
+            return readData(header, in);
+        } catch (ClassNotFoundException cnfe) {
+            throw new StreamCorruptedException(cnfe.getMessage()); // never happens without object streams
+        }
+
+    }
+
+    private static void writeData(
+        Object obj,
+        int type,
+        DataOutput out
+    ) throws IOException {
+
+        switch (type) {
             case FIXED_DAY_PATTERN_TYPE:
-                this.obj = readFixedDayPattern(in);
+                writeFixedDayPattern(obj, out);
                 break;
             case DAY_OF_WEEK_IN_MONTH_PATTERN_TYPE:
-                this.obj = readDayOfWeekInMonthPattern(in);
+                writeDayOfWeekInMonthPattern(obj, out);
                 break;
             case LAST_WEEKDAY_PATTERN_TYPE:
-                this.obj = readLastDayOfWeekPattern(in);
+                writeLastDayOfWeekPattern(obj, out);
                 break;
             case RULE_BASED_TRANSITION_MODEL_TYPE:
-                this.obj = readRuleBasedTransitionModel(in);
+                writeRuleBasedTransitionModel(obj, out);
                 break;
             case ARRAY_TRANSITION_MODEL_TYPE:
-                this.obj = readArrayTransitionModel(in);
+                writeArrayTransitionModel(obj, out);
                 break;
             case COMPOSITE_TRANSITION_MODEL_TYPE:
-                this.obj = readCompositeTransitionModel(in);
+                writeCompositeTransitionModel(obj, out);
                 break;
+            default:
+                throw new InvalidClassException("Unknown serialized type.");
+        }
+
+    }
+
+    private static Object readData(
+        int header,
+        DataInput in
+    ) throws IOException, ClassNotFoundException {
+
+        switch (header) {
+            case FIXED_DAY_PATTERN_TYPE:
+                return readFixedDayPattern(in);
+            case DAY_OF_WEEK_IN_MONTH_PATTERN_TYPE:
+                return readDayOfWeekInMonthPattern(in);
+            case LAST_WEEKDAY_PATTERN_TYPE:
+                return readLastDayOfWeekPattern(in);
+            case RULE_BASED_TRANSITION_MODEL_TYPE:
+                return readRuleBasedTransitionModel(in);
+            case ARRAY_TRANSITION_MODEL_TYPE:
+                return readArrayTransitionModel(in);
+            case COMPOSITE_TRANSITION_MODEL_TYPE:
+                return readCompositeTransitionModel(in);
             default:
                 throw new StreamCorruptedException("Unknown serialized type.");
         }
@@ -235,7 +308,7 @@ final class SPX
 
     }
 
-    private static List<ZonalTransition> readTransitions(ObjectInput in)
+    private static List<ZonalTransition> readTransitions(DataInput in)
         throws IOException {
 
         int n = in.readInt();
@@ -309,7 +382,7 @@ final class SPX
 
     private static void writeRules(
         List<DaylightSavingRule> rules,
-        ObjectOutput out
+        DataOutput out
     ) throws IOException {
 
         out.writeByte(rules.size());
@@ -328,13 +401,17 @@ final class SPX
                     writeLastDayOfWeekPattern(rule, out);
                     break;
                 default:
-                    out.writeObject(rule);
+                    if (out instanceof ObjectOutput) {
+                        ((ObjectOutput) out).writeObject(rule);
+                    } else {
+                        throw new NotSerializableException(rule.getClass().getName());
+                    }
             }
         }
 
     }
 
-    private static List<DaylightSavingRule> readRules(ObjectInput in)
+    private static List<DaylightSavingRule> readRules(DataInput in)
         throws IOException, ClassNotFoundException {
 
         int n = in.readByte();
@@ -361,7 +438,11 @@ final class SPX
                     rule = readLastDayOfWeekPattern(in);
                     break;
                 default:
-                    rule = (DaylightSavingRule) in.readObject();
+                    if (in instanceof ObjectInput) {
+                        rule = (DaylightSavingRule) ((ObjectInput) in).readObject();
+                    } else {
+                        throw new StreamCorruptedException("Custom rule requires object stream.");
+                    }
             }
 
             if (
@@ -613,7 +694,7 @@ final class SPX
 
     private static void writeRuleBasedTransitionModel(
         Object obj,
-        ObjectOutput out
+        DataOutput out
     ) throws IOException {
 
         RuleBasedTransitionModel model = (RuleBasedTransitionModel) obj;
@@ -642,7 +723,7 @@ final class SPX
 
     }
 
-    private static Object readRuleBasedTransitionModel(ObjectInput in)
+    private static Object readRuleBasedTransitionModel(DataInput in)
         throws IOException, ClassNotFoundException {
 
         long posixTime;
@@ -673,7 +754,7 @@ final class SPX
 
     private static void writeArrayTransitionModel(
         Object obj,
-        ObjectOutput out
+        DataOutput out
     ) throws IOException {
 
         ArrayTransitionModel model = (ArrayTransitionModel) obj;
@@ -681,7 +762,7 @@ final class SPX
 
     }
 
-    private static Object readArrayTransitionModel(ObjectInput in)
+    private static Object readArrayTransitionModel(DataInput in)
         throws IOException {
 
         return new ArrayTransitionModel(
@@ -693,7 +774,7 @@ final class SPX
 
     private static void writeCompositeTransitionModel(
         Object obj,
-        ObjectOutput out
+        DataOutput out
     ) throws IOException {
 
         CompositeTransitionModel model = (CompositeTransitionModel) obj;
@@ -702,7 +783,7 @@ final class SPX
 
     }
 
-    private static Object readCompositeTransitionModel(ObjectInput in)
+    private static Object readCompositeTransitionModel(DataInput in)
         throws IOException, ClassNotFoundException {
 
         List<ZonalTransition> transitions = readTransitions(in);
@@ -32,8 +32,11 @@ import net.time4j.tz.TransitionHistory;
 import net.time4j.tz.ZonalOffset;
 import net.time4j.tz.ZonalTransition;
 
+import java.io.DataInput;
+import java.io.DataOutput;
 import java.io.IOException;
 import java.io.Serializable;
+import java.io.StreamCorruptedException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -166,6 +169,76 @@ public abstract class TransitionModel
 
     }
 
+    /**
+     * <p>Writes given transition history in the compact binary form which is also used
+     * by the serialization of transition models but without any serialization overhead. </p>
+     *
+     * <p>Only histories created by this class can be written. Daylight saving rules are
+     * supported if they are based on the gregorian calendar and created by the factory
+     * methods of {@code GregorianTimezoneRule}. </p>
+     *
+     * @param   history     transition history created by this class
+     * @param   out         data output
+     * @throws  java.io.NotSerializableException if the history or any of its rules is not supported
+     * @throws  IOException in any case of I/O-errors
+     * @see     #readCompact(DataInput)
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Schreibt die angegebene {@code TransitionHistory} in der kompakten bin&auml;ren Form,
+     * die auch die Serialisierung der &Uuml;bergangsmodelle verwendet, aber ohne jeden
+     * Serialisierungs-Overhead. </p>
+     *
+     * <p>Nur mit dieser Klasse erzeugte Historien k&ouml;nnen geschrieben werden. Regeln
+     * f&uuml;r die Sommerzeit werden unterst&uuml;tzt, wenn sie auf dem gregorianischen
+     * Kalender basieren und mit den Fabrikmethoden von {@code GregorianTimezoneRule}
+     * erzeugt wurden. </p>
+     *
+     * @param   history     transition history created by this class
+     * @param   out         data output
+     * @throws  java.io.NotSerializableException if the history or any of its rules is not supported
+     * @throws  IOException in any case of I/O-errors
+     * @see     #readCompact(DataInput)
+     * @since   5.10
+     */
+    public static void writeCompact(
+        TransitionHistory history,
+        DataOutput out
+    ) throws IOException {
+
+        SPX.writeCompact(history, out);
+
+    }
+
+    /**
+     * <p>Reads a transition history written by {@link #writeCompact(TransitionHistory, DataOutput)}. </p>
+     *
+     * @param   in      data input
+     * @return  transition history
+     * @throws  IOException in any case of I/O-errors or if the data are corrupt
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Liest eine mit {@link #writeCompact(TransitionHistory, DataOutput)} geschriebene
+     * {@code TransitionHistory}. </p>
+     *
+     * @param   in      data input
+     * @return  transition history
+     * @throws  IOException in any case of I/O-errors or if the data are corrupt
+     * @since   5.10
+     */
+    public static TransitionHistory readCompact(DataInput in) throws IOException {
+
+        Object obj = SPX.readCompact(in);
+
+        if (obj instanceof TransitionHistory) {
+            return (TransitionHistory) obj;
+        } else {
+            throw new StreamCorruptedException("Not a transition history.");
+        }
+
+    }
+
     @Override
     public boolean isEmpty() {
 
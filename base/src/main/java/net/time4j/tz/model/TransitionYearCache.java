@@ -0,0 +1,164 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2024 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (TransitionYearCache.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.tz.model;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+
+/**
+ * <p>Begrenzter Cache der &Uuml;bergangszeitpunkte eines regelbasierten Modells pro Jahr. </p>
+ *
+ * <p>Jedes Jahr wird als Zeile {@code [year, t(0), ..., t(n-1)]} in einem {@code long}-Array
+ * gespeichert, wobei {@code n} die Anzahl der Regeln ist. Die Verschiebungen sind in jedem
+ * Jahr gleich und werden deshalb nicht hier, sondern im Modell gehalten. Der Cache ist direkt
+ * &uuml;ber das Jahr adressiert ({@code year & (CAPACITY - 1)}) und daher in der Gr&ouml;&szlig;e
+ * begrenzt. Zus&auml;tzlich kann ein Bereich von Jahren im voraus dicht berechnet werden. Alle
+ * Zugriffe sind sperrfrei, weil Zeilen nach der Ver&ouml;ffentlichung nie ge&auml;ndert werden. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+final class TransitionYearCache {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int CAPACITY = 128; // power of two
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final AtomicReferenceArray<long[]> slots;
+    private volatile Range eager;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    TransitionYearCache() {
+        super();
+
+        this.slots = new AtomicReferenceArray<>(CAPACITY);
+        this.eager = null;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Sucht die Zeile zum angegebenen Jahr. </p>
+     *
+     * @param   year    calendar year of rules
+     * @return  cached row or {@code null}
+     */
+    long[] get(int year) {
+
+        Range range = this.eager;
+
+        if ((range != null) && (year >= range.from) && (year <= range.to)) {
+            return range.rows[year - range.from];
+        }
+
+        long[] row = this.slots.get(year & (CAPACITY - 1));
+
+        if ((row != null) && (row[0] == year)) {
+            return row;
+        }
+
+        return null;
+
+    }
+
+    /**
+     * <p>Speichert die Zeile zum Jahr {@code row[0]}, eventuell unter Verdr&auml;ngung
+     * eines anderen Jahres. </p>
+     *
+     * @param   row     fully initialized row
+     */
+    void put(long[] row) {
+
+        this.slots.set(((int) row[0]) & (CAPACITY - 1), row);
+
+    }
+
+    /**
+     * <p>Legt den dicht vorberechneten Bereich fest. </p>
+     *
+     * @param   from    first year (inclusive)
+     * @param   rows    rows of consecutive years
+     */
+    void setEagerRange(
+        int from,
+        long[][] rows
+    ) {
+
+        this.eager = new Range(from, rows);
+
+    }
+
+    /**
+     * <p>Liefert das erste vorberechnete Jahr oder {@code Integer.MAX_VALUE}. </p>
+     *
+     * @return  int
+     */
+    int getEagerStart() {
+
+        Range range = this.eager;
+        return ((range == null) ? Integer.MAX_VALUE : range.from);
+
+    }
+
+    /**
+     * <p>Liefert das letzte vorberechnete Jahr oder {@code Integer.MIN_VALUE}. </p>
+     *
+     * @return  int
+     */
+    int getEagerEnd() {
+
+        Range range = this.eager;
+        return ((range == null) ? Integer.MIN_VALUE : range.to);
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static final class Range {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final int from;
+        private final int to;
+        private final long[][] rows;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Range(
+            int from,
+            long[][] rows
+        ) {
+            super();
+
+            this.from = from;
+            this.to = from + rows.length - 1;
+            this.rows = rows;
+
+        }
+
+    }
+
+}
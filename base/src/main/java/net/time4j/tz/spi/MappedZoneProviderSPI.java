@@ -0,0 +1,621 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2024 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (MappedZoneProviderSPI.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.tz.spi;
+
+import net.time4j.tz.TransitionHistory;
+import net.time4j.tz.ZoneModelProvider;
+import net.time4j.tz.model.TransitionModel;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+
+/**
+ * <p>SPI-implementation which reads timezone data from a precompiled binary file
+ * mapped into memory. </p>
+ *
+ * <p>The file contains a sorted index of all zone identifiers and one data block per
+ * zone. Every block stores the transition history in the same bit-compressed format
+ * as used by the serialization of Time4J-transition-models (see
+ * {@link TransitionModel#writeCompact(TransitionHistory, java.io.DataOutput)}). A zone is only decoded
+ * when it is loaded for the first time, and the index is searched directly in the
+ * mapped file, so the heap cost of zones which are never used is nearly zero. This
+ * makes the provider suitable for short-lived JVMs where the on-demand conversion of
+ * the JDK-repository would dominate the startup time. </p>
+ *
+ * <p>Such a file can be created by {@link #compile(ZoneModelProvider, Path)}, for example
+ * based on the TZDB-data of the JDK: </p>
+ *
+ * <pre>
+ *  MappedZoneProviderSPI.compile(new JdkZoneProviderSPI(), Paths.get(&quot;tzdata.tzm&quot;));
+ * </pre>
+ *
+ * <p>If the system property &quot;net.time4j.tz.mapped.repository&quot; contains the
+ * path to such a file at startup then this provider will be used as TZDB-provider by
+ * {@code Timezone.of(...)} unless the JDK has a newer version of timezone data.
+ * Otherwise this provider stays inactive. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+/*[deutsch]
+ * <p>SPI-Implementierung, die Zeitzonendaten aus einer vorkompilierten und in den
+ * Speicher abgebildeten Bin&auml;rdatei liest. </p>
+ *
+ * <p>Die Datei enth&auml;lt einen sortierten Index aller Zeitzonenkennungen und einen
+ * Datenblock pro Zeitzone. Jeder Block speichert die &Uuml;bergangshistorie im gleichen
+ * bit-komprimierten Format, das auch die Serialisierung der Time4J-&Uuml;bergangsmodelle
+ * verwendet. Eine Zeitzone wird erst dann dekodiert, wenn sie zum ersten Mal geladen wird,
+ * und der Index wird direkt in der abgebildeten Datei durchsucht, so da&szlig; nie benutzte
+ * Zeitzonen fast keinen Heap-Speicher kosten. Damit eignet sich dieser {@code ZoneModelProvider}
+ * f&uuml;r kurzlebige JVMs, in denen sonst die bedarfsweise Konvertierung der JDK-Datenbank
+ * die Startzeit dominieren w&uuml;rde. </p>
+ *
+ * <p>Eine solche Datei kann mit {@link #compile(ZoneModelProvider, Path)} erzeugt werden,
+ * zum Beispiel auf Basis der TZDB-Daten des JDK: </p>
+ *
+ * <pre>
+ *  MappedZoneProviderSPI.compile(new JdkZoneProviderSPI(), Paths.get(&quot;tzdata.tzm&quot;));
+ * </pre>
+ *
+ * <p>Enth&auml;lt die System-Property &quot;net.time4j.tz.mapped.repository&quot; beim Start
+ * den Pfad zu einer solchen Datei, wird dieser {@code ZoneModelProvider} von
+ * {@code Timezone.of(...)} als TZDB-Provider verwendet, es sei denn, das JDK hat eine
+ * neuere Version der Zeitzonendaten. Sonst bleibt dieser {@code ZoneModelProvider} inaktiv. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+public class MappedZoneProviderSPI
+    implements ZoneModelProvider {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final String PROPERTY_KEY = "net.time4j.tz.mapped.repository";
+
+    private static final int MAGIC = 0x545A4D42; // TZMB
+    private static final int FORMAT_VERSION = 1;
+    private static final int ZONE_ENTRY_SIZE = 12; // name offset, data offset, data length
+    private static final int ALIAS_ENTRY_SIZE = 8; // name offset, target name offset
+    private static final int COMPACT_BLOCK = 0;
+    private static final int SERIALIZED_BLOCK = 1; // fallback for custom rules
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final ByteBuffer buffer;
+    private final String location;
+    private final String version;
+    private final int zoneCount;
+    private final int zoneIndex;
+    private final int aliasCount;
+    private final int aliasIndex;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    /**
+     * <p>Used by the {@code ServiceLoader}-mechanism. </p>
+     *
+     * <p>Maps the file given by the system property &quot;net.time4j.tz.mapped.repository&quot;.
+     * If the property is not set or the file cannot be read then the new instance is empty
+     * and has no version. </p>
+     */
+    /*[deutsch]
+     * <p>Benutzt im {@code ServiceLoader}-Mechanismus. </p>
+     *
+     * <p>Bildet die durch die System-Property &quot;net.time4j.tz.mapped.repository&quot;
+     * angegebene Datei ab. Ist die Property nicht gesetzt oder kann die Datei nicht gelesen
+     * werden, ist die neue Instanz leer und hat keine Version. </p>
+     */
+    public MappedZoneProviderSPI() {
+        this(openConfigured());
+
+    }
+
+    private MappedZoneProviderSPI(Mapping mapping) {
+        super();
+
+        if (mapping == null) {
+            this.buffer = ByteBuffer.allocate(0);
+            this.location = "";
+            this.version = "";
+            this.zoneCount = 0;
+            this.zoneIndex = 0;
+            this.aliasCount = 0;
+            this.aliasIndex = 0;
+        } else {
+            this.buffer = mapping.buffer;
+            this.location = mapping.location;
+            this.version = mapping.version;
+            this.zoneCount = mapping.zoneCount;
+            this.zoneIndex = mapping.zoneIndex;
+            this.aliasCount = mapping.aliasCount;
+            this.aliasIndex = mapping.aliasIndex;
+        }
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Maps given binary timezone repository into memory. </p>
+     *
+     * @param   file    path to a file created by {@link #compile(ZoneModelProvider, Path)}
+     * @return  new provider instance
+     * @throws  IOException if the file cannot be read or has a wrong format
+     */
+    /*[deutsch]
+     * <p>Bildet die angegebene bin&auml;re Zeitzonendatenbank in den Speicher ab. </p>
+     *
+     * @param   file    path to a file created by {@link #compile(ZoneModelProvider, Path)}
+     * @return  new provider instance
+     * @throws  IOException if the file cannot be read or has a wrong format
+     */
+    public static MappedZoneProviderSPI open(Path file) throws IOException {
+
+        return new MappedZoneProviderSPI(Mapping.of(file));
+
+    }
+
+    /**
+     * <p>Writes all timezones of given provider into a binary repository which can
+     * be mapped into memory by this class. </p>
+     *
+     * <p>Zone identifiers and aliases must only consist of ASCII-characters. Zones
+     * which cannot be loaded by the source provider are skipped. </p>
+     *
+     * @param   source  zone model provider whose data shall be compiled
+     * @param   target  path of binary file to be written (will be overwritten)
+     * @throws  IOException in any case of I/O-errors
+     * @throws  IllegalArgumentException if any identifier contains non-ASCII-characters
+     */
+    /*[deutsch]
+     * <p>Schreibt alle Zeitzonen des angegebenen {@code ZoneModelProvider} in eine
+     * bin&auml;re Datenbank, die mit dieser Klasse in den Speicher abgebildet werden kann. </p>
+     *
+     * <p>Zeitzonenkennungen und Aliasnamen d&uuml;rfen nur aus ASCII-Zeichen bestehen.
+     * Zeitzonen, die der Quell-Provider nicht laden kann, werden &uuml;bersprungen. </p>
+     *
+     * @param   source  zone model provider whose data shall be compiled
+     * @param   target  path of binary file to be written (will be overwritten)
+     * @throws  IOException in any case of I/O-errors
+     * @throws  IllegalArgumentException if any identifier contains non-ASCII-characters
+     */
+    public static void compile(
+        ZoneModelProvider source,
+        Path target
+    ) throws IOException {
+
+        Map<String, byte[]> blocks = new TreeMap<>();
+
+        for (String zoneID : source.getAvailableIDs()) {
+            checkAscii(zoneID);
+            TransitionHistory history;
+
+            try {
+                history = source.load(zoneID);
+            } catch (IllegalArgumentException iae) {
+                history = null;
+            }
+
+            if (history != null) {
+                blocks.put(zoneID, serialize(history));
+            }
+        }
+
+        Map<String, String> aliases = new TreeMap<>();
+
+        for (Map.Entry<String, String> e : source.getAliases().entrySet()) {
+            checkAscii(e.getKey());
+            checkAscii(e.getValue());
+            aliases.put(e.getKey(), e.getValue());
+        }
+
+        // names pool
+        ByteArrayOutputStream pool = new ByteArrayOutputStream();
+        DataOutputStream poolOut = new DataOutputStream(pool);
+        Map<String, Integer> names = new HashMap<>();
+
+        for (String name : blocks.keySet()) {
+            names.put(name, pool.size());
+            writeName(name, poolOut);
+        }
+
+        for (Map.Entry<String, String> e : aliases.entrySet()) {
+            for (String name : new String[] {e.getKey(), e.getValue()}) {
+                if (!names.containsKey(name)) {
+                    names.put(name, pool.size());
+                    writeName(name, poolOut);
+                }
+            }
+        }
+
+        // header
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        DataOutputStream headerOut = new DataOutputStream(header);
+        headerOut.writeInt(MAGIC);
+        headerOut.writeShort(FORMAT_VERSION);
+        headerOut.writeUTF(source.getVersion());
+        headerOut.writeInt(blocks.size());
+        headerOut.writeInt(aliases.size());
+
+        int poolStart = header.size() + blocks.size() * ZONE_ENTRY_SIZE + aliases.size() * ALIAS_ENTRY_SIZE;
+        int dataStart = poolStart + pool.size();
+        int dataOffset = dataStart;
+
+        for (Map.Entry<String, byte[]> e : blocks.entrySet()) {
+            int length = e.getValue().length;
+            headerOut.writeInt(poolStart + names.get(e.getKey()));
+            headerOut.writeInt(dataOffset);
+            headerOut.writeInt(length);
+            dataOffset += length;
+        }
+
+        for (Map.Entry<String, String> e : aliases.entrySet()) {
+            headerOut.writeInt(poolStart + names.get(e.getKey()));
+            headerOut.writeInt(poolStart + names.get(e.getValue()));
+        }
+
+        try (OutputStream os = Files.newOutputStream(target)) {
+            header.writeTo(os);
+            pool.writeTo(os);
+            for (byte[] block : blocks.values()) {
+                os.write(block);
+            }
+        }
+
+    }
+
+    @Override
+    public Set<String> getAvailableIDs() {
+
+        Set<String> ids = new HashSet<>();
+
+        for (int i = 0; i < this.zoneCount; i++) {
+            ids.add(this.readName(this.buffer.getInt(this.zoneIndex + i * ZONE_ENTRY_SIZE)));
+        }
+
+        return Collections.unmodifiableSet(ids);
+
+    }
+
+    @Override
+    public Map<String, String> getAliases() {
+
+        if (this.aliasCount == 0) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, String> map = new HashMap<>();
+
+        for (int i = 0; i < this.aliasCount; i++) {
+            int pos = this.aliasIndex + i * ALIAS_ENTRY_SIZE;
+            map.put(this.readName(this.buffer.getInt(pos)), this.readName(this.buffer.getInt(pos + 4)));
+        }
+
+        return Collections.unmodifiableMap(map);
+
+    }
+
+    @Override
+    public String getFallback() {
+
+        return "";
+
+    }
+
+    @Override
+    public String getName() {
+
+        return "TZDB";
+
+    }
+
+    @Override
+    public String getLocation() {
+
+        return this.location;
+
+    }
+
+    @Override
+    public String getVersion() {
+
+        return this.version;
+
+    }
+
+    @Override
+    public TransitionHistory load(String zoneID) {
+
+        int low = 0;
+        int high = this.zoneCount - 1;
+
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int pos = this.zoneIndex + middle * ZONE_ENTRY_SIZE;
+            int cmp = this.compareName(this.buffer.getInt(pos), zoneID);
+
+            if (cmp < 0) {
+                low = middle + 1;
+            } else if (cmp > 0) {
+                high = middle - 1;
+            } else {
+                return this.decode(this.buffer.getInt(pos + 4), this.buffer.getInt(pos + 8));
+            }
+        }
+
+        return null;
+
+    }
+
+    private TransitionHistory decode(
+        int offset,
+        int length
+    ) {
+
+        ByteBuffer block = this.buffer.duplicate();
+        block.limit(offset + length);
+        block.position(offset + 1);
+
+        try {
+            if (this.buffer.get(offset) == COMPACT_BLOCK) {
+                return TransitionModel.readCompact(new DataInputStream(new BlockInputStream(block)));
+            }
+
+            try (ObjectInputStream ois = new ObjectInputStream(new BlockInputStream(block))) {
+                return (TransitionHistory) ois.readObject();
+            }
+        } catch (IOException | ClassNotFoundException | ClassCastException ex) {
+            throw new IllegalStateException("Corrupt timezone repository: " + this.location, ex);
+        }
+
+    }
+
+    // compares the ASCII-name at given position with given key
+    private int compareName(
+        int pos,
+        String key
+    ) {
+
+        int len = this.buffer.getShort(pos) & 0xFFFF;
+        int n = Math.min(len, key.length());
+        pos += 2;
+
+        for (int i = 0; i < n; i++) {
+            int diff = (this.buffer.get(pos + i) & 0xFF) - key.charAt(i);
+
+            if (diff != 0) {
+                return diff;
+            }
+        }
+
+        return len - key.length();
+
+    }
+
+    private String readName(int pos) {
+
+        int len = this.buffer.getShort(pos) & 0xFFFF;
+        byte[] bytes = new byte[len];
+
+        for (int i = 0; i < len; i++) {
+            bytes[i] = this.buffer.get(pos + 2 + i);
+        }
+
+        return new String(bytes, StandardCharsets.US_ASCII);
+
+    }
+
+    private static byte[] serialize(TransitionHistory history) throws IOException {
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+
+        try {
+            DataOutputStream dos = new DataOutputStream(baos);
+            dos.writeByte(COMPACT_BLOCK);
+            TransitionModel.writeCompact(history, dos);
+            return baos.toByteArray();
+        } catch (NotSerializableException nse) {
+            baos.reset();
+            baos.write(SERIALIZED_BLOCK);
+        }
+
+        try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+            oos.writeObject(history);
+        }
+
+        return baos.toByteArray();
+
+    }
+
+    private static void writeName(
+        String name,
+        DataOutputStream out
+    ) throws IOException {
+
+        out.writeShort(name.length());
+        out.write(name.getBytes(StandardCharsets.US_ASCII));
+
+    }
+
+    private static void checkAscii(String name) {
+
+        for (int i = 0, n = name.length(); i < n; i++) {
+            if (name.charAt(i) >= 0x80) {
+                throw new IllegalArgumentException("Non-ASCII zone identifier: " + name);
+            }
+        }
+
+    }
+
+    private static Mapping openConfigured() {
+
+        String path = System.getProperty(PROPERTY_KEY);
+
+        if ((path == null) || path.isEmpty()) {
+            return null;
+        }
+
+        try {
+            return Mapping.of(Paths.get(path));
+        } catch (IOException | RuntimeException ex) {
+            System.err.println(
+                "Warning: Mapped timezone repository " + path + " cannot be opened (" + ex.getMessage() + ").");
+            return null;
+        }
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static class Mapping {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final ByteBuffer buffer;
+        private final String location;
+        private final String version;
+        private final int zoneCount;
+        private final int zoneIndex;
+        private final int aliasCount;
+        private final int aliasIndex;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private Mapping(
+            ByteBuffer buffer,
+            String location
+        ) throws IOException {
+            super();
+
+            if ((buffer.capacity() < 16) || (buffer.getInt(0) != MAGIC)) {
+                throw new IOException("Not a mapped timezone repository: " + location);
+            } else if (buffer.getShort(4) != FORMAT_VERSION) {
+                throw new IOException("Unsupported format version: " + buffer.getShort(4));
+            }
+
+            int versionLength = buffer.getShort(6) & 0xFFFF;
+            byte[] bytes = new byte[versionLength];
+
+            for (int i = 0; i < versionLength; i++) {
+                bytes[i] = buffer.get(8 + i);
+            }
+
+            int pos = 8 + versionLength;
+
+            this.buffer = buffer;
+            this.location = location;
+            this.version = new String(bytes, StandardCharsets.UTF_8); // version strings are ASCII in practice
+            this.zoneCount = buffer.getInt(pos);
+            this.aliasCount = buffer.getInt(pos + 4);
+            this.zoneIndex = pos + 8;
+            this.aliasIndex = this.zoneIndex + this.zoneCount * ZONE_ENTRY_SIZE;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        static Mapping of(Path file) throws IOException {
+
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                return new Mapping(buffer, file.toString());
+            }
+
+        }
+
+    }
+
+    private static class BlockInputStream
+        extends InputStream {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final ByteBuffer block;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        BlockInputStream(ByteBuffer block) {
+            super();
+
+            this.block = block;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public int read() {
+
+            return (this.block.hasRemaining() ? (this.block.get() & 0xFF) : -1);
+
+        }
+
+        @Override
+        public int read(
+            byte[] b,
+            int off,
+            int len
+        ) {
+
+            if (len == 0) {
+                return 0;
+            } else if (!this.block.hasRemaining()) {
+                return -1;
+            }
+
+            int n = Math.min(len, this.block.remaining());
+            this.block.get(b, off, n);
+            return n;
+
+        }
+
+        @Override
+        public int available() {
+
+            return this.block.remaining();
+
+        }
+
+    }
+
+}
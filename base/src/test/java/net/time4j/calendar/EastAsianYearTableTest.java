@@ -0,0 +1,90 @@
+package net.time4j.calendar;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class EastAsianYearTableTest {
+
+    @Test
+    public void chineseMonthsConsistentWithAstronomy() {
+        checkMonths(ChineseCalendar.nowInSystemTime().getCalendarSystem());
+    }
+
+    @Test
+    public void koreanMonthsConsistentWithAstronomy() {
+        checkMonths(KoreanCalendar.nowInSystemTime().getCalendarSystem());
+    }
+
+    @Test
+    public void vietnameseMonthsConsistentWithAstronomy() {
+        checkMonths(VietnameseCalendar.nowInSystemTime().getCalendarSystem());
+    }
+
+    @Test
+    public void randomDaysConsistentWithAstronomy() {
+        Random random = new Random(1645);
+        EastAsianCS<?>[] systems = {
+            ChineseCalendar.nowInSystemTime().getCalendarSystem(),
+            KoreanCalendar.nowInSystemTime().getCalendarSystem(),
+            VietnameseCalendar.nowInSystemTime().getCalendarSystem()
+        };
+        for (EastAsianCS<?> calsys : systems) {
+            long min = calsys.getMinimumSinceUTC();
+            long max = calsys.getMaximumSinceUTC();
+            for (int i = 0; i < 500; i++) {
+                long utcDays = min + (long) (random.nextDouble() * (max - min + 1));
+                assertThat(calsys.transform(utcDays), is(calsys.transformAstro(utcDays)));
+            }
+        }
+    }
+
+    @Test
+    public void boundaries() {
+        EastAsianCS<ChineseCalendar> calsys = ChineseCalendar.nowInSystemTime().getCalendarSystem();
+        long min = calsys.getMinimumSinceUTC();
+        long max = calsys.getMaximumSinceUTC();
+        assertThat(calsys.transform(min), is(calsys.transformAstro(min)));
+        assertThat(calsys.transform(max), is(calsys.transformAstro(max)));
+        assertThat(calsys.transform(min - 1), is(calsys.transformAstro(min - 1)));
+        assertThat(calsys.transform(max + 1), is(calsys.transformAstro(max + 1)));
+        assertThat(calsys.transform(min).getDayOfYear(), is(1));
+        assertThat(calsys.transform(max).lengthOfYear(), is(calsys.transform(max).getDayOfYear()));
+    }
+
+    private static <D extends EastAsianCalendar<?, D>> void checkMonths(EastAsianCS<D> calsys) {
+        D first = calsys.transform(calsys.getMinimumSinceUTC());
+        int index = (first.getCycle() - 1) * 60 + first.getYear().getNumber() - 1;
+        assertThat(index >= EastAsianCS.FIRST_YEAR_INDEX, is(true));
+
+        while (index <= EastAsianCS.LAST_YEAR_INDEX) {
+            int cycle = index / 60 + 1;
+            int yearOfCycle = index % 60 + 1;
+            long start = calsys.newYear(cycle, yearOfCycle);
+            int lm = calsys.getLeapMonth(cycle, yearOfCycle);
+
+            for (int i = 0; i < ((lm == 0) ? 12 : 13); i++) {
+                D date = calsys.transform(start);
+                assertThat(date, is(calsys.transformAstro(start)));
+                assertThat(date.getDayOfMonth(), is(1));
+                int len = date.lengthOfMonth();
+                assertThat(len, is((int) (calsys.newMoonOnOrAfter(start + 1) - start)));
+                D last = calsys.transform(start + len - 1);
+                assertThat(last, is(calsys.transformAstro(start + len - 1)));
+                assertThat(calsys.transform(cycle, yearOfCycle, date.getMonth(), 1), is(start));
+                assertThat(calsys.isValid(cycle, yearOfCycle, date.getMonth(), 30), is(len == 30));
+                start += len;
+            }
+
+            index++;
+        }
+    }
+
+}
@@ -7,6 +7,7 @@ import net.time4j.PlainTimestamp;
 import net.time4j.Weekday;
 import net.time4j.calendar.astro.AstronomicalSeason;
 import net.time4j.calendar.astro.JulianDay;
+import net.time4j.calendar.astro.SolarTime;
 import net.time4j.engine.CalendarDate;
 import net.time4j.engine.CalendarDays;
 import net.time4j.engine.ChronoElement;
@@ -14,6 +15,7 @@ import net.time4j.engine.ChronoException;
 import net.time4j.format.expert.ChronoFormatter;
 import net.time4j.format.expert.PatternType;
 import net.time4j.scale.TimeScale;
+import net.time4j.tz.OffsetSign;
 import net.time4j.tz.ZonalOffset;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -395,4 +397,45 @@ public class PersianMiscellaneousTest {
             is(CommonElements.boundedWeekOfMonth(PersianCalendar.axis(), PersianCalendar.getDefaultWeekmodel())));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void astronomicalNowruzTable() {
+        ZonalOffset[] offsets = {
+            PersianAlgorithm.STD_OFFSET,
+            ZonalOffset.ofHours(OffsetSign.AHEAD_OF_UTC, 4),
+            ZonalOffset.atLongitude(OffsetSign.AHEAD_OF_UTC, 51, 25, 0.0)
+        };
+        for (ZonalOffset offset : offsets) {
+            for (int pyear = 1; pyear <= 2378; pyear++) {
+                checkNowruz(pyear, offset);
+            }
+        }
+    }
+
+    @Test
+    public void astronomicalWithManyOffsets() {
+        for (int minutes = 0; minutes < 40; minutes++) { // more offsets than tables are kept
+            ZonalOffset offset = ZonalOffset.ofTotalSeconds((3 * 60 + minutes) * 60);
+            checkNowruz(1404, offset);
+            checkNowruz(1405, offset);
+        }
+    }
+
+    private static void checkNowruz(
+        int pyear,
+        ZonalOffset offset
+    ) {
+        PlainTimestamp tsp = AstronomicalSeason.VERNAL_EQUINOX.inYear(pyear + 621).get(SolarTime.apparentAt(offset));
+        PlainDate nowruz = tsp.getCalendarDate();
+        if (tsp.getHour() >= 12) {
+            nowruz = nowruz.plus(1, CalendarUnit.DAYS);
+        }
+        long utcDays = nowruz.getDaysSinceEpochUTC();
+        PersianCalendar pcal = new PersianCalendar(pyear, 1, 1);
+        assertThat(PersianAlgorithm.ASTRONOMICAL.transform(pcal, offset), is(utcDays));
+        assertThat(PersianAlgorithm.ASTRONOMICAL.transform(utcDays, offset), is(pcal));
+        if (pyear > 1) {
+            assertThat(PersianAlgorithm.ASTRONOMICAL.transform(utcDays - 1, offset).getYear(), is(pyear - 1));
+        }
+    }
+
+}
@@ -6,8 +6,10 @@ import net.time4j.Moment;
 import net.time4j.PlainDate;
 import net.time4j.PlainTime;
 import net.time4j.PlainTimestamp;
+import net.time4j.engine.CalendarDate;
 import net.time4j.engine.CalendarDays;
 import net.time4j.engine.ChronoException;
+import net.time4j.engine.ChronoFunction;
 import net.time4j.tz.OffsetSign;
 import net.time4j.tz.TZID;
 import net.time4j.tz.Timezone;
@@ -18,12 +20,15 @@ import org.junit.runners.JUnit4;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 
 import static net.time4j.calendar.astro.AstronomicalSeason.*;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.fail;
 
@@ -33,6 +38,45 @@ public class AstroTest {
 
     private static final double TOLERANCE = 0.001;
 
+    @Test
+    public void apparentTimeOfSeasonCached() {
+        ZonalOffset paris = ZonalOffset.atLongitude(OffsetSign.AHEAD_OF_UTC, 2, 20, 14.025);
+        ZonalOffset tehran = ZonalOffset.ofHoursMinutes(OffsetSign.AHEAD_OF_UTC, 3, 30);
+        assertThat(SeasonCache.isPinned(paris), is(true)); // independent from other tests
+        assertThat(SeasonCache.isPinned(tehran), is(false));
+        for (ZonalOffset offset : new ZonalOffset[] {paris, tehran}) {
+            for (AstronomicalSeason season : AstronomicalSeason.values()) {
+                for (int year = 1790; year <= 2100; year += 7) {
+                    PlainTimestamp expected = season.inYear(year).get(SolarTime.apparentAt(offset));
+                    PlainTimestamp tsp = season.apparentTimeInYear(year, offset);
+                    assertThat(tsp, is(expected));
+                    if (offset == paris) {
+                        assertThat(season.apparentTimeInYear(year, offset), sameInstance(tsp));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void apparentTimeOfSeasonWithManyOffsets() {
+        ZonalOffset paris = ZonalOffset.atLongitude(OffsetSign.AHEAD_OF_UTC, 2, 20, 14.025);
+        PlainTimestamp pinned = AUTUMNAL_EQUINOX.apparentTimeInYear(1792, paris);
+        for (int minutes = -600; minutes <= 600; minutes += 15) { // more offsets than tables are kept
+            ZonalOffset offset = ZonalOffset.ofTotalSeconds(minutes * 60);
+            assertThat(
+                VERNAL_EQUINOX.apparentTimeInYear(2024, offset),
+                is(VERNAL_EQUINOX.inYear(2024).get(SolarTime.apparentAt(offset))));
+            assertThat(SeasonCache.size() <= 32, is(true));
+        }
+        assertThat(AUTUMNAL_EQUINOX.apparentTimeInYear(1792, paris), sameInstance(pinned));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void apparentTimeOfSeasonOutOfRange() {
+        VERNAL_EQUINOX.apparentTimeInYear(3001, ZonalOffset.UTC);
+    }
+
     @Test
     public void nasaSeasonsInMinutePrecision() { // see: http://aa.usno.navy.mil/data/docs/EarthSeasons.php
         timeOfSeason(2000, VERNAL_EQUINOX, PlainTimestamp.of(2000, 3, 20, 7, 35));
@@ -1124,6 +1168,84 @@ public class AstroTest {
         }
     }
 
+    @Test
+    public void sunEventsEqualToSingleEvents() {
+        TZID tzid = () -> "Pacific/Apia";
+        PlainDate first = PlainDate.of(2020, 1, 1);
+        PlainDate last = PlainDate.of(2020, 12, 31);
+
+        for (StdSolarCalculator calculator : StdSolarCalculator.values()) {
+            List<SolarTime> locations = new ArrayList<>();
+            locations.add(SolarTime.ofLocation(53.55, 10.0, 0, calculator));
+            locations.add(SolarTime.ofLocation(78.2, 15.6, 0, calculator));
+            locations.add(SolarTime.ofLocation(-13.8, -171.75, 200, calculator));
+            locations.add(SolarTime.ofLocation().westernLongitude(171, 45, 0.0).southernLatitude(13, 50, 0.0)
+                .usingCalculator(calculator).inTimezone(tzid).build());
+
+            for (SolarTime location : locations) {
+                checkSunEvents(location.sunEvents(first, last), location.sunrise(), location.sunset(), first);
+                checkSunEvents(
+                    location.sunEvents(first, last, Twilight.CIVIL),
+                    location.sunrise(Twilight.CIVIL),
+                    location.sunset(Twilight.CIVIL),
+                    first);
+            }
+        }
+    }
+
+    @Test
+    public void sunEventsInPolarRegion() {
+        SolarTime svalbard = svalbard(null);
+        long[] events = svalbard.sunEvents(PlainDate.of(2020, 12, 21), PlainDate.of(2020, 12, 22));
+        assertThat(events.length, is(4));
+        for (long event : events) {
+            assertThat(event, is(Long.MIN_VALUE)); // polar night
+        }
+        events = svalbard.sunEvents(PlainDate.of(2020, 6, 21), PlainDate.of(2020, 6, 21));
+        assertThat(events[0], is(Long.MIN_VALUE)); // midnight sun
+        assertThat(events[1], is(Long.MIN_VALUE));
+    }
+
+    @Test
+    public void sunEventsOfManyLocations() {
+        List<SolarTime> locations = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            locations.add(SolarTime.ofLocation(-60.0 + i * 2.5, -179.0 + i * 7.1));
+        }
+        PlainDate first = PlainDate.of(2024, 1, 1);
+        PlainDate last = PlainDate.of(2024, 3, 31);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            long[][] parallel = SolarTime.sunEvents(locations, first, last, null, pool);
+            long[][] civil = SolarTime.sunEvents(locations, first, last, Twilight.CIVIL, pool);
+            assertThat(parallel.length, is(50));
+            for (int i = 0; i < 50; i++) {
+                assertThat(Arrays.equals(parallel[i], locations.get(i).sunEvents(first, last)), is(true));
+                assertThat(Arrays.equals(civil[i], locations.get(i).sunEvents(first, last, Twilight.CIVIL)), is(true));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void sunEventsOfInvalidRange() {
+        SolarTime.ofLocation(53.55, 10.0).sunEvents(PlainDate.of(2020, 1, 2), PlainDate.of(2020, 1, 1));
+    }
+
+    private static void checkSunEvents(
+        long[] events,
+        ChronoFunction<CalendarDate, Optional<Moment>> sunrise,
+        ChronoFunction<CalendarDate, Optional<Moment>> sunset,
+        PlainDate first
+    ) {
+        for (int i = 0; i < events.length / 2; i++) {
+            PlainDate date = first.plus(i, CalendarUnit.DAYS);
+            assertThat(events[2 * i], is(date.get(sunrise).map(Moment::getPosixTime).orElse(Long.MIN_VALUE)));
+            assertThat(events[2 * i + 1], is(date.get(sunset).map(Moment::getPosixTime).orElse(Long.MIN_VALUE)));
+        }
+    }
+
     private static SolarTime svalbard(TZID tzid) {
         SolarTime.Builder builder =
             SolarTime.ofLocation()
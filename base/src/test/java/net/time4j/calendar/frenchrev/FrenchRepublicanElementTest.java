@@ -1,7 +1,10 @@
 package net.time4j.calendar.frenchrev;
 
+import net.time4j.PlainTimestamp;
 import net.time4j.Weekday;
+import net.time4j.calendar.astro.AstronomicalSeason;
 import net.time4j.engine.ChronoException;
+import net.time4j.tz.ZonalOffset;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
@@ -9,6 +12,7 @@ import org.junit.runners.JUnit4;
 import java.util.Locale;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.fail;
 
@@ -784,4 +788,14 @@ public class FrenchRepublicanElementTest {
             is(false));
     }
 
+    @Test
+    public void equinoxOfParisMeridianStaysCached() {
+        ZonalOffset paris = FrenchRepublicanAlgorithm.PARIS_OBSERVATORY;
+        PlainTimestamp tsp = AstronomicalSeason.AUTUMNAL_EQUINOX.apparentTimeInYear(1792, paris);
+        for (int minutes = -600; minutes <= 600; minutes += 15) { // fills the cache with other offsets
+            AstronomicalSeason.AUTUMNAL_EQUINOX.apparentTimeInYear(1792, ZonalOffset.ofTotalSeconds(minutes * 60));
+        }
+        assertThat(AstronomicalSeason.AUTUMNAL_EQUINOX.apparentTimeInYear(1792, paris), sameInstance(tsp));
+    }
+
 }
@@ -461,4 +461,28 @@ public class HinduMiscellaneousTest {
             is(PlainDate.of(1983, 4, 14)));
     }
 
+    @Test
+    public void cachedCalendarSystem() {
+        HinduVariant[] variants = {HinduRule.AMANTA.variant(), HinduRule.TAMIL.variant()};
+        long start = PlainDate.of(2020, 1, 1).getDaysSinceEpochUTC();
+
+        for (HinduVariant hv : variants) {
+            HinduCS cached = hv.getCalendarSystem();
+            HinduCS fresh = new HinduVariant.ModernHinduCS(hv);
+            assertThat(hv.getCalendarSystem() == cached, is(true));
+
+            for (int round = 0; round < 2; round++) {
+                for (long utcDays = start; utcDays < start + 400; utcDays++) {
+                    HinduCalendar expected = fresh.create(utcDays);
+                    HinduCalendar cal = cached.create(utcDays);
+                    assertThat(cal, is(expected));
+                    assertThat(
+                        cached.create(cal.getExpiredYearOfKaliYuga(), cal.getMonth(), cal.getDayOfMonth())
+                            .getDaysSinceEpochUTC(),
+                        is(utcDays));
+                }
+            }
+        }
+    }
+
 }
@@ -0,0 +1,227 @@
+package net.time4j.format;
+
+import net.time4j.Month;
+import net.time4j.Weekday;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.text.ParsePosition;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class TextAccessorTest {
+
+    private static final Leniency[] MODES = {Leniency.STRICT, Leniency.SMART};
+
+    @Test
+    public void sameResultsAsLinearScan() {
+        for (Locale locale : Locale.getAvailableLocales()) {
+            CalendarText ct = CalendarText.getIsoInstance(locale);
+            for (TextWidth tw : TextWidth.values()) {
+                for (OutputContext oc : OutputContext.values()) {
+                    check(ct.getStdMonths(tw, oc), Month.class);
+                    check(ct.getWeekdays(tw, oc), Weekday.class);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void sameResultsForAmbiguousForms() {
+        check(new TextAccessor(new String[] {"J", "F", "M", "A", "M", "J", "J", "A", "S", "O", "N", "D"}), Month.class);
+        check(
+            new TextAccessor(new String[] {"Ma", "Mar", "MA", "m", "x", "März", "İx", "ıx", "x y", "x\u00A0y", "Sept.", "Sep."}),
+            Month.class);
+    }
+
+    @Test
+    public void septemberWithoutT() {
+        TextAccessor accessor =
+            new TextAccessor(
+                new String[] {
+                    "Jan.", "Feb.", "März", "Apr.", "Mai", "Juni", "Juli", "Aug.", "Sept.", "Okt.", "Nov.", "Dez."});
+        for (int start = 0; start <= 3; start += 3) {
+            String text = "1. Sep. 2015".substring(3 - start);
+            ParsePosition pp = new ParsePosition(start);
+            assertThat(accessor.parse(text, pp, Month.class, Leniency.SMART), is(Month.SEPTEMBER));
+            assertThat(pp.getIndex(), is(start + 4));
+            pp = new ParsePosition(start);
+            assertThat(accessor.parse(text, pp, Month.class, Leniency.LAX), is(Month.SEPTEMBER));
+            assertThat(pp.getIndex(), is(start + 4));
+            pp = new ParsePosition(start);
+            assertThat(accessor.parse(text, pp, Month.class, Leniency.STRICT), nullValue());
+            assertThat(pp.getErrorIndex(), is(start));
+        }
+    }
+
+    @Test
+    public void septemberWithoutTInGermanMonths() {
+        TextAccessor accessor =
+            CalendarText.getIsoInstance(Locale.GERMAN).getStdMonths(TextWidth.ABBREVIATED, OutputContext.FORMAT);
+        ParsePosition pp = new ParsePosition(4);
+        assertThat(accessor.parse("12. Sep. 2015", pp, Month.class, Leniency.SMART), is(Month.SEPTEMBER));
+        assertThat(pp.getIndex(), is(8));
+        pp = new ParsePosition(4);
+        assertThat(accessor.parse("12. Sept. 2015", pp, Month.class, Leniency.SMART), is(Month.SEPTEMBER));
+        assertThat(pp.getIndex(), is(9));
+    }
+
+    private static <V extends Enum<V>> void check(
+        TextAccessor accessor,
+        Class<V> type
+    ) {
+
+        for (String input : inputs(accessor.getTextForms())) {
+            for (String prefix : new String[] {"", "1. "}) {
+                String text = prefix + input;
+                for (Leniency mode : MODES) {
+                    ParsePosition expected = new ParsePosition(prefix.length());
+                    ParsePosition actual = new ParsePosition(prefix.length());
+                    V e = linearScan(accessor.getTextForms(), text, expected, type, mode);
+                    V a = accessor.parse(text, actual, type, mode);
+                    String msg = accessor + " => " + text + " (" + mode + ")";
+                    assertThat(msg, a, is(e));
+                    assertThat(msg, actual.getIndex(), is(expected.getIndex()));
+                    assertThat(msg, actual.getErrorIndex(), is(expected.getErrorIndex()));
+                }
+            }
+        }
+
+    }
+
+    private static List<String> inputs(List<String> textForms) {
+
+        List<String> inputs = new ArrayList<>();
+        inputs.add("");
+        inputs.add("?");
+
+        for (String s : textForms) {
+            inputs.add(s);
+            inputs.add(s + " 2015");
+            inputs.add(s.toUpperCase(Locale.ROOT));
+            inputs.add(s.toLowerCase(Locale.ROOT));
+            inputs.add(s.replace(' ', '\u00A0'));
+            inputs.add(s.replace('\u00A0', ' '));
+            if (s.length() > 1) {
+                inputs.add(s.substring(0, s.length() - 1));
+                inputs.add(s.substring(0, s.length() - 1) + "?");
+            }
+            if ((s.length() == 5) && s.endsWith(".")) {
+                inputs.add(s.substring(0, 3) + ".");
+            }
+        }
+
+        return inputs;
+
+    }
+
+    // the original algorithm without trie in non-partial mode
+    private static <V extends Enum<V>> V linearScan(
+        List<String> textForms,
+        String parseable,
+        ParsePosition status,
+        Class<V> valueType,
+        Leniency mode
+    ) {
+
+        boolean caseInsensitive = (mode != Leniency.STRICT);
+        boolean smart = (mode != Leniency.STRICT);
+        V[] enums = valueType.getEnumConstants();
+        int start = status.getIndex();
+        int end = parseable.length();
+        String alt = "";
+        int maxEq = 0;
+        V candidate = null;
+
+        for (int i = 0; i < enums.length; i++) {
+            boolean firstTry = alt.isEmpty();
+            String s = (firstTry ? textForms.get(i) : alt);
+            int pos = start;
+            int n = s.length();
+            boolean eq = true;
+
+            for (int j = 0; eq && (j < n); j++) {
+                if (start + j >= end) {
+                    eq = false;
+                } else {
+                    char c = parseable.charAt(start + j);
+                    char t = s.charAt(j);
+                    if (smart) {
+                        c = ((c == '\u00A0') ? ' ' : c);
+                        t = ((t == '\u00A0') ? ' ' : t);
+                    }
+                    eq = (c == t) || (caseInsensitive && compareIgnoreCase(c, t));
+                    if (eq) {
+                        pos++;
+                    }
+                }
+            }
+
+            if (smart && firstTry && (n == 5) && (s.charAt(4) == '.')) {
+                int dot = start + 3;
+                if ((pos == dot) && (dot < end) && (parseable.charAt(dot) == '.')) {
+                    alt = s.substring(0, 3) + ".";
+                    i--;
+                    continue;
+                }
+            }
+
+            alt = "";
+
+            if (n == 1) {
+                if (maxEq < pos - start) {
+                    maxEq = pos - start;
+                    candidate = enums[i];
+                } else if (maxEq == pos - start) {
+                    candidate = null;
+                }
+            } else if (eq) {
+                status.setIndex(pos);
+                return enums[i];
+            }
+        }
+
+        if (candidate == null) {
+            status.setErrorIndex(start);
+        } else {
+            status.setIndex(start + maxEq);
+        }
+
+        return candidate;
+
+    }
+
+    private static boolean compareIgnoreCase(
+        char c1,
+        char c2
+    ) {
+
+        if (c1 >= 'a' && c1 <= 'z') {
+            if (c2 >= 'A' && c2 <= 'Z') {
+                c2 = (char) (c2 + 'a' - 'A');
+            }
+            return (c1 == c2);
+        } else if (c1 >= 'A' && c1 <= 'Z') {
+            c1 = (char) (c1 + 'a' - 'A');
+            if (c2 >= 'A' && c2 <= 'Z') {
+                c2 = (char) (c2 + 'a' - 'A');
+            }
+            return (c1 == c2);
+        }
+
+        return (
+            Character.toUpperCase(c1) == Character.toUpperCase(c2)
+            || Character.toLowerCase(c1) == Character.toLowerCase(c2)
+        );
+
+    }
+
+}
@@ -0,0 +1,131 @@
+package net.time4j.format.expert;
+
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import net.time4j.tz.ZonalOffset;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.util.Locale;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
+
+
+@RunWith(JUnit4.class)
+public class BufferParseTest {
+
+    @Test
+    public void sameAsStringParsing() {
+        check(
+            ChronoFormatter.ofTimestampPattern("uuuu-MM-dd HH:mm:ss.SSS", PatternType.CLDR, Locale.ROOT),
+            "2024-02-29 17:45:30.123", "2024-02-30 17:45:30.123", "2024-02-29 17:45", "2024-02-29 17:45:30.123xyz");
+        check(
+            ChronoFormatter.ofDatePattern("d. MMMM uuuu", PatternType.CLDR, Locale.GERMAN),
+            "1. März 2024", "1. MÄRZ 2024", "1. Mai 2024", "1. Maerz 2024");
+        check(
+            ChronoFormatter.ofMomentPattern("uuuu-MM-dd'T'HH:mm:ssXXX", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC),
+            "2024-02-29T17:45:30Z", "2024-02-29T17:45:30z", "2024-02-29T17:45:30+05:30", "2024-02-29T17:45:30+5");
+        check(
+            ChronoFormatter.ofMomentPattern("uuuu-MM-dd HH:mm 'GMT'x", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC),
+            "2024-02-29 17:45 GMT+01", "2024-02-29 17:45 gmt+01");
+        check(Iso8601Format.EXTENDED_DATE_TIME_OFFSET, "2024-02-29T17:45:30.5Z", "2024-02-29T17:45:30,123+01:00");
+        check(Iso8601Format.BASIC_CALENDAR_DATE, "20240229", "2024022");
+        check(ChronoFormatter.RFC_1123, "Thu, 29 Feb 2024 17:45:30 GMT", "Thu, 29 Feb 2024 17:45:30 +0100");
+    }
+
+    @Test
+    public void rangeWithinBuffer() throws ParseException {
+        ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT);
+        ByteBuffer buffer = ByteBuffer.wrap("xx2024-03-01yy".getBytes(StandardCharsets.US_ASCII));
+        buffer.position(1).limit(13);
+        assertThat(f.parse(buffer, 2, 10), is(PlainDate.of(2024, 3, 1)));
+        assertThat(f.parse(buffer.slice(), 1, 10), is(PlainDate.of(2024, 3, 1)));
+        assertThat(buffer.position(), is(1));
+        assertThat(buffer.limit(), is(13));
+        try {
+            f.parse(buffer, 2, 11);
+            fail("Expected ParseException.");
+        } catch (ParseException ex) {
+            assertThat(ex.getErrorOffset(), is(10));
+        }
+    }
+
+    @Test
+    public void reusedContext() throws ParseException {
+        ChronoFormatter<PlainTimestamp> f =
+            ChronoFormatter.ofTimestampPattern("dd.MM.uuuu HH:mm", PatternType.CLDR, Locale.ROOT);
+        ParseContext context = new ParseContext();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(64);
+        buffer.put("01.03.2024 17:45|02.03.2024 08:00".getBytes(StandardCharsets.US_ASCII));
+        assertThat(f.parse(buffer, 0, 16, context), is(PlainTimestamp.of(2024, 3, 1, 17, 45)));
+        assertThat(f.parse(buffer, 17, 16, context), is(PlainTimestamp.of(2024, 3, 2, 8, 0)));
+    }
+
+    @Test(expected=IndexOutOfBoundsException.class)
+    public void emptyRange() throws ParseException {
+        ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT).parse(ByteBuffer.allocate(10), 3, 0);
+    }
+
+    @Test(expected=IndexOutOfBoundsException.class)
+    public void rangeBeyondLimit() throws ParseException {
+        ByteBuffer buffer = ByteBuffer.allocate(20);
+        buffer.limit(10);
+        ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT).parse(buffer, 1, 10);
+    }
+
+    @Test(expected=IndexOutOfBoundsException.class)
+    public void negativeOffset() throws ParseException {
+        ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT).parse(ByteBuffer.allocate(20), -1, 10);
+    }
+
+    private static <T> void check(
+        ChronoFormatter<T> f,
+        String... texts
+    ) {
+
+        for (String text : texts) {
+            String expected = describe(f, text);
+            byte[] bytes = ("#" + text + "#").getBytes(StandardCharsets.ISO_8859_1);
+            ByteBuffer heap = ByteBuffer.wrap(bytes);
+            ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+            direct.put(bytes);
+            ByteBuffer[] buffers = {heap, heap.asReadOnlyBuffer(), direct};
+            for (ByteBuffer buffer : buffers) {
+                String actual;
+                try {
+                    actual = String.valueOf(f.parse(buffer, 1, text.length()));
+                } catch (ParseException ex) {
+                    actual = ex.getMessage() + "@" + ex.getErrorOffset();
+                }
+                assertThat(text, actual, is(expected));
+                try {
+                    actual = String.valueOf(f.parse(buffer, 1, text.length(), new ParseContext()));
+                } catch (ParseException ex) {
+                    actual = ex.getMessage() + "@" + ex.getErrorOffset();
+                }
+                assertThat(text, actual, is(expected));
+            }
+        }
+
+    }
+
+    private static <T> String describe(
+        ChronoFormatter<T> f,
+        String text
+    ) {
+
+        try {
+            return String.valueOf(f.parse(text));
+        } catch (ParseException ex) {
+            return ex.getMessage() + "@" + ex.getErrorOffset();
+        }
+
+    }
+
+}
@@ -0,0 +1,205 @@
+package net.time4j.format.expert;
+
+import net.time4j.ClockUnit;
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.OffsetSign;
+import net.time4j.tz.ZonalOffset;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class BufferPrintTest {
+
+    private static final PlainTimestamp TSP = PlainTimestamp.of(2024, 3, 7, 9, 5, 4).plus(120_450_000, ClockUnit.NANOS);
+
+    @Test
+    public void printIntoCharArray() {
+        ChronoFormatter<PlainTimestamp> f =
+            ChronoFormatter.ofTimestampPattern("uuuu-MM-dd'T'HH:mm:ss.SSSSSS", PatternType.CLDR, Locale.ROOT);
+        char[] target = new char[40];
+        target[0] = '#';
+        int written = f.print(TSP, target, 1);
+        assertThat(written, is(26));
+        assertThat(new String(target, 0, written + 1), is("#2024-03-07T09:05:04.120450"));
+    }
+
+    @Test
+    public void printIntoCharBuffer() {
+        ChronoFormatter<PlainDate> f = Iso8601Format.EXTENDED_CALENDAR_DATE;
+        CharBuffer target = CharBuffer.allocate(32);
+        target.put("x=");
+        assertThat(f.print(PlainDate.of(2015, 12, 31), target), is(10));
+        assertThat(target.position(), is(12));
+        target.flip();
+        assertThat(target.toString(), is("x=2015-12-31"));
+    }
+
+    @Test
+    public void printIntoSlicedCharBuffer() {
+        CharBuffer base = CharBuffer.allocate(32);
+        base.position(5);
+        CharBuffer target = base.slice();
+        target.position(1);
+        assertThat(Iso8601Format.BASIC_CALENDAR_DATE.print(PlainDate.of(2015, 12, 31), target), is(8));
+        assertThat(new String(base.array(), 6, 8), is("20151231"));
+    }
+
+    @Test
+    public void printIntoDirectCharBuffer() {
+        CharBuffer target = ByteBuffer.allocateDirect(64).asCharBuffer();
+        assertThat(Iso8601Format.BASIC_CALENDAR_DATE.print(PlainDate.of(2015, 12, 31), target), is(8));
+        target.flip();
+        assertThat(target.toString(), is("20151231"));
+    }
+
+    @Test
+    public void printIntoHeapByteBuffer() {
+        ByteBuffer target = ByteBuffer.allocate(64);
+        target.put((byte) '[');
+        Moment moment = PlainTimestamp.of(2024, 1, 2, 3, 4, 5).at(ZonalOffset.ofHours(OffsetSign.BEHIND_UTC, 5));
+        int written = ChronoFormatter.RFC_1123.print(moment, target);
+        assertThat(written, is(28));
+        assertThat(target.position(), is(29));
+        assertThat(
+            new String(target.array(), 0, 29, StandardCharsets.ISO_8859_1),
+            is("[Tue, 2 Jan 2024 08:04:05 GMT"));
+    }
+
+    @Test
+    public void printIntoDirectByteBuffer() {
+        ByteBuffer target = ByteBuffer.allocateDirect(64);
+        target.position(3);
+        ChronoFormatter<PlainTime> f = ChronoFormatter.ofTimePattern("HH:mm:ss", PatternType.CLDR, Locale.ROOT);
+        assertThat(f.print(PlainTime.of(17, 45, 30), target), is(8));
+        assertThat(target.position(), is(11));
+        byte[] bytes = new byte[8];
+        target.position(3);
+        target.get(bytes);
+        assertThat(new String(bytes, StandardCharsets.US_ASCII), is("17:45:30"));
+    }
+
+    @Test
+    public void printLatin1IntoByteBuffer() {
+        ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern("d. MMMM uuuu", PatternType.CLDR, Locale.GERMAN);
+        ByteBuffer target = ByteBuffer.allocate(32);
+        int written = f.print(PlainDate.of(2024, 3, 1), target);
+        assertThat(new String(target.array(), 0, written, StandardCharsets.ISO_8859_1), is("1. März 2024"));
+    }
+
+    @Test
+    public void printNonLatin1IntoByteBuffer() {
+        ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern("d MMMM uuuu", PatternType.CLDR, new Locale("ru"));
+        ByteBuffer target = ByteBuffer.allocate(32);
+        try {
+            f.print(PlainDate.of(2024, 3, 1), target);
+            throw new AssertionError("Expected exception not thrown.");
+        } catch (IllegalArgumentException ex) {
+            assertThat(target.position(), is(0));
+        }
+    }
+
+    @Test(expected=ReadOnlyBufferException.class)
+    public void printIntoReadOnlyByteBuffer() {
+        Iso8601Format.BASIC_CALENDAR_DATE.print(PlainDate.of(2015, 12, 31), ByteBuffer.allocate(10).asReadOnlyBuffer());
+    }
+
+    @Test
+    public void overflowOfCharArray() {
+        char[] target = new char[12];
+        try {
+            Iso8601Format.EXTENDED_CALENDAR_DATE.print(PlainDate.of(2015, 12, 31), target, 3);
+            throw new AssertionError("Expected exception not thrown.");
+        } catch (BufferOverflowException ex) {
+            // expected
+        }
+        assertThat(Iso8601Format.EXTENDED_CALENDAR_DATE.print(PlainDate.of(2015, 12, 31), target, 2), is(10));
+    }
+
+    @Test
+    public void overflowOfByteBufferKeepsPosition() {
+        ByteBuffer target = ByteBuffer.allocate(9);
+        target.put((byte) 1);
+        try {
+            Iso8601Format.EXTENDED_CALENDAR_DATE.print(PlainDate.of(2015, 12, 31), target);
+            throw new AssertionError("Expected exception not thrown.");
+        } catch (BufferOverflowException ex) {
+            assertThat(target.position(), is(1));
+        }
+    }
+
+    @Test(expected=IndexOutOfBoundsException.class)
+    public void invalidOffset() {
+        Iso8601Format.BASIC_CALENDAR_DATE.print(PlainDate.of(2015, 12, 31), new char[10], 11);
+    }
+
+    @Test
+    public void orBlocksWithOptionalSections() {
+        ChronoFormatter<PlainDate> f =
+            ChronoFormatter.setUp(PlainDate.axis(), Locale.ROOT)
+                .addFixedInteger(PlainDate.YEAR, 4)
+                .startOptionalSection()
+                .addLiteral('-')
+                .addFixedInteger(PlainDate.DAY_OF_YEAR, 2)
+                .or()
+                .addLiteral('/')
+                .addFixedInteger(PlainDate.DAY_OF_YEAR, 3)
+                .endSection()
+                .addLiteral('!')
+                .build();
+        PlainDate d1 = PlainDate.of(2015, 1, 31);
+        PlainDate d2 = PlainDate.of(2015, 12, 31);
+        char[] target = new char[20];
+
+        assertThat(new String(target, 0, f.print(d1, target, 0)), is(f.format(d1)));
+        assertThat(new String(target, 0, f.print(d2, target, 0)), is(f.format(d2)));
+        assertThat(f.format(d1), is("2015-31!"));
+        assertThat(f.format(d2), is("2015/365!"));
+    }
+
+    @Test
+    public void orBlocksIntoNonEmptyBuilder() {
+        ChronoFormatter<PlainDate> f =
+            ChronoFormatter.setUp(PlainDate.axis(), Locale.ROOT)
+                .addFixedInteger(PlainDate.DAY_OF_YEAR, 2)
+                .or()
+                .addFixedInteger(PlainDate.DAY_OF_YEAR, 3)
+                .build();
+        StringBuilder sb = new StringBuilder("day=");
+        Set<ElementPosition> positions = f.print(PlainDate.of(2015, 12, 31), sb, f.getAttributes());
+        assertThat(sb.toString(), is("day=365"));
+        assertThat(positions.size(), is(1));
+    }
+
+    @Test
+    public void sameAsStringPrinting() {
+        ChronoFormatter<Moment> f =
+            ChronoFormatter.ofMomentPattern(
+                "uuuu-MM-dd'T'HH:mm:ss[.SSSSSSSSS]XXXXX", PatternType.CLDR, Locale.ROOT,
+                ZonalOffset.ofHoursMinutes(OffsetSign.AHEAD_OF_UTC, 5, 30));
+        char[] target = new char[64];
+
+        for (int i = 0; i < 1000; i++) {
+            Moment m = Moment.of(1_000_000_000L + i * 86_413L, (int) ((i * 12_345_679L) % 1_000_000_000), TimeScale.POSIX);
+            String expected = f.format(m);
+            assertThat(new String(target, 0, f.print(m, target, 0)), is(expected));
+        }
+    }
+
+}
@@ -0,0 +1,127 @@
+package net.time4j.format.expert;
+
+import net.time4j.CalendarUnit;
+import net.time4j.ClockUnit;
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import net.time4j.tz.ZonalOffset;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
+
+
+@RunWith(JUnit4.class)
+public class BulkPrintTest {
+
+    private static final int COUNT = 10000; // several chunks with a partial last chunk
+
+    @Test
+    public void printArrayInOrder() throws IOException {
+        ChronoFormatter<PlainTimestamp> f =
+            ChronoFormatter.ofTimestampPattern("uuuu-MM-dd HH:mm:ss", PatternType.CLDR, Locale.ROOT);
+        PlainTimestamp[] values = new PlainTimestamp[COUNT];
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < COUNT; i++) {
+            values[i] = PlainTimestamp.of(2000, 1, 1, 0, 0).plus(i * 3607L, ClockUnit.SECONDS);
+            expected.append(f.print(values[i])).append('\n');
+        }
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            StringBuilder sb = new StringBuilder();
+            f.printAll(values, "\n", sb, pool);
+            assertThat(sb.toString(), is(expected.toString()));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void printStreamIntoWriter() throws IOException {
+        ChronoFormatter<Moment> f = ChronoFormatter.RFC_1123;
+        StringBuilder expected = new StringBuilder();
+        Moment start = Moment.UNIX_EPOCH;
+        for (int i = 0; i < COUNT; i++) {
+            expected.append(f.print(start.plus(i * 86399L, TimeUnit.SECONDS))).append("\r\n");
+        }
+        StringWriter writer = new StringWriter();
+        Stream<Moment> stream =
+            Stream.iterate(start, m -> m.plus(86399L, TimeUnit.SECONDS)).limit(COUNT);
+        f.printAll(stream, "\r\n", writer, ForkJoinPool.commonPool());
+        assertThat(writer.toString(), is(expected.toString()));
+    }
+
+    @Test
+    public void printEmptySource() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT)
+            .printAll(new PlainDate[0], "\n", sb, ForkJoinPool.commonPool());
+        assertThat(sb.length(), is(0));
+    }
+
+    @Test
+    public void printIntoChannel() throws IOException {
+        ChronoFormatter<PlainDate> f =
+            ChronoFormatter.ofDatePattern("d. MMMM uuuu", PatternType.CLDR, Locale.GERMAN);
+        PlainDate[] values = new PlainDate[COUNT];
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < COUNT; i++) {
+            values[i] = PlainDate.of(2000, 1, 1).plus(i, CalendarUnit.DAYS);
+            expected.append(f.print(values[i])).append(';');
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        f.printAll(
+            Arrays.spliterator(values),
+            ";",
+            Channels.newChannel(out),
+            StandardCharsets.UTF_8,
+            ForkJoinPool.commonPool());
+        assertThat(new String(out.toByteArray(), StandardCharsets.UTF_8), is(expected.toString()));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void printIntoChannelUnmappable() throws IOException {
+        ChronoFormatter<PlainDate> f =
+            ChronoFormatter.ofDatePattern("d. MMMM uuuu", PatternType.CLDR, Locale.GERMAN);
+        f.printAll(
+            Arrays.spliterator(new PlainDate[] {PlainDate.of(2000, 3, 1)}),
+            "",
+            Channels.newChannel(new ByteArrayOutputStream()),
+            StandardCharsets.US_ASCII,
+            ForkJoinPool.commonPool());
+    }
+
+    @Test
+    public void printNotFormattable() throws IOException {
+        ChronoFormatter<Moment> f =
+            ChronoFormatter.ofMomentPattern("uuuu-MM-dd HH:mm", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC);
+        Moment[] values = new Moment[COUNT];
+        for (int i = 0; i < COUNT; i++) {
+            values[i] = Moment.UNIX_EPOCH;
+        }
+        values[COUNT - 1] = null;
+        StringBuilder sb = new StringBuilder();
+        try {
+            f.printAll(values, "\n", sb, ForkJoinPool.commonPool());
+            fail("Null value should not be formattable.");
+        } catch (NullPointerException | IllegalArgumentException ex) {
+            // expected
+        }
+    }
+
+}
@@ -0,0 +1,149 @@
+package net.time4j.format.expert;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.engine.EpochDays;
+import net.time4j.format.Attributes;
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.ZonalOffset;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class ColumnParsingTest {
+
+    @Test
+    public void epochDaysWithErrors() {
+        ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT);
+        BitSet errors = new BitSet();
+        errors.set(0);
+        errors.set(10);
+        long[] days = f.parseEpochDays(Arrays.asList("1972-01-02", "xyz", null, "", "2024-02-29", "2023-02-29"), errors);
+        assertThat(days.length, is(6));
+        assertThat(days[0], is(1L));
+        assertThat(days[4], is(PlainDate.of(2024, 2, 29).get(EpochDays.UTC)));
+        assertThat(days[1], is(0L));
+        BitSet expected = new BitSet();
+        expected.set(1, 4);
+        expected.set(5);
+        expected.set(10); // outside of column
+        assertThat(errors, is(expected));
+    }
+
+    @Test
+    public void compiledAndInterpretedEpochDays() throws ParseException {
+        ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern("dd.MM.uuuu", PatternType.CLDR, Locale.ROOT);
+        String[] samples = {
+            "01.01.0001", "31.12.9999", "29.02.2000", "28.02.1900", "01.03.2015", "31.12.2015",
+            "32.01.2015", // day out of range
+            "29.02.2015", // no leap year
+            "1.01.2015", // day too short
+            "01-01-2015", // wrong separator
+            "" // empty cell
+        };
+        List<String> texts = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            texts.add(samples[i % samples.length]); // enough cells to be split into parallel tasks
+        }
+        BitSet expectedErrors = new BitSet();
+        long[] expectedDays = new long[texts.size()];
+        for (int i = 0; i < texts.size(); i++) {
+            try {
+                expectedDays[i] = f.parse(texts.get(i)).get(EpochDays.UTC);
+            } catch (ParseException | IndexOutOfBoundsException ex) {
+                expectedErrors.set(i);
+            }
+        }
+        assertThat(expectedErrors.isEmpty(), is(false));
+        for (ChronoFormatter<PlainDate> formatter : Arrays.asList(f, f.compile())) {
+            BitSet errors = new BitSet();
+            assertThat(formatter.parseEpochDays(texts, errors), is(expectedDays));
+            assertThat(errors, is(expectedErrors));
+            errors = new BitSet();
+            assertThat(formatter.parseEpochDays(texts, errors, ForkJoinPool.commonPool()), is(expectedDays));
+            assertThat(errors, is(expectedErrors));
+        }
+    }
+
+    @Test
+    public void posixTimes() {
+        ChronoFormatter<Moment> f =
+            ChronoFormatter.ofMomentPattern("uuuu-MM-dd'T'HH:mm:ss.SSSXXX", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC);
+        List<String> texts = new ArrayList<>();
+        for (int i = 0; i < 9000; i++) {
+            if (i % 100 == 7) {
+                texts.add("invalid");
+            } else {
+                texts.add(f.format(Moment.of(i * 222_222L, (i % 1000) * 1_000_000, TimeScale.POSIX)));
+            }
+        }
+        int[] nanos = new int[texts.size() + 5];
+        BitSet errors = new BitSet();
+        long[] seconds = f.parsePosixTimes(texts, nanos, errors);
+        int[] nanos2 = new int[texts.size()];
+        BitSet errors2 = new BitSet();
+        long[] seconds2 = f.parsePosixTimes(texts, nanos2, errors2, ForkJoinPool.commonPool());
+        assertThat(errors.cardinality(), is(90));
+        assertThat(errors2, is(errors));
+        assertThat(seconds2, is(seconds));
+        assertThat(Arrays.copyOf(nanos, texts.size()), is(nanos2));
+        for (int i = 0; i < texts.size(); i++) {
+            if (!errors.get(i)) {
+                assertThat(f.format(Moment.of(seconds[i], nanos[i], TimeScale.POSIX)), is(texts.get(i)));
+            }
+        }
+    }
+
+    @Test
+    public void trailingCharacters() {
+        ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT);
+        List<String> texts = Arrays.asList("2024-03-01xyz", "2024-03-01");
+        BitSet errors = new BitSet();
+        f.parseEpochDays(texts, errors);
+        assertThat(errors.cardinality(), is(1));
+        assertThat(errors.get(0), is(true));
+        f.with(Attributes.TRAILING_CHARACTERS, true).parseEpochDays(texts, errors);
+        assertThat(errors.isEmpty(), is(true));
+    }
+
+    @Test
+    public void emptyColumn() {
+        ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT);
+        BitSet errors = new BitSet();
+        assertThat(f.parseEpochDays(Collections.emptyList(), errors).length, is(0));
+        assertThat(errors.isEmpty(), is(true));
+    }
+
+    @Test(expected=UnsupportedOperationException.class)
+    public void epochDaysOfTimes() {
+        ChronoFormatter.ofTimePattern("HH:mm", PatternType.CLDR, Locale.ROOT)
+            .parseEpochDays(Collections.singletonList("17:45"), new BitSet());
+    }
+
+    @Test(expected=UnsupportedOperationException.class)
+    public void posixTimesOfDates() {
+        ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT)
+            .parsePosixTimes(Collections.singletonList("2024-03-01"), new int[1], new BitSet());
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void nanosTooShort() {
+        ChronoFormatter.ofMomentPattern("uuuu-MM-dd HH:mm", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC)
+            .parsePosixTimes(Arrays.asList("2024-03-01 17:45", "2024-03-01 17:46"), new int[1], new BitSet());
+    }
+
+}
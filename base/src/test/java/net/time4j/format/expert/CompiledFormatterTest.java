@@ -0,0 +1,290 @@
+package net.time4j.format.expert;
+
+import net.time4j.ClockUnit;
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.format.Attributes;
+import net.time4j.tz.ZonalOffset;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.text.ParseException;
+import java.util.Arrays;
+import java.util.Locale;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
+
+
+@RunWith(JUnit4.class)
+public class CompiledFormatterTest {
+
+    private static final PlainDate[] DATES = {
+        PlainDate.of(1, 1, 1), PlainDate.of(999, 12, 31), PlainDate.of(1900, 2, 28), PlainDate.of(1999, 12, 31),
+        PlainDate.of(2000, 2, 29), PlainDate.of(2015, 12, 31), PlainDate.of(9999, 12, 31)
+    };
+
+    private static final PlainTime[] TIMES = {
+        PlainTime.of(0, 0), PlainTime.of(9, 5, 1), PlainTime.of(12, 0, 0, 1_000_000), PlainTime.of(12, 0, 0, 1),
+        PlainTime.of(17, 45, 30, 123_456_789), PlainTime.of(23, 59, 59, 999_999_999)
+    };
+
+    @Test
+    public void compileFixedPatterns() throws ParseException {
+        ChronoFormatter<PlainTimestamp> f =
+            ChronoFormatter.ofTimestampPattern("uuuu-MM-dd HH:mm:ss.SSS", PatternType.CLDR, Locale.ROOT);
+        ChronoFormatter<PlainTimestamp> compiled = f.compile();
+        assertThat(compiled, not(sameInstance(f)));
+        assertThat(compiled.compile(), sameInstance(compiled));
+        PlainTimestamp tsp = PlainTimestamp.of(2024, 2, 29, 17, 45, 30).plus(123_456_789, ClockUnit.NANOS);
+        assertThat(compiled.format(tsp), is("2024-02-29 17:45:30.123"));
+        assertThat(
+            compiled.parse("2024-02-29 17:45:30.123"),
+            is(PlainTimestamp.of(2024, 2, 29, 17, 45, 30).plus(123, ClockUnit.MILLIS)));
+    }
+
+    @Test
+    public void patternsWithoutCompilation() {
+        String[] datePatterns = {"d.M.uuuu", "yy-MM-dd", "uuuu-MMM-dd", "uuuu-MM-dd|dd.MM.uuuu", "uuuu-MM-dd[ EEE]"};
+        for (String pattern : datePatterns) {
+            ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern(pattern, PatternType.CLDR, Locale.ENGLISH);
+            assertThat(pattern, f.compile(), sameInstance(f));
+        }
+        String[] timePatterns = {"HH:mm[:ss]", "hh:mm a", "HH", "'T1 'HH:mm", "H:mm"};
+        for (String pattern : timePatterns) {
+            ChronoFormatter<PlainTime> f = ChronoFormatter.ofTimePattern(pattern, PatternType.CLDR, Locale.ENGLISH);
+            assertThat(pattern, f.compile(), sameInstance(f));
+        }
+        ChronoFormatter<PlainDate> withDefault =
+            ChronoFormatter.ofDatePattern("uuuu-MM", PatternType.CLDR, Locale.ROOT)
+                .withDefault(PlainDate.DAY_OF_MONTH, 1);
+        assertThat(withDefault.compile(), sameInstance(withDefault));
+        ChronoFormatter<PlainDate> arabic =
+            ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT)
+                .with(Attributes.ZERO_DIGIT, '٠');
+        assertThat(arabic.compile(), sameInstance(arabic));
+        ChronoFormatter<Moment> moment =
+            ChronoFormatter.ofMomentPattern("uuuu-MM-dd HH:mm", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC);
+        assertThat(moment.compile(), sameInstance(moment));
+        assertThat(Iso8601Format.EXTENDED_CALENDAR_DATE.compile(), sameInstance(Iso8601Format.EXTENDED_CALENDAR_DATE));
+    }
+
+    @Test
+    public void copiesAreNotCompiled() {
+        ChronoFormatter<PlainDate> compiled =
+            ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT).compile();
+        ChronoFormatter<PlainDate> copy = compiled.with(Locale.GERMAN);
+        assertThat(copy.compile(), not(sameInstance(copy)));
+    }
+
+    @Test
+    public void printAndParseDate() {
+        String[] patterns = {"uuuu-MM-dd", "uuuuMMdd", "dd.MM.uuuu", "MMdduuuu", "uuuu/MM/dd 'week'"};
+        for (String pattern : patterns) {
+            ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern(pattern, PatternType.CLDR, Locale.ROOT);
+            ChronoFormatter<PlainDate> compiled = f.compile();
+            assertThat(pattern, compiled, not(sameInstance(f)));
+            for (PlainDate date : DATES) {
+                checkPrint(compiled, date);
+                checkParse(compiled, f.format(date));
+            }
+            checkPrint(compiled, PlainDate.of(10000, 1, 1));
+            checkPrint(compiled, PlainDate.of(-1, 12, 31));
+            checkPrint(compiled, PlainDate.of(0, 1, 1));
+        }
+    }
+
+    @Test
+    public void rejectDate() {
+        String[][] table = {
+            {"uuuu-MM-dd", "2015-12-3", "2015/12/31", "2015-12-31x", "2015-12-32", "2015-13-01", "2015-02-29"},
+            {"uuuuMMdd", "2015123", "2015-1231", "20151231x", "20151232", "20151301", "20150229"},
+            {"dd.MM.uuuu", "31.12.201", "31-12-2015", "31.12.2015x", "32.12.2015", "31.13.2015", "29.02.2015"},
+            {"MMdduuuu", "1231201", "12-312015", "12312015x", "12322015", "13312015", "02292015"},
+            {"uuuu/MM/dd 'week'", "2015/12/31", "2015/12/31 wee", "2015/12/31week", "2015/12/32 week"}
+        };
+        for (String[] row : table) {
+            ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern(row[0], PatternType.CLDR, Locale.ROOT);
+            checkRejected(f.compile(), Arrays.copyOfRange(row, 1, row.length));
+        }
+    }
+
+    @Test
+    public void printAndParseTime() {
+        String[] patterns = {"HH:mm", "HH:mm:ss", "HHmmss", "HH:mm:ss,SSS", "HH:mm:ss.SSSSSSSSS", "HH:mm:ss.S"};
+        for (String pattern : patterns) {
+            ChronoFormatter<PlainTime> f = ChronoFormatter.ofTimePattern(pattern, PatternType.CLDR, Locale.ROOT);
+            ChronoFormatter<PlainTime> compiled = f.compile();
+            assertThat(pattern, compiled, not(sameInstance(f)));
+            for (PlainTime time : TIMES) {
+                checkPrint(compiled, time);
+                checkParse(compiled, f.format(time));
+            }
+            checkPrint(compiled, PlainTime.midnightAtEndOfDay());
+        }
+    }
+
+    @Test
+    public void rejectTime() {
+        String[][] table = {
+            {"HH:mm", "17:4", "17-45", "17:45x", "17:60", "25:00", "24:01"},
+            {"HH:mm:ss", "17:45", "17:45:3", "17:45:30x", "17:45:60", "24:00:01"},
+            {"HHmmss", "17453", "174530x", "174560", "240001"},
+            {"HH:mm:ss,SSS", "17:45:30", "17:45:30.123", "17:45:30,123x"},
+            {"HH:mm:ss.SSSSSSSSS", "17:45:30,123456789", "17:45:30.123456789x"},
+            {"HH:mm:ss.S", "17:45:30", "17:45:30.", "17:45:30.x"}
+        };
+        for (String[] row : table) {
+            ChronoFormatter<PlainTime> f = ChronoFormatter.ofTimePattern(row[0], PatternType.CLDR, Locale.ROOT);
+            checkRejected(f.compile(), Arrays.copyOfRange(row, 1, row.length));
+        }
+    }
+
+    @Test
+    public void printAndParseTimestamp() {
+        String[] patterns = {
+            "uuuu-MM-dd HH:mm:ss.SSS", "uuuuMMddHHmmss", "uuuuMMddHHmmssSSS", "dd.MM.uuuu HH:mm",
+            "uuuu-MM-dd'T'HH:mm:ss.SSSSSSSSS"
+        };
+        for (String pattern : patterns) {
+            ChronoFormatter<PlainTimestamp> f =
+                ChronoFormatter.ofTimestampPattern(pattern, PatternType.CLDR, Locale.ROOT);
+            ChronoFormatter<PlainTimestamp> compiled = f.compile();
+            assertThat(pattern, compiled, not(sameInstance(f)));
+            for (PlainDate date : DATES) {
+                for (PlainTime time : TIMES) {
+                    PlainTimestamp tsp = PlainTimestamp.of(date, time);
+                    checkPrint(compiled, tsp);
+                    checkParse(compiled, f.format(tsp));
+                }
+            }
+            checkPrint(compiled, PlainTimestamp.of(12345, 1, 1, 0, 0));
+        }
+    }
+
+    @Test
+    public void rejectTimestamp() {
+        String[][] table = {
+            {"uuuu-MM-dd HH:mm:ss.SSS", "2015-12-31T17:45:30.123", "2015-12-31 17:45:30", "2015-12-32 17:45:30.123"},
+            {"uuuuMMddHHmmss", "2015123117453", "20151231174530x", "20151231254530", "20150229174530"},
+            {"uuuuMMddHHmmssSSS", "2015123117453012", "20151231174530123x", "20151231176030123"},
+            {"dd.MM.uuuu HH:mm", "31.12.2015 17", "31.12.2015T17:45", "31.12.2015 24:01", "32.12.2015 17:45"},
+            {"uuuu-MM-dd'T'HH:mm:ss.SSSSSSSSS", "2015-12-31 17:45:30.123456789", "2015-12-31T17:45:30"}
+        };
+        for (String[] row : table) {
+            ChronoFormatter<PlainTimestamp> f =
+                ChronoFormatter.ofTimestampPattern(row[0], PatternType.CLDR, Locale.ROOT);
+            checkRejected(f.compile(), Arrays.copyOfRange(row, 1, row.length));
+        }
+    }
+
+    private static <T> void checkPrint(
+        ChronoFormatter<T> compiled,
+        T value
+    ) {
+
+        ChronoFormatter<T> interpreted = interpreted(compiled);
+        String expected;
+
+        try {
+            expected = interpreted.format(value);
+        } catch (RuntimeException ex) {
+            String error = describe(ex);
+            try {
+                compiled.format(value);
+                fail("Expected: " + error);
+            } catch (RuntimeException ex2) {
+                assertThat(describe(ex2), is(error));
+            }
+            return;
+        }
+
+        assertThat(compiled.format(value), is(expected));
+        char[] target = new char[64];
+        int n = compiled.print(value, target, 5);
+        assertThat(new String(target, 5, n), is(expected));
+
+    }
+
+    private static <T> void checkParse(
+        ChronoFormatter<T> compiled,
+        String text
+    ) {
+
+        compare(compiled, interpreted(compiled), text);
+
+    }
+
+    // the compiled formatter must report the same error as the interpreted one
+    private static <T> void checkRejected(
+        ChronoFormatter<T> compiled,
+        String... texts
+    ) {
+
+        ChronoFormatter<T> interpreted = interpreted(compiled);
+
+        for (String text : texts) {
+            try {
+                interpreted.parse(text);
+                fail("Expected ParseException: " + text);
+            } catch (ParseException ex) {
+                compare(compiled, interpreted, text);
+            }
+        }
+
+    }
+
+    private static <T> void compare(
+        ChronoFormatter<T> compiled,
+        ChronoFormatter<T> interpreted,
+        String text
+    ) {
+
+        T expected = null;
+        String expectedError = null;
+
+        try {
+            expected = interpreted.parse(text);
+        } catch (ParseException | RuntimeException ex) {
+            expectedError = describe(ex);
+        }
+
+        for (int i = 0; i < 2; i++) {
+            try {
+                T result = ((i == 0) ? compiled.parse(text) : compiled.parse(text, new ParseContext()));
+                assertThat(text, expectedError, nullValue());
+                assertThat(text, result, notNullValue());
+                assertThat(text, result, is(expected));
+            } catch (ParseException | RuntimeException ex) {
+                assertThat(text, describe(ex), is(expectedError));
+            }
+        }
+
+    }
+
+    private static String describe(Exception ex) {
+
+        if (ex instanceof ParseException) {
+            return ex.getMessage() + "@" + ((ParseException) ex).getErrorOffset();
+        } else {
+            return ex.getClass().getName() + ": " + ex.getMessage();
+        }
+
+    }
+
+    // every copy of a formatter is interpreted again
+    private static <T> ChronoFormatter<T> interpreted(ChronoFormatter<T> formatter) {
+
+        return formatter.with(new Attributes.Builder().build());
+
+    }
+
+}
@@ -0,0 +1,384 @@
+package net.time4j.format.expert;
+
+import net.time4j.ClockUnit;
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.SI;
+import net.time4j.format.Attributes;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
+
+
+@RunWith(JUnit4.class)
+public class FastPathTest {
+
+    private static final PlainDate[] DATES = {
+        PlainDate.of(1, 1, 1), PlainDate.of(999, 12, 31), PlainDate.of(1000, 1, 1), PlainDate.of(1900, 2, 28),
+        PlainDate.of(1900, 3, 1), PlainDate.of(1970, 1, 1), PlainDate.of(1999, 12, 31), PlainDate.of(2000, 2, 29),
+        PlainDate.of(2015, 12, 31), PlainDate.of(2016, 2, 29), PlainDate.of(2038, 1, 19), PlainDate.of(9999, 12, 31)
+    };
+
+    private static final PlainTime[] TIMES = {
+        PlainTime.of(0, 0), PlainTime.of(0, 0, 1), PlainTime.of(9, 5), PlainTime.of(12, 0, 0, 1_000_000),
+        PlainTime.of(12, 0, 0, 1_000), PlainTime.of(12, 0, 0, 1), PlainTime.of(17, 45, 30, 100_000_000),
+        PlainTime.of(17, 45, 30, 123_000_000), PlainTime.of(17, 45, 30, 123_456_000),
+        PlainTime.of(17, 45, 30, 123_456_789), PlainTime.of(23, 59), PlainTime.of(23, 59, 59, 999_999_999)
+    };
+
+    @Test
+    public void fastPathIsUsedForCanonicalInput() {
+        assertThat(IsoFastPath.ofCalendarDate(true).parse("2015-12-31"), is(PlainDate.of(2015, 12, 31)));
+        assertThat(IsoFastPath.ofCalendarDate(false).parse("20151231"), is(PlainDate.of(2015, 12, 31)));
+        assertThat(
+            IsoFastPath.ofWallTime(true, ',').parse("17:45:30,123"),
+            is(PlainTime.of(17, 45, 30, 123_000_000)));
+        assertThat(
+            IsoFastPath.ofDateTime(false, ',').parse("20151231T1745"),
+            is(PlainTimestamp.of(2015, 12, 31, 17, 45)));
+        assertThat(
+            IsoFastPath.ofDateTimeOffset(true, ',').parse("2015-12-31T17:45:30.5-05:30"),
+            is(PlainTimestamp.of(2015, 12, 31, 23, 15, 30).plus(500, ClockUnit.MILLIS).atUTC()));
+        assertThat(
+            Rfc1123FastPath.INSTANCE.parse("Thu, 31 Dec 2015 17:45:30 GMT"),
+            is(PlainTimestamp.of(2015, 12, 31, 17, 45, 30).atUTC()));
+    }
+
+    @Test
+    public void fastPathDelegatesUnusualInput() {
+        assertThat(IsoFastPath.ofCalendarDate(true).parse("+10000-01-01"), nullValue());
+        assertThat(IsoFastPath.ofCalendarDate(true).parse("2015-02-29"), nullValue());
+        assertThat(IsoFastPath.ofWallTime(true, ',').parse("24:00"), nullValue());
+        assertThat(IsoFastPath.ofWallTime(true, ',').parse("T17:45"), nullValue());
+        assertThat(IsoFastPath.ofDateTimeOffset(true, ',').parse("2016-12-31T23:59:60Z"), nullValue());
+        assertThat(Rfc1123FastPath.INSTANCE.parse("Wed, 31 Dec 1969 19:00:00 EST"), nullValue());
+    }
+
+    @Test
+    public void printCalendarDate() {
+        for (PlainDate date : DATES) {
+            checkPrint(Iso8601Format.BASIC_CALENDAR_DATE, date);
+            checkPrint(Iso8601Format.EXTENDED_CALENDAR_DATE, date);
+            checkPrint(Iso8601Format.BASIC_DATE, date);
+            checkPrint(Iso8601Format.EXTENDED_DATE, date);
+        }
+        checkPrint(Iso8601Format.EXTENDED_CALENDAR_DATE, PlainDate.of(10000, 1, 1));
+        checkPrint(Iso8601Format.EXTENDED_CALENDAR_DATE, PlainDate.of(-1, 12, 31));
+        checkPrint(Iso8601Format.EXTENDED_CALENDAR_DATE, PlainDate.of(0, 1, 1));
+    }
+
+    @Test
+    public void printWallTime() {
+        for (PlainTime time : TIMES) {
+            checkPrint(Iso8601Format.BASIC_WALL_TIME, time);
+            checkPrint(Iso8601Format.EXTENDED_WALL_TIME, time);
+        }
+        checkPrint(Iso8601Format.EXTENDED_WALL_TIME, PlainTime.midnightAtEndOfDay());
+    }
+
+    @Test
+    public void printTimestamp() {
+        for (PlainTimestamp tsp : timestamps()) {
+            checkPrint(Iso8601Format.BASIC_DATE_TIME, tsp);
+            checkPrint(Iso8601Format.EXTENDED_DATE_TIME, tsp);
+        }
+    }
+
+    @Test
+    public void printMoment() {
+        List<Moment> moments = new ArrayList<>();
+        for (PlainTimestamp tsp : timestamps()) {
+            moments.add(tsp.atUTC());
+        }
+        moments.add(PlainTimestamp.of(2016, 12, 31, 23, 59, 59).atUTC().plus(1, SI.SECONDS));
+        moments.add(PlainTimestamp.of(999, 12, 31, 23, 59, 59).atUTC());
+        moments.add(PlainTimestamp.of(-5, 1, 1, 0, 0).atUTC());
+        moments.add(Moment.UNIX_EPOCH);
+        for (Moment moment : moments) {
+            checkPrint(Iso8601Format.BASIC_DATE_TIME_OFFSET, moment);
+            checkPrint(Iso8601Format.EXTENDED_DATE_TIME_OFFSET, moment);
+            checkPrint(ChronoFormatter.RFC_1123, moment);
+        }
+    }
+
+    @Test
+    public void parseCalendarDate() {
+        for (PlainDate date : DATES) {
+            checkParse(Iso8601Format.BASIC_CALENDAR_DATE, Iso8601Format.BASIC_CALENDAR_DATE.format(date));
+            checkParse(Iso8601Format.EXTENDED_CALENDAR_DATE, Iso8601Format.EXTENDED_CALENDAR_DATE.format(date));
+            checkParse(Iso8601Format.BASIC_DATE, Iso8601Format.BASIC_CALENDAR_DATE.format(date));
+            checkParse(Iso8601Format.EXTENDED_DATE, Iso8601Format.EXTENDED_CALENDAR_DATE.format(date));
+        }
+        for (String text : new String[] {"2015-02-29", "2016-02-29", "2016-13-01", "2016-00-10", "2016-W01-1", "2016-001"}) {
+            checkParse(Iso8601Format.EXTENDED_CALENDAR_DATE, text);
+            checkParse(Iso8601Format.EXTENDED_DATE, text);
+        }
+    }
+
+    @Test
+    public void rejectCalendarDate() {
+        String[] extended = {
+            "2015-12", "2015-12-3", "2015-1-31", "201-12-31", "2O15-12-31", "2015/12/31", "2015-12-31x",
+            "2015-12-31 ", " 2015-12-31", "2015-12-32", "2015-12-00", "2015-13-01", "2015-02-29"
+        };
+        checkRejected(Iso8601Format.EXTENDED_CALENDAR_DATE, IsoFastPath.ofCalendarDate(true), extended);
+        checkRejected(Iso8601Format.EXTENDED_DATE, IsoFastPath.ofCalendarDate(true), extended);
+        String[] basic = {
+            "201512", "2O151231", "2015-1231", "20151231x", "20151231 ", "20151232", "20151200", "20151301",
+            "20150229"
+        };
+        checkRejected(Iso8601Format.BASIC_CALENDAR_DATE, IsoFastPath.ofCalendarDate(false), basic);
+        checkRejected(Iso8601Format.BASIC_DATE, IsoFastPath.ofCalendarDate(false), basic);
+    }
+
+    @Test
+    public void parseWallTime() {
+        for (PlainTime time : TIMES) {
+            checkParse(Iso8601Format.BASIC_WALL_TIME, Iso8601Format.BASIC_WALL_TIME.format(time));
+            checkParse(Iso8601Format.EXTENDED_WALL_TIME, Iso8601Format.EXTENDED_WALL_TIME.format(time));
+        }
+        String[] specials = {
+            "24:00", "24:00:00", "24:01", "23:59:60", "T17:45", "17:45:30,1234567891", "17:45:30.", "17", "17:4",
+            "17:45:30,000", "17:45:30.5"
+        };
+        for (String text : specials) {
+            checkParse(Iso8601Format.EXTENDED_WALL_TIME, text);
+            checkParse(Iso8601Format.BASIC_WALL_TIME, text.replace(":", ""));
+        }
+    }
+
+    @Test
+    public void rejectWallTime() {
+        checkRejected(
+            Iso8601Format.EXTENDED_WALL_TIME,
+            IsoFastPath.ofWallTime(true, ','),
+            "1:45", "17:4", "17:45:3", "17-45", "17:45:", "17:45:30,", "17:60", "25:00", "17:45:61", "17:45x",
+            "17:45 ", "17:45:30,12x", "17:45:30Z");
+        checkRejected(
+            Iso8601Format.BASIC_WALL_TIME,
+            IsoFastPath.ofWallTime(false, ','),
+            "174", "17453", "1760", "2500", "174561", "1745x", "1745 ", "174530,", "174530,12x", "174530Z");
+    }
+
+    @Test
+    public void parseTimestamp() {
+        for (PlainTimestamp tsp : timestamps()) {
+            checkParse(Iso8601Format.BASIC_DATE_TIME, Iso8601Format.BASIC_DATE_TIME.format(tsp));
+            checkParse(Iso8601Format.EXTENDED_DATE_TIME, Iso8601Format.EXTENDED_DATE_TIME.format(tsp));
+        }
+        checkParse(Iso8601Format.EXTENDED_DATE_TIME, "2015-12-31T17");
+        checkParse(Iso8601Format.EXTENDED_DATE_TIME, "2015-12-31T24:00");
+        checkParse(Iso8601Format.EXTENDED_DATE_TIME, "2015-12-31T23:59:60");
+        checkParse(Iso8601Format.EXTENDED_DATE_TIME, "2015-001T12:00");
+    }
+
+    @Test
+    public void rejectTimestamp() {
+        checkRejected(
+            Iso8601Format.EXTENDED_DATE_TIME,
+            IsoFastPath.ofDateTime(true, ','),
+            "2015-12-31", "2015-12-31T", "2015-12-31 17:45", "2015-12-31T17:4",
+            "2015-12-31T25:00", "2015-12-32T17:45", "2015-02-29T17:45", "2015-12-31T17:45:30,", "2015-12-31T17:45Z",
+            "2015-12-31T17:45x");
+        checkRejected(
+            Iso8601Format.BASIC_DATE_TIME,
+            IsoFastPath.ofDateTime(false, ','),
+            "20151231", "20151231T", "20151231 1745", "20151231T174", "20151231T2500", "20151232T1745",
+            "20151231T174530,", "20151231T1745Z", "20151231T1745x");
+    }
+
+    @Test
+    public void parseMoment() {
+        String[] offsets = {"Z", "+01:00", "-05:30", "+18:00", "-18:00", "+18:01", "-00:00", "+00:00", "+14:45"};
+        for (PlainTimestamp tsp : timestamps()) {
+            for (String offset : offsets) {
+                checkParse(
+                    Iso8601Format.EXTENDED_DATE_TIME_OFFSET,
+                    Iso8601Format.EXTENDED_DATE_TIME.format(tsp) + offset);
+                checkParse(
+                    Iso8601Format.BASIC_DATE_TIME_OFFSET,
+                    Iso8601Format.BASIC_DATE_TIME.format(tsp) + offset.replace(":", ""));
+            }
+        }
+        checkParse(Iso8601Format.EXTENDED_DATE_TIME_OFFSET, "2016-12-31T23:59:60Z");
+        checkParse(Iso8601Format.EXTENDED_DATE_TIME_OFFSET, "2016-12-31T23:59Z");
+        checkParse(Iso8601Format.EXTENDED_DATE_TIME_OFFSET, "2016-12-31T23:59+01");
+    }
+
+    @Test
+    public void rejectMoment() {
+        checkRejected(
+            Iso8601Format.EXTENDED_DATE_TIME_OFFSET,
+            IsoFastPath.ofDateTimeOffset(true, ','),
+            "2015-12-31T17:45:30", "2015-12-31T17:45:30+1", "2015-12-31T17:45:30+01:0",
+            "2015-12-31T17:45:30+19:00", "2015-12-31T17:45:30 Z", "2015-12-31T17:45:30ZZ", "2015-12-31T17:45:30z",
+            "2015-12-31T25:45:30Z", "2015-12-32T17:45:30Z");
+        checkRejected(
+            Iso8601Format.BASIC_DATE_TIME_OFFSET,
+            IsoFastPath.ofDateTimeOffset(false, ','),
+            "20151231T174530", "20151231T174530+1", "20151231T174530+19", "20151231T174530 Z",
+            "20151231T174530ZZ", "20151231T254530Z", "20151232T174530Z");
+    }
+
+    @Test
+    public void parseRFC1123() {
+        String[] zones = {"GMT", "UT", "Z", "+0100", "-0530", "-0000", "+1900", "EST", "PDT"};
+        for (PlainTimestamp tsp : timestamps()) {
+            String text = ChronoFormatter.RFC_1123.format(tsp.atUTC());
+            for (String zone : zones) {
+                String zoned = text.substring(0, text.length() - 3) + zone;
+                checkParse(ChronoFormatter.RFC_1123, zoned);
+                checkParse(ChronoFormatter.RFC_1123, zoned.substring(5));
+            }
+        }
+        String[] specials = {
+            "Thu, 1 Jan 1970 00:00:00 GMT", "Fri, 1 Jan 1970 00:00:00 GMT", "Thu, 01 Jan 1970 00:00:00 GMT",
+            "Thu, 1 Jan 1970 00:00 GMT", "Thu, 1 Jan 1970 00:00 Z", "1 Jan 1970 00:00 Z", "Thu, 1 jan 1970 00:00 Z",
+            "Thu, 1 Jan 1970 24:00:00 GMT", "Thu, 31 Feb 1970 00:00:00 GMT", "Sat, 31 Dec 2016 23:59:60 GMT"
+        };
+        for (String text : specials) {
+            checkParse(ChronoFormatter.RFC_1123, text);
+        }
+    }
+
+    @Test
+    public void rejectRFC1123() {
+        checkRejected(
+            ChronoFormatter.RFC_1123,
+            Rfc1123FastPath.INSTANCE,
+            "Thu, 31 Dec 2015 17:45:30", "Thu, 31 Dec 2015 17:45:30 XYZ", "Thu 31 Dec 2015 17:45:30 GMT",
+            "Thu, 31 Dez 2015 17:45:30 GMT", "Thu, 31 Dec 15 17:45:30 GMT", "Thu, 32 Dec 2015 17:45:30 GMT",
+            "Thu, 31 Dec 2015 17:45:3 GMT", "Thu, 31 Dec 2015 17:45:30 +01", "Thu, 31 Dec 2015 17:45:30 GMT ",
+            "Thu, 31 Dec 2015 25:45:30 GMT");
+    }
+
+    private static <T> void checkPrint(
+        ChronoFormatter<T> fast,
+        T value
+    ) {
+
+        ChronoFormatter<T> generic = generic(fast);
+        String expected;
+
+        try {
+            expected = generic.format(value);
+        } catch (RuntimeException ex) {
+            String error = describe(ex);
+            try {
+                fast.format(value);
+                fail("Expected: " + error);
+            } catch (RuntimeException ex2) {
+                assertThat(describe(ex2), is(error));
+            }
+            return;
+        }
+
+        assertThat(fast.format(value), is(expected));
+        char[] target = new char[64];
+        int n = fast.print(value, target, 3);
+        assertThat(new String(target, 3, n), is(expected));
+
+    }
+
+    private static <T> void checkParse(
+        ChronoFormatter<T> fast,
+        String text
+    ) {
+
+        compare(fast, generic(fast), text);
+
+    }
+
+    // the fast path must decline the input and leave the error to the generic formatter
+    private static <T> void checkRejected(
+        ChronoFormatter<T> fast,
+        FastPath<T> fastPath,
+        String... texts
+    ) {
+
+        ChronoFormatter<T> generic = generic(fast);
+
+        for (String text : texts) {
+            assertThat(text, fastPath.parse(text), nullValue());
+            try {
+                generic.parse(text);
+                fail("Expected ParseException: " + text);
+            } catch (ParseException ex) {
+                compare(fast, generic, text);
+            }
+        }
+
+    }
+
+    private static <T> void compare(
+        ChronoFormatter<T> fast,
+        ChronoFormatter<T> generic,
+        String text
+    ) {
+
+        T expected = null;
+        String expectedError = null;
+
+        try {
+            expected = generic.parse(text);
+        } catch (ParseException | RuntimeException ex) {
+            expectedError = describe(ex);
+        }
+
+        for (int i = 0; i < 2; i++) {
+            try {
+                T result = ((i == 0) ? fast.parse(text) : fast.parse(text, new ParseContext()));
+                assertThat(text, expectedError, nullValue());
+                assertThat(text, result, notNullValue());
+                assertThat(text, result, is(expected));
+            } catch (ParseException | RuntimeException ex) {
+                assertThat(text, describe(ex), is(expectedError));
+            }
+        }
+
+    }
+
+    private static String describe(Exception ex) {
+
+        if (ex instanceof ParseException) {
+            return ex.getMessage() + "@" + ((ParseException) ex).getErrorOffset();
+        } else {
+            return ex.getClass().getName() + ": " + ex.getMessage();
+        }
+
+    }
+
+    // every copy of a formatter uses the general engine
+    private static <T> ChronoFormatter<T> generic(ChronoFormatter<T> formatter) {
+
+        return formatter.with(new Attributes.Builder().build());
+
+    }
+
+    private static List<PlainTimestamp> timestamps() {
+
+        List<PlainTimestamp> list = new ArrayList<>();
+
+        for (int i = 0; i < DATES.length; i++) {
+            for (int j = 0; j < TIMES.length; j++) {
+                list.add(PlainTimestamp.of(DATES[i], TIMES[(i + j) % TIMES.length]));
+            }
+        }
+
+        return list;
+
+    }
+
+}
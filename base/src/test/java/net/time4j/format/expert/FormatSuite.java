@@ -9,13 +9,20 @@ import org.junit.runners.Suite.SuiteClasses;
 @SuiteClasses(
     {
         AdjacentDigitParsingTest.class,
+        BufferParseTest.class,
+        BufferPrintTest.class,
+        BulkPrintTest.class,
         CLDRSanityTest.class,
         ChronoHierarchyTest.class,
+        ColumnParsingTest.class,
+        CompiledFormatterTest.class,
         DayPeriodTest.class,
         DecimalFormatTest.class,
         DefaultValueTest.class,
         DozenalNumberTest.class,
         DuplicateElementTest.class,
+        FastPathTest.class,
+        FormatterCacheTest.class,
         FractionTest.class,
         Iso8601FormatTest.class,
         LiteralWithBidisTest.class,
@@ -23,10 +30,13 @@ import org.junit.runners.Suite.SuiteClasses;
         MiscellaneousTest.class,
         MomentPatternTest.class,
         MomentScaleTest.class,
+        MultiFormatDispatchTest.class,
         MultiFormatTest.class,
         OffsetPatternTest.class,
         OrFormatTest.class,
         OrdinalTest.class,
+        ParseContextTest.class,
+        ParseResultTest.class,
         ParsingTextOverflowTest.class,
         SkipUnknownTest.class,
         StyleProcessorTest.class,
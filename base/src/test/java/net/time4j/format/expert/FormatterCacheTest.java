@@ -0,0 +1,136 @@
+package net.time4j.format.expert;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.engine.CalendarDate;
+import net.time4j.tz.OffsetSign;
+import net.time4j.tz.ZonalOffset;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.time.format.FormatStyle;
+import java.util.Locale;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
+
+
+@RunWith(JUnit4.class)
+public class FormatterCacheTest {
+
+    @After
+    public void tearDown() {
+        ChronoFormatter.Cache.setCacheActive(false);
+        ChronoFormatter.Cache.setMaximumCacheSize(256);
+    }
+
+    @Test
+    public void inactiveByDefault() {
+        assertThat(ChronoFormatter.Cache.isCacheActive(), is(false));
+        ChronoFormatter<PlainDate> f1 = ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT);
+        ChronoFormatter<PlainDate> f2 = ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT);
+        assertThat(f1, not(sameInstance(f2)));
+        assertThat(ChronoFormatter.Cache.getStatistics().getMissCount(), is(0L));
+    }
+
+    @Test
+    public void patternLookups() {
+        ChronoFormatter.Cache.setCacheActive(true);
+        ChronoFormatter<PlainDate> f1 = ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT);
+        ChronoFormatter<PlainDate> f2 = ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT);
+        ChronoFormatter<PlainDate> f3 =
+            ChronoFormatter.ofPattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT, PlainDate.axis());
+        ChronoFormatter<PlainDate> f4 = ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.GERMAN);
+        ChronoFormatter<PlainDate> f5 = ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.SIMPLE_DATE_FORMAT, Locale.ROOT);
+        assertThat(f1, sameInstance(f2));
+        assertThat(f1, sameInstance(f3));
+        assertThat(f1, not(sameInstance(f4)));
+        assertThat(f1, not(sameInstance(f5)));
+        assertThat(f1.format(PlainDate.of(2024, 3, 1)), is("2024-03-01"));
+        ChronoFormatter.Cache.Statistics stats = ChronoFormatter.Cache.getStatistics();
+        assertThat(stats.getHitCount(), is(2L));
+        assertThat(stats.getMissCount(), is(3L));
+        assertThat(stats.getSize(), is(3));
+        assertThat(stats.getEvictionCount(), is(0L));
+        assertThat(
+            stats.toString(),
+            is("ChronoFormatter.Cache.Statistics[hits=2,misses=3,evictions=0,size=3,maximum=256]"));
+    }
+
+    @Test
+    public void momentPatternsWithTimezone() {
+        ChronoFormatter.Cache.setCacheActive(true);
+        ChronoFormatter<Moment> utc =
+            ChronoFormatter.ofMomentPattern("uuuu-MM-dd HH:mm", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC);
+        ChronoFormatter<Moment> plus2 =
+            ChronoFormatter.ofMomentPattern(
+                "uuuu-MM-dd HH:mm", PatternType.CLDR, Locale.ROOT, ZonalOffset.ofHours(OffsetSign.AHEAD_OF_UTC, 2));
+        assertThat(utc, not(sameInstance(plus2)));
+        assertThat(
+            ChronoFormatter.ofMomentPattern("uuuu-MM-dd HH:mm", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC),
+            sameInstance(utc));
+        assertThat(plus2.format(Moment.UNIX_EPOCH), is("1970-01-01 02:00"));
+    }
+
+    @Test
+    public void styleLookups() {
+        ChronoFormatter.Cache.setCacheActive(true);
+        assertThat(
+            ChronoFormatter.ofDateStyle(FormatStyle.MEDIUM, Locale.US),
+            sameInstance(ChronoFormatter.ofDateStyle(FormatStyle.MEDIUM, Locale.US)));
+        assertThat(
+            ChronoFormatter.ofDateStyle(FormatStyle.MEDIUM, Locale.US),
+            not(sameInstance(ChronoFormatter.ofDateStyle(FormatStyle.SHORT, Locale.US))));
+        assertThat(
+            ChronoFormatter.ofStyle(FormatStyle.MEDIUM, Locale.US, PlainDate.axis()),
+            sameInstance(ChronoFormatter.ofDateStyle(FormatStyle.MEDIUM, Locale.US)));
+        ChronoFormatter<CalendarDate> generic = ChronoFormatter.ofGenericCalendarStyle(FormatStyle.LONG, Locale.US);
+        assertThat(ChronoFormatter.ofGenericCalendarStyle(FormatStyle.LONG, Locale.US), sameInstance(generic));
+        assertThat(
+            ChronoFormatter.ofGenericCalendarPattern("G y MMMM d", Locale.US),
+            sameInstance(ChronoFormatter.ofGenericCalendarPattern("G y MMMM d", Locale.US)));
+    }
+
+    @Test
+    public void eviction() {
+        ChronoFormatter.Cache.setCacheActive(true);
+        ChronoFormatter.Cache.setMaximumCacheSize(2);
+        String[] patterns = {"uuuu", "uuuu-MM", "uuuu-MM-dd", "dd.MM.uuuu", "MM/dd/uuuu"};
+        for (String pattern : patterns) {
+            ChronoFormatter.ofDatePattern(pattern, PatternType.CLDR, Locale.ROOT);
+        }
+        ChronoFormatter.Cache.Statistics stats = ChronoFormatter.Cache.getStatistics();
+        assertThat(stats.getSize(), is(2));
+        assertThat(stats.getEvictionCount(), is(3L));
+        assertThat(stats.getMaximumSize(), is(2));
+        ChronoFormatter.Cache.clear();
+        assertThat(ChronoFormatter.Cache.getStatistics().getSize(), is(0));
+        assertThat(ChronoFormatter.Cache.getStatistics().getMissCount(), is(0L));
+    }
+
+    @Test
+    public void invalidPatternNotCached() {
+        ChronoFormatter.Cache.setCacheActive(true);
+        for (int i = 0; i < 2; i++) {
+            try {
+                ChronoFormatter.ofDatePattern("uuuu-MM-dd HH", PatternType.CLDR, Locale.ROOT);
+                fail("Expected IllegalArgumentException.");
+            } catch (IllegalArgumentException ex) {
+                // expected
+            }
+        }
+        assertThat(ChronoFormatter.Cache.getStatistics().getSize(), is(0));
+        assertThat(ChronoFormatter.Cache.getStatistics().getMissCount(), is(2L));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void invalidMaximumSize() {
+        ChronoFormatter.Cache.setMaximumCacheSize(0);
+    }
+
+}
@@ -0,0 +1,231 @@
+package net.time4j.format.expert;
+
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.engine.ChronoEntity;
+import net.time4j.format.Attributes;
+import net.time4j.format.Leniency;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
+
+
+@RunWith(JUnit4.class)
+public class MultiFormatDispatchTest {
+
+    private static final PlainDate[] DATES = {
+        PlainDate.of(1, 1, 1), PlainDate.of(999, 12, 31), PlainDate.of(1900, 2, 28), PlainDate.of(2000, 2, 29),
+        PlainDate.of(2015, 1, 1), PlainDate.of(2015, 12, 31), PlainDate.of(2016, 9, 10), PlainDate.of(2999, 12, 31)
+    };
+
+    private static final PlainTime[] TIMES = {
+        PlainTime.of(0, 0), PlainTime.of(9, 5, 1), PlainTime.of(12, 0, 0, 1_000_000),
+        PlainTime.of(17, 45, 30, 123_000_000), PlainTime.of(23, 59, 59, 999_000_000)
+    };
+
+    @Test
+    public void sameResultsAsSequentialParsing() {
+        List<ChronoFormatter<PlainDate>> formats = dateFormats();
+        MultiFormatParser<PlainDate> mfp = MultiFormatParser.of(formats);
+        for (PlainDate date : DATES) {
+            for (ChronoFormatter<PlainDate> format : formats) {
+                compareAll(mfp, formats, format.format(date));
+            }
+        }
+        String[] texts = {
+            "x", "1", "31.12.2015", "31.12.2015xyz", " 31.12.2015", "31-12-2015", "2015-12-31 Thu", "2015-12-31 thu",
+            "+2015-12-31", "-2015-12-31", "20151231", "31. Dezember 2015", "31. DEZEMBER 2015", "31st of December 2015",
+            "12/31/2015", "2015-12-31T", "2015/365", "2015-W53-4", "2015-12-31Tx", "2015-12-3", "2015-12-32",
+            "2015-13-01", "2015-02-29", "20151232", "2015123", "32.12.2015", "31.12.15", "31.12.2O15", "13/31/2015",
+            "12/31/15", "31. Dez 2015", "31 Dezember 2015", "31st of Dec 2015", "31th of December 2015",
+            "2015-12-31 Fri", "2015-12-31 xyz", "2015/366", "2015/0", "2015-W54-1", "2015-W53-8", "1.1.16", "1.1.1"
+        };
+        for (String text : texts) {
+            compareAll(mfp, formats, text);
+        }
+    }
+
+    @Test
+    public void sameResultsForTimestamps() {
+        List<ChronoFormatter<PlainTimestamp>> formats = new ArrayList<>();
+        formats.add(ChronoFormatter.ofTimestampPattern("uuuu-MM-dd'T'HH:mm:ss.SSS", PatternType.CLDR, Locale.ROOT));
+        formats.add(ChronoFormatter.ofTimestampPattern("uuuu-MM-dd'T'HH:mm[:ss]", PatternType.CLDR, Locale.ROOT));
+        formats.add(ChronoFormatter.ofTimestampPattern("uuuu-MM-dd HH:mm:ss,SSSSSS", PatternType.CLDR, Locale.ROOT));
+        formats.add(ChronoFormatter.ofTimestampPattern("uuuuMMddHHmmss", PatternType.CLDR, Locale.ROOT));
+        formats.add(ChronoFormatter.ofTimestampPattern("dd.MM.uuuu HH:mm", PatternType.CLDR, Locale.ROOT));
+        formats.add(
+            ChronoFormatter.ofTimestampPattern("dd.MM.uuuu HH:mm:ss.SSS", PatternType.CLDR, Locale.ROOT)
+                .with(Leniency.STRICT));
+        MultiFormatParser<PlainTimestamp> mfp = MultiFormatParser.of(formats);
+        for (PlainDate date : DATES) {
+            for (PlainTime time : TIMES) {
+                for (ChronoFormatter<PlainTimestamp> format : formats) {
+                    compareAll(mfp, formats, format.format(PlainTimestamp.of(date, time)));
+                }
+            }
+        }
+        String[] texts = {
+            "2015-12-31T17:45", "2015-12-31T17:45:3", "2015-12-31T17:45:30.12", "2015-12-31T17:45:30.1234",
+            "2015-12-31T24:00", "2015-12-31T25:00", "2015-12-31 17:45", "2015-12-31 17:45:30,123",
+            "2015-12-31 17:45:30.123456", "2015123117453", "201512311745301", "31.12.2015 17:45:30",
+            "31.12.2015 17:45:30.12", "31.12.2015 17:60", "31.12.2015T17:45", "2015-12-31T17:45x"
+        };
+        for (String text : texts) {
+            compareAll(mfp, formats, text);
+        }
+    }
+
+    @Test
+    public void emptyFormatList() {
+        MultiFormatParser<PlainDate> mfp = MultiFormatParser.of(new ArrayList<>());
+        try {
+            mfp.parse("2015-12-31");
+            fail("Expected ParseException.");
+        } catch (ParseException ex) {
+            assertThat(ex.getErrorOffset(), is(10));
+        }
+    }
+
+    @Test
+    public void adaptiveOrder() throws ParseException {
+        ChronoFormatter<PlainDate> iso = ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT);
+        ChronoFormatter<PlainDate> german = ChronoFormatter.ofDatePattern("d. MMMM uuuu", PatternType.CLDR, Locale.GERMAN);
+        ChronoFormatter<PlainDate> us = ChronoFormatter.ofDatePattern("MM/dd/uuuu", PatternType.CLDR, Locale.US);
+        MultiFormatParser<PlainDate> mfp = MultiFormatParser.of(iso, german, us);
+        MultiFormatParser<PlainDate> adaptive = mfp.withAdaptiveOrder();
+        PlainDate expected = PlainDate.of(2015, 12, 31);
+        for (int i = 0; i < 5; i++) {
+            assertThat(adaptive.parse("12/31/2015"), is(expected));
+        }
+        assertThat(adaptive.parse("31. Dezember 2015"), is(expected));
+        assertThat(adaptive.parse("2015-12-31"), is(expected));
+        assertThat(adaptive.parse("12/31/2015", new ParseLog()), is(expected));
+        assertThat(adaptive.parse("12/31/2015", new ParseLog(), german.getAttributes()), is(expected));
+        List<ChronoFormatter<PlainDate>> formats = Arrays.asList(iso, german, us);
+        for (String text : new String[] {"2015-12-32", "31. December 2015", "12/31/15", "x"}) {
+            // error index depends on the last format in adaptive order
+            assertThat(describe(() -> adaptive.parse(text)), is(describe(() -> sequential(formats, text))));
+            ParseLog plog = new ParseLog();
+            assertThat(adaptive.parse(text, plog), nullValue());
+            assertThat(plog.isError(), is(true));
+        }
+        assertThat(mfp.withAdaptiveOrder().parse("12/31/2015"), is(expected));
+    }
+
+    private static List<ChronoFormatter<PlainDate>> dateFormats() {
+
+        List<ChronoFormatter<PlainDate>> formats = new ArrayList<>();
+        formats.add(ChronoFormatter.ofDatePattern("dd.MM.uuuu", PatternType.CLDR, Locale.ROOT));
+        formats.add(ChronoFormatter.ofDatePattern("d. MMMM uuuu", PatternType.CLDR, Locale.GERMAN));
+        formats.add(ChronoFormatter.ofDatePattern("MM/dd/uuuu", PatternType.CLDR, Locale.US));
+        formats.add(ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT).with(Leniency.STRICT));
+        formats.add(ChronoFormatter.ofDatePattern("uuuu-MM-dd[ EEE]", PatternType.CLDR, Locale.ENGLISH));
+        formats.add(ChronoFormatter.ofDatePattern("uuuuMMdd", PatternType.CLDR, Locale.ROOT));
+        formats.add(ChronoFormatter.ofDatePattern("d.M.uu", PatternType.CLDR, Locale.ROOT).with(Leniency.LAX));
+        formats.add(ChronoFormatter.ofDatePattern("uuuu/D|YYYY-'W'ww-e", PatternType.CLDR, Locale.ROOT));
+        formats.add(
+            ChronoFormatter.setUp(PlainDate.axis(), Locale.US)
+                .addEnglishOrdinal(PlainDate.DAY_OF_MONTH)
+                .addPattern(" 'of' MMMM uuuu", PatternType.CLDR)
+                .build());
+        formats.add(
+            ChronoFormatter.ofDatePattern("uuuu-MM-dd'T'", PatternType.CLDR, Locale.ROOT)
+                .with(Attributes.TRAILING_CHARACTERS, true));
+        return formats;
+
+    }
+
+    private static <T extends ChronoEntity<T>> void compareAll(
+        MultiFormatParser<T> mfp,
+        List<ChronoFormatter<T>> formats,
+        String text
+    ) {
+
+        assertThat(text, describe(() -> mfp.parse(text)), is(describe(() -> sequential(formats, text))));
+
+        for (String prefix : new String[] {"", "xy"}) {
+            String input = prefix + text;
+            ParseLog expected = new ParseLog(prefix.length());
+            ParseLog actual = new ParseLog(prefix.length());
+            String e = describe(() -> sequential(formats, input, expected));
+            String a = describe(() -> mfp.parse(input, actual));
+            assertThat(input, a, is(e));
+            assertThat(input, actual.toString(), is(expected.toString()));
+        }
+
+    }
+
+    // the original algorithm without pre-analysis
+    private static <T> T sequential(
+        List<ChronoFormatter<T>> formats,
+        String text
+    ) throws ParseException {
+
+        ParseLog status = new ParseLog();
+
+        for (ChronoFormatter<T> format : formats) {
+            status.reset();
+            status.setPosition(0);
+            T parsed = format.parse(text, status);
+            if ((parsed != null) && !status.isError()) {
+                if (format.isToleratingTrailingChars() || (status.getPosition() == text.length())) {
+                    return parsed;
+                }
+            }
+        }
+
+        throw new ParseException("Not matched by any format: " + text, text.length());
+
+    }
+
+    private static <T> T sequential(
+        List<ChronoFormatter<T>> formats,
+        String text,
+        ParseLog status
+    ) {
+
+        int start = status.getPosition();
+
+        for (ChronoFormatter<T> format : formats) {
+            status.reset();
+            status.setPosition(start);
+            T parsed = format.parse(text, status);
+            if ((parsed != null) && !status.isError()) {
+                return parsed;
+            }
+        }
+
+        status.setError(status.getErrorIndex(), "Not matched by any format: " + text);
+        return null;
+
+    }
+
+    private static String describe(Action action) {
+
+        try {
+            return String.valueOf(action.run());
+        } catch (ParseException ex) {
+            return ex.getMessage() + "@" + ex.getErrorOffset();
+        } catch (RuntimeException ex) {
+            return ex.getClass().getName();
+        }
+
+    }
+
+    private interface Action {
+        Object run() throws ParseException;
+    }
+
+}
@@ -0,0 +1,126 @@
+package net.time4j.format.expert;
+
+import net.time4j.CalendarUnit;
+import net.time4j.ClockUnit;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.text.ParseException;
+import java.util.Locale;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
+
+
+@RunWith(JUnit4.class)
+public class ParseContextTest {
+
+    @Test
+    public void parseRepeatedly() throws ParseException {
+        ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT);
+        ParseContext context = new ParseContext();
+        PlainDate date = PlainDate.of(2023, 12, 25);
+        for (int i = 0; i < 400; i++) {
+            String text = f.format(date);
+            assertThat(f.parse(text, context), is(date));
+            assertThat(f.parse(text, context), is(f.parse(text)));
+            date = date.plus(1, CalendarUnit.DAYS);
+        }
+    }
+
+    @Test
+    public void parseOptionalSectionsWithoutStaleValues() throws ParseException {
+        ChronoFormatter<PlainTimestamp> f =
+            ChronoFormatter.ofTimestampPattern("uuuu-MM-dd HH:mm[:ss[.SSS]]", PatternType.CLDR, Locale.ROOT)
+                .withDefault(PlainTime.SECOND_OF_MINUTE, 0);
+        ParseContext context = new ParseContext();
+        assertThat(
+            f.parse("2024-03-07 09:05:04.123", context),
+            is(PlainTimestamp.of(2024, 3, 7, 9, 5, 4).plus(123, ClockUnit.MILLIS)));
+        assertThat(
+            f.parse("2024-03-07 09:05", context),
+            is(PlainTimestamp.of(2024, 3, 7, 9, 5)));
+        assertThat(
+            f.parse("2024-03-07 09:05:59", context),
+            is(PlainTimestamp.of(2024, 3, 7, 9, 5, 59)));
+        try {
+            f.parse("2024-03-07 09:05:5x", context);
+            fail("Expected parse exception.");
+        } catch (ParseException pe) {
+            assertThat(pe.getErrorOffset(), is(16));
+        }
+        assertThat(
+            f.parse("2024-03-07 09:05", context),
+            is(PlainTimestamp.of(2024, 3, 7, 9, 5)));
+    }
+
+    @Test
+    public void parseOrBlocks() throws ParseException {
+        ChronoFormatter<PlainDate> f =
+            ChronoFormatter.ofDatePattern("E, [dd.MM.|MM/dd/]uuuu", PatternType.CLDR, Locale.ENGLISH);
+        ParseContext context = new ParseContext();
+        PlainDate expected = PlainDate.of(2015, 12, 31);
+        for (int i = 0; i < 3; i++) {
+            assertThat(f.parse("Thu, 31.12.2015", context), is(expected));
+            assertThat(f.parse("Thu, 12/31/2015", context), is(expected));
+        }
+    }
+
+    @Test
+    public void parseAfterError() throws ParseException {
+        ChronoFormatter<PlainDate> f =
+            ChronoFormatter.ofDatePattern("dd.MM.uuuu|MM/dd/uuuu", PatternType.CLDR, Locale.ROOT);
+        ParseContext context = new ParseContext();
+        try {
+            f.parse("31-12-2015", context);
+            fail("Expected parse exception.");
+        } catch (ParseException pe) {
+            assertThat(pe.getErrorOffset(), is(2));
+        }
+        try {
+            f.parse("31.12.2015|12/31/2015", context);
+            fail("Expected parse exception.");
+        } catch (ParseException pe) {
+            assertThat(pe.getErrorOffset(), is(10));
+        }
+        assertThat(f.parse("12/31/2015", context), is(PlainDate.of(2015, 12, 31)));
+    }
+
+    @Test
+    public void switchFormatters() throws ParseException {
+        ChronoFormatter<PlainDate> numerical =
+            ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT);
+        ChronoFormatter<PlainDate> textual =
+            ChronoFormatter.ofDatePattern("d. MMMM uuuu", PatternType.CLDR, Locale.ENGLISH);
+        ParseContext context = new ParseContext();
+        for (int i = 0; i < 3; i++) {
+            assertThat(numerical.parse("2015-12-31", context), is(PlainDate.of(2015, 12, 31)));
+            assertThat(textual.parse("1. February 2016", context), is(PlainDate.of(2016, 2, 1)));
+        }
+    }
+
+    @Test
+    public void parseWithEmbeddedFormatter() throws ParseException {
+        ChronoFormatter<PlainTimestamp> f =
+            ChronoFormatter.setUp(PlainTimestamp.axis(), Locale.ROOT)
+                .addCustomized(PlainDate.COMPONENT, Iso8601Format.EXTENDED_CALENDAR_DATE)
+                .startOptionalSection()
+                .addLiteral('T')
+                .addPattern("HH:mm", PatternType.CLDR)
+                .endSection()
+                .build()
+                .withDefault(PlainTime.DIGITAL_HOUR_OF_DAY, 0)
+                .withDefault(PlainTime.MINUTE_OF_HOUR, 0);
+        ParseContext context = new ParseContext();
+        for (int i = 0; i < 3; i++) {
+            assertThat(f.parse("2015-12-31T17:45", context), is(PlainTimestamp.of(2015, 12, 31, 17, 45)));
+            assertThat(f.parse("2016-01-01", context), is(PlainTimestamp.of(2016, 1, 1, 0, 0)));
+        }
+    }
+
+}
@@ -0,0 +1,135 @@
+package net.time4j.format.expert;
+
+import net.time4j.PlainDate;
+import net.time4j.calendar.frenchrev.FrenchRepublicanCalendar;
+import net.time4j.engine.CalendarDays;
+import net.time4j.format.Attributes;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.text.ParseException;
+import java.util.Locale;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
+
+
+@RunWith(JUnit4.class)
+public class ParseResultTest {
+
+    private static final String[] INPUTS = {
+        "31.12.2015", "31.12.2015x", "31.12.15", "32.12.2015", "31-12-2015", "x", "2015-12-31", "Thu, 12/31/2015",
+        "Thursday, 31. December 2015", "Thursday, 31. Dezember 2015", "Thu, 31.12.2015 ", "29.02.2015"
+    };
+
+    @Test
+    public void sameResultsAsParseException() {
+        ChronoFormatter<PlainDate> f1 = ChronoFormatter.ofDatePattern("dd.MM.uuuu", PatternType.CLDR, Locale.ROOT);
+        ChronoFormatter<PlainDate> f2 =
+            ChronoFormatter.ofDatePattern(
+                "E, dd.MM.uuuu|E, MM/dd/uuuu|EEEE, d. MMMM uuuu", PatternType.CLDR, Locale.ENGLISH);
+        ChronoFormatter<PlainDate> f3 = f1.compile();
+        ParseContext context = new ParseContext();
+        for (ChronoFormatter<PlainDate> f : new ChronoFormatter[] {f1, f2, f3}) {
+            for (String text : INPUTS) {
+                String expected;
+                try {
+                    expected = "result=" + f.parse(text);
+                } catch (ParseException ex) {
+                    expected = ex.getMessage() + "@" + ex.getErrorOffset();
+                }
+                assertThat(text, describe(f.tryParse(text)), is(expected));
+                assertThat(text, describe(f.tryParse(text, context)), is(expected));
+            }
+        }
+    }
+
+    @Test
+    public void success() throws ParseException {
+        ChronoFormatter<PlainDate> f =
+            ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT)
+                .with(Attributes.TRAILING_CHARACTERS, true);
+        ParseResult<PlainDate> pr = f.tryParse("2015-12-31T");
+        PlainDate expected = PlainDate.of(2015, 12, 31);
+        assertThat(pr.isError(), is(false));
+        assertThat(pr.getResult(), is(expected));
+        assertThat(pr.toOptional().get(), is(expected));
+        assertThat(pr.getOrThrow(), is(expected));
+        assertThat(pr.getPosition(), is(10));
+        assertThat(pr.getErrorIndex(), is(-1));
+        assertThat(pr.getErrorMessage(), is(""));
+        assertThat(pr.toString(), is("[result=2015-12-31,position=10]"));
+    }
+
+    @Test
+    public void error() {
+        ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT);
+        ParseResult<PlainDate> pr = f.tryParse("2015-12-31T");
+        assertThat(pr.isError(), is(true));
+        assertThat(pr.getResult(), nullValue());
+        assertThat(pr.toOptional().isPresent(), is(false));
+        assertThat(pr.getPosition(), is(-1));
+        assertThat(pr.getErrorIndex(), is(10));
+        assertThat(pr.getErrorMessage(), is("Unparsed trailing characters: T"));
+        assertThat(pr.toString(), is("[error-index=10,error-message=Unparsed trailing characters: T]"));
+        try {
+            pr.getOrThrow();
+            fail("Expected ParseException.");
+        } catch (ParseException ex) {
+            assertThat(ex.getErrorOffset(), is(10));
+            assertThat(ex.getMessage(), is("Unparsed trailing characters: T"));
+        }
+    }
+
+    @Test
+    public void emptyText() {
+        ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT);
+        ParseResult<PlainDate> pr = f.tryParse("");
+        assertThat(pr.isError(), is(true));
+        assertThat(pr.getErrorIndex(), is(0));
+        assertThat(pr.getErrorMessage(), is("Empty text."));
+    }
+
+    @Test(expected=NullPointerException.class)
+    public void nullText() {
+        ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT).tryParse(null);
+    }
+
+    @Test
+    public void printOrBlockWithMissingElement() {
+        ChronoFormatter<FrenchRepublicanCalendar> f =
+            ChronoFormatter.ofPattern(
+                "D MMMM' an 'Y|SSSS', an 'Y", PatternType.DYNAMIC, Locale.FRENCH, FrenchRepublicanCalendar.axis());
+        FrenchRepublicanCalendar cal = PlainDate.of(2018, 9, 23).transform(FrenchRepublicanCalendar.axis());
+        assertThat(f.format(cal.minus(CalendarDays.ONE)), is("jour de la révolution, an CCXXVI"));
+        assertThat(f.format(cal), is("1 vendémiaire an CCXXVII"));
+    }
+
+    @Test
+    public void printOrBlocksWithMissingElements() {
+        ChronoFormatter<FrenchRepublicanCalendar> f =
+            ChronoFormatter.ofPattern("D MMMM|Y", PatternType.DYNAMIC, Locale.FRENCH, FrenchRepublicanCalendar.axis());
+        ChronoFormatter<FrenchRepublicanCalendar> g =
+            ChronoFormatter.ofPattern("SSSS|D MMMM", PatternType.DYNAMIC, Locale.FRENCH, FrenchRepublicanCalendar.axis());
+        FrenchRepublicanCalendar cal = PlainDate.of(2018, 9, 23).transform(FrenchRepublicanCalendar.axis());
+        FrenchRepublicanCalendar sansculottides = cal.minus(CalendarDays.ONE);
+        assertThat(f.format(sansculottides), is("CCXXVI"));
+        assertThat(f.format(cal), is("1 vendémiaire"));
+        assertThat(g.format(sansculottides), is("jour de la révolution"));
+        assertThat(g.format(cal), is("1 vendémiaire"));
+    }
+
+    private static String describe(ParseResult<?> pr) {
+
+        if (pr.isError()) {
+            return pr.getErrorMessage() + "@" + pr.getErrorIndex();
+        } else {
+            return "result=" + pr.getResult();
+        }
+
+    }
+
+}
@@ -0,0 +1,189 @@
+package net.time4j.scale;
+
+import net.time4j.PlainDate;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class LeapSecondIndexTest {
+
+    private static final long UNIX_OFFSET = 2 * 365 * 86400;
+
+    @Test
+    public void aroundEachEvent() {
+        LeapSeconds ls = LeapSeconds.getInstance();
+        List<ExtendedLSE> events = descendingEvents(ls);
+
+        for (ExtendedLSE event : events) {
+            for (long delta = -3; delta <= 3; delta++) {
+                check(ls, events, event.utc() + delta);
+                check(ls, events, event.raw() + delta);
+                checkEnhance(ls, events, event.raw() + UNIX_OFFSET + delta);
+            }
+            assertThat(ls.getShift(event.getDate()), is(event.getShift()));
+        }
+    }
+
+    @Test
+    public void randomTimestamps() {
+        LeapSeconds ls = LeapSeconds.getInstance();
+        List<ExtendedLSE> events = descendingEvents(ls);
+        Random random = new Random(4711);
+        long max = 60L * 365 * 86400;
+
+        for (int i = 0; i < 20000; i++) {
+            long t = (long) (random.nextDouble() * max) - 86400;
+            check(ls, events, t);
+            checkEnhance(ls, events, t);
+        }
+    }
+
+    @Test
+    public void boundaries() {
+        LeapSeconds ls = LeapSeconds.getInstance();
+        List<ExtendedLSE> events = descendingEvents(ls);
+
+        check(ls, events, 0);
+        check(ls, events, 1);
+        check(ls, events, Long.MIN_VALUE / 2);
+        check(ls, events, Long.MAX_VALUE / 2);
+        checkEnhance(ls, events, 0);
+        checkEnhance(ls, events, UNIX_OFFSET);
+        checkEnhance(ls, events, Long.MAX_VALUE / 2);
+    }
+
+    @Test
+    public void noShiftOnOrdinaryDay() {
+        LeapSeconds ls = LeapSeconds.getInstance();
+        assertThat(ls.getShift(PlainDate.of(2016, 12, 30)), is(0));
+        assertThat(ls.getShift(PlainDate.of(1971, 12, 31)), is(0));
+    }
+
+    private static void check(
+        LeapSeconds ls,
+        List<ExtendedLSE> events,
+        long utc
+    ) {
+        assertThat("strip: " + utc, ls.strip(utc), is(strip(ls, events, utc)));
+        assertThat("shift: " + utc, ls.getShift(utc), is(shift(events, utc)));
+        assertThat("positive: " + utc, ls.isPositiveLS(utc), is(isPositiveLS(events, utc)));
+        assertThat("next: " + utc, ls.getNextEvent(utc), sameInstance(nextEvent(events, utc)));
+    }
+
+    private static void checkEnhance(
+        LeapSeconds ls,
+        List<ExtendedLSE> events,
+        long unixTime
+    ) {
+        assertThat("enhance: " + unixTime, ls.enhance(unixTime), is(enhance(events, unixTime)));
+    }
+
+    private static List<ExtendedLSE> descendingEvents(LeapSeconds ls) {
+        List<ExtendedLSE> events = new ArrayList<>();
+        for (LeapSecondEvent event : ls) {
+            events.add((ExtendedLSE) event);
+        }
+        return events;
+    }
+
+    // lineare Referenzimplementierungen
+
+    private static long enhance(
+        List<ExtendedLSE> events,
+        long unixTime
+    ) {
+        long epochTime = unixTime - UNIX_OFFSET;
+        if (epochTime < 0) {
+            return epochTime;
+        }
+        for (ExtendedLSE lse : events) {
+            if (lse.raw() < epochTime) {
+                return epochTime + lse.utc() - lse.raw();
+            }
+        }
+        return epochTime;
+    }
+
+    private static long strip(
+        LeapSeconds ls,
+        List<ExtendedLSE> events,
+        long utc
+    ) {
+        if (utc <= 0) {
+            return utc + UNIX_OFFSET;
+        }
+        boolean snls = ls.supportsNegativeLS();
+        for (ExtendedLSE lse : events) {
+            if (
+                (lse.utc() - lse.getShift() < utc)
+                || (snls && (lse.getShift() < 0) && (lse.utc() < utc))
+            ) {
+                utc += (lse.raw() - lse.utc());
+                break;
+            }
+        }
+        return utc + UNIX_OFFSET;
+    }
+
+    private static int shift(
+        List<ExtendedLSE> events,
+        long utc
+    ) {
+        if (utc <= 0) {
+            return 0;
+        }
+        for (ExtendedLSE lse : events) {
+            if (utc > lse.utc()) {
+                return 0;
+            } else {
+                long start = lse.utc() - lse.getShift();
+                if (utc > start) {
+                    return (int) (utc - start);
+                }
+            }
+        }
+        return 0;
+    }
+
+    private static boolean isPositiveLS(
+        List<ExtendedLSE> events,
+        long utc
+    ) {
+        if (utc <= 0) {
+            return false;
+        }
+        for (ExtendedLSE lse : events) {
+            if (lse.utc() == utc) {
+                return (lse.getShift() == 1);
+            } else if (lse.utc() < utc) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    private static LeapSecondEvent nextEvent(
+        List<ExtendedLSE> events,
+        long utc
+    ) {
+        LeapSecondEvent result = null;
+        for (ExtendedLSE lse : events) {
+            if (utc >= lse.utc()) {
+                break;
+            }
+            result = lse;
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,200 @@
+package net.time4j.tz;
+
+import net.time4j.Moment;
+import net.time4j.PlainTimestamp;
+import net.time4j.base.GregorianDate;
+import net.time4j.base.WallTime;
+import net.time4j.scale.TimeScale;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class BulkOffsetTest {
+
+    private static final long START = PlainTimestamp.of(1900, 1, 1, 0, 0).atUTC().getPosixTime();
+    private static final long END = PlainTimestamp.of(2100, 1, 1, 0, 0).atUTC().getPosixTime();
+
+    @Test
+    public void getOffsetsForAllZones() {
+        Random random = new Random(4711);
+
+        for (TZID tzid : Timezone.getAvailableIDs()) {
+            Timezone tz = Timezone.of(tzid);
+            long[] posixTimes = new long[500];
+
+            for (int i = 0; i < posixTimes.length; i++) {
+                posixTimes[i] = START + (long) (random.nextDouble() * (END - START));
+            }
+
+            checkOffsets(tz, posixTimes); // unsorted
+            Arrays.sort(posixTimes);
+            checkOffsets(tz, posixTimes); // sorted
+        }
+    }
+
+    @Test
+    public void getOffsetsAroundTransitions() {
+        for (Timezone tz : createZones().values()) {
+            List<ZonalTransition> transitions =
+                tz.getHistory().getTransitions(Moment.of(START, TimeScale.POSIX), Moment.of(END, TimeScale.POSIX));
+            long[] posixTimes = new long[transitions.size() * 3];
+            int j = 0;
+
+            for (ZonalTransition zt : transitions) {
+                posixTimes[j++] = zt.getPosixTime() - 1;
+                posixTimes[j++] = zt.getPosixTime();
+                posixTimes[j++] = zt.getPosixTime() + 1;
+            }
+
+            checkOffsets(tz, posixTimes);
+        }
+    }
+
+    @Test
+    public void resolveLocalTimesAroundTransitions() {
+        TransitionStrategy[] strategies = {
+            Timezone.DEFAULT_CONFLICT_STRATEGY,
+            GapResolver.NEXT_VALID_TIME.and(OverlapResolver.EARLIER_OFFSET),
+            GapResolver.PUSH_FORWARD.and(OverlapResolver.EARLIER_OFFSET)
+        };
+
+        for (Map.Entry<String, Timezone> entry : createZones().entrySet()) {
+            String id = entry.getKey();
+            Timezone base = entry.getValue();
+            List<Long> locals = new ArrayList<>();
+
+            for (ZonalTransition zt : base.getHistory().getTransitions(
+                Moment.of(START, TimeScale.POSIX), Moment.of(END, TimeScale.POSIX))
+            ) {
+                long t = zt.getPosixTime();
+                for (int delta = -7200; delta <= 7200; delta += 900) {
+                    locals.add(t + zt.getPreviousOffset() + delta);
+                    locals.add(t + zt.getTotalOffset() + delta);
+                }
+            }
+
+            long[] localSeconds = new long[locals.size()];
+
+            for (int i = 0; i < localSeconds.length; i++) {
+                localSeconds[i] = locals.get(i);
+            }
+
+            for (TransitionStrategy strategy : strategies) {
+                Timezone tz = base.with(strategy);
+                long[] posixTimes = new long[localSeconds.length];
+                tz.resolveLocalTimes(localSeconds, posixTimes);
+
+                for (int i = 0; i < localSeconds.length; i++) {
+                    long local = localSeconds[i];
+                    PlainTimestamp tsp = Moment.of(local, TimeScale.POSIX).toZonalTimestamp(ZonalOffset.UTC);
+                    long expected = strategy.resolve(tsp.getCalendarDate(), tsp.getWallTime(), tz);
+                    assertThat(id + "/" + strategy + " at " + tsp, posixTimes[i], is(expected));
+                }
+            }
+        }
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void resolveLocalTimesInGapWithStrictMode() {
+        Timezone tz = createZones().get("europe").with(Timezone.STRICT_MODE);
+        long gap = PlainTimestamp.of(2024, 3, 31, 2, 30).atUTC().getPosixTime(); // local seconds
+        tz.resolveLocalTimes(new long[] {gap - 86400, gap}, new long[2]);
+    }
+
+    @Test
+    public void resolveLocalTimesWithCustomStrategy() {
+        TransitionStrategy custom =
+            new TransitionStrategy() {
+                @Override
+                public long resolve(GregorianDate localDate, WallTime localTime, Timezone timezone) {
+                    return 42;
+                }
+                @Override
+                public ZonalOffset getOffset(GregorianDate localDate, WallTime localTime, Timezone timezone) {
+                    return ZonalOffset.UTC;
+                }
+            };
+        long[] posixTimes = new long[2];
+        createZones().get("europe").with(custom).resolveLocalTimes(new long[] {0, 86400}, posixTimes);
+        assertThat(posixTimes[0], is(42L));
+        assertThat(posixTimes[1], is(42L));
+    }
+
+    @Test
+    public void fixedOffset() {
+        Timezone tz = Timezone.of(ZonalOffset.ofHoursMinutes(OffsetSign.AHEAD_OF_UTC, 5, 30));
+        int[] offsets = new int[2];
+        long[] posixTimes = new long[2];
+        tz.getOffsets(new long[] {0, 1000}, offsets);
+        tz.resolveLocalTimes(new long[] {0, 1000}, posixTimes);
+        assertThat(offsets[0], is(19800));
+        assertThat(offsets[1], is(19800));
+        assertThat(posixTimes[0], is(-19800L));
+        assertThat(posixTimes[1], is(1000L - 19800));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void getOffsetsWithShorterOutput() {
+        createZones().get("europe").getOffsets(new long[2], new int[1]);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void getOffsetsWithLongerOutput() {
+        createZones().get("europe").getOffsets(new long[2], new int[3]);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void resolveLocalTimesWithShorterOutput() {
+        createZones().get("europe").resolveLocalTimes(new long[2], new long[1]);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void resolveLocalTimesWithLongerOutput() {
+        createZones().get("europe").resolveLocalTimes(new long[2], new long[3]);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void resolveLocalTimesWithLongerOutputAndPushForward() {
+        createZones().get("america")
+            .with(GapResolver.PUSH_FORWARD.and(OverlapResolver.EARLIER_OFFSET))
+            .resolveLocalTimes(new long[2], new long[3]);
+    }
+
+    private static Map<String, Timezone> createZones() {
+        Map<String, Timezone> zones = new LinkedHashMap<>();
+        zones.put("europe", Timezone.of("test~europe", OffsetIndexTest.createEuropeanHistory()));
+        zones.put("america", Timezone.of("test~america", OffsetIndexTest.createAmericanHistory()));
+        zones.put("southern", Timezone.of("test~southern", OffsetIndexTest.createSouthernHistory()));
+        zones.put("india", Timezone.of("test~india", OffsetIndexTest.createIndianHistory()));
+        return zones;
+    }
+
+    private static void checkOffsets(
+        Timezone tz,
+        long[] posixTimes
+    ) {
+        int[] offsets = new int[posixTimes.length];
+        tz.getOffsets(posixTimes, offsets);
+
+        for (int i = 0; i < posixTimes.length; i++) {
+            Moment ut = Moment.of(posixTimes[i], TimeScale.POSIX);
+            assertThat(
+                tz.getID().canonical() + " at " + ut,
+                offsets[i],
+                is(tz.getOffset(ut).getIntegralAmount()));
+        }
+    }
+
+}
@@ -0,0 +1,228 @@
+package net.time4j.tz;
+
+import net.time4j.Moment;
+import net.time4j.Month;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.Weekday;
+import net.time4j.base.UnixTime;
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.model.DaylightSavingRule;
+import net.time4j.tz.model.GregorianTimezoneRule;
+import net.time4j.tz.model.OffsetIndicator;
+import net.time4j.tz.model.TransitionModel;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class OffsetIndexTest {
+
+    @Test
+    public void consistentWithHistoryForAllZones() {
+        Random random = new Random(12345);
+        long start = PlainTimestamp.of(1960, 1, 1, 0, 0).atUTC().getPosixTime();
+        long end = PlainTimestamp.of(2110, 1, 1, 0, 0).atUTC().getPosixTime();
+
+        for (TZID tzid : Timezone.getAvailableIDs()) {
+            TransitionHistory history = Timezone.of(tzid).getHistory();
+
+            if ((history == null) || history.isEmpty()) {
+                continue;
+            }
+
+            checkRandomly(tzid.canonical(), history, random, start, end);
+        }
+    }
+
+    @Test
+    public void consistentWithCustomHistories() {
+        Random random = new Random(12345);
+        long start = PlainTimestamp.of(1880, 1, 1, 0, 0).atUTC().getPosixTime();
+        long end = PlainTimestamp.of(2110, 1, 1, 0, 0).atUTC().getPosixTime();
+
+        checkRandomly("europe", createEuropeanHistory(), random, start, end);
+        checkRandomly("america", createAmericanHistory(), random, start, end);
+        checkRandomly("southern", createSouthernHistory(), random, start, end);
+        checkRandomly("india", createIndianHistory(), random, start, end);
+    }
+
+    @Test
+    public void windowBoundaries() {
+        TransitionHistory history = createEuropeanHistory();
+        OffsetIndex index = OffsetIndex.of(history, 1970, 2100);
+        long start = PlainTimestamp.of(1970, 1, 1, 0, 0).atUTC().getPosixTime();
+        long end = PlainTimestamp.of(2101, 1, 1, 0, 0).atUTC().getPosixTime();
+
+        assertThat(index.covers(start - 1), is(false));
+        assertThat(index.covers(start), is(true));
+        assertThat(index.covers(end - 1), is(true));
+        assertThat(index.covers(end), is(false));
+        check("europe", history, index, start);
+        check("europe", history, index, end - 1);
+    }
+
+    @Test
+    public void emptyHistory() {
+        assertThat(
+            OffsetIndex.of(ZonalOffset.UTC.getModel().getHistory(), 1970, 2100),
+            nullValue());
+    }
+
+    @Test(expected=NullPointerException.class)
+    public void missingHistory() {
+        OffsetIndex.of(null, 1970, 2100);
+    }
+
+    @Test
+    public void cacheConfiguration() {
+        try {
+            Timezone.Cache.setOffsetIndexRange(2000, 2030);
+            Timezone.Cache.setOffsetIndexActive(true);
+            Timezone tz = Timezone.of("test~america", createAmericanHistory());
+            assertThat(Timezone.createOffsetIndex(tz.getHistory()), not(nullValue()));
+
+            Moment summer = PlainTimestamp.of(2024, 7, 1, 12, 0).atUTC();
+            Moment winter = PlainTimestamp.of(2024, 1, 1, 12, 0).atUTC();
+            Moment outside = PlainTimestamp.of(1990, 7, 1, 12, 0).atUTC();
+            assertThat(tz.getOffset(summer), is(ZonalOffset.ofHours(OffsetSign.BEHIND_UTC, 4)));
+            assertThat(tz.getOffset(winter), is(ZonalOffset.ofHours(OffsetSign.BEHIND_UTC, 5)));
+            assertThat(tz.getOffset(outside), is(ZonalOffset.ofHours(OffsetSign.BEHIND_UTC, 4)));
+            assertThat(tz.isDaylightSaving(summer), is(true));
+            assertThat(tz.getExtraOffset(winter), is(ZonalOffset.UTC));
+            assertThat(tz.with(Timezone.STRICT_MODE).getOffset(summer), is(tz.getOffset(summer)));
+        } finally {
+            Timezone.Cache.setOffsetIndexActive(false);
+            Timezone.Cache.setOffsetIndexRange(1970, 2100);
+        }
+
+        assertThat(Timezone.createOffsetIndex(createAmericanHistory()), nullValue());
+        assertThat(Timezone.createOffsetIndex(null), nullValue());
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void invalidRange() {
+        Timezone.Cache.setOffsetIndexRange(2100, 1970);
+    }
+
+    // auch für BulkOffsetTest: historische Übergänge mit Doppelsommerzeit und EU-Regeln danach
+    static TransitionHistory createEuropeanHistory() {
+        List<ZonalTransition> transitions =
+            Arrays.asList(
+                new ZonalTransition(posix(1893, 3, 31, 23, 6, 32), 3208, 3600, 0),
+                new ZonalTransition(posix(1916, 4, 30, 22, 0, 0), 3600, 7200, 3600),
+                new ZonalTransition(posix(1916, 9, 30, 23, 0, 0), 7200, 3600, 0),
+                new ZonalTransition(posix(1945, 4, 2, 1, 0, 0), 3600, 7200, 3600),
+                new ZonalTransition(posix(1945, 5, 24, 1, 0, 0), 7200, 10800, 7200),
+                new ZonalTransition(posix(1945, 9, 24, 0, 0, 0), 10800, 7200, 3600),
+                new ZonalTransition(posix(1945, 11, 18, 1, 0, 0), 7200, 3600, 0));
+        List<DaylightSavingRule> rules =
+            Arrays.asList(
+                GregorianTimezoneRule.ofLastWeekday(
+                    Month.MARCH, Weekday.SUNDAY, PlainTime.of(1), OffsetIndicator.UTC_TIME, 3600),
+                GregorianTimezoneRule.ofLastWeekday(
+                    Month.OCTOBER, Weekday.SUNDAY, PlainTime.of(1), OffsetIndicator.UTC_TIME, 0));
+        return TransitionModel.of(ZonalOffset.ofTotalSeconds(3208), transitions, rules);
+    }
+
+    // auch für BulkOffsetTest: nur Regeln mit negativem Standard-Offset
+    static TransitionHistory createAmericanHistory() {
+        List<DaylightSavingRule> rules =
+            Arrays.asList(
+                GregorianTimezoneRule.ofWeekdayAfterDate(
+                    Month.MARCH, 8, Weekday.SUNDAY, PlainTime.of(2), OffsetIndicator.WALL_TIME, 3600),
+                GregorianTimezoneRule.ofWeekdayAfterDate(
+                    Month.NOVEMBER, 1, Weekday.SUNDAY, PlainTime.of(2), OffsetIndicator.WALL_TIME, 0));
+        return TransitionModel.of(ZonalOffset.ofHours(OffsetSign.BEHIND_UTC, 5), rules);
+    }
+
+    // auch für BulkOffsetTest: Südhalbkugel mit halbstündiger Sommerzeit
+    static TransitionHistory createSouthernHistory() {
+        List<DaylightSavingRule> rules =
+            Arrays.asList(
+                GregorianTimezoneRule.ofWeekdayAfterDate(
+                    Month.OCTOBER, 1, Weekday.SUNDAY, PlainTime.of(2), OffsetIndicator.WALL_TIME, 1800),
+                GregorianTimezoneRule.ofWeekdayAfterDate(
+                    Month.APRIL, 1, Weekday.SUNDAY, PlainTime.of(2), OffsetIndicator.WALL_TIME, 0));
+        return TransitionModel.of(ZonalOffset.ofHoursMinutes(OffsetSign.AHEAD_OF_UTC, 10, 30), rules);
+    }
+
+    // auch für BulkOffsetTest: nur historische Übergänge ohne Regeln
+    static TransitionHistory createIndianHistory() {
+        List<ZonalTransition> transitions =
+            Arrays.asList(
+                new ZonalTransition(posix(1899, 12, 31, 18, 38, 50), 19270, 19800, 0),
+                new ZonalTransition(posix(1942, 8, 31, 18, 30, 0), 19800, 23400, 3600),
+                new ZonalTransition(posix(1945, 10, 14, 17, 30, 0), 23400, 19800, 0));
+        return TransitionModel.of(transitions);
+    }
+
+    private static void checkRandomly(
+        String name,
+        TransitionHistory history,
+        Random random,
+        long start,
+        long end
+    ) {
+        OffsetIndex index = OffsetIndex.of(history, 1970, 2100);
+
+        for (ZonalTransition zt : history.getTransitions(ut(start), ut(end))) {
+            for (long delta = -1; delta <= 1; delta++) {
+                check(name, history, index, zt.getPosixTime() + delta);
+            }
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            long posix = start + (long) (random.nextDouble() * (end - start));
+            check(name, history, index, posix);
+        }
+    }
+
+    private static void check(
+        String name,
+        TransitionHistory history,
+        OffsetIndex index,
+        long posix
+    ) {
+        if (!index.covers(posix)) {
+            return;
+        }
+
+        UnixTime ut = ut(posix);
+        ZonalTransition expected = history.getStartTransition(ut);
+        ZonalOffset expectedOffset =
+            (expected == null)
+                ? history.getInitialOffset()
+                : ZonalOffset.ofTotalSeconds(expected.getTotalOffset());
+        String msg = name + " at " + Moment.of(posix, TimeScale.POSIX);
+
+        assertThat(msg, index.getStartTransition(posix), is(expected));
+        assertThat(msg, index.getOffset(posix), is(expectedOffset));
+    }
+
+    private static long posix(
+        int year,
+        int month,
+        int dayOfMonth,
+        int hour,
+        int minute,
+        int second
+    ) {
+        return PlainTimestamp.of(year, month, dayOfMonth, hour, minute, second).atUTC().getPosixTime();
+    }
+
+    private static UnixTime ut(long posix) {
+        return Moment.of(posix, TimeScale.POSIX);
+    }
+
+}
@@ -0,0 +1,79 @@
+package net.time4j.tz;
+
+import net.time4j.tz.olson.AMERICA;
+import net.time4j.tz.olson.ASIA;
+import net.time4j.tz.olson.EUROPE;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class TimezonePreloadTest {
+
+    private static final List<TZID> ZONES =
+        Arrays.asList(EUROPE.BERLIN, AMERICA.NEW_YORK, ASIA.TOKYO, ZonalOffset.ofHours(OffsetSign.AHEAD_OF_UTC, 5));
+
+    @Test
+    public void preloadSerial() {
+        Timezone.Cache.preload(ZONES, 2000, 2040);
+        long hits = Timezone.Cache.getStatistics().getHitCount();
+        Timezone.of(EUROPE.BERLIN);
+        Timezone.of(AMERICA.NEW_YORK);
+        assertThat(Timezone.Cache.getStatistics().getHitCount() - hits, is(2L));
+    }
+
+    @Test
+    public void preloadParallel() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Timezone.Cache.preload(ZONES, 1970, 2100, executor);
+        } finally {
+            executor.shutdown();
+        }
+        long hits = Timezone.Cache.getStatistics().getHitCount();
+        Timezone.of(ASIA.TOKYO);
+        assertThat(Timezone.Cache.getStatistics().getHitCount() - hits, is(1L));
+    }
+
+    @Test
+    public void preloadEmptyCollection() {
+        Timezone.Cache.preload(Collections.<TZID>emptyList(), 2000, 2000);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void preloadWithYearOutOfRange() {
+        Timezone.Cache.preload(ZONES, 0, 2000);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void preloadWithInvertedYears() {
+        Timezone.Cache.preload(ZONES, 2001, 2000);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void preloadUnknownZone() {
+        Timezone.Cache.preload(Collections.singleton(() -> "Xyz/Unknown"), 2000, 2010);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void preloadUnknownZoneInParallel() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Timezone.Cache.preload(
+                Arrays.<TZID>asList(EUROPE.PARIS, () -> "Xyz/Unknown"), 2000, 2010, executor);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+}
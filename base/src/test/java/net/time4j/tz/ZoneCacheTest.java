@@ -0,0 +1,216 @@
+package net.time4j.tz;
+
+import net.time4j.tz.olson.AMERICA;
+import net.time4j.tz.olson.ASIA;
+import net.time4j.tz.olson.EUROPE;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class ZoneCacheTest {
+
+    @Test
+    public void strongCacheStatistics() {
+        ZoneCache cache = ZoneCache.strong(10);
+        Timezone tz = zone(1);
+
+        assertThat(cache.get("A"), nullValue());
+        assertThat(cache.put("A", tz), sameInstance(tz));
+        assertThat(cache.get("A"), sameInstance(tz));
+        assertThat(cache.get("A"), sameInstance(tz));
+        assertThat(cache.getHitCount(), is(2L));
+        assertThat(cache.getMissCount(), is(1L));
+        assertThat(cache.getEvictionCount(), is(0L));
+        assertThat(cache.size(), is(1));
+        assertThat(cache.isSoft(), is(false));
+    }
+
+    @Test
+    public void strongCacheKeepsFirstStoredZone() {
+        ZoneCache cache = ZoneCache.strong(10);
+        Timezone tz1 = zone(1);
+        Timezone tz2 = zone(2);
+
+        assertThat(cache.put("A", tz1), sameInstance(tz1));
+        assertThat(cache.put("A", tz2), sameInstance(tz1));
+        assertThat(cache.size(), is(1));
+    }
+
+    @Test
+    public void strongCacheIsBounded() {
+        ZoneCache cache = ZoneCache.strong(5);
+
+        for (int i = 0; i < 20; i++) {
+            cache.put("Z" + i, zone(i % 14));
+        }
+
+        assertThat(cache.size(), is(5));
+        assertThat(cache.getEvictionCount(), is(15L));
+
+        for (int i = 15; i < 20; i++) {
+            assertThat(cache.get("Z" + i), sameInstance(zone(i % 14)));
+        }
+    }
+
+    @Test
+    public void strongCacheGivesRecentlyUsedZonesSecondChance() {
+        ZoneCache cache = ZoneCache.strong(3);
+        cache.put("A", zone(1));
+        cache.put("B", zone(2));
+        cache.put("C", zone(3));
+        cache.get("A");
+        cache.put("D", zone(4));
+
+        assertThat(cache.get("A"), sameInstance(zone(1)));
+        assertThat(cache.get("B"), nullValue());
+        assertThat(cache.get("C"), sameInstance(zone(3)));
+        assertThat(cache.get("D"), sameInstance(zone(4)));
+        assertThat(cache.getEvictionCount(), is(1L));
+    }
+
+    @Test
+    public void strongCacheUnderConcurrency() throws Exception {
+        final ZoneCache cache = ZoneCache.strong(50);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        try {
+            for (int t = 0; t < 8; t++) {
+                final int seed = t;
+                results.add(executor.submit(new Callable<Boolean>() {
+                    @Override
+                    public Boolean call() {
+                        boolean consistent = true;
+                        for (int i = 0; i < 10000; i++) {
+                            int k = (i * 31 + seed) % 100;
+                            Timezone expected = zone(k % 14);
+                            Timezone tz = cache.get("K" + k);
+                            if (tz == null) {
+                                tz = cache.put("K" + k, expected);
+                            }
+                            consistent = consistent && (tz == expected);
+                        }
+                        return consistent;
+                    }
+                }));
+            }
+            for (Future<Boolean> f : results) {
+                assertThat(f.get(), is(true));
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(cache.size() <= 50, is(true));
+        assertThat(cache.getHitCount() + cache.getMissCount(), is(80000L));
+    }
+
+    @Test
+    public void softCache() {
+        ZoneCache cache = ZoneCache.soft(2);
+        Timezone tz1 = zone(1);
+        Timezone tz2 = zone(2);
+
+        assertThat(cache.get("A"), nullValue());
+        assertThat(cache.put("A", tz1), sameInstance(tz1));
+        assertThat(cache.put("A", tz2), sameInstance(tz1));
+        assertThat(cache.get("A"), sameInstance(tz1));
+        assertThat(cache.getHitCount(), is(1L));
+        assertThat(cache.getMissCount(), is(1L));
+        assertThat(cache.size(), is(1));
+        assertThat(cache.isSoft(), is(true));
+    }
+
+    @Test
+    public void softCacheWithoutPinnedZones() {
+        ZoneCache cache = ZoneCache.soft(0);
+        Timezone tz = zone(1);
+        assertThat(cache.put("A", tz), sameInstance(tz));
+        assertThat(cache.get("A"), sameInstance(tz));
+    }
+
+    @Test
+    public void timezoneCacheStatistics() {
+        try {
+            Timezone.Cache.refresh();
+            Timezone.Cache.Statistics before = Timezone.Cache.getStatistics();
+            Timezone tz = Timezone.of(EUROPE.BERLIN);
+            assertThat(Timezone.of(EUROPE.BERLIN), sameInstance(tz));
+            assertThat(Timezone.of("Europe/Berlin"), sameInstance(tz));
+            Timezone.of(ASIA.KOLKATA);
+
+            Timezone.Cache.Statistics after = Timezone.Cache.getStatistics();
+            assertThat(after.getHitCount() - before.getHitCount(), is(2L));
+            assertThat(after.getMissCount() - before.getMissCount(), is(2L));
+            assertThat(after.getEvictionCount(), is(0L));
+            assertThat(after.getSize() - before.getSize(), is(2));
+            assertThat(after.isSoftReferenceMode(), is(false));
+        } finally {
+            Timezone.Cache.refresh();
+        }
+    }
+
+    @Test
+    public void timezoneCacheWithMaximumSize() {
+        try {
+            Timezone.Cache.setMaximumCacheSize(2);
+            Timezone.of(EUROPE.BERLIN);
+            Timezone.of(ASIA.KOLKATA);
+            Timezone.of(AMERICA.NEW_YORK);
+
+            Timezone.Cache.Statistics stats = Timezone.Cache.getStatistics();
+            assertThat(stats.getSize(), is(2));
+            assertThat(stats.getEvictionCount() >= 1L, is(true));
+        } finally {
+            Timezone.Cache.setMaximumCacheSize(1024);
+        }
+    }
+
+    @Test
+    public void timezoneCacheInSoftReferenceMode() {
+        try {
+            Timezone.Cache.setSoftReferenceMode(true);
+            Timezone tz = Timezone.of(EUROPE.BERLIN);
+            assertThat(Timezone.of(EUROPE.BERLIN), sameInstance(tz));
+
+            Timezone.Cache.Statistics stats = Timezone.Cache.getStatistics();
+            assertThat(stats.isSoftReferenceMode(), is(true));
+            assertThat(stats.getHitCount(), is(1L));
+            assertThat(stats.getMissCount(), is(1L));
+        } finally {
+            Timezone.Cache.setSoftReferenceMode(false);
+        }
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void invalidMaximumCacheSize() {
+        Timezone.Cache.setMaximumCacheSize(0);
+    }
+
+    private static final Timezone[] ZONES = new Timezone[14];
+
+    static {
+        for (int i = 0; i < ZONES.length; i++) {
+            ZONES[i] = ZonalOffset.ofHours(OffsetSign.AHEAD_OF_UTC, i).getModel();
+        }
+    }
+
+    private static Timezone zone(int hours) {
+        return ZONES[hours];
+    }
+
+}
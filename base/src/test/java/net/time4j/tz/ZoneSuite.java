@@ -8,11 +8,15 @@ import org.junit.runners.Suite.SuiteClasses;
 @RunWith(Suite.class)
 @SuiteClasses(
     {
+        BulkOffsetTest.class,
         DatelineBorderTest.class,
+        OffsetIndexTest.class,
         OffsetTest.class,
         PlatformTimezoneTest.class,
         ProviderRegistrationTest.class,
-        TZIDTest.class
+        TimezonePreloadTest.class,
+        TZIDTest.class,
+        ZoneCacheTest.class
     }
 )
 public class ZoneSuite {
@@ -0,0 +1,175 @@
+package net.time4j.tz.model;
+
+import net.time4j.Moment;
+import net.time4j.Month;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.Weekday;
+import net.time4j.base.UnixTime;
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.ZonalOffset;
+import net.time4j.tz.ZonalTransition;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class RuleBasedYearCacheTest {
+
+    private static final int FIRST_YEAR = 1800;
+    private static final int LAST_YEAR = 2400;
+
+    @Test
+    public void consistentOverCenturiesWithUtcRules() {
+        RuleBasedTransitionModel model = europeanModel();
+        checkYears(model, ascendingYears());
+        checkYears(model, shuffledYears()); // evicts and recomputes
+    }
+
+    @Test
+    public void consistentOverCenturiesWithWallRules() {
+        RuleBasedTransitionModel model = americanModel();
+        checkYears(model, ascendingYears());
+        checkYears(model, shuffledYears());
+    }
+
+    @Test
+    public void consistentWithPrecomputedRange() {
+        RuleBasedTransitionModel model = americanModel();
+        model.precompute(1970, 2100);
+        checkYears(model, shuffledYears());
+        model.precompute(2050, 2300); // extends range
+        checkYears(model, shuffledYears());
+    }
+
+    @Test
+    public void compositeModelDelegatesPrecomputation() {
+        RuleBasedTransitionModel ruleModel = europeanModel();
+        List<ZonalTransition> list = new ArrayList<>(ruleModel.getTransitions(ut(1990), ut(2000)));
+        CompositeTransitionModel model =
+            new CompositeTransitionModel(list.size(), list, ruleModel.getRules(), true, true);
+        model.precompute(1970, 2500);
+
+        for (ZonalTransition zt : ruleModel.getTransitions(ut(2001), ut(2500))) {
+            assertThat(model.getStartTransition(Moment.of(zt.getPosixTime(), TimeScale.POSIX)), is(zt));
+        }
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void precomputeWithInvalidRange() {
+        europeanModel().precompute(2100, 1970);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void precomputeWithYearOutOfRange() {
+        europeanModel().precompute(0, 1970);
+    }
+
+    private static void checkYears(
+        RuleBasedTransitionModel model,
+        List<Integer> years
+    ) {
+        for (int year : years) {
+            List<ZonalTransition> expected =
+                RuleBasedTransitionModel.getTransitions(
+                    model.getInitialTransition(),
+                    model.getRules(),
+                    ut(year).getPosixTime(),
+                    ut(year + 1).getPosixTime());
+
+            for (ZonalTransition zt : expected) {
+                long tt = zt.getPosixTime();
+                assertThat(model.getStartTransition(Moment.of(tt, TimeScale.POSIX)), is(zt));
+                assertThat(
+                    model.getStartTransition(Moment.of(tt - 1, TimeScale.POSIX)).getTotalOffset(),
+                    is(zt.getPreviousOffset()));
+
+                long before = tt + Math.min(zt.getPreviousOffset(), zt.getTotalOffset()) - 1;
+                long inside = tt + Math.min(zt.getPreviousOffset(), zt.getTotalOffset());
+                long after = tt + Math.max(zt.getPreviousOffset(), zt.getTotalOffset());
+
+                assertThat(conflict(model, before), nullValue());
+                assertThat(conflict(model, inside), is(zt));
+                assertThat(conflict(model, after), nullValue());
+                assertThat(
+                    offsets(model, before),
+                    is(Collections.singletonList(ZonalOffset.ofTotalSeconds(zt.getPreviousOffset()))));
+                assertThat(offsets(model, inside).size(), is(zt.isGap() ? 0 : 2));
+                assertThat(
+                    offsets(model, after),
+                    is(Collections.singletonList(ZonalOffset.ofTotalSeconds(zt.getTotalOffset()))));
+            }
+        }
+    }
+
+    private static ZonalTransition conflict(
+        RuleBasedTransitionModel model,
+        long localSecs
+    ) {
+        PlainTimestamp tsp = local(localSecs);
+        return model.getConflictTransition(tsp.getCalendarDate(), tsp.getWallTime());
+    }
+
+    private static List<ZonalOffset> offsets(
+        RuleBasedTransitionModel model,
+        long localSecs
+    ) {
+        PlainTimestamp tsp = local(localSecs);
+        return model.getValidOffsets(tsp.getCalendarDate(), tsp.getWallTime());
+    }
+
+    private static PlainTimestamp local(long localSecs) {
+        return Moment.of(localSecs, TimeScale.POSIX).toZonalTimestamp(ZonalOffset.UTC);
+    }
+
+    private static UnixTime ut(int year) {
+        return PlainTimestamp.of(year, 1, 1, 0, 0).atUTC();
+    }
+
+    private static List<Integer> ascendingYears() {
+        List<Integer> years = new ArrayList<>();
+        for (int year = FIRST_YEAR; year <= LAST_YEAR; year++) {
+            years.add(year);
+        }
+        return years;
+    }
+
+    private static List<Integer> shuffledYears() {
+        List<Integer> years = ascendingYears();
+        Collections.shuffle(years, new Random(2024));
+        return years;
+    }
+
+    private static RuleBasedTransitionModel europeanModel() {
+        List<DaylightSavingRule> rules = new ArrayList<>();
+        rules.add(
+            GregorianTimezoneRule.ofLastWeekday(
+                Month.MARCH, Weekday.SUNDAY, PlainTime.of(1), OffsetIndicator.UTC_TIME, 3600));
+        rules.add(
+            GregorianTimezoneRule.ofLastWeekday(
+                Month.OCTOBER, Weekday.SUNDAY, PlainTime.of(1), OffsetIndicator.UTC_TIME, 0));
+        return new RuleBasedTransitionModel(ZonalOffset.ofTotalSeconds(3600), rules);
+    }
+
+    private static RuleBasedTransitionModel americanModel() {
+        List<DaylightSavingRule> rules = new ArrayList<>();
+        rules.add(
+            GregorianTimezoneRule.ofWeekdayAfterDate(
+                Month.MARCH, 8, Weekday.SUNDAY, PlainTime.of(2), OffsetIndicator.WALL_TIME, 3600));
+        rules.add(
+            GregorianTimezoneRule.ofWeekdayAfterDate(
+                Month.NOVEMBER, 1, Weekday.SUNDAY, PlainTime.of(2), OffsetIndicator.WALL_TIME, 0));
+        return new RuleBasedTransitionModel(ZonalOffset.ofTotalSeconds(-5 * 3600), rules);
+    }
+
+}
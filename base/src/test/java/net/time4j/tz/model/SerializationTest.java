@@ -5,12 +5,19 @@ import net.time4j.PlainDate;
 import net.time4j.PlainTime;
 import net.time4j.Weekday;
 import net.time4j.tz.Timezone;
+import net.time4j.tz.TransitionHistory;
+import net.time4j.tz.ZonalOffset;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
+import java.io.NotSerializableException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
@@ -325,6 +332,38 @@ public class SerializationTest {
         assertThat(roundtrip(tz), is(tz));
     }
 
+    @Test
+    public void compactRoundTripOfTransitionModels() throws IOException {
+        TransitionHistory[] models = {
+            CustomZoneTest.createModelOfEuropeanUnion(),
+            CustomZoneTest.createArrayModel(),
+            CustomZoneTest.createCompositeModel(),
+            EireZoneTest.createCompositeModel(),
+            TransitionModel.of(ZonalOffset.ofTotalSeconds(19800), Collections.emptyList())
+        };
+
+        for (TransitionHistory model : models) {
+            assertThat(compactRoundtrip(model), is(model));
+        }
+    }
+
+    @Test(expected=NotSerializableException.class)
+    public void compactFormOfForeignHistory() throws IOException {
+        TransitionHistory foreign =
+            (TransitionHistory) Proxy.newProxyInstance(
+                TransitionHistory.class.getClassLoader(),
+                new Class<?>[] {TransitionHistory.class},
+                (proxy, method, args) -> null);
+        TransitionModel.writeCompact(foreign, new DataOutputStream(new ByteArrayOutputStream()));
+    }
+
+    private static TransitionHistory compactRoundtrip(TransitionHistory history) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        TransitionModel.writeCompact(history, new DataOutputStream(baos));
+        ByteArrayInputStream bais = new ByteArrayInputStream(baos.toByteArray());
+        return TransitionModel.readCompact(new DataInputStream(bais));
+    }
+
     private static Object roundtrip(Object obj)
         throws IOException, ClassNotFoundException {
 
@@ -7,12 +7,14 @@ import net.time4j.tz.model.CustomZoneTest;
 import net.time4j.tz.model.DaylightSavingRuleTest;
 import net.time4j.tz.model.EireZoneTest;
 import net.time4j.tz.model.RulesLikeBerlin1947Test;
+import net.time4j.tz.model.RuleBasedYearCacheTest;
 import net.time4j.tz.model.RulesLikeDhaka2009Test;
 import net.time4j.tz.model.RulesOfEuropeanUnionTest;
 import net.time4j.tz.model.SerializationTest;
 import net.time4j.tz.model.StartOfDayTest;
 import net.time4j.tz.model.TransitionResolverTest;
 import net.time4j.tz.spi.CountryToZonesTest;
+import net.time4j.tz.spi.MappedZoneProviderTest;
 
 import net.time4j.tz.threeten.NegativeDayOfMonthPatternTest;
 import org.junit.runner.RunWith;
@@ -31,8 +33,10 @@ import org.junit.runners.Suite.SuiteClasses;
         EireZoneTest.class,
         JdkZoneProviderTest.class,
         LocalizedGMTOffsetTest.class,
+        MappedZoneProviderTest.class,
         NegativeDayOfMonthPatternTest.class,
         PredefinedIDTest.class,
+        RuleBasedYearCacheTest.class,
         RulesLikeBerlin1947Test.class,
         RulesLikeDhaka2009Test.class,
         RulesOfEuropeanUnionTest.class,
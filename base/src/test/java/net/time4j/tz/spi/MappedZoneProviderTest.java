@@ -0,0 +1,153 @@
+package net.time4j.tz.spi;
+
+import net.time4j.tz.TransitionHistory;
+import net.time4j.tz.ZoneModelProvider;
+import net.time4j.tz.threeten.JdkZoneProviderSPI;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class MappedZoneProviderTest {
+
+    private static final ZoneModelProvider JDK = new JdkZoneProviderSPI();
+
+    private static Path file;
+    private static MappedZoneProviderSPI provider;
+
+    @BeforeClass
+    public static void compile() throws IOException {
+        file = Files.createTempFile("time4j-tzdata", ".tzm");
+        MappedZoneProviderSPI.compile(JDK, file);
+        provider = MappedZoneProviderSPI.open(file);
+    }
+
+    @AfterClass
+    public static void delete() throws IOException {
+        provider = null;
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void metaData() {
+        assertThat(provider.getName(), is("TZDB"));
+        assertThat(provider.getVersion(), is(JDK.getVersion()));
+        assertThat(provider.getLocation(), is(file.toString()));
+        assertThat(provider.getFallback(), is(""));
+        assertThat(provider.getAliases().isEmpty(), is(true));
+    }
+
+    @Test
+    public void availableIDs() {
+        assertThat(provider.getAvailableIDs(), is(JDK.getAvailableIDs()));
+    }
+
+    @Test
+    public void sameHistoriesAsSource() {
+        for (String zoneID : JDK.getAvailableIDs()) {
+            TransitionHistory expected = JDK.load(zoneID);
+            assertThat(zoneID, provider.load(zoneID), is(expected));
+        }
+    }
+
+    @Test
+    public void unknownZone() {
+        assertThat(provider.load("Europe/Atlantis"), nullValue());
+        assertThat(provider.load(""), nullValue());
+        assertThat(provider.load("ZZZ"), nullValue());
+    }
+
+    @Test
+    public void aliases() throws IOException {
+        Path aliasFile = Files.createTempFile("time4j-alias", ".tzm");
+
+        try {
+            MappedZoneProviderSPI.compile(new AliasProvider(), aliasFile);
+            MappedZoneProviderSPI p = MappedZoneProviderSPI.open(aliasFile);
+            assertThat(p.getAvailableIDs(), is(Collections.singleton("Europe/Berlin")));
+            assertThat(p.getAliases(), is(Collections.singletonMap("Germany/Berlin", "Europe/Berlin")));
+            assertThat(p.load("Europe/Berlin"), is(JDK.load("Europe/Berlin")));
+            assertThat(p.load("Germany/Berlin"), nullValue());
+        } finally {
+            Files.deleteIfExists(aliasFile);
+        }
+    }
+
+    @Test
+    public void inactiveWithoutConfiguration() {
+        MappedZoneProviderSPI p = new MappedZoneProviderSPI();
+        assertThat(p.getVersion(), is(""));
+        assertThat(p.getAvailableIDs().isEmpty(), is(true));
+        assertThat(p.load("Europe/Berlin"), nullValue());
+    }
+
+    @Test(expected=IOException.class)
+    public void wrongFormat() throws IOException {
+        Path wrong = Files.createTempFile("time4j-wrong", ".tzm");
+
+        try {
+            Files.write(wrong, new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16});
+            MappedZoneProviderSPI.open(wrong);
+        } finally {
+            Files.deleteIfExists(wrong);
+        }
+    }
+
+    private static class AliasProvider
+        implements ZoneModelProvider {
+
+        @Override
+        public Set<String> getAvailableIDs() {
+            return Collections.singleton("Europe/Berlin");
+        }
+
+        @Override
+        public Map<String, String> getAliases() {
+            Map<String, String> map = new HashMap<>();
+            map.put("Germany/Berlin", "Europe/Berlin");
+            return map;
+        }
+
+        @Override
+        public String getFallback() {
+            return "";
+        }
+
+        @Override
+        public String getName() {
+            return "ALIAS";
+        }
+
+        @Override
+        public String getLocation() {
+            return "";
+        }
+
+        @Override
+        public String getVersion() {
+            return "2024a";
+        }
+
+        @Override
+        public TransitionHistory load(String zoneID) {
+            return JDK.load(zoneID);
+        }
+
+    }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2024 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (BenchmarkLauncher.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * <p>Entry point of the benchmark jar. </p>
+ *
+ * <p>Accepts the usual JMH command line options (for example a regular expression selecting
+ * the benchmarks to be run) and always adds the gc profiler so that every result reports
+ * the allocation rate per operation besides the throughput. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+public final class BenchmarkLauncher {
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private BenchmarkLauncher() {
+        // no instantiation
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Runs the selected benchmarks. </p>
+     *
+     * @param   args    JMH command line options
+     * @throws  Exception if the command line is invalid or running the benchmarks fails
+     */
+    public static void main(String[] args) throws Exception {
+
+        Options options =
+            new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+
+    }
+
+}
@@ -0,0 +1,305 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2024 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (ChronoFormatterBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmarks;
+
+import net.time4j.ClockUnit;
+import net.time4j.Moment;
+import net.time4j.PlainTimestamp;
+import net.time4j.format.expert.ChronoFormatter;
+import net.time4j.format.expert.ParseContext;
+import net.time4j.format.expert.ParseResult;
+import net.time4j.format.expert.PatternType;
+import net.time4j.tz.ZonalOffset;
+import net.time4j.tz.olson.EUROPE;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Measures {@code ChronoFormatter.print()} and {@code ChronoFormatter.parse()} for
+ * typical pattern-based formatters. </p>
+ *
+ * <p>The variants cover a pure numerical pattern, a pattern with localized text elements,
+ * a pattern with an optional section and a pattern with or-blocks because these features
+ * select different code paths inside the formatter. The buffer variants print into a reused
+ * {@code char[]} or direct {@code ByteBuffer} instead of creating a string, the context
+ * variants parse with a reused {@code ParseContext} and the compiled variants use the numerical
+ * pattern after {@code ChronoFormatter.compile()}. The byte buffer parse variants compare direct
+ * parsing of ASCII bytes with decoding them first. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ChronoFormatterBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private ChronoFormatter<PlainTimestamp> numerical;
+    private ChronoFormatter<PlainTimestamp> compiled;
+    private ChronoFormatter<PlainTimestamp> textual;
+    private ChronoFormatter<PlainTimestamp> optional;
+    private ChronoFormatter<PlainTimestamp> orBlock;
+    private ChronoFormatter<Moment> zonal;
+
+    private PlainTimestamp tsp;
+    private Moment moment;
+
+    private String numericalText;
+    private String textualText;
+    private String optionalText;
+    private String orBlockText;
+    private String zonalText;
+    private String malformedText;
+
+    private final char[] charTarget = new char[64];
+    private final ByteBuffer byteTarget = ByteBuffer.allocateDirect(64);
+    private final ByteBuffer byteSource = ByteBuffer.allocateDirect(64);
+    private final ParseContext context = new ParseContext();
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        this.numerical =
+            ChronoFormatter.ofTimestampPattern("uuuu-MM-dd HH:mm:ss.SSS", PatternType.CLDR, Locale.ROOT);
+        this.compiled = this.numerical.compile();
+        this.textual =
+            ChronoFormatter.ofTimestampPattern("EEEE, d. MMMM uuuu HH:mm", PatternType.CLDR, Locale.ENGLISH);
+        this.optional =
+            ChronoFormatter.ofTimestampPattern("uuuu-MM-dd HH:mm[:ss]", PatternType.CLDR, Locale.ROOT);
+        this.orBlock =
+            ChronoFormatter.ofTimestampPattern("dd.MM.uuuu HH:mm|uuuu-MM-dd HH:mm", PatternType.CLDR, Locale.ROOT);
+        this.zonal =
+            ChronoFormatter.ofMomentPattern(
+                "uuuu-MM-dd'T'HH:mm:ss.SSSXXX", PatternType.CLDR, Locale.ROOT, EUROPE.BERLIN);
+
+        this.tsp = PlainTimestamp.of(2024, 2, 11, 17, 45, 30).plus(123, ClockUnit.MILLIS);
+        this.moment = this.tsp.at(ZonalOffset.UTC);
+
+        this.numericalText = this.numerical.format(this.tsp);
+        this.textualText = this.textual.format(this.tsp);
+        this.optionalText = this.optional.format(this.tsp);
+        this.orBlockText = "2024-02-11 17:45"; // matches the second or-block
+        this.zonalText = this.zonal.format(this.moment);
+        this.malformedText = "2024-02-11 17:45:3O.123"; // letter O instead of zero
+        this.byteSource.put(this.numericalText.getBytes(StandardCharsets.US_ASCII));
+
+    }
+
+    @Benchmark
+    public String printNumerical() {
+
+        return this.numerical.print(this.tsp);
+
+    }
+
+    @Benchmark
+    public String printCompiled() {
+
+        return this.compiled.print(this.tsp);
+
+    }
+
+    @Benchmark
+    public String printTextual() {
+
+        return this.textual.print(this.tsp);
+
+    }
+
+    @Benchmark
+    public String printOptional() {
+
+        return this.optional.print(this.tsp);
+
+    }
+
+    @Benchmark
+    public String printOrBlock() {
+
+        return this.orBlock.print(this.tsp);
+
+    }
+
+    @Benchmark
+    public String printZonal() {
+
+        return this.zonal.print(this.moment);
+
+    }
+
+    @Benchmark
+    public int printNumericalIntoCharArray() {
+
+        return this.numerical.print(this.tsp, this.charTarget, 0);
+
+    }
+
+    @Benchmark
+    public int printNumericalIntoByteBuffer() {
+
+        this.byteTarget.clear();
+        return this.numerical.print(this.tsp, this.byteTarget);
+
+    }
+
+    @Benchmark
+    public int printCompiledIntoCharArray() {
+
+        return this.compiled.print(this.tsp, this.charTarget, 0);
+
+    }
+
+    @Benchmark
+    public int printOrBlockIntoCharArray() {
+
+        return this.orBlock.print(this.tsp, this.charTarget, 0);
+
+    }
+
+    @Benchmark
+    public int printZonalIntoCharArray() {
+
+        return this.zonal.print(this.moment, this.charTarget, 0);
+
+    }
+
+    @Benchmark
+    public PlainTimestamp parseNumerical() throws ParseException {
+
+        return this.numerical.parse(this.numericalText);
+
+    }
+
+    @Benchmark
+    public PlainTimestamp parseCompiled() throws ParseException {
+
+        return this.compiled.parse(this.numericalText);
+
+    }
+
+    @Benchmark
+    public PlainTimestamp parseTextual() throws ParseException {
+
+        return this.textual.parse(this.textualText);
+
+    }
+
+    @Benchmark
+    public PlainTimestamp parseOptional() throws ParseException {
+
+        return this.optional.parse(this.optionalText);
+
+    }
+
+    @Benchmark
+    public PlainTimestamp parseOrBlock() throws ParseException {
+
+        return this.orBlock.parse(this.orBlockText);
+
+    }
+
+    @Benchmark
+    public Moment parseZonal() throws ParseException {
+
+        return this.zonal.parse(this.zonalText);
+
+    }
+
+    @Benchmark
+    public PlainTimestamp parseNumericalWithContext() throws ParseException {
+
+        return this.numerical.parse(this.numericalText, this.context);
+
+    }
+
+    @Benchmark
+    public PlainTimestamp parseNumericalFromByteBuffer() throws ParseException {
+
+        return this.numerical.parse(this.byteSource, 0, this.byteSource.position(), this.context);
+
+    }
+
+    @Benchmark
+    public PlainTimestamp parseNumericalDecodedFromByteBuffer() throws ParseException {
+
+        ByteBuffer source = this.byteSource.duplicate();
+        source.flip();
+        return this.numerical.parse(StandardCharsets.US_ASCII.decode(source), this.context);
+
+    }
+
+    @Benchmark
+    public PlainTimestamp parseOptionalWithContext() throws ParseException {
+
+        return this.optional.parse(this.optionalText, this.context);
+
+    }
+
+    @Benchmark
+    public PlainTimestamp parseOrBlockWithContext() throws ParseException {
+
+        return this.orBlock.parse(this.orBlockText, this.context);
+
+    }
+
+    @Benchmark
+    public int parseMalformedWithException() {
+
+        try {
+            return this.numerical.parse(this.malformedText, this.context).getYear();
+        } catch (ParseException ex) {
+            return ex.getErrorOffset();
+        }
+
+    }
+
+    @Benchmark
+    public int parseMalformedWithResult() {
+
+        ParseResult<PlainTimestamp> result = this.numerical.tryParse(this.malformedText, this.context);
+        return (result.isError() ? result.getErrorIndex() : result.getResult().getYear());
+
+    }
+
+}
@@ -0,0 +1,137 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2024 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (ColumnParsingBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmarks;
+
+import net.time4j.CalendarUnit;
+import net.time4j.PlainDate;
+import net.time4j.engine.EpochDays;
+import net.time4j.format.expert.ChronoFormatter;
+import net.time4j.format.expert.ParseContext;
+import net.time4j.format.expert.PatternType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Measures the parsing of a column of 10000 dates into epoch days, either row by row with
+ * exceptions for invalid rows or with the column methods of {@code ChronoFormatter}. The results
+ * are reported per row. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ColumnParsingBenchmark {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int ROWS = 10000;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private ChronoFormatter<PlainDate> formatter;
+    private ChronoFormatter<PlainDate> compiled;
+    private List<String> texts;
+    private final BitSet errors = new BitSet();
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        this.formatter = ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT);
+        this.compiled = this.formatter.compile();
+        this.texts = new ArrayList<>(ROWS);
+        PlainDate date = PlainDate.of(2000, 1, 1);
+
+        for (int i = 0; i < ROWS; i++) {
+            this.texts.add((i % 100 == 0) ? "n/a" : this.formatter.format(date.plus(i, CalendarUnit.DAYS)));
+        }
+
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long[] parseRowByRow() {
+
+        long[] days = new long[ROWS];
+        ParseContext context = new ParseContext();
+
+        for (int i = 0; i < ROWS; i++) {
+            try {
+                days[i] = this.formatter.parse(this.texts.get(i), context).get(EpochDays.UTC);
+            } catch (ParseException ex) {
+                this.errors.set(i);
+            }
+        }
+
+        return days;
+
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long[] parseColumn() {
+
+        return this.formatter.parseEpochDays(this.texts, this.errors);
+
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long[] parseColumnCompiled() {
+
+        return this.compiled.parseEpochDays(this.texts, this.errors);
+
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long[] parseColumnParallel() {
+
+        return this.formatter.parseEpochDays(this.texts, this.errors, ForkJoinPool.commonPool());
+
+    }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2024 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (FormatterFactoryBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmarks;
+
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import net.time4j.format.expert.ChronoFormatter;
+import net.time4j.format.expert.PatternType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.format.FormatStyle;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Measures the creation of formatters by pattern- and style-based factory methods with and
+ * without the global formatter cache (parameter {@code cached}). </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FormatterFactoryBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    @Param({"false", "true"})
+    public boolean cached;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        ChronoFormatter.Cache.setCacheActive(this.cached);
+
+    }
+
+    @TearDown
+    public void tearDown() {
+
+        ChronoFormatter.Cache.setCacheActive(false);
+
+    }
+
+    @Benchmark
+    public ChronoFormatter<PlainTimestamp> ofTimestampPattern() {
+
+        return ChronoFormatter.ofTimestampPattern("uuuu-MM-dd'T'HH:mm:ss.SSS", PatternType.CLDR, Locale.ROOT);
+
+    }
+
+    @Benchmark
+    public ChronoFormatter<PlainDate> ofDateStyle() {
+
+        return ChronoFormatter.ofDateStyle(FormatStyle.MEDIUM, Locale.GERMANY);
+
+    }
+
+}
@@ -0,0 +1,254 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2024 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (Iso8601FormatBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmarks;
+
+import net.time4j.ClockUnit;
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.format.expert.ChronoFormatter;
+import net.time4j.format.expert.Iso8601Format;
+import net.time4j.tz.OffsetSign;
+import net.time4j.tz.ZonalOffset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.ParseException;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Measures the predefined formatters of {@code Iso8601Format} and {@code ChronoFormatter.RFC_1123}. </p>
+ *
+ * <p>Calendar dates, wall times, timestamps, moments and RFC-1123 use specialized char-by-char
+ * algorithms while ordinal dates and week dates still go through the general format engine,
+ * so the latter serve as reference. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class Iso8601FormatBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private PlainDate date;
+    private PlainTime time;
+    private PlainTimestamp tsp;
+    private Moment moment;
+
+    private String basicCalendarDate;
+    private String extendedCalendarDate;
+    private String extendedOrdinalDate;
+    private String extendedWeekDate;
+    private String extendedWallTime;
+    private String basicDateTime;
+    private String extendedDateTime;
+    private String basicDateTimeOffset;
+    private String extendedDateTimeOffset;
+    private String rfc1123;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        this.date = PlainDate.of(2024, 2, 11);
+        this.time = PlainTime.of(17, 45, 30).plus(123456789, ClockUnit.NANOS);
+        this.tsp = this.date.at(this.time);
+        this.moment = this.tsp.at(ZonalOffset.ofHours(OffsetSign.AHEAD_OF_UTC, 1));
+
+        this.basicCalendarDate = Iso8601Format.BASIC_CALENDAR_DATE.format(this.date);
+        this.extendedCalendarDate = Iso8601Format.EXTENDED_CALENDAR_DATE.format(this.date);
+        this.extendedOrdinalDate = Iso8601Format.EXTENDED_ORDINAL_DATE.format(this.date);
+        this.extendedWeekDate = Iso8601Format.EXTENDED_WEEK_DATE.format(this.date);
+        this.extendedWallTime = Iso8601Format.EXTENDED_WALL_TIME.format(this.time);
+        this.basicDateTime = Iso8601Format.BASIC_DATE_TIME.format(this.tsp);
+        this.extendedDateTime = Iso8601Format.EXTENDED_DATE_TIME.format(this.tsp);
+        this.basicDateTimeOffset = Iso8601Format.BASIC_DATE_TIME_OFFSET.format(this.moment);
+        this.extendedDateTimeOffset = Iso8601Format.EXTENDED_DATE_TIME_OFFSET.format(this.moment);
+        this.rfc1123 = ChronoFormatter.RFC_1123.format(this.moment);
+
+    }
+
+    @Benchmark
+    public String printBasicCalendarDate() {
+
+        return Iso8601Format.BASIC_CALENDAR_DATE.print(this.date);
+
+    }
+
+    @Benchmark
+    public String printExtendedCalendarDate() {
+
+        return Iso8601Format.EXTENDED_CALENDAR_DATE.print(this.date);
+
+    }
+
+    @Benchmark
+    public String printExtendedOrdinalDate() {
+
+        return Iso8601Format.EXTENDED_ORDINAL_DATE.print(this.date);
+
+    }
+
+    @Benchmark
+    public String printExtendedWeekDate() {
+
+        return Iso8601Format.EXTENDED_WEEK_DATE.print(this.date);
+
+    }
+
+    @Benchmark
+    public String printExtendedWallTime() {
+
+        return Iso8601Format.EXTENDED_WALL_TIME.print(this.time);
+
+    }
+
+    @Benchmark
+    public String printBasicDateTime() {
+
+        return Iso8601Format.BASIC_DATE_TIME.print(this.tsp);
+
+    }
+
+    @Benchmark
+    public String printExtendedDateTime() {
+
+        return Iso8601Format.EXTENDED_DATE_TIME.print(this.tsp);
+
+    }
+
+    @Benchmark
+    public String printBasicDateTimeOffset() {
+
+        return Iso8601Format.BASIC_DATE_TIME_OFFSET.print(this.moment);
+
+    }
+
+    @Benchmark
+    public String printExtendedDateTimeOffset() {
+
+        return Iso8601Format.EXTENDED_DATE_TIME_OFFSET.print(this.moment);
+
+    }
+
+    @Benchmark
+    public String printRFC1123() {
+
+        return ChronoFormatter.RFC_1123.print(this.moment);
+
+    }
+
+    @Benchmark
+    public PlainDate parseBasicCalendarDate() throws ParseException {
+
+        return Iso8601Format.BASIC_CALENDAR_DATE.parse(this.basicCalendarDate);
+
+    }
+
+    @Benchmark
+    public PlainDate parseExtendedCalendarDate() throws ParseException {
+
+        return Iso8601Format.EXTENDED_CALENDAR_DATE.parse(this.extendedCalendarDate);
+
+    }
+
+    @Benchmark
+    public PlainDate parseExtendedOrdinalDate() throws ParseException {
+
+        return Iso8601Format.EXTENDED_ORDINAL_DATE.parse(this.extendedOrdinalDate);
+
+    }
+
+    @Benchmark
+    public PlainDate parseExtendedWeekDate() throws ParseException {
+
+        return Iso8601Format.EXTENDED_WEEK_DATE.parse(this.extendedWeekDate);
+
+    }
+
+    @Benchmark
+    public PlainDate parseExtendedDate() throws ParseException {
+
+        return Iso8601Format.EXTENDED_DATE.parse(this.extendedCalendarDate);
+
+    }
+
+    @Benchmark
+    public PlainTime parseExtendedWallTime() throws ParseException {
+
+        return Iso8601Format.EXTENDED_WALL_TIME.parse(this.extendedWallTime);
+
+    }
+
+    @Benchmark
+    public PlainTimestamp parseBasicDateTime() throws ParseException {
+
+        return Iso8601Format.BASIC_DATE_TIME.parse(this.basicDateTime);
+
+    }
+
+    @Benchmark
+    public PlainTimestamp parseExtendedDateTime() throws ParseException {
+
+        return Iso8601Format.EXTENDED_DATE_TIME.parse(this.extendedDateTime);
+
+    }
+
+    @Benchmark
+    public Moment parseBasicDateTimeOffset() throws ParseException {
+
+        return Iso8601Format.BASIC_DATE_TIME_OFFSET.parse(this.basicDateTimeOffset);
+
+    }
+
+    @Benchmark
+    public Moment parseExtendedDateTimeOffset() throws ParseException {
+
+        return Iso8601Format.EXTENDED_DATE_TIME_OFFSET.parse(this.extendedDateTimeOffset);
+
+    }
+
+    @Benchmark
+    public Moment parseRFC1123() throws ParseException {
+
+        return ChronoFormatter.RFC_1123.parse(this.rfc1123);
+
+    }
+
+}
@@ -0,0 +1,134 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2024 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (LeapSecondBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmarks;
+
+import net.time4j.Moment;
+import net.time4j.PlainTimestamp;
+import net.time4j.scale.LeapSecondEvent;
+import net.time4j.scale.LeapSeconds;
+import net.time4j.scale.TimeScale;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Measures the latency of leap second lookups and of conversions between the POSIX and the UTC
+ * time scale. </p>
+ *
+ * <p>The parameter {@code year} selects the instant (July 1st, noon) so that the results show
+ * whether the latency depends on the position of the instant within the leap second table
+ * (which covers the years since 1972). </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LeapSecondBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    @Param({"1973", "1985", "1998", "2012", "2024"})
+    public int year;
+
+    private LeapSeconds ls;
+    private long unixTime;
+    private long utc;
+    private Moment moment;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        this.ls = LeapSeconds.getInstance();
+        this.moment = PlainTimestamp.of(this.year, 7, 1, 12, 0).atUTC();
+        this.unixTime = this.moment.getPosixTime();
+        this.utc = this.moment.getElapsedTime(TimeScale.UTC);
+
+    }
+
+    @Benchmark
+    public long enhance() {
+
+        return this.ls.enhance(this.unixTime);
+
+    }
+
+    @Benchmark
+    public long strip() {
+
+        return this.ls.strip(this.utc);
+
+    }
+
+    @Benchmark
+    public int getShift() {
+
+        return this.ls.getShift(this.utc);
+
+    }
+
+    @Benchmark
+    public boolean isPositiveLS() {
+
+        return this.ls.isPositiveLS(this.utc);
+
+    }
+
+    @Benchmark
+    public LeapSecondEvent getNextEvent() {
+
+        return this.ls.getNextEvent(this.utc);
+
+    }
+
+    @Benchmark
+    public long momentToUTC() {
+
+        return this.moment.getElapsedTime(TimeScale.UTC);
+
+    }
+
+    @Benchmark
+    public Moment momentOfUTC() {
+
+        return Moment.of(this.utc, TimeScale.UTC);
+
+    }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2024 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (MultiFormatParserBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmarks;
+
+import net.time4j.PlainTimestamp;
+import net.time4j.format.expert.ChronoFormatter;
+import net.time4j.format.expert.MultiFormatParser;
+import net.time4j.format.expert.PatternType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Measures {@code MultiFormatParser.parse()} with eight different layouts where the
+ * parameter {@code hit} determines which layout matches the input. The variant {@code parseAdaptive()}
+ * uses the order of observed hit rates. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MultiFormatParserBenchmark {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final String[] PATTERNS = {
+        "uuuu-MM-dd'T'HH:mm:ss",
+        "uuuu-MM-dd HH:mm:ss",
+        "uuuuMMdd'T'HHmmss",
+        "dd.MM.uuuu HH:mm:ss",
+        "MM/dd/uuuu HH:mm:ss",
+        "dd/MM/uuuu HH:mm",
+        "d MMM uuuu HH:mm:ss",
+        "EEE, d MMM uuuu HH:mm:ss"
+    };
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    @Param({"0", "3", "7"})
+    public int hit;
+
+    private MultiFormatParser<PlainTimestamp> parser;
+    private MultiFormatParser<PlainTimestamp> adaptive;
+    private String text;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        List<ChronoFormatter<PlainTimestamp>> formats = new ArrayList<>();
+
+        for (String pattern : PATTERNS) {
+            formats.add(ChronoFormatter.ofTimestampPattern(pattern, PatternType.CLDR, Locale.ENGLISH));
+        }
+
+        this.parser = MultiFormatParser.of(formats);
+        this.adaptive = this.parser.withAdaptiveOrder(); // all layouts are mutually exclusive
+        this.text = formats.get(this.hit).format(PlainTimestamp.of(2024, 2, 11, 17, 45, 30));
+
+    }
+
+    @Benchmark
+    public PlainTimestamp parse() throws ParseException {
+
+        return this.parser.parse(this.text);
+
+    }
+
+    @Benchmark
+    public PlainTimestamp parseAdaptive() throws ParseException {
+
+        return this.adaptive.parse(this.text);
+
+    }
+
+}
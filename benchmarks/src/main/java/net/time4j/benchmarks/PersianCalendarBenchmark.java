@@ -0,0 +1,122 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2024 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (PersianCalendarBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmarks;
+
+import net.time4j.CalendarUnit;
+import net.time4j.PlainDate;
+import net.time4j.calendar.PersianAlgorithm;
+import net.time4j.calendar.PersianCalendar;
+import net.time4j.tz.OffsetSign;
+import net.time4j.tz.ZonalOffset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Compares the Persian calendar algorithms when converting dates. </p>
+ *
+ * <p>Every invocation converts one Persian date of a fixed set of dates spread over the years
+ * 1300-1500 AP into the view of the selected algorithm and determines if its year is a leap year.
+ * The astronomical algorithm calculates the vernal equinox only once per year and offset, so the
+ * results after warm-up show the cost of the table lookup rather than of the astronomy. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PersianCalendarBenchmark {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int COUNT = 1024;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    @Param({"BORKOWSKI", "KHAYYAM", "ASTRONOMICAL"})
+    public PersianAlgorithm algorithm;
+
+    private PersianCalendar[] dates;
+    private ZonalOffset offset;
+    private int index;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        this.dates = new PersianCalendar[COUNT];
+        PlainDate start = PlainDate.of(1921, 3, 21);
+
+        for (int i = 0; i < COUNT; i++) {
+            this.dates[i] = start.plus(i * 71L, CalendarUnit.DAYS).transform(PersianCalendar.class);
+        }
+
+        this.offset = ZonalOffset.ofHours(OffsetSign.AHEAD_OF_UTC, 4);
+
+    }
+
+    @Benchmark
+    public PersianCalendar.Date getDate() {
+
+        return this.dates[this.next()].getDate(this.algorithm);
+
+    }
+
+    @Benchmark
+    public boolean isLeapYear() {
+
+        return this.algorithm.isLeapYear(this.dates[this.next()].getYear());
+
+    }
+
+    @Benchmark
+    public PersianCalendar.Date getAstronomicalDateWithOffset() {
+
+        return this.dates[this.next()].getDate(this.offset);
+
+    }
+
+    private int next() {
+
+        int i = this.index;
+        this.index = (i + 1) & (COUNT - 1);
+        return i;
+
+    }
+
+}
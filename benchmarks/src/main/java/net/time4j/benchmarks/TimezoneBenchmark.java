@@ -0,0 +1,335 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2024 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (TimezoneBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmarks;
+
+import net.time4j.Moment;
+import net.time4j.Month;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.Weekday;
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.OffsetSign;
+import net.time4j.tz.TZID;
+import net.time4j.tz.Timezone;
+import net.time4j.tz.TransitionHistory;
+import net.time4j.tz.ZonalOffset;
+import net.time4j.tz.model.DaylightSavingRule;
+import net.time4j.tz.model.GregorianTimezoneRule;
+import net.time4j.tz.model.OffsetIndicator;
+import net.time4j.tz.model.TransitionModel;
+import net.time4j.tz.olson.ASIA;
+import net.time4j.tz.olson.EUROPE;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Measures the offset resolution of timezones and the conversion between local and global
+ * timestamps. </p>
+ *
+ * <p>The offset benchmarks are reported per transition model (parameter {@code model}) so that
+ * every model can be tuned on its own. All models except {@code FIXED} reproduce the rules of
+ * Europe/Berlin in order to make the results comparable: </p>
+ *
+ * <ul>
+ *     <li>{@code ARRAY} - only explicit transitions (from 1900 until 2037)</li>
+ *     <li>{@code RULES} - only daylight saving rules (EU-rules with standard offset +01:00)</li>
+ *     <li>{@code COMPOSITE} - explicit transitions followed by rules (as loaded by the zone provider)</li>
+ *     <li>{@code FIXED} - constant offset +05:30</li>
+ * </ul>
+ *
+ * <p>The bulk benchmarks convert 1000 ascending instants of the year 2024 per invocation and
+ * report the throughput per element. </p>
+ *
+ * <p>The parameter {@code indexed} switches the precomputed offset index of timezones on or off
+ * (see {@code Timezone.Cache.setOffsetIndexActive(boolean)}). </p>
+ *
+ * <p>The instants cover a historical date (1985), a date beyond the last explicit transition
+ * (2080, hence rule-based for composite models) and the local times cover a normal time, a gap
+ * and an overlap in the year 2024. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimezoneBenchmark {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final Moment HISTORICAL = PlainTimestamp.of(1985, 6, 15, 12, 0).atUTC();
+    private static final Moment RULE_BASED = PlainTimestamp.of(2080, 7, 1, 12, 0).atUTC();
+
+    private static final PlainDate SUMMER_DATE = PlainDate.of(2024, 7, 1);
+    private static final PlainDate GAP_DATE = PlainDate.of(2024, 3, 31);
+    private static final PlainDate OVERLAP_DATE = PlainDate.of(2024, 10, 27);
+    private static final PlainTime NOON = PlainTime.of(12);
+    private static final PlainTime CONFLICT_TIME = PlainTime.of(2, 30);
+
+    private static final int BULK_SIZE = 1000;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Benchmark
+    public ZonalOffset getOffsetHistorical(ModelState state) {
+
+        return state.tz.getOffset(HISTORICAL);
+
+    }
+
+    @Benchmark
+    public ZonalOffset getOffsetRuleBased(ModelState state) {
+
+        return state.tz.getOffset(RULE_BASED);
+
+    }
+
+    @Benchmark
+    public ZonalOffset getOffsetLocalNormal(ModelState state) {
+
+        return state.tz.getOffset(SUMMER_DATE, NOON);
+
+    }
+
+    @Benchmark
+    public ZonalOffset getOffsetLocalGap(ModelState state) {
+
+        return state.tz.getOffset(GAP_DATE, CONFLICT_TIME);
+
+    }
+
+    @Benchmark
+    public ZonalOffset getOffsetLocalOverlap(ModelState state) {
+
+        return state.tz.getOffset(OVERLAP_DATE, CONFLICT_TIME);
+
+    }
+
+    @Benchmark
+    public Moment localToGlobalNormal(ModelState state) {
+
+        return state.normal.in(state.tz);
+
+    }
+
+    @Benchmark
+    public Moment localToGlobalGap(ModelState state) {
+
+        return state.gap.in(state.tz);
+
+    }
+
+    @Benchmark
+    public Moment localToGlobalOverlap(ModelState state) {
+
+        return state.overlap.in(state.tz);
+
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK_SIZE)
+    public int[] getOffsetsLoop(ModelState state) {
+
+        long[] posixTimes = state.posixTimes;
+        int[] offsets = state.offsets;
+
+        for (int i = 0; i < BULK_SIZE; i++) {
+            offsets[i] = state.tz.getOffset(Moment.of(posixTimes[i], TimeScale.POSIX)).getIntegralAmount();
+        }
+
+        return offsets;
+
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK_SIZE)
+    public int[] getOffsetsBulk(ModelState state) {
+
+        state.tz.getOffsets(state.posixTimes, state.offsets);
+        return state.offsets;
+
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK_SIZE)
+    public long[] resolveLocalTimesBulk(ModelState state) {
+
+        state.tz.resolveLocalTimes(state.posixTimes, state.resolved); // interpreted as local seconds
+        return state.resolved;
+
+    }
+
+    @Benchmark
+    public PlainTimestamp toZonalTimestampHistorical(ProviderState state) {
+
+        return HISTORICAL.toZonalTimestamp(state.tzid);
+
+    }
+
+    @Benchmark
+    public PlainTimestamp toZonalTimestampRuleBased(ProviderState state) {
+
+        return RULE_BASED.toZonalTimestamp(state.tzid);
+
+    }
+
+    @Benchmark
+    public Timezone timezoneOfCached(ProviderState state) {
+
+        return Timezone.of(state.tzid);
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    /**
+     * <p>Holds a timezone built on a specific transition model. </p>
+     */
+    @State(Scope.Benchmark)
+    public static class ModelState {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        @Param({"ARRAY", "RULES", "COMPOSITE", "FIXED"})
+        public String model;
+
+        @Param({"false", "true"})
+        public boolean indexed;
+
+        Timezone tz;
+        PlainTimestamp normal;
+        PlainTimestamp gap;
+        PlainTimestamp overlap;
+        long[] posixTimes;
+        int[] offsets;
+        long[] resolved;
+
+        //~ Methoden ------------------------------------------------------
+
+        @Setup
+        public void setUp() {
+
+            Timezone.Cache.setOffsetIndexActive(this.indexed);
+            Timezone berlin = Timezone.of(EUROPE.BERLIN);
+            ZonalOffset cet = ZonalOffset.ofHours(OffsetSign.AHEAD_OF_UTC, 1);
+
+            switch (this.model) {
+                case "ARRAY":
+                    TransitionHistory array =
+                        TransitionModel.of(
+                            berlin.getHistory().getTransitions(
+                                PlainTimestamp.of(1900, 1, 1, 0, 0).atUTC(),
+                                PlainTimestamp.of(2038, 1, 1, 0, 0).atUTC()));
+                    this.tz = Timezone.of("Synthetic/Array", array);
+                    break;
+                case "RULES":
+                    List<DaylightSavingRule> rules =
+                        Arrays.asList(
+                            GregorianTimezoneRule.ofLastWeekday(
+                                Month.MARCH, Weekday.SUNDAY, 3600, OffsetIndicator.UTC_TIME, 3600),
+                            GregorianTimezoneRule.ofLastWeekday(
+                                Month.OCTOBER, Weekday.SUNDAY, 3600, OffsetIndicator.UTC_TIME, 0));
+                    this.tz = Timezone.of("Synthetic/Rules", TransitionModel.of(cet, rules));
+                    break;
+                case "COMPOSITE":
+                    this.tz = berlin;
+                    break;
+                case "FIXED":
+                    this.tz = Timezone.of(ZonalOffset.ofHoursMinutes(OffsetSign.AHEAD_OF_UTC, 5, 30));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown transition model: " + this.model);
+            }
+
+            this.normal = SUMMER_DATE.at(NOON);
+            this.gap = GAP_DATE.at(CONFLICT_TIME);
+            this.overlap = OVERLAP_DATE.at(CONFLICT_TIME);
+
+            // ascending instants evenly distributed over the year 2024
+            long start = PlainTimestamp.of(2024, 1, 1, 0, 0).atUTC().getPosixTime();
+            long step = 366 * 86400L / BULK_SIZE;
+            this.posixTimes = new long[BULK_SIZE];
+            this.offsets = new int[BULK_SIZE];
+            this.resolved = new long[BULK_SIZE];
+
+            for (int i = 0; i < BULK_SIZE; i++) {
+                this.posixTimes[i] = start + i * step;
+            }
+
+        }
+
+    }
+
+    /**
+     * <p>Holds the identifier of a timezone loaded by the zone model provider. </p>
+     */
+    @State(Scope.Benchmark)
+    public static class ProviderState {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        @Param({"Europe/Berlin", "Asia/Kolkata", "UTC+05:30"})
+        public String zone;
+
+        TZID tzid;
+
+        //~ Methoden ------------------------------------------------------
+
+        @Setup
+        public void setUp() {
+
+            switch (this.zone) {
+                case "Europe/Berlin":
+                    this.tzid = EUROPE.BERLIN;
+                    break;
+                case "Asia/Kolkata":
+                    this.tzid = ASIA.KOLKATA;
+                    break;
+                default:
+                    this.tzid = ZonalOffset.ofHoursMinutes(OffsetSign.AHEAD_OF_UTC, 5, 30);
+            }
+
+            Timezone.of(this.tzid); // preload
+
+        }
+
+    }
+
+}
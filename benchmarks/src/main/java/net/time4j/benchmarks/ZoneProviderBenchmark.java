@@ -0,0 +1,105 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2024 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (ZoneProviderBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmarks;
+
+import net.time4j.tz.TransitionHistory;
+import net.time4j.tz.ZoneModelProvider;
+import net.time4j.tz.spi.MappedZoneProviderSPI;
+import net.time4j.tz.threeten.JdkZoneProviderSPI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Compares the loading of transition histories by the JDK-based provider with
+ * the memory-mapped binary repository. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ZoneProviderBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    @Param({"Europe/Berlin", "America/New_York", "Asia/Kolkata"})
+    public String zone;
+
+    private ZoneModelProvider jdk;
+    private ZoneModelProvider mapped;
+    private Path file;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+
+        this.jdk = new JdkZoneProviderSPI();
+        this.file = Files.createTempFile("time4j-benchmark", ".tzm");
+        MappedZoneProviderSPI.compile(this.jdk, this.file);
+        this.mapped = MappedZoneProviderSPI.open(this.file);
+
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+
+        Files.deleteIfExists(this.file);
+
+    }
+
+    @Benchmark
+    public TransitionHistory loadJdk() {
+
+        return this.jdk.load(this.zone);
+
+    }
+
+    @Benchmark
+    public TransitionHistory loadMapped() {
+
+        return this.mapped.load(this.zone);
+
+    }
+
+}
@@ -0,0 +1,34 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2024 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (package-info.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+/**
+ * <p>JMH benchmarks for the hot paths of Time4J. </p>
+ *
+ * <p>All suites measure throughput (except for {@link net.time4j.benchmarks.LeapSecondBenchmark} which
+ * reports the average latency) and are meant to be run via {@link net.time4j.benchmarks.BenchmarkLauncher}
+ * which adds the gc profiler in order to report the allocation rate, too. Example: </p>
+ *
+ * <pre>
+ *  mvn -pl benchmarks -am package
+ *  java -jar benchmarks/target/time4j-benchmarks.jar ChronoFormatter
+ * </pre>
+ */
+package net.time4j.benchmarks;